@@ -0,0 +1,33 @@
+package edu.scu.csen275.smartgarden.benchmarks;
+
+import edu.scu.csen275.smartgarden.model.Garden;
+import edu.scu.csen275.smartgarden.util.Logger;
+import edu.scu.csen275.smartgarden.workload.WorkloadGenerator;
+import edu.scu.csen275.smartgarden.workload.WorkloadSpec;
+
+/**
+ * Builds fully planted gardens for the benchmarks.
+ */
+final class BenchmarkGardens {
+    static final long SEED = 275L;
+
+    private BenchmarkGardens() {
+    }
+
+    /**
+     * Creates a size x size garden with a plant in every cell, using the
+     * default species mix and a fixed seed so every run plants the same garden.
+     */
+    static Garden create(int size) {
+        quietLogging();
+        return new WorkloadGenerator(WorkloadSpec.defaults().size(size, size).seed(SEED)).createGarden();
+    }
+
+    /**
+     * Keeps per-plant log lines out of the measurements; warnings and errors
+     * are still written.
+     */
+    static void quietLogging() {
+        Logger.getInstance().setMinLogLevel(Logger.LogLevel.WARNING);
+    }
+}
@@ -0,0 +1,26 @@
+package edu.scu.csen275.smartgarden.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of benchmarks.jar. Accepts the usual JMH command line and
+ * always adds the GC profiler, so every result reports allocation rate
+ * (gc.alloc.rate.norm is bytes allocated per operation).
+ *
+ * <pre>java -jar benchmarks/target/benchmarks.jar HeadlessTick -p size=9,100</pre>
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        new Runner(new OptionsBuilder()
+            .parent(commandLine)
+            .addProfiler(GCProfiler.class)
+            .build()).run();
+    }
+}
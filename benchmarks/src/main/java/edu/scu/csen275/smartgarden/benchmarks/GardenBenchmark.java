@@ -0,0 +1,65 @@
+package edu.scu.csen275.smartgarden.benchmarks;
+
+import edu.scu.csen275.smartgarden.model.Garden;
+import edu.scu.csen275.smartgarden.model.Plant;
+import edu.scu.csen275.smartgarden.model.Position;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Garden lookups and the plant list copies used by every system each tick.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GardenBenchmark {
+
+    @Param({"9", "100", "1000"})
+    public int size;
+
+    private Garden garden;
+    private Position[] positions;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        garden = BenchmarkGardens.create(size);
+        // Pre-built positions so the lookup, not Position allocation, is measured
+        positions = new Position[1024];
+        Random random = new java.util.Random(42);
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = new Position(random.nextInt(size), random.nextInt(size));
+        }
+    }
+
+    @Benchmark
+    public Plant getPlant() {
+        next = (next + 1) & (positions.length - 1);
+        return garden.getPlant(positions[next]);
+    }
+
+    @Benchmark
+    public List<Plant> getAllPlants() {
+        return garden.getAllPlants();
+    }
+
+    @Benchmark
+    public List<Plant> getLivingPlants() {
+        return garden.getLivingPlants();
+    }
+}
@@ -0,0 +1,45 @@
+package edu.scu.csen275.smartgarden.benchmarks;
+
+import edu.scu.csen275.smartgarden.simulation.HeadlessSimulationEngine;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * One full headless tick: plants, every system, the resource ledger and
+ * metrics. The engine is rebuilt each iteration so the garden stays alive.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HeadlessTickBenchmark {
+
+    @Param({"9", "100", "1000"})
+    public int size;
+
+    private HeadlessSimulationEngine engine;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        engine = new HeadlessSimulationEngine(BenchmarkGardens.create(size));
+    }
+
+    @Benchmark
+    public long tick() {
+        engine.step();
+        return engine.getElapsedTicks();
+    }
+}
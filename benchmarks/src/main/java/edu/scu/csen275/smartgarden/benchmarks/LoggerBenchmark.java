@@ -0,0 +1,49 @@
+package edu.scu.csen275.smartgarden.benchmarks;
+
+import edu.scu.csen275.smartgarden.util.Logger;
+import edu.scu.csen275.smartgarden.util.Logger.LogLevel;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of Logger.log() on the calling thread, for a recorded level and for
+ * a level filtered out by the category threshold. Garden size does not
+ * affect the logger, so this benchmark is not parameterized by it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoggerBenchmark {
+
+    @Param({"INFO", "DEBUG"})
+    public LogLevel level;
+
+    private Logger logger;
+    private int zoneId;
+
+    @Setup
+    public void setUp() {
+        logger = Logger.getInstance();
+        logger.setCategoryLevels("*=INFO");
+        logger.disableRateLimit("Watering"); // measure the full path, not the folding of repeats
+    }
+
+    @Benchmark
+    public void logTemplate() {
+        zoneId = (zoneId + 1) % 9;
+        logger.log(level, "Watering", "Zone {} watered with {}L. Supply remaining: {}L", zoneId, 10, 9990);
+    }
+}
@@ -0,0 +1,60 @@
+package edu.scu.csen275.smartgarden.benchmarks;
+
+import edu.scu.csen275.smartgarden.model.Garden;
+import edu.scu.csen275.smartgarden.model.Plant;
+import edu.scu.csen275.smartgarden.system.HarmfulPest;
+import edu.scu.csen275.smartgarden.system.PestControlSystem;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * PestControlSystem.update() with N live pests. Pests damage plants and get
+ * treated, so each measurement is a single update on a freshly infested
+ * garden.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 30)
+@Fork(1)
+public class PestControlBenchmark {
+
+    @Param({"9", "100", "1000"})
+    public int size;
+
+    @Param({"0", "10", "1000"})
+    public int pests;
+
+    private PestControlSystem pestControlSystem;
+
+    @Setup(Level.Iteration)
+    public void infest() {
+        Garden garden = BenchmarkGardens.create(size);
+        pestControlSystem = new PestControlSystem(garden);
+        pestControlSystem.setApiModeEnabled(true); // no random spawns
+        List<Plant> plants = garden.getAllPlants();
+        for (int i = 0; i < pests; i++) {
+            Plant target = plants.get(i % plants.size());
+            pestControlSystem.registerPest(new HarmfulPest(target.getPosition()));
+        }
+    }
+
+    @Benchmark
+    public int update() {
+        pestControlSystem.update();
+        return pestControlSystem.getHarmfulPestCount();
+    }
+}
@@ -0,0 +1,51 @@
+package edu.scu.csen275.smartgarden.benchmarks;
+
+import edu.scu.csen275.smartgarden.model.Garden;
+import edu.scu.csen275.smartgarden.model.Plant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Plant.update() across every plant in the garden, i.e. the plant phase of a tick.
+ * The garden is rebuilt each iteration so plants do not age out and take the
+ * cheap dead-plant path.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlantBenchmark {
+
+    @Param({"9", "100", "1000"})
+    public int size;
+
+    private List<Plant> plants;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        Garden garden = BenchmarkGardens.create(size);
+        plants = garden.getAllPlants();
+    }
+
+    @Benchmark
+    public int updateAllPlants() {
+        for (Plant plant : plants) {
+            plant.update();
+        }
+        return plants.size();
+    }
+}
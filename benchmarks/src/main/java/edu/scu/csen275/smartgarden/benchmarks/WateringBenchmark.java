@@ -0,0 +1,56 @@
+package edu.scu.csen275.smartgarden.benchmarks;
+
+import edu.scu.csen275.smartgarden.model.Garden;
+import edu.scu.csen275.smartgarden.resource.ResourceLedger;
+import edu.scu.csen275.smartgarden.resource.ResourceType;
+import edu.scu.csen275.smartgarden.system.WateringSystem;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * WateringSystem.checkAndWater() over a fully planted garden. The reservoir
+ * is topped up each iteration so the watering path, not the low-supply
+ * early exit, is measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WateringBenchmark {
+
+    @Param({"9", "100", "1000"})
+    public int size;
+
+    private ResourceLedger ledger;
+    private WateringSystem wateringSystem;
+
+    @Setup
+    public void setUp() {
+        Garden garden = BenchmarkGardens.create(size);
+        ledger = ResourceLedger.createDefault();
+        wateringSystem = new WateringSystem(garden, ledger);
+    }
+
+    @Setup(Level.Iteration)
+    public void refill() {
+        ledger.deposit(ResourceType.WATER, ResourceLedger.DEFAULT_WATER_CAPACITY);
+    }
+
+    @Benchmark
+    public void checkAndWater() {
+        wateringSystem.checkAndWater();
+    }
+}
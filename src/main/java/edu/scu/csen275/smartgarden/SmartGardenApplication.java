@@ -3,9 +3,11 @@ package edu.scu.csen275.smartgarden;
 import edu.scu.csen275.smartgarden.controller.GardenController;
 import edu.scu.csen275.smartgarden.model.Garden;
 import edu.scu.csen275.smartgarden.model.Position;
+import edu.scu.csen275.smartgarden.resource.ResourceType;
 import edu.scu.csen275.smartgarden.simulation.SimulationEngine;
 import edu.scu.csen275.smartgarden.simulation.WeatherSystem;
 import edu.scu.csen275.smartgarden.ui.*;
+import edu.scu.csen275.smartgarden.util.LogCategory;
 import edu.scu.csen275.smartgarden.util.Logger;
 import edu.scu.csen275.smartgarden.api.GardenSimulationAPI;
 import javafx.application.Application;
@@ -89,7 +91,7 @@ public class SmartGardenApplication extends Application {
             if (apiModeEnabled) {
                 // API mode enabled - create API using same controller (shared state)
                 System.out.println("[SmartGardenApplication] API MODE ENABLED - API and UI will share garden state");
-                controller.getLogger().info("System", "API mode enabled - UI and API sharing garden state");
+                controller.getLogger().info(LogCategory.SYSTEM, "API mode enabled - UI and API sharing garden state");
                 
                 // Create API using the same controller
                 api = new GardenSimulationAPI(controller);
@@ -104,8 +106,8 @@ public class SmartGardenApplication extends Application {
             }
             
             // Add initial test log entry to verify log display
-            controller.getLogger().info("System", "Smart Garden Simulation started");
-            controller.getLogger().info("System", "Rain test mode enabled - rain will occur every 1 minute");
+            controller.getLogger().info(LogCategory.SYSTEM, "Smart Garden Simulation started");
+            controller.getLogger().info(LogCategory.SYSTEM, "Rain test mode enabled - rain will occur every 1 minute");
             
             // Add initial test log entries to list view
             if (logListView != null) {
@@ -132,7 +134,7 @@ public class SmartGardenApplication extends Application {
             
         } catch (Exception e) {
             e.printStackTrace();
-            Logger.getInstance().logException("Application", "Failed to start", e);
+            Logger.getInstance().logException(LogCategory.APPLICATION, "Failed to start", e);
         }
     }
     
@@ -520,9 +522,11 @@ public class SmartGardenApplication extends Application {
             
             // Update resource bars with animation
             double waterProgress = Math.max(0, Math.min(1, 
-                engine.getWateringSystem().getWaterSupply() / 10000.0));
+                engine.getWateringSystem().getWaterSupply() /
+                (double) engine.getResourceLedger().getCapacity(ResourceType.WATER)));
             double pesticideProgress = Math.max(0, Math.min(1,
-                engine.getPestControlSystem().getPesticideStock() / 50.0));
+                engine.getPestControlSystem().getPesticideStock() /
+                (double) engine.getResourceLedger().getCapacity(ResourceType.PESTICIDE)));
             
             infoPanel.updateProgressBars(waterProgress, pesticideProgress);
             
@@ -773,7 +777,7 @@ public class SmartGardenApplication extends Application {
         // API mode is enabled - UI and API share the same controller
                    // UI will update automatically via polling (updateUI() every 0.5s)
                    System.out.println("[SmartGardenApplication] API mode active - external API calls will be visible in UI via polling");
-                   controller.getLogger().info("System", "API mode active - API calls can be made externally, UI will update via polling");
+                   controller.getLogger().info(LogCategory.SYSTEM, "API mode active - API calls can be made externally, UI will update via polling");
         
         // Optional: Enable scheduled API calls for testing/demonstration
         // Uncomment below to enable automatic API calls (like Smart_Garden_System 3):
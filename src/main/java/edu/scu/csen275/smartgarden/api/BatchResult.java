@@ -0,0 +1,28 @@
+package edu.scu.csen275.smartgarden.api;
+
+/**
+ * Summary of one {@link GardenSimulationAPI#applyBatch(java.util.List)} call.
+ *
+ * @param commands commands applied
+ * @param plantsVisited living plants the batch was applied to
+ * @param pestsRegistered pests created by parasite commands
+ * @param livingBefore living plants before the batch
+ * @param livingAfter living plants after the batch and the system updates
+ * @param elapsedNanos wall-clock time taken by the batch
+ */
+public record BatchResult(int commands, int plantsVisited, int pestsRegistered,
+                          int livingBefore, int livingAfter, long elapsedNanos) {
+
+    /**
+     * Gets the number of plants that died during the batch.
+     */
+    public int deaths() {
+        return Math.max(0, livingBefore - livingAfter);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Batch[%d commands, %d plants, %d pests, %d deaths, %.2f ms]",
+            commands, plantsVisited, pestsRegistered, deaths(), elapsedNanos / 1_000_000.0);
+    }
+}
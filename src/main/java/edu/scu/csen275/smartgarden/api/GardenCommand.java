@@ -0,0 +1,44 @@
+package edu.scu.csen275.smartgarden.api;
+
+/**
+ * A state-changing API call that can be applied as part of a batch with
+ * {@link GardenSimulationAPI#applyBatch(java.util.List)}.
+ */
+public sealed interface GardenCommand {
+
+    /**
+     * Rainfall of the given water units, as {@link GardenSimulationAPI#rain(int)}.
+     */
+    record Rain(int amount) implements GardenCommand {
+    }
+
+    /**
+     * Temperature change in Fahrenheit, as {@link GardenSimulationAPI#temperature(int)}.
+     * Values outside 40-120°F are clamped.
+     */
+    record Temperature(int fahrenheit) implements GardenCommand {
+    }
+
+    /**
+     * Infestation by a pest type, as {@link GardenSimulationAPI#parasite(String)}.
+     */
+    record Parasite(String parasiteType) implements GardenCommand {
+        public Parasite {
+            if (parasiteType == null || parasiteType.isBlank()) {
+                throw new IllegalArgumentException("Parasite type cannot be empty");
+            }
+        }
+    }
+
+    static GardenCommand rain(int amount) {
+        return new Rain(amount);
+    }
+
+    static GardenCommand temperature(int fahrenheit) {
+        return new Temperature(fahrenheit);
+    }
+
+    static GardenCommand parasite(String parasiteType) {
+        return new Parasite(parasiteType);
+    }
+}
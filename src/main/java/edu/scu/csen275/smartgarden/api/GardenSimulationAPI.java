@@ -1,7 +1,15 @@
 package edu.scu.csen275.smartgarden.api;
 
+import edu.scu.csen275.smartgarden.config.ConfigException;
+import edu.scu.csen275.smartgarden.config.ConfigReloader;
+import edu.scu.csen275.smartgarden.config.ConfigSnapshot;
+import edu.scu.csen275.smartgarden.config.GardenConfigReader;
 import edu.scu.csen275.smartgarden.controller.GardenController;
+import edu.scu.csen275.smartgarden.jfr.ApiCallEvent;
+import edu.scu.csen275.smartgarden.management.GardenManagement;
+import edu.scu.csen275.smartgarden.metrics.MetricsHttpServer;
 import edu.scu.csen275.smartgarden.model.*;
+import edu.scu.csen275.smartgarden.simulation.GardenSnapshot;
 import edu.scu.csen275.smartgarden.simulation.SimulationEngine;
 import edu.scu.csen275.smartgarden.simulation.HeadlessSimulationEngine;
 import edu.scu.csen275.smartgarden.simulation.WeatherSystem;
@@ -9,15 +17,21 @@ import edu.scu.csen275.smartgarden.system.CoolingSystem;
 import edu.scu.csen275.smartgarden.system.HeatingSystem;
 import edu.scu.csen275.smartgarden.system.HarmfulPest;
 import edu.scu.csen275.smartgarden.system.PestControlSystem;
+import edu.scu.csen275.smartgarden.system.PestVulnerabilityIndex;
 import edu.scu.csen275.smartgarden.system.WateringSystem;
+import edu.scu.csen275.smartgarden.util.LogCategory;
 import edu.scu.csen275.smartgarden.util.Logger;
 
+import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * GardenSimulationAPI provides an interface for automated testing and monitoring 
@@ -28,96 +42,33 @@ import java.util.regex.Pattern;
  * This API wraps smartGarden's existing systems (GardenController, WateringSystem,
  * HeatingSystem, PestControlSystem) to provide a simple programmatic interface
  * similar to Group9's API, but integrated with smartGarden's architecture.
+ * 
+ * While the headless simulation runs, rain(), temperature(), parasite() and
+ * applyBatch() are queued to the simulation thread and applied between ticks;
+ * the call returns once its command has run.
  */
 public class GardenSimulationAPI {
     private final GardenController controller;
     private final Garden garden;
     private final SimulationEngine engine;
     private final HeadlessSimulationEngine headlessEngine;
+    private final MetricsHttpServer metricsServer;
+    private final GardenManagement management;
     private final Logger logger;
     
-    // Track day count for API compatibility (from API calls)
-    private int dayCount = 0;
+    // Watches plants.json and parasites.json when enabled; null otherwise
+    private volatile ConfigReloader configReloader;
+    
+    // Track day count for API compatibility (from API calls); written on the simulation thread
+    private volatile int dayCount = 0;
     
     // Track active API instances for automatic cleanup
     private static final Set<GardenSimulationAPI> activeInstances = ConcurrentHashMap.newKeySet();
     private static volatile boolean shutdownHookRegistered = false;
     private static final Object shutdownLock = new Object();
     
-    // Pest vulnerabilities mapping - loaded from parasites.json config file
-    // Maps plant name -> list of pest names that can attack it
-    private static Map<String, List<String>> pestVulnerabilities = new HashMap<>();
-    
-    static {
-        // Load pest vulnerabilities from parasites.json config file
-        loadPestVulnerabilitiesFromConfig();
-    }
-    
-    /**
-     * Loads pest vulnerabilities from parasites.json config file.
-     * Creates a reverse mapping: plant name -> list of pests that can attack it.
-     */
-    private static void loadPestVulnerabilitiesFromConfig() {
-        try {
-            InputStream configStream = GardenSimulationAPI.class.getResourceAsStream("/parasites.json");
-            if (configStream == null) {
-                System.err.println("[GardenSimulationAPI] WARNING: parasites.json not found, using default vulnerabilities");
-                // Fallback to hardcoded values if config not found
-                loadDefaultPestVulnerabilities();
-                return;
-            }
-            
-            String configContent = new String(configStream.readAllBytes());
-            configStream.close();
-            
-            // Parse parasites.json: extract "name" and "targetPlants" for each parasite
-            // Pattern: "name": "PestName", ... "targetPlants": ["Plant1", "Plant2", ...]
-            Pattern parasitePattern = Pattern.compile(
-                "\"name\"\\s*:\\s*\"([^\"]+)\".*?\"targetPlants\"\\s*:\\s*\\[([^\\]]+)\\]",
-                Pattern.DOTALL
-            );
-            
-            Matcher matcher = parasitePattern.matcher(configContent);
-            
-            while (matcher.find()) {
-                String parasiteName = matcher.group(1);
-                String targetPlantsStr = matcher.group(2);
-                
-                // Extract all plant names from the array
-                Pattern plantPattern = Pattern.compile("\"([^\"]+)\"");
-                Matcher plantMatcher = plantPattern.matcher(targetPlantsStr);
-                
-                while (plantMatcher.find()) {
-                    String plantName = plantMatcher.group(1);
-                    // Add reverse mapping: plant -> list of pests
-                    pestVulnerabilities.computeIfAbsent(plantName, k -> new ArrayList<>()).add(parasiteName);
-                }
-            }
-            
-            System.out.println("[GardenSimulationAPI] Loaded pest vulnerabilities from parasites.json: " + 
-                             pestVulnerabilities.size() + " plants configured");
-        } catch (Exception e) {
-            System.err.println("[GardenSimulationAPI] ERROR loading parasites.json: " + e.getMessage());
-            e.printStackTrace();
-            // Fallback to default values
-            loadDefaultPestVulnerabilities();
-        }
-    }
-    
-    /**
-     * Fallback method to load default pest vulnerabilities if config file fails.
-     */
-    private static void loadDefaultPestVulnerabilities() {
-        pestVulnerabilities.put("Strawberry", Arrays.asList("Red Mite", "Green Leaf Worm"));
-        pestVulnerabilities.put("Grapevine", Arrays.asList("Black Beetle", "Red Mite"));
-        pestVulnerabilities.put("Apple Sapling", Arrays.asList("Brown Caterpillar", "Green Leaf Worm"));
-        pestVulnerabilities.put("Carrot", Arrays.asList("Red Mite", "Brown Caterpillar"));
-        pestVulnerabilities.put("Tomato", Arrays.asList("Black Beetle", "Red Mite"));
-        pestVulnerabilities.put("Onion", Arrays.asList("Green Leaf Worm"));
-        pestVulnerabilities.put("Sunflower", Arrays.asList("Red Mite", "Brown Caterpillar"));
-        pestVulnerabilities.put("Tulip", Arrays.asList("Green Leaf Worm"));
-        pestVulnerabilities.put("Rose", Arrays.asList("Black Beetle", "Red Mite"));
-    }
+    // Plants buffered per bulk insert while streaming garden-config.json
+    private static final int CONFIG_BATCH_SIZE = 4096;
     
     /**
      * Creates a new GardenSimulationAPI with default settings.
@@ -155,10 +106,14 @@ public class GardenSimulationAPI {
             engine.getWeatherSystem()
         );
         
+        // Serves metrics and JMX beans while the headless simulation runs
+        this.metricsServer = new MetricsHttpServer();
+        this.management = new GardenManagement(headlessEngine);
+        
         // Register this instance for automatic cleanup
         activeInstances.add(this);
         
-        logger.info("API", "GardenSimulationAPI initialized with headless simulation engine");
+        logger.info(LogCategory.API, "GardenSimulationAPI initialized with headless simulation engine");
     }
     
     /**
@@ -167,40 +122,38 @@ public class GardenSimulationAPI {
      * Reads plant configuration from garden-config.json in resources.
      */
     public void initializeGarden() {
+        ApiCallEvent apiEvent = ApiCallEvent.start("initializeGarden", null);
+        
         // Enable dual logging - all logs will go to both logs/garden_*.log AND log.txt
         Logger.enableApiLogging(Paths.get("log.txt"));
         
         // Register shutdown hook for automatic cleanup (only once)
         registerShutdownHook();
         
-        logger.info("API", "Initializing garden - Day 0 begins");
+        logger.info(LogCategory.API, "Initializing garden - Day 0 begins");
         dayCount = 0;
         
         // Load plants from config file
-        try {
-            InputStream configStream = getClass().getResourceAsStream("/garden-config.json");
+        try (InputStream configStream = getClass().getResourceAsStream("/garden-config.json")) {
             if (configStream == null) {
-                logger.warning("API", "Config file not found, using default plants");
-                // Fallback to default plants if config not found
-                addPlant(PlantType.STRAWBERRY, new Position(1, 1));
-                addPlant(PlantType.CARROT, new Position(2, 2));
-                addPlant(PlantType.TOMATO, new Position(3, 3));
-                addPlant(PlantType.SUNFLOWER, new Position(4, 4));
+                logger.warning(LogCategory.API, "Config file not found, using default plants");
+                addDefaultPlants();
             } else {
-                String configContent = new String(configStream.readAllBytes());
-                configStream.close();
-                loadPlantsFromConfig(configContent);
+                loadPlantsFromConfig(configStream);
+            }
+        } catch (ConfigException e) {
+            logger.error(LogCategory.API, "Invalid garden-config.json at line {}, column {}: {}",
+                e.getLine(), e.getColumn(), e.getMessage());
+            if (garden.getTotalPlants() == 0) {
+                addDefaultPlants();
             }
         } catch (Exception e) {
-            logger.error("API", "Error loading config file: " + e.getMessage());
+            logger.error(LogCategory.API, "Error loading config file: {}", e.getMessage());
             // Fallback to default plants
-            addPlant(PlantType.STRAWBERRY, new Position(1, 1));
-            addPlant(PlantType.CARROT, new Position(2, 2));
-            addPlant(PlantType.TOMATO, new Position(3, 3));
-            addPlant(PlantType.SUNFLOWER, new Position(4, 4));
+            addDefaultPlants();
         }
         
-        logger.info("API", "Garden initialized with " + garden.getTotalPlants() + " plants.");
+        logger.info(LogCategory.API, "Garden initialized with {} plants.", garden.getTotalPlants());
         
         // Enable API mode - disable automatic pest spawning and weather changes
         // Pests and weather will only be triggered via API calls
@@ -213,6 +166,7 @@ public class GardenSimulationAPI {
         // Start headless simulation for continuous plant updates
         // This enables true 24-hour survival testing
         startHeadlessSimulation();
+        apiEvent.finish(garden.getTotalPlants());
     }
     
     /**
@@ -220,9 +174,9 @@ public class GardenSimulationAPI {
      */
     private void addPlant(PlantType plantType, Position position) {
         if (controller.plantSeed(plantType, position)) {
-            logger.info("API", "Added plant: " + plantType.getDisplayName() + " at " + position);
+            logger.info(LogCategory.API, "Added plant: {} at {}", plantType.getDisplayName(), position);
         } else {
-            logger.warning("API", "Failed to add plant: " + plantType.getDisplayName() + " at " + position);
+            logger.warning(LogCategory.API, "Failed to add plant: {} at {}", plantType.getDisplayName(), position);
         }
     }
     
@@ -235,29 +189,27 @@ public class GardenSimulationAPI {
      *         - "parasites": List of lists of pest types that can attack each plant
      */
     public Map<String, Object> getPlants() {
+        ApiCallEvent apiEvent = ApiCallEvent.start("getPlants", null);
         Map<String, Object> plantInfo = new HashMap<>();
         List<String> plantNames = new ArrayList<>();
         List<Integer> waterRequirements = new ArrayList<>();
         List<List<String>> parasiteList = new ArrayList<>();
+        ConfigSnapshot config = ConfigSnapshot.current();
         
-        for (Plant plant : garden.getAllPlants()) {
-            String plantType = plant.getPlantType();
-            plantNames.add(plantType);
-            waterRequirements.add(plant.getWaterRequirement()); // Fixed: return requirement, not current level
+        // Read from the last published snapshot, never the live garden
+        for (GardenSnapshot.PlantState plant : getSnapshot().getPlants()) {
+            plantNames.add(plant.plantType());
+            waterRequirements.add(plant.waterRequirement()); // Fixed: return requirement, not current level
             
-            // Handle Flower type format "Flower (Sunflower)" -> extract "Sunflower"
-            String lookupKey = plantType;
-            if (plantType.startsWith("Flower (")) {
-                lookupKey = plantType.substring(8, plantType.length() - 1); // Extract "Sunflower" from "Flower (Sunflower)"
-            }
-            parasiteList.add(pestVulnerabilities.getOrDefault(lookupKey, new ArrayList<>()));
+            parasiteList.add(config.vulnerabilities().pestsFor(plant.type()));
         }
         
         plantInfo.put("plants", plantNames);
         plantInfo.put("waterRequirement", waterRequirements);
         plantInfo.put("parasites", parasiteList);
         
-        logger.info("API", "Retrieved plant information for " + plantNames.size() + " plants.");
+        logger.info(LogCategory.API, "Retrieved plant information for {} plants.", plantNames.size());
+        apiEvent.finish(plantNames.size());
         return plantInfo;
     }
     
@@ -268,7 +220,12 @@ public class GardenSimulationAPI {
      * @param amount Amount of water units to add
      */
     public void rain(int amount) {
-        logger.info("API", "Rainfall event: " + amount + " units");
+        ApiCallEvent apiEvent = ApiCallEvent.start("rain", amount);
+        apiEvent.finish(runAndCountLiving(() -> applyRain(amount)));
+    }
+    
+    private void applyRain(int amount) {
+        logger.info(LogCategory.API, "Rainfall event: {} units", amount);
         
         // Set weather to rainy
         WeatherSystem weatherSystem = engine.getWeatherSystem();
@@ -279,8 +236,8 @@ public class GardenSimulationAPI {
             if (!plant.isDead()) {
                 plant.water(amount);
                 plant.applyWeatherEffect("RAINY");
-                logger.info("API", "Rain added water to " + plant.getPlantType() + 
-                           " at " + plant.getPosition() + ". Current water level: " + plant.getWaterLevel());
+                logger.info(LogCategory.API, "Rain added water to {} at {}. Current water level: {}",
+                           plant.getPlantType(), plant.getPosition(), plant.getWaterLevel());
             }
         }
         
@@ -297,9 +254,15 @@ public class GardenSimulationAPI {
      * @param temp Temperature in Fahrenheit (specification requirement: 40-120 F)
      */
     public void temperature(int temp) {
+        ApiCallEvent apiEvent = ApiCallEvent.start("temperature", temp);
+        apiEvent.finish(runAndCountLiving(() -> applyTemperature(temp)));
+    }
+    
+    private void applyTemperature(int temp) {
         // Validate temperature range (40-120 F as per specification)
         if (temp < 40 || temp > 120) {
-            logger.warning("API", "Temperature " + temp + "°F is outside valid range (40-120°F). Clamping to valid range.");
+            logger.warning(LogCategory.API, "Temperature {}°F is outside valid range (40-120°F). Clamping to valid range.",
+                       temp);
             temp = Math.max(40, Math.min(120, temp));
         }
         
@@ -307,7 +270,7 @@ public class GardenSimulationAPI {
         double tempCelsius = (temp - 32) * 5.0 / 9.0;
         int tempCelsiusInt = (int) Math.round(tempCelsius);
         
-        logger.info("API", "Temperature changed to " + temp + "°F (" + tempCelsiusInt + "°C)");
+        logger.info(LogCategory.API, "Temperature changed to {}°F ({}°C)", temp, tempCelsiusInt);
         
         HeatingSystem heatingSystem = engine.getHeatingSystem();
         CoolingSystem coolingSystem = engine.getCoolingSystem();
@@ -323,7 +286,8 @@ public class GardenSimulationAPI {
             if (!plant.isDead()) {
                 plant.applyTemperatureEffect(tempCelsiusInt);
                 // Don't apply weather effects - weather only changes via explicit api.rain() call
-                logger.info("API", plant.getPlantType() + " temperature adjusted to " + temp + "°F (" + tempCelsiusInt + "°C)");
+                logger.info(LogCategory.API, "{} temperature adjusted to {}°F ({}°C)",
+                           plant.getPlantType(), temp, tempCelsiusInt);
             }
         }
         
@@ -340,10 +304,22 @@ public class GardenSimulationAPI {
      * @param parasiteType Type of pest (e.g., "Red Mite", "Green Leaf Worm", etc.) - case-insensitive
      */
     public void parasite(String parasiteType) {
-        logger.info("API", "Parasite infestation: " + parasiteType);
-        
-        // Normalize input for case-insensitive matching
-        String normalizedParasiteType = parasiteType.toLowerCase();
+        ApiCallEvent apiEvent = ApiCallEvent.start("parasite", parasiteType);
+        apiEvent.finish(runAndCountLiving(() -> applyParasite(parasiteType)));
+    }
+    
+    private void applyParasite(String parasiteType) {
+        logger.info(LogCategory.API, "Parasite infestation: {}", parasiteType);
+        
+        // Case-insensitive lookup; unknown pests attack nothing. One snapshot
+        // is used throughout so a config reload cannot mix old and new pests
+        ConfigSnapshot config = ConfigSnapshot.current();
+        PestVulnerabilityIndex pestVulnerabilities = config.vulnerabilities();
+        int pestId = pestVulnerabilities.pestId(parasiteType);
+        long pestBit = pestId >= 0 ? 1L << pestId : 0L;
+        if (pestId < 0) {
+            logger.warning(LogCategory.API, "Unknown parasite type: {}", parasiteType);
+        }
         
         // Find all plants that are vulnerable to this pest type
         for (Plant plant : garden.getAllPlants()) {
@@ -351,35 +327,19 @@ public class GardenSimulationAPI {
                 continue;
             }
             
-            String plantType = plant.getPlantType();
-            // Handle Flower type format "Flower (Sunflower)" -> extract "Sunflower"
-            String lookupKey = plantType;
-            if (plantType.startsWith("Flower (")) {
-                lookupKey = plantType.substring(8, plantType.length() - 1); // Extract "Sunflower" from "Flower (Sunflower)"
-            }
-            List<String> vulnerabilities = pestVulnerabilities.getOrDefault(lookupKey, new ArrayList<>());
-            
-            // Case-insensitive matching: find matching parasite name from vulnerabilities list
-            String matchedParasiteName = null;
-            for (String vulnerability : vulnerabilities) {
-                if (vulnerability.toLowerCase().equals(normalizedParasiteType)) {
-                    matchedParasiteName = vulnerability; // Use original name from config
-                    break;
-                }
-            }
-            
-            if (matchedParasiteName != null) {
-                // Create a pest at the plant's position and attack it
-                // Use the original name from config to ensure consistency
-                HarmfulPest pest = new HarmfulPest(matchedParasiteName, plant.getPosition());
+            if ((pestVulnerabilities.maskOf(plant.getType()) & pestBit) != 0) {
+                String plantType = plant.getPlantType();
+                String matchedParasiteName = pestVulnerabilities.pestName(pestId);
+                // Create a pest of the configured species at the plant's position and attack it
+                HarmfulPest pest = new HarmfulPest(config.pest(pestId), plant.getPosition());
                 pest.causeDamage(plant);
                 
                 // Register pest with PestControlSystem so it gets automatically treated
                 PestControlSystem pestSystem = engine.getPestControlSystem();
                 pestSystem.registerPest(pest);
                 
-                logger.info("API", plantType + " at " + plant.getPosition() + 
-                           " attacked by " + matchedParasiteName);
+                logger.info(LogCategory.API, "{} at {} attacked by {}",
+                           plantType, plant.getPosition(), matchedParasiteName);
             }
         }
         
@@ -389,29 +349,147 @@ public class GardenSimulationAPI {
         dayCount++;
     }
     
+    /**
+     * Runs a command on the simulation thread between ticks and returns the
+     * living plant count read there right after it.
+     */
+    private int runAndCountLiving(Runnable command) {
+        return headlessEngine.callBetweenTicks(() -> {
+            command.run();
+            return garden.getLivingPlantCount();
+        });
+    }
+    
+    /**
+     * Applies a batch of rain, temperature and parasite commands in one pass.
+     * Each living plant is visited once and receives the commands' effects in
+     * order, then the automatic systems update once at the end instead of
+     * after every command. Plant effects match issuing the calls one by one;
+     * per-plant details are logged at DEBUG rather than INFO.
+     * 
+     * @param commands Commands to apply, in order
+     * @return Summary of the batch
+     */
+    public BatchResult applyBatch(List<GardenCommand> commands) {
+        ApiCallEvent apiEvent = ApiCallEvent.start("applyBatch", commands.size());
+        BatchResult result = headlessEngine.callBetweenTicks(() -> applyCommands(commands));
+        apiEvent.finish(result.livingAfter());
+        return result;
+    }
+    
+    private BatchResult applyCommands(List<GardenCommand> commands) {
+        long startNanos = System.nanoTime();
+        int livingBefore = garden.getLivingPlantCount();
+        
+        // Resolve arguments once: temperatures to clamped Celsius, pest names to ids
+        ConfigSnapshot config = ConfigSnapshot.current();
+        PestVulnerabilityIndex pestVulnerabilities = config.vulnerabilities();
+        int[] celsius = new int[commands.size()];
+        int[] pestIds = new int[commands.size()];
+        boolean raining = false;
+        int lastCelsius = Integer.MIN_VALUE;
+        for (int i = 0; i < commands.size(); i++) {
+            switch (commands.get(i)) {
+                case GardenCommand.Rain rain -> raining = true;
+                case GardenCommand.Temperature temperature -> {
+                    int temp = temperature.fahrenheit();
+                    if (temp < 40 || temp > 120) {
+                        logger.warning(LogCategory.API, "Temperature {}°F is outside valid range (40-120°F). Clamping to valid range.",
+                                   temp);
+                        temp = Math.max(40, Math.min(120, temp));
+                    }
+                    celsius[i] = (int) Math.round((temp - 32) * 5.0 / 9.0);
+                    lastCelsius = celsius[i];
+                }
+                case GardenCommand.Parasite parasite -> pestIds[i] = pestVulnerabilities.pestId(parasite.parasiteType());
+            }
+        }
+        logger.info(LogCategory.API, "Applying batch of {} commands", commands.size());
+        
+        if (raining) {
+            engine.getWeatherSystem().setWeather(WeatherSystem.Weather.RAINY);
+        }
+        if (lastCelsius != Integer.MIN_VALUE) {
+            engine.getHeatingSystem().setAmbientTemperature(lastCelsius);
+            engine.getCoolingSystem().setAmbientTemperature(lastCelsius);
+        }
+        
+        PestControlSystem pestSystem = engine.getPestControlSystem();
+        int plantsVisited = 0;
+        int pestsRegistered = 0;
+        for (Plant plant : garden.getAllPlants()) {
+            if (plant.isDead()) {
+                continue;
+            }
+            plantsVisited++;
+            long vulnerabilities = pestVulnerabilities.maskOf(plant.getType());
+            for (int i = 0; i < commands.size() && !plant.isDead(); i++) {
+                switch (commands.get(i)) {
+                    case GardenCommand.Rain rain -> {
+                        plant.water(rain.amount());
+                        plant.applyWeatherEffect("RAINY");
+                    }
+                    case GardenCommand.Temperature temperature -> plant.applyTemperatureEffect(celsius[i]);
+                    case GardenCommand.Parasite parasite -> {
+                        if (pestIds[i] >= 0 && (vulnerabilities & (1L << pestIds[i])) != 0) {
+                            HarmfulPest pest = new HarmfulPest(config.pest(pestIds[i]), plant.getPosition());
+                            pest.causeDamage(plant);
+                            pestSystem.registerPest(pest);
+                            pestsRegistered++;
+                        }
+                    }
+                }
+            }
+            logger.debug(LogCategory.API, "Batch applied to {} at {}. Health: {}, water: {}",
+                       plant.getPlantType(), plant.getPosition(), plant.getHealthLevel(), plant.getWaterLevel());
+        }
+        
+        // One system pass for the whole batch
+        triggerSystemUpdates();
+        
+        dayCount += commands.size();
+        BatchResult result = new BatchResult(commands.size(), plantsVisited, pestsRegistered,
+            livingBefore, garden.getLivingPlantCount(), System.nanoTime() - startNanos);
+        logger.info(LogCategory.API, "Batch complete: {}", result);
+        return result;
+    }
+    
     /**
      * Logs details about the garden's current state, including plant health and status.
-     * Uses smartGarden's Garden.getStatistics() method.
+     * Reads from {@link #getSnapshot()}, so it is safe while the simulation runs.
      */
     public void getState() {
-        logger.info("API", "Garden State Report - Day " + dayCount);
-        
-        Map<String, Integer> stats = garden.getStatistics();
-        int alive = stats.getOrDefault("livingPlants", 0);
-        int dead = stats.getOrDefault("deadPlants", 0);
+        ApiCallEvent apiEvent = ApiCallEvent.start("getState", null);
+        logger.info(LogCategory.API, "Garden State Report - Day {}", dayCount);
         
-        logger.info("API", "Alive: " + alive + ", Dead: " + dead);
-        logger.info("API", "Total Plants: " + stats.getOrDefault("totalPlants", 0));
-        logger.info("API", "Zones: " + stats.getOrDefault("zones", 0));
+        GardenSnapshot snapshot = getSnapshot();
+        logger.info(LogCategory.API, "Alive: {}, Dead: {}", snapshot.getLivingPlants(), snapshot.getDeadPlants());
+        logger.info(LogCategory.API, "Total Plants: {}", snapshot.size());
+        logger.info(LogCategory.API, "Zones: {}", garden.getZones().size());
         
         // Log individual plant status
-        for (Plant plant : garden.getAllPlants()) {
-            String status = plant.isDead() ? "DEAD" : "ALIVE";
-            String plantStatus = "  - " + plant.getPlantType() + " at " + plant.getPosition() + 
-                       ": " + status + " (Health: " + plant.getHealthLevel() + "%, Water: " + 
-                       plant.getWaterLevel() + "%)";
-            logger.info("API", plantStatus);
+        for (int i = 0; i < snapshot.size(); i++) {
+            GardenSnapshot.PlantState plant = snapshot.plant(i);
+            String status = plant.dead() ? "DEAD" : "ALIVE";
+            logger.info(LogCategory.API, "  - {} at {}: {} (Health: {}%, Water: {}%)", plant.plantType(),
+                       plant.position(), status, plant.health(), plant.waterLevel());
         }
+        apiEvent.finish(snapshot.size());
+    }
+    
+    /**
+     * Gets an immutable copy of the garden. While the headless simulation is
+     * running this is the snapshot published at the end of the last tick, so
+     * it is consistent and reading it never waits on the simulation thread;
+     * otherwise the garden is copied now.
+     */
+    public GardenSnapshot getSnapshot() {
+        if (headlessEngine.isRunning()) {
+            return headlessEngine.getSnapshot();
+        }
+        return GardenSnapshot.capture(headlessEngine.getElapsedTicks(), headlessEngine.getDayCounter(),
+            headlessEngine.getSimulationTime(), garden, headlessEngine.getWeatherSystem().getCurrentWeather(),
+            headlessEngine.getPestControlSystem().getHarmfulPestCount());
     }
     
     /**
@@ -444,16 +522,18 @@ public class GardenSimulationAPI {
      */
     public void startHeadlessSimulation() {
         if (headlessEngine.isRunning()) {
-            logger.warning("API", "Headless simulation already running");
+            logger.warning(LogCategory.API, "Headless simulation already running");
             return;
         }
         
         if (garden.getLivingPlants().isEmpty()) {
-            logger.warning("API", "Cannot start headless simulation - no plants in garden");
+            logger.warning(LogCategory.API, "Cannot start headless simulation - no plants in garden");
             return;
         }
         
         headlessEngine.start();
+        metricsServer.start();
+        management.register();
     }
     
     /**
@@ -473,6 +553,9 @@ public class GardenSimulationAPI {
                     if (api.headlessEngine.isRunning()) {
                         api.headlessEngine.stop();
                     }
+                    api.metricsServer.stop();
+                    api.management.unregister();
+                    api.disableConfigReload();
                 }
                 
                 // Close API log
@@ -498,7 +581,10 @@ public class GardenSimulationAPI {
         }
         
         headlessEngine.stop();
-        logger.info("API", "Headless simulation loop stopped");
+        metricsServer.stop();
+        management.unregister();
+        disableConfigReload();
+        logger.info(LogCategory.API, "Headless simulation loop stopped");
     }
     
     /**
@@ -508,6 +594,46 @@ public class GardenSimulationAPI {
         return headlessEngine.isRunning();
     }
     
+    /**
+     * Watches a directory for changes to plants.json and parasites.json.
+     * Changed files are parsed off the simulation thread and take effect at
+     * the start of the headless engine's next tick, without stopping the
+     * simulation.
+     * 
+     * @param directory Directory holding the config files to watch
+     */
+    public void enableConfigReload(Path directory) throws IOException {
+        disableConfigReload();
+        ConfigReloader reloader = new ConfigReloader(directory);
+        reloader.start();
+        configReloader = reloader;
+        headlessEngine.setConfigReloader(reloader);
+    }
+    
+    /**
+     * Stops watching the config directory, if enableConfigReload() was called.
+     */
+    public void disableConfigReload() {
+        ConfigReloader reloader = configReloader;
+        if (reloader == null) {
+            return;
+        }
+        configReloader = null;
+        headlessEngine.setConfigReloader(null);
+        try {
+            reloader.close();
+        } catch (IOException e) {
+            logger.warning(LogCategory.API, "Error closing config watcher: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * Gets the metrics endpoint that runs alongside the headless simulation.
+     */
+    public MetricsHttpServer getMetricsServer() {
+        return metricsServer;
+    }
+    
     /**
      * Gets the headless simulation engine's day counter.
      * This tracks days from continuous simulation (different from API dayCount).
@@ -535,6 +661,24 @@ public class GardenSimulationAPI {
         pestSystem.update();
     }
     
+    /**
+     * Changes log levels while the simulation runs, e.g.
+     * "Watering=WARNING, PestControl=DEBUG". Use "*" for the default level
+     * and "DEFAULT" to clear a category's level.
+     *
+     * @throws IllegalArgumentException if the spec is malformed
+     */
+    public void setLogLevels(String spec) {
+        logger.setCategoryLevels(spec);
+    }
+    
+    /**
+     * Gets the current log levels in the format accepted by setLogLevels().
+     */
+    public String getLogLevels() {
+        return logger.getCategoryLevels();
+    }
+    
     /**
      * Closes the API log file writer. Should be called when done using the API.
      * Note: This is optional - shutdown hook will handle cleanup automatically when JVM exits.
@@ -544,65 +688,47 @@ public class GardenSimulationAPI {
     }
     
     /**
-     * Parses the JSON config file and loads plants into the garden.
-     * Simple JSON parser for the specific config format.
-     * 
-     * @param configContent The JSON content as a string
+     * Streams the garden layout from the config file and plants it through
+     * the garden's bulk path in fixed-size batches, so large layouts are
+     * never held in memory and are not logged plant by plant.
+     *
+     * @param configStream The garden-config.json content
+     * @throws ConfigException if the file is malformed; plants read before the error are kept
      */
-    private void loadPlantsFromConfig(String configContent) {
-        // Simple regex-based parser for the specific JSON structure
-        // Pattern: "type": "PlantName", "position": {"row": X, "column": Y}
-        Pattern plantPattern = Pattern.compile(
-            "\"type\"\\s*:\\s*\"([^\"]+)\".*?\"row\"\\s*:\\s*(\\d+).*?\"column\"\\s*:\\s*(\\d+)",
-            Pattern.DOTALL
-        );
-        
-        Matcher matcher = plantPattern.matcher(configContent);
-        int plantCount = 0;
-        
-        while (matcher.find()) {
-            String plantTypeName = matcher.group(1);
-            int row = Integer.parseInt(matcher.group(2));
-            int column = Integer.parseInt(matcher.group(3));
-            
-            // Map plant type name to PlantType enum
-            PlantType plantType = mapPlantTypeName(plantTypeName);
-            if (plantType != null) {
-                addPlant(plantType, new Position(row, column));
-                plantCount++;
-            } else {
-                logger.warning("API", "Unknown plant type in config: " + plantTypeName);
+    private void loadPlantsFromConfig(InputStream configStream) throws IOException {
+        Reader reader = new BufferedReader(new InputStreamReader(configStream, StandardCharsets.UTF_8));
+        List<Plant> batch = new ArrayList<>(CONFIG_BATCH_SIZE);
+        int[] planted = new int[1];
+        int read;
+        try {
+            read = GardenConfigReader.readGardenLayout(reader, "garden-config.json", (type, row, column) -> {
+                batch.add(type.createPlant(new Position(row, column)));
+                if (batch.size() == CONFIG_BATCH_SIZE) {
+                    planted[0] += garden.plantAll(batch);
+                    batch.clear();
+                }
+            });
+        } finally {
+            if (!batch.isEmpty()) {
+                planted[0] += garden.plantAll(batch);
             }
         }
+        logger.info(LogCategory.API, "Loaded {} plants from config ({} rejected)", planted[0], read - planted[0]);
         
-        if (plantCount == 0) {
-            logger.warning("API", "No plants loaded from config, using defaults");
-            addPlant(PlantType.STRAWBERRY, new Position(1, 1));
-            addPlant(PlantType.CARROT, new Position(2, 2));
-            addPlant(PlantType.TOMATO, new Position(3, 3));
-            addPlant(PlantType.SUNFLOWER, new Position(4, 4));
+        if (planted[0] == 0) {
+            logger.warning(LogCategory.API, "No plants loaded from config, using defaults");
+            addDefaultPlants();
         }
     }
     
     /**
-     * Maps plant type name from config to PlantType enum.
-     * 
-     * @param plantTypeName The plant type name from config
-     * @return The corresponding PlantType enum, or null if not found
+     * Plants the four default plants used when the config cannot be loaded.
      */
-    private PlantType mapPlantTypeName(String plantTypeName) {
-        return switch (plantTypeName) {
-            case "Strawberry" -> PlantType.STRAWBERRY;
-            case "Grapevine" -> PlantType.GRAPEVINE;
-            case "Apple Sapling", "Apple" -> PlantType.APPLE;
-            case "Carrot" -> PlantType.CARROT;
-            case "Tomato" -> PlantType.TOMATO;
-            case "Onion" -> PlantType.ONION;
-            case "Sunflower" -> PlantType.SUNFLOWER;
-            case "Tulip" -> PlantType.TULIP;
-            case "Rose" -> PlantType.ROSE;
-            default -> null;
-        };
+    private void addDefaultPlants() {
+        addPlant(PlantType.STRAWBERRY, new Position(1, 1));
+        addPlant(PlantType.CARROT, new Position(2, 2));
+        addPlant(PlantType.TOMATO, new Position(3, 3));
+        addPlant(PlantType.SUNFLOWER, new Position(4, 4));
     }
 }
 
@@ -0,0 +1,37 @@
+package edu.scu.csen275.smartgarden.config;
+
+import java.io.IOException;
+
+/**
+ * Thrown when a config file is not valid JSON or does not match the
+ * expected layout. The message starts with "source:line:column".
+ */
+public class ConfigException extends IOException {
+    private static final long serialVersionUID = 1L;
+
+    private final String source;
+    private final int line;
+    private final int column;
+
+    /**
+     * Creates a new ConfigException for a position in a source.
+     */
+    public ConfigException(String source, int line, int column, String message) {
+        super(source + ":" + line + ":" + column + ": " + message);
+        this.source = source;
+        this.line = line;
+        this.column = column;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public int getLine() {
+        return line;
+    }
+
+    public int getColumn() {
+        return column;
+    }
+}
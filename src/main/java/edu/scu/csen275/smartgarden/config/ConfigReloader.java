@@ -0,0 +1,233 @@
+package edu.scu.csen275.smartgarden.config;
+
+import edu.scu.csen275.smartgarden.model.Garden;
+import edu.scu.csen275.smartgarden.model.Plant;
+import edu.scu.csen275.smartgarden.model.PlantType;
+import edu.scu.csen275.smartgarden.model.SpeciesCatalog;
+import edu.scu.csen275.smartgarden.system.PestSpecies;
+import edu.scu.csen275.smartgarden.system.PestVulnerabilityIndex;
+import edu.scu.csen275.smartgarden.util.LogCategory;
+import edu.scu.csen275.smartgarden.util.Logger;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Hot reload of plants.json and parasites.json from a directory.
+ *
+ * A watcher thread waits for changes with a {@link WatchService}, then reads
+ * and validates both files and compiles the species catalog and pest index
+ * on that thread. The result is staged, and the simulation thread installs
+ * it with {@link #applyPending(Garden)} at the start of its next tick, so a
+ * tick never sees a mix of old and new parameters and the engine never
+ * waits for file I/O. A file that fails to parse is logged with its line and
+ * column, and the current config stays in effect.
+ */
+public class ConfigReloader implements Closeable {
+    public static final String PLANTS_FILE = "plants.json";
+    public static final String PARASITES_FILE = "parasites.json";
+
+    // Editors often write a file in several steps; wait for them to finish
+    private static final long DEBOUNCE_MILLIS = 200;
+
+    private static final Logger logger = Logger.getInstance();
+
+    private final Path directory;
+    private final AtomicReference<Staged> staged = new AtomicReference<>();
+    private volatile long appliedCount;
+    private WatchService watchService;
+    private Thread watcher;
+
+    /**
+     * A validated config waiting for the next tick boundary.
+     *
+     * @param parasites null to keep the current pest species
+     */
+    private record Staged(SpeciesCatalog catalog, List<ParasiteDefinition> parasites,
+                          PestVulnerabilityIndex vulnerabilities) {
+    }
+
+    /**
+     * Creates a reloader for the config files in a directory.
+     */
+    public ConfigReloader(Path directory) {
+        if (directory == null || !Files.isDirectory(directory)) {
+            throw new IllegalArgumentException("Config directory does not exist: " + directory);
+        }
+        this.directory = directory;
+    }
+
+    /**
+     * Starts watching the directory on a daemon thread.
+     */
+    public synchronized void start() throws IOException {
+        if (watcher != null) {
+            return;
+        }
+        watchService = directory.getFileSystem().newWatchService();
+        directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+            StandardWatchEventKinds.ENTRY_MODIFY);
+        watcher = new Thread(this::watch, "ConfigReloader");
+        watcher.setDaemon(true);
+        watcher.start();
+        logger.info(LogCategory.CONFIG, "Watching {} for config changes", directory);
+    }
+
+    /**
+     * Reads and validates the config files now and stages them for the next
+     * tick. A missing file keeps the current values for that file.
+     *
+     * @return true if a new config was staged, false if a file was invalid
+     */
+    public boolean reloadNow() {
+        try {
+            ConfigSnapshot current = ConfigSnapshot.current();
+            SpeciesCatalog catalog = current.catalog();
+            Path plantsFile = directory.resolve(PLANTS_FILE);
+            if (Files.exists(plantsFile)) {
+                try (Reader in = open(plantsFile)) {
+                    catalog = SpeciesCatalog.load(in, PLANTS_FILE);
+                }
+            }
+
+            List<ParasiteDefinition> parasites = null;
+            PestVulnerabilityIndex vulnerabilities = current.vulnerabilities();
+            Path parasitesFile = directory.resolve(PARASITES_FILE);
+            if (Files.exists(parasitesFile)) {
+                List<ParasiteDefinition> read = new ArrayList<>();
+                try (Reader in = open(parasitesFile)) {
+                    GardenConfigReader.readParasites(in, PARASITES_FILE, PestSpecies.DEFAULT_DAMAGE, read::add);
+                }
+                if (read.isEmpty()) {
+                    logger.error(LogCategory.CONFIG, "{} defines no parasites; keeping the current config", PARASITES_FILE);
+                    return false;
+                }
+                PestVulnerabilityIndex.Builder builder = PestVulnerabilityIndex.builder();
+                for (ParasiteDefinition parasite : read) {
+                    builder.add(parasite.name(), parasite.targets().toArray(new PlantType[0]));
+                }
+                vulnerabilities = builder.build();
+                parasites = read;
+            }
+
+            staged.set(new Staged(catalog, parasites, vulnerabilities));
+            logger.info(LogCategory.CONFIG, "Staged config reload from {}", directory);
+            return true;
+        } catch (ConfigException e) {
+            logger.error(LogCategory.CONFIG, "Invalid {} at line {}, column {}: {}; keeping the current config",
+                e.getSource(), e.getLine(), e.getColumn(), e.getMessage());
+        } catch (IOException | IllegalArgumentException e) {
+            logger.error(LogCategory.CONFIG, "Could not reload config from {}: {}", directory, e.getMessage());
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if a reloaded config is waiting to be applied.
+     */
+    public boolean hasPending() {
+        return staged.get() != null;
+    }
+
+    /**
+     * Installs the staged config, if any. Call from the simulation thread
+     * between ticks: the new catalog and pest species become current, and
+     * every plant in the garden switches to its new species row.
+     *
+     * @param garden the garden whose plants to rebind, or null
+     * @return true if a config was applied
+     */
+    public boolean applyPending(Garden garden) {
+        Staged next = staged.getAndSet(null);
+        if (next == null) {
+            return false;
+        }
+        ConfigSnapshot previous = ConfigSnapshot.current();
+        List<PestSpecies> pests = next.parasites() != null
+            ? PestSpecies.reload(next.parasites()) : previous.pests();
+
+        SpeciesCatalog.setDefault(next.catalog());
+        if (garden != null) {
+            for (Plant plant : garden.getAllPlants()) {
+                plant.rebindSpecies(next.catalog());
+            }
+        }
+        ConfigSnapshot.publish(new ConfigSnapshot(previous.version() + 1, next.catalog(), pests,
+            next.vulnerabilities()));
+        appliedCount++;
+        logger.info(LogCategory.CONFIG, "Applied config version {} ({} pest species)", previous.version() + 1, pests.size());
+        return true;
+    }
+
+    /**
+     * Gets the number of configs this reloader has applied.
+     */
+    public long getAppliedCount() {
+        return appliedCount;
+    }
+
+    /**
+     * Stops watching. A staged config that was not applied is discarded.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (watchService != null) {
+            watchService.close(); // wakes the watcher thread, which then exits
+            watchService = null;
+            watcher = null;
+        }
+        staged.set(null);
+    }
+
+    private void watch() {
+        WatchService service = watchService;
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                boolean changed = isConfigChange(key);
+                key.reset();
+                if (!changed) {
+                    continue;
+                }
+                Thread.sleep(DEBOUNCE_MILLIS);
+                while ((key = service.poll()) != null) {
+                    key.pollEvents();
+                    key.reset();
+                }
+                reloadNow();
+            }
+        } catch (ClosedWatchServiceException e) {
+            // closed by close()
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static boolean isConfigChange(WatchKey key) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                changed = true;
+            } else if (event.context() instanceof Path file) {
+                String name = file.getFileName().toString();
+                changed |= name.equals(PLANTS_FILE) || name.equals(PARASITES_FILE);
+            }
+        }
+        return changed;
+    }
+
+    private static Reader open(Path file) throws IOException {
+        return Files.newBufferedReader(file, StandardCharsets.UTF_8);
+    }
+}
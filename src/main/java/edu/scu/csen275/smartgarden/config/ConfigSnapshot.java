@@ -0,0 +1,42 @@
+package edu.scu.csen275.smartgarden.config;
+
+import edu.scu.csen275.smartgarden.model.SpeciesCatalog;
+import edu.scu.csen275.smartgarden.system.PestSpecies;
+import edu.scu.csen275.smartgarden.system.PestVulnerabilityIndex;
+import java.util.List;
+
+/**
+ * Immutable view of the species and pest configuration. Readers take the
+ * current snapshot once and use only it for the rest of the operation, so a
+ * reload between two reads can never mix old and new values.
+ *
+ * @param version 0 for the config loaded at startup, then one more per reload
+ * @param pests the configured pest species; index ids are positions in this list
+ */
+public record ConfigSnapshot(long version, SpeciesCatalog catalog, List<PestSpecies> pests,
+                             PestVulnerabilityIndex vulnerabilities) {
+
+    private static volatile ConfigSnapshot current = new ConfigSnapshot(0, SpeciesCatalog.getDefault(),
+        PestSpecies.configured(), PestVulnerabilityIndex.fromSpecies(PestSpecies.configured()));
+
+    /**
+     * Gets the snapshot in effect.
+     */
+    public static ConfigSnapshot current() {
+        return current;
+    }
+
+    /**
+     * Makes a snapshot current. Called by {@link ConfigReloader} at a tick boundary.
+     */
+    static void publish(ConfigSnapshot snapshot) {
+        current = snapshot;
+    }
+
+    /**
+     * Gets the pest species with this vulnerability index id.
+     */
+    public PestSpecies pest(int pestId) {
+        return pests.get(pestId);
+    }
+}
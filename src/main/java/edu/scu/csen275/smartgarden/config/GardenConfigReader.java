@@ -0,0 +1,287 @@
+package edu.scu.csen275.smartgarden.config;
+
+import edu.scu.csen275.smartgarden.model.PlantCategory;
+import edu.scu.csen275.smartgarden.model.PlantType;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Streaming readers for the garden config files. Each record is validated
+ * and handed to the caller as soon as it has been read, so memory use is
+ * proportional to one record, not the whole file. Unknown fields are
+ * skipped; malformed JSON, missing fields and unknown plant types are
+ * reported as a {@link ConfigException} with the line and column.
+ */
+public final class GardenConfigReader {
+    /** Most parasites a config may define; pest sets are 64-bit masks. */
+    public static final int MAX_PARASITES = Long.SIZE;
+
+    /**
+     * Receives each plant read from a garden layout.
+     */
+    @FunctionalInterface
+    public interface PlantSink {
+        void plant(PlantType type, int row, int column);
+    }
+
+    private GardenConfigReader() {
+    }
+
+    /**
+     * Reads a garden layout in the garden-config.json format:
+     * {@code {"plants": [{"type": "Rose", "position": {"row": 1, "column": 2}}]}}.
+     * Types are display names ("Apple Sapling") or PlantType names ("APPLE").
+     *
+     * @return the number of plants passed to the sink
+     */
+    public static int readGardenLayout(Reader in, String source, PlantSink sink) throws IOException {
+        JsonReader reader = new JsonReader(in, source);
+        int count = 0;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (reader.nextName().equals("plants")) {
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    readPlant(reader, sink);
+                    count++;
+                }
+                reader.endArray();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        reader.endDocument();
+        return count;
+    }
+
+    /**
+     * Reads plant profiles in the plants.json format, where the top-level
+     * keys "fruits", "vegetables" and "flowers" each hold an array of entries.
+     *
+     * @return the number of profiles passed to the consumer
+     */
+    public static int readPlantProfiles(Reader in, String source, Consumer<PlantProfile> consumer)
+            throws IOException {
+        JsonReader reader = new JsonReader(in, source);
+        int count = 0;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            reader.peek();
+            int line = reader.getLine();
+            int column = reader.getColumn();
+            String key = reader.nextName();
+            PlantCategory category = switch (key) {
+                case "fruits" -> PlantCategory.FRUIT;
+                case "vegetables" -> PlantCategory.VEGETABLE;
+                case "flowers" -> PlantCategory.FLOWER;
+                default -> throw new ConfigException(source, line, column, "Unknown plant category \"" + key + "\"");
+            };
+            reader.beginArray();
+            while (reader.hasNext()) {
+                consumer.accept(readProfile(reader, category));
+                count++;
+            }
+            reader.endArray();
+        }
+        reader.endObject();
+        reader.endDocument();
+        return count;
+    }
+
+    /**
+     * Reads parasite definitions in the parasites.json format:
+     * {@code {"parasites": [{"name": "Red Mite", "damage": 2, "targetPlants": ["Rose"]}]}}.
+     * Target names that are not plant types are ignored.
+     * At most {@link #MAX_PARASITES} entries are allowed.
+     *
+     * @param defaultDamage damage used when an entry has no "damage" field
+     * @return the number of definitions passed to the consumer
+     */
+    public static int readParasites(Reader in, String source, int defaultDamage,
+                                    Consumer<ParasiteDefinition> consumer) throws IOException {
+        JsonReader reader = new JsonReader(in, source);
+        int count = 0;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (reader.nextName().equals("parasites")) {
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    if (count == MAX_PARASITES) {
+                        reader.peek();
+                        throw new ConfigException(reader.getSource(), reader.getLine(), reader.getColumn(),
+                            "More than " + MAX_PARASITES + " parasites");
+                    }
+                    consumer.accept(readParasite(reader, defaultDamage));
+                    count++;
+                }
+                reader.endArray();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        reader.endDocument();
+        return count;
+    }
+
+    /**
+     * Resolves a plant type from its display name or enum name, ignoring case
+     * for the latter, or returns null.
+     */
+    public static PlantType resolvePlantType(String name) {
+        PlantType type = PlantType.fromDisplayName(name);
+        if (type != null) {
+            return type;
+        }
+        try {
+            return PlantType.valueOf(name.trim().toUpperCase(Locale.ROOT).replace(' ', '_'));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static void readPlant(JsonReader reader, PlantSink sink) throws IOException {
+        reader.peek();
+        int line = reader.getLine();
+        int column = reader.getColumn();
+        PlantType type = null;
+        int row = -1;
+        int col = -1;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "type" -> {
+                    reader.peek();
+                    int typeLine = reader.getLine();
+                    int typeColumn = reader.getColumn();
+                    String name = reader.nextString();
+                    type = resolvePlantType(name);
+                    if (type == null) {
+                        throw new ConfigException(reader.getSource(), typeLine, typeColumn,
+                            "Unknown plant type \"" + name + "\"");
+                    }
+                }
+                case "position" -> {
+                    reader.beginObject();
+                    while (reader.hasNext()) {
+                        switch (reader.nextName()) {
+                            case "row" -> row = readNonNegative(reader, "row");
+                            case "column" -> col = readNonNegative(reader, "column");
+                            default -> reader.skipValue();
+                        }
+                    }
+                    reader.endObject();
+                }
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        if (type == null || row < 0 || col < 0) {
+            throw new ConfigException(reader.getSource(), line, column,
+                "Plant needs \"type\" and \"position\" with \"row\" and \"column\"");
+        }
+        sink.plant(type, row, col);
+    }
+
+    private static PlantProfile readProfile(JsonReader reader, PlantCategory category) throws IOException {
+        reader.peek();
+        int line = reader.getLine();
+        int column = reader.getColumn();
+        String name = null;
+        Integer water = null;
+        Integer minTemperature = null;
+        Integer maxTemperature = null;
+        Integer lifespan = null;
+        Integer growthDuration = null;
+        List<String> vulnerableTo = List.of();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name" -> name = reader.nextString();
+                case "waterRequirement" -> water = readNonNegative(reader, "waterRequirement");
+                case "minTemperature" -> minTemperature = reader.nextInt();
+                case "maxTemperature" -> maxTemperature = reader.nextInt();
+                case "lifespan" -> lifespan = readNonNegative(reader, "lifespan");
+                case "growthDuration" -> growthDuration = readNonNegative(reader, "growthDuration");
+                case "vulnerableTo" -> vulnerableTo = readStrings(reader);
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        if (name == null || water == null || minTemperature == null || maxTemperature == null
+                || lifespan == null || growthDuration == null) {
+            throw new ConfigException(reader.getSource(), line, column, "Plant profile needs \"name\", "
+                + "\"waterRequirement\", \"minTemperature\", \"maxTemperature\", \"lifespan\" and \"growthDuration\"");
+        }
+        if (minTemperature > maxTemperature) {
+            throw new ConfigException(reader.getSource(), line, column,
+                "minTemperature is above maxTemperature for " + name);
+        }
+        return new PlantProfile(category, name, water, minTemperature, maxTemperature,
+            lifespan, growthDuration, vulnerableTo);
+    }
+
+    private static ParasiteDefinition readParasite(JsonReader reader, int defaultDamage) throws IOException {
+        reader.peek();
+        int line = reader.getLine();
+        int column = reader.getColumn();
+        String name = null;
+        int damage = defaultDamage;
+        Set<PlantType> targets = EnumSet.noneOf(PlantType.class);
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name" -> name = reader.nextString();
+                case "damage" -> damage = readNonNegative(reader, "damage");
+                case "targetPlants" -> {
+                    for (String target : readStrings(reader)) {
+                        PlantType type = PlantType.fromDisplayName(target);
+                        if (type != null) {
+                            targets.add(type);
+                        }
+                    }
+                }
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        if (name == null || name.isBlank()) {
+            throw new ConfigException(reader.getSource(), line, column, "Parasite needs a \"name\"");
+        }
+        return new ParasiteDefinition(name, damage, targets);
+    }
+
+    private static int readNonNegative(JsonReader reader, String field) throws IOException {
+        reader.peek();
+        int line = reader.getLine();
+        int column = reader.getColumn();
+        int value = reader.nextInt();
+        if (value < 0) {
+            throw new ConfigException(reader.getSource(), line, column, field + " cannot be negative");
+        }
+        return value;
+    }
+
+    private static List<String> readStrings(JsonReader reader) throws IOException {
+        List<String> values = new ArrayList<>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            values.add(reader.nextString());
+        }
+        reader.endArray();
+        return values;
+    }
+}
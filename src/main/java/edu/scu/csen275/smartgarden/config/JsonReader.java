@@ -0,0 +1,500 @@
+package edu.scu.csen275.smartgarden.config;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Streaming, validating JSON pull parser. Tokens are read one at a time
+ * from the underlying reader, so memory use is bounded by the nesting
+ * depth and the longest single token, not the size of the document.
+ * Every syntax error is reported as a {@link ConfigException} with the
+ * line and column of the offending token.
+ *
+ * Usage mirrors the document structure, e.g.
+ * {@code beginObject(); while (hasNext()) { String name = nextName(); ... } endObject();}
+ */
+public class JsonReader implements Closeable {
+
+    /**
+     * Kinds of token returned by {@link #peek()}.
+     */
+    public enum Token {
+        BEGIN_OBJECT, END_OBJECT, BEGIN_ARRAY, END_ARRAY, NAME, STRING, NUMBER, BOOLEAN, NULL, END_DOCUMENT
+    }
+
+    // Scopes on the nesting stack
+    private static final byte EMPTY_DOCUMENT = 0;
+    private static final byte NONEMPTY_DOCUMENT = 1;
+    private static final byte EMPTY_ARRAY = 2;
+    private static final byte NONEMPTY_ARRAY = 3;
+    private static final byte EMPTY_OBJECT = 4;
+    private static final byte DANGLING_NAME = 5;
+    private static final byte NONEMPTY_OBJECT = 6;
+
+    private final Reader in;
+    private final String source;
+    private final char[] buffer = new char[8192];
+    private int pos;
+    private int limit;
+    private int line = 1;
+    private int column = 1;
+
+    private byte[] stack = new byte[16];
+    private int depth;
+
+    private Token peeked;
+    private int tokenLine;
+    private int tokenColumn;
+    private final StringBuilder text = new StringBuilder();
+
+    /**
+     * Creates a reader over a JSON document.
+     *
+     * @param source name used in error messages, e.g. the file name
+     */
+    public JsonReader(Reader in, String source) {
+        this.in = in;
+        this.source = source;
+        stack[depth++] = EMPTY_DOCUMENT;
+    }
+
+    /**
+     * Gets the kind of the next token without consuming it.
+     */
+    public Token peek() throws IOException {
+        if (peeked == null) {
+            peeked = readToken();
+        }
+        return peeked;
+    }
+
+    /**
+     * Returns true if the current array or object has another element.
+     */
+    public boolean hasNext() throws IOException {
+        Token token = peek();
+        return token != Token.END_OBJECT && token != Token.END_ARRAY && token != Token.END_DOCUMENT;
+    }
+
+    public void beginObject() throws IOException {
+        expect(Token.BEGIN_OBJECT);
+        peeked = null;
+    }
+
+    public void endObject() throws IOException {
+        expect(Token.END_OBJECT);
+        peeked = null;
+        depth--;
+    }
+
+    public void beginArray() throws IOException {
+        expect(Token.BEGIN_ARRAY);
+        peeked = null;
+    }
+
+    public void endArray() throws IOException {
+        expect(Token.END_ARRAY);
+        peeked = null;
+        depth--;
+    }
+
+    public String nextName() throws IOException {
+        expect(Token.NAME);
+        peeked = null;
+        return text.toString();
+    }
+
+    public String nextString() throws IOException {
+        expect(Token.STRING);
+        peeked = null;
+        return text.toString();
+    }
+
+    /**
+     * Reads a number that must be an integer in int range.
+     */
+    public int nextInt() throws IOException {
+        expect(Token.NUMBER);
+        try {
+            int value = Integer.parseInt(text, 0, text.length(), 10);
+            peeked = null;
+            return value;
+        } catch (NumberFormatException e) {
+            throw error("Expected an integer but was " + text);
+        }
+    }
+
+    public double nextDouble() throws IOException {
+        expect(Token.NUMBER);
+        peeked = null;
+        return Double.parseDouble(text.toString());
+    }
+
+    public boolean nextBoolean() throws IOException {
+        expect(Token.BOOLEAN);
+        peeked = null;
+        return text.charAt(0) == 't';
+    }
+
+    public void nextNull() throws IOException {
+        expect(Token.NULL);
+        peeked = null;
+    }
+
+    /**
+     * Skips the next value, including everything nested inside it.
+     */
+    public void skipValue() throws IOException {
+        int nesting = 0;
+        do {
+            switch (peek()) {
+                case BEGIN_OBJECT -> {
+                    beginObject();
+                    nesting++;
+                }
+                case BEGIN_ARRAY -> {
+                    beginArray();
+                    nesting++;
+                }
+                case END_OBJECT -> {
+                    endObject();
+                    nesting--;
+                }
+                case END_ARRAY -> {
+                    endArray();
+                    nesting--;
+                }
+                case END_DOCUMENT -> throw error("Unexpected end of document");
+                default -> peeked = null;
+            }
+        } while (nesting > 0);
+    }
+
+    /**
+     * Checks that nothing but whitespace follows the top-level value.
+     */
+    public void endDocument() throws IOException {
+        expect(Token.END_DOCUMENT);
+    }
+
+    /**
+     * Gets the line of the next token (after {@link #peek()}), starting at 1.
+     */
+    public int getLine() {
+        return tokenLine;
+    }
+
+    /**
+     * Gets the column of the next token (after {@link #peek()}), starting at 1.
+     */
+    public int getColumn() {
+        return tokenColumn;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Creates an exception located at the next token, for validation errors
+     * found by the caller.
+     */
+    public ConfigException error(String message) {
+        return new ConfigException(source, tokenLine, tokenColumn, message);
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private void expect(Token expected) throws IOException {
+        Token actual = peek();
+        if (actual != expected) {
+            throw error("Expected " + describe(expected) + " but was " + describe(actual));
+        }
+    }
+
+    private static String describe(Token token) {
+        return switch (token) {
+            case BEGIN_OBJECT -> "'{'";
+            case END_OBJECT -> "'}'";
+            case BEGIN_ARRAY -> "'['";
+            case END_ARRAY -> "']'";
+            case NAME -> "a name";
+            case STRING -> "a string";
+            case NUMBER -> "a number";
+            case BOOLEAN -> "a boolean";
+            case NULL -> "null";
+            case END_DOCUMENT -> "end of document";
+        };
+    }
+
+    private Token readToken() throws IOException {
+        byte scope = stack[depth - 1];
+        int c;
+        switch (scope) {
+            case EMPTY_ARRAY -> {
+                stack[depth - 1] = NONEMPTY_ARRAY;
+                c = nextNonWhitespace();
+                if (c == ']') {
+                    return Token.END_ARRAY;
+                }
+                return readValue(c);
+            }
+            case NONEMPTY_ARRAY -> {
+                c = nextNonWhitespace();
+                if (c == ']') {
+                    return Token.END_ARRAY;
+                } else if (c != ',') {
+                    throw unexpected(c, "',' or ']'");
+                }
+                return readValue(nextNonWhitespace());
+            }
+            case EMPTY_OBJECT, NONEMPTY_OBJECT -> {
+                c = nextNonWhitespace();
+                if (c == '}') {
+                    return Token.END_OBJECT;
+                }
+                if (scope == NONEMPTY_OBJECT) {
+                    if (c != ',') {
+                        throw unexpected(c, "',' or '}'");
+                    }
+                    c = nextNonWhitespace();
+                }
+                if (c != '"') {
+                    throw unexpected(c, "a name");
+                }
+                readString();
+                stack[depth - 1] = DANGLING_NAME;
+                return Token.NAME;
+            }
+            case DANGLING_NAME -> {
+                c = nextNonWhitespace();
+                if (c != ':') {
+                    throw unexpected(c, "':'");
+                }
+                stack[depth - 1] = NONEMPTY_OBJECT;
+                return readValue(nextNonWhitespace());
+            }
+            case EMPTY_DOCUMENT -> {
+                stack[depth - 1] = NONEMPTY_DOCUMENT;
+                return readValue(nextNonWhitespace());
+            }
+            default -> {
+                c = nextNonWhitespace();
+                if (c != -1) {
+                    throw unexpected(c, "end of document");
+                }
+                return Token.END_DOCUMENT;
+            }
+        }
+    }
+
+    private Token readValue(int c) throws IOException {
+        switch (c) {
+            case '{' -> {
+                push(EMPTY_OBJECT);
+                return Token.BEGIN_OBJECT;
+            }
+            case '[' -> {
+                push(EMPTY_ARRAY);
+                return Token.BEGIN_ARRAY;
+            }
+            case '"' -> {
+                readString();
+                return Token.STRING;
+            }
+            case 't' -> {
+                readLiteral("true");
+                return Token.BOOLEAN;
+            }
+            case 'f' -> {
+                readLiteral("false");
+                return Token.BOOLEAN;
+            }
+            case 'n' -> {
+                readLiteral("null");
+                return Token.NULL;
+            }
+            default -> {
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    readNumber(c);
+                    return Token.NUMBER;
+                }
+                throw unexpected(c, "a value");
+            }
+        }
+    }
+
+    private void push(byte scope) {
+        if (depth == stack.length) {
+            stack = Arrays.copyOf(stack, depth * 2);
+        }
+        stack[depth++] = scope;
+    }
+
+    /**
+     * Reads the rest of a string after its opening quote into {@link #text}.
+     */
+    private void readString() throws IOException {
+        text.setLength(0);
+        while (true) {
+            int c = read();
+            if (c == '"') {
+                return;
+            } else if (c == -1) {
+                throw error("Unterminated string");
+            } else if (c < 0x20) {
+                throw error("Unescaped control character in string");
+            } else if (c == '\\') {
+                int escaped = read();
+                switch (escaped) {
+                    case '"', '\\', '/' -> text.append((char) escaped);
+                    case 'b' -> text.append('\b');
+                    case 'f' -> text.append('\f');
+                    case 'n' -> text.append('\n');
+                    case 'r' -> text.append('\r');
+                    case 't' -> text.append('\t');
+                    case 'u' -> {
+                        int value = 0;
+                        for (int i = 0; i < 4; i++) {
+                            int digit = Character.digit(read(), 16);
+                            if (digit < 0) {
+                                throw error("Invalid \\u escape in string");
+                            }
+                            value = (value << 4) | digit;
+                        }
+                        text.append((char) value);
+                    }
+                    default -> throw error("Invalid escape in string");
+                }
+            } else {
+                text.append((char) c);
+            }
+        }
+    }
+
+    private void readLiteral(String literal) throws IOException {
+        text.setLength(0);
+        text.append(literal.charAt(0));
+        for (int i = 1; i < literal.length(); i++) {
+            if (read() != literal.charAt(i)) {
+                throw error("Invalid literal, expected " + literal);
+            }
+            text.append(literal.charAt(i));
+        }
+        checkDelimiter();
+    }
+
+    /**
+     * Reads a number following the JSON grammar:
+     * -?(0|[1-9][0-9]*)(.[0-9]+)?([eE][+-]?[0-9]+)?
+     */
+    private void readNumber(int first) throws IOException {
+        text.setLength(0);
+        int c = first;
+        if (c == '-') {
+            text.append('-');
+            c = read();
+        }
+        if (c == '0') {
+            text.append('0');
+        } else if (c >= '1' && c <= '9') {
+            text.append((char) c);
+            appendDigits();
+        } else {
+            throw error("Invalid number");
+        }
+        if (peekChar() == '.') {
+            text.append((char) read());
+            if (appendDigits() == 0) {
+                throw error("Invalid number: no digits after '.'");
+            }
+        }
+        if (peekChar() == 'e' || peekChar() == 'E') {
+            text.append((char) read());
+            if (peekChar() == '+' || peekChar() == '-') {
+                text.append((char) read());
+            }
+            if (appendDigits() == 0) {
+                throw error("Invalid number: no digits in exponent");
+            }
+        }
+        checkDelimiter();
+    }
+
+    private int appendDigits() throws IOException {
+        int count = 0;
+        while (peekChar() >= '0' && peekChar() <= '9') {
+            text.append((char) read());
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Literals and numbers must be followed by whitespace, punctuation or the end.
+     */
+    private void checkDelimiter() throws IOException {
+        int c = peekChar();
+        if (c != -1 && c != ',' && c != '}' && c != ']' && c != ':' && !isWhitespace(c)) {
+            throw error("Unexpected character '" + (char) c + "' after value");
+        }
+    }
+
+    private ConfigException unexpected(int c, String expected) {
+        String found = c == -1 ? "end of document" : "'" + (char) c + "'";
+        return error("Expected " + expected + " but found " + found);
+    }
+
+    /**
+     * Skips whitespace and returns the next character, recording its
+     * position as the start of the next token.
+     */
+    private int nextNonWhitespace() throws IOException {
+        while (isWhitespace(peekChar())) {
+            read();
+        }
+        tokenLine = line;
+        tokenColumn = column;
+        return read();
+    }
+
+    private static boolean isWhitespace(int c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r';
+    }
+
+    private int peekChar() throws IOException {
+        if (pos == limit && !fill()) {
+            return -1;
+        }
+        return buffer[pos];
+    }
+
+    private int read() throws IOException {
+        if (pos == limit && !fill()) {
+            return -1;
+        }
+        char c = buffer[pos++];
+        if (c == '\n') {
+            line++;
+            column = 1;
+        } else {
+            column++;
+        }
+        return c;
+    }
+
+    private boolean fill() throws IOException {
+        int count = in.read(buffer, 0, buffer.length);
+        if (count <= 0) {
+            return false;
+        }
+        pos = 0;
+        limit = count;
+        return true;
+    }
+}
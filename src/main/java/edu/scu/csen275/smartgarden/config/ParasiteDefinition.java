@@ -0,0 +1,12 @@
+package edu.scu.csen275.smartgarden.config;
+
+import edu.scu.csen275.smartgarden.model.PlantType;
+import java.util.Set;
+
+/**
+ * One parasite entry from parasites.json.
+ *
+ * @param targets plant types the parasite attacks
+ */
+public record ParasiteDefinition(String name, int damage, Set<PlantType> targets) {
+}
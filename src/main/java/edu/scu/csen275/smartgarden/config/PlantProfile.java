@@ -0,0 +1,15 @@
+package edu.scu.csen275.smartgarden.config;
+
+import edu.scu.csen275.smartgarden.model.PlantCategory;
+import java.util.List;
+
+/**
+ * One plant entry from plants.json.
+ *
+ * @param category the category array the entry was listed under
+ * @param vulnerableTo names of the pests that attack this plant
+ */
+public record PlantProfile(PlantCategory category, String name, int waterRequirement,
+                           int minTemperature, int maxTemperature, int lifespan,
+                           int growthDuration, List<String> vulnerableTo) {
+}
@@ -2,6 +2,7 @@ package edu.scu.csen275.smartgarden.controller;
 
 import edu.scu.csen275.smartgarden.model.*;
 import edu.scu.csen275.smartgarden.simulation.SimulationEngine;
+import edu.scu.csen275.smartgarden.util.LogCategory;
 import edu.scu.csen275.smartgarden.util.Logger;
 
 /**
@@ -21,8 +22,7 @@ public class GardenController {
         this.simulationEngine = new SimulationEngine(garden);
         this.logger = Logger.getInstance();
         
-        logger.info("Controller", "Garden controller initialized with " + 
-                   rows + "x" + columns + " garden");
+        logger.info(LogCategory.CONTROLLER, "Garden controller initialized with {}x{} garden", rows, columns);
     }
     
     /**
@@ -32,12 +32,12 @@ public class GardenController {
         try {
             Plant plant = createPlant(plantType, position);
             if (plant != null && garden.addPlant(plant)) {
-                logger.info("Controller", "Plant " + plantType.getDisplayName() + " added at " + position);
+                logger.info(LogCategory.CONTROLLER, "Plant {} added at {}", plantType.getDisplayName(), position);
                 return true;
             }
             return false;
         } catch (Exception e) {
-            logger.logException("Controller", "Failed to plant seed", e);
+            logger.logException(LogCategory.CONTROLLER, "Failed to plant seed", e);
             return false;
         }
     }
@@ -53,7 +53,7 @@ public class GardenController {
             // Fallback to old system for compatibility
             Plant plant = createPlantLegacy(plantType, position);
             if (plant != null && garden.addPlant(plant)) {
-                logger.info("Controller", "Plant " + plantType + " added at " + position);
+                logger.info(LogCategory.CONTROLLER, "Plant {} added at {}", plantType, position);
                 return true;
             }
             return false;
@@ -64,22 +64,7 @@ public class GardenController {
      * Creates a plant based on PlantType enum.
      */
     private Plant createPlant(PlantType plantType, Position position) {
-        return switch (plantType) {
-            // Fruit Plants
-            case STRAWBERRY -> new Fruit(position, "Strawberry");
-            case GRAPEVINE -> new Fruit(position, "Grapevine");
-            case APPLE -> new Fruit(position, "Apple Sapling");
-            
-            // Vegetable Crops
-            case CARROT -> new Vegetable(position, "Carrot");
-            case TOMATO -> new Vegetable(position, "Tomato");
-            case ONION -> new Vegetable(position, "Onion");
-            
-            // Flowers
-            case SUNFLOWER -> new Flower(position, "Sunflower");
-            case TULIP -> new Flower(position, "Tulip");
-            case ROSE -> new Flower(position, "Rose");
-        };
+        return plantType.createPlant(position);
     }
     
     /**
@@ -110,7 +95,7 @@ public class GardenController {
         try {
             simulationEngine.start();
         } catch (IllegalStateException e) {
-            logger.warning("Controller", "Cannot start simulation: " + e.getMessage());
+            logger.warning(LogCategory.CONTROLLER, "Cannot start simulation: {}", e.getMessage());
             throw e;
         }
     }
@@ -0,0 +1,51 @@
+package edu.scu.csen275.smartgarden.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * One call to a GardenSimulationAPI method.
+ */
+@Name("edu.scu.csen275.smartgarden.ApiCall")
+@Label("API Call")
+@Category({"Smart Garden", "API"})
+@Description("A call to the garden simulation API")
+@Enabled(false)
+public class ApiCallEvent extends Event {
+    @Label("Method")
+    public String method;
+
+    @Label("Argument")
+    public String argument;
+
+    @Label("Plant Count")
+    public int plantCount;
+
+    /**
+     * Creates and begins an API call event.
+     */
+    public static ApiCallEvent start(String method, Object argument) {
+        ApiCallEvent event = new ApiCallEvent();
+        event.begin();
+        if (event.isEnabled()) {
+            event.method = method;
+            event.argument = argument != null ? String.valueOf(argument) : null;
+        }
+        return event;
+    }
+
+    /**
+     * Ends the call and commits it if recording is enabled.
+     */
+    public void finish(int plantCount) {
+        end();
+        if (shouldCommit()) {
+            this.plantCount = plantCount;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package edu.scu.csen275.smartgarden.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A plant dying.
+ */
+@Name("edu.scu.csen275.smartgarden.PlantDeath")
+@Label("Plant Death")
+@Category({"Smart Garden", "Garden"})
+@Description("A plant died")
+@Enabled(false)
+public class PlantDeathEvent extends Event {
+    @Label("Plant Type")
+    public String plantType;
+
+    @Label("Position")
+    public String position;
+
+    @Label("Days Alive")
+    public int daysAlive;
+
+    @Label("Total Pest Attacks")
+    public int totalPestAttacks;
+}
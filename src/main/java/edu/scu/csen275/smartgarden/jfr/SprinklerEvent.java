@@ -0,0 +1,27 @@
+package edu.scu.csen275.smartgarden.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A sprinkler run, from activation to deactivation.
+ */
+@Name("edu.scu.csen275.smartgarden.Sprinkler")
+@Label("Sprinkler Activation")
+@Category({"Smart Garden", "Systems"})
+@Description("Water distributed to a zone by its sprinkler")
+@Enabled(false)
+public class SprinklerEvent extends Event {
+    @Label("Zone")
+    public int zoneId;
+
+    @Label("Water Used (L)")
+    public int amount;
+
+    @Label("Plant Count")
+    public int plantCount;
+}
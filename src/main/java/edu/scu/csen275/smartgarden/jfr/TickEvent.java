@@ -0,0 +1,53 @@
+package edu.scu.csen275.smartgarden.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * One simulation tick, from start to finish.
+ */
+@Name("edu.scu.csen275.smartgarden.Tick")
+@Label("Simulation Tick")
+@Category({"Smart Garden", "Simulation"})
+@Description("One simulation tick across all systems")
+@Enabled(false)
+public class TickEvent extends Event {
+    @Label("Engine")
+    public String engine;
+
+    @Label("Tick")
+    public long tick;
+
+    @Label("Day")
+    public int day;
+
+    @Label("Living Plants")
+    public int livingPlants;
+
+    /**
+     * Creates and begins a tick event.
+     */
+    public static TickEvent start(String engine) {
+        TickEvent event = new TickEvent();
+        event.engine = engine;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the tick and commits it if recording is enabled.
+     */
+    public void finish(long tick, int day, int livingPlants) {
+        end();
+        if (shouldCommit()) {
+            this.tick = tick;
+            this.day = day;
+            this.livingPlants = livingPlants;
+            commit();
+        }
+    }
+}
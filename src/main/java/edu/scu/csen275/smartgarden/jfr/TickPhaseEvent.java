@@ -0,0 +1,35 @@
+package edu.scu.csen275.smartgarden.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * One phase of a simulation tick, such as plant updates or watering.
+ */
+@Name("edu.scu.csen275.smartgarden.TickPhase")
+@Label("Tick Phase")
+@Category({"Smart Garden", "Simulation"})
+@Description("Time spent in one phase of a simulation tick")
+@Enabled(false)
+public class TickPhaseEvent extends Event {
+    @Label("Tick")
+    public long tick;
+
+    @Label("Phase")
+    public String phase;
+
+    /**
+     * Creates and begins a phase event; call commit() when the phase ends.
+     */
+    public static TickPhaseEvent start(long tick, String phase) {
+        TickPhaseEvent event = new TickPhaseEvent();
+        event.tick = tick;
+        event.phase = phase;
+        event.begin();
+        return event;
+    }
+}
@@ -0,0 +1,30 @@
+package edu.scu.csen275.smartgarden.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A pesticide treatment applied to a zone.
+ */
+@Name("edu.scu.csen275.smartgarden.Treatment")
+@Label("Pest Treatment")
+@Category({"Smart Garden", "Systems"})
+@Description("Pesticide treatment of a zone")
+@Enabled(false)
+public class TreatmentEvent extends Event {
+    @Label("Zone")
+    public int zoneId;
+
+    @Label("Pests Eliminated")
+    public int pestsEliminated;
+
+    @Label("Pesticide Used")
+    public long amount;
+
+    @Label("Plant Count")
+    public int plantCount;
+}
@@ -0,0 +1,24 @@
+package edu.scu.csen275.smartgarden.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A change of weather.
+ */
+@Name("edu.scu.csen275.smartgarden.WeatherChange")
+@Label("Weather Change")
+@Category({"Smart Garden", "Systems"})
+@Description("Weather changed, from a tick, the rotation timer or the API")
+@Enabled(false)
+public class WeatherChangeEvent extends Event {
+    @Label("From")
+    public String from;
+
+    @Label("To")
+    public String to;
+}
@@ -0,0 +1,14 @@
+/**
+ * Java Flight Recorder events for ticks, tick phases, system actions and API
+ * calls. All events are disabled by default and cost almost nothing until a
+ * recording enables them, for example:
+ *
+ * <pre>
+ * java -XX:StartFlightRecording:filename=garden.jfr,edu.scu.csen275.smartgarden.Tick#enabled=true,\
+ *     edu.scu.csen275.smartgarden.TickPhase#enabled=true ...
+ * </pre>
+ *
+ * Events carry durations plus key fields such as zone id, amount and plant
+ * count, and are grouped under "Smart Garden" in JDK Mission Control.
+ */
+package edu.scu.csen275.smartgarden.jfr;
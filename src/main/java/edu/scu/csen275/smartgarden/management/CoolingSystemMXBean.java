@@ -0,0 +1,13 @@
+package edu.scu.csen275.smartgarden.management;
+
+/**
+ * JMX view of the cooling system.
+ */
+public interface CoolingSystemMXBean {
+
+    int getCurrentTemperature();
+
+    String getMode();
+
+    int getEnergyConsumption();
+}
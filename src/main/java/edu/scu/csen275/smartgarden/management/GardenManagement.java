@@ -0,0 +1,300 @@
+package edu.scu.csen275.smartgarden.management;
+
+import edu.scu.csen275.smartgarden.simulation.HeadlessSimulationEngine;
+import edu.scu.csen275.smartgarden.system.CoolingSystem;
+import edu.scu.csen275.smartgarden.system.HeatingSystem;
+import edu.scu.csen275.smartgarden.system.PestControlSystem;
+import edu.scu.csen275.smartgarden.system.WateringSystem;
+import edu.scu.csen275.smartgarden.util.LogCategory;
+import edu.scu.csen275.smartgarden.util.Logger;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Publishes MXBeans for a headless simulation under the
+ * "edu.scu.csen275.smartgarden" domain, next to the Logger MXBean.
+ *
+ * Attribute reads return the latest values without synchronizing with the
+ * simulation. Operations that change state run on the simulation thread
+ * between ticks, so they never interleave with a tick.
+ */
+public class GardenManagement {
+    public static final String DOMAIN = "edu.scu.csen275.smartgarden";
+
+    private final HeadlessSimulationEngine engine;
+    private final MBeanServer server;
+    private final List<ObjectName> registered;
+
+    private static final Logger logger = Logger.getInstance();
+
+    /**
+     * Creates a GardenManagement for an engine on the platform MBean server.
+     */
+    public GardenManagement(HeadlessSimulationEngine engine) {
+        this(engine, ManagementFactory.getPlatformMBeanServer());
+    }
+
+    public GardenManagement(HeadlessSimulationEngine engine, MBeanServer server) {
+        this.engine = engine;
+        this.server = server;
+        this.registered = new ArrayList<>();
+    }
+
+    /**
+     * Registers the engine and system MXBeans, replacing any left by an
+     * earlier simulation. Failures are logged; the simulation runs regardless.
+     */
+    public synchronized void register() {
+        if (!registered.isEmpty()) {
+            return;
+        }
+        register("SimulationEngine", new EngineControl());
+        register("WateringSystem", new WateringControl(engine.getWateringSystem()));
+        register("PestControlSystem", new PestControl(engine.getPestControlSystem()));
+        register("HeatingSystem", new HeatingControl(engine.getHeatingSystem()));
+        register("CoolingSystem", new CoolingControl(engine.getCoolingSystem()));
+    }
+
+    /**
+     * Removes every MXBean this instance registered.
+     */
+    public synchronized void unregister() {
+        for (ObjectName name : registered) {
+            try {
+                if (server.isRegistered(name)) {
+                    server.unregisterMBean(name);
+                }
+            } catch (JMException e) {
+                logger.warning(LogCategory.API, "Failed to unregister {}: {}", name, e.getMessage());
+            }
+        }
+        registered.clear();
+    }
+
+    public synchronized boolean isRegistered() {
+        return !registered.isEmpty();
+    }
+
+    /**
+     * Gets the ObjectName used for a bean type, e.g. "WateringSystem".
+     */
+    public static ObjectName objectName(String type) throws JMException {
+        return new ObjectName(DOMAIN + ":type=" + type);
+    }
+
+    private void register(String type, Object bean) {
+        try {
+            ObjectName name = objectName(type);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(bean, name);
+            registered.add(name);
+        } catch (JMException e) {
+            logger.error(LogCategory.API, "Failed to register {} MXBean: {}", type, e.getMessage());
+        }
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private class EngineControl implements SimulationEngineMXBean {
+        @Override
+        public boolean isRunning() {
+            return engine.isRunning();
+        }
+
+        @Override
+        public long getElapsedTicks() {
+            return engine.getElapsedTicks();
+        }
+
+        @Override
+        public int getDay() {
+            return engine.getDayCounter();
+        }
+
+        @Override
+        public String getSimulationTime() {
+            return String.valueOf(engine.getSimulationTime());
+        }
+
+        @Override
+        public int getSpeedMultiplier() {
+            return engine.getSpeedMultiplier();
+        }
+
+        @Override
+        public void setSpeedMultiplier(int multiplier) {
+            engine.setSpeed(multiplier);
+        }
+
+        @Override
+        public double getLastTickMillis() {
+            return toMillis(engine.getLastTickNanos());
+        }
+
+        @Override
+        public double getAverageTickMillis() {
+            return toMillis(engine.getAverageTickNanos());
+        }
+
+        @Override
+        public double getMaxTickMillis() {
+            return toMillis(engine.getMaxTickNanos());
+        }
+
+        // Plant counts come from the snapshot published at the last tick
+        @Override
+        public int getLivingPlants() {
+            return engine.getSnapshot().getLivingPlants();
+        }
+
+        @Override
+        public int getTotalPlants() {
+            return engine.getSnapshot().size();
+        }
+
+        @Override
+        public void checkpoint() {
+            engine.checkpoint();
+        }
+    }
+
+    private class WateringControl implements WateringSystemMXBean {
+        private final WateringSystem system;
+
+        WateringControl(WateringSystem system) {
+            this.system = system;
+        }
+
+        @Override
+        public int getWaterSupply() {
+            return system.getWaterSupply();
+        }
+
+        @Override
+        public int getMoistureThreshold() {
+            return system.getMoistureThreshold();
+        }
+
+        @Override
+        public void setMoistureThreshold(int threshold) {
+            engine.runBetweenTicks(() -> system.setMoistureThreshold(threshold));
+        }
+
+        @Override
+        public void refillWater(int amount) {
+            engine.runBetweenTicks(() -> system.refillWater(amount));
+        }
+
+        @Override
+        public void waterZone(int zoneId) {
+            engine.runBetweenTicks(() -> system.manualWater(zoneId));
+        }
+    }
+
+    private class PestControl implements PestControlSystemMXBean {
+        private final PestControlSystem system;
+
+        PestControl(PestControlSystem system) {
+            this.system = system;
+        }
+
+        @Override
+        public int getActivePests() {
+            return engine.callBetweenTicks(system::getHarmfulPestCount);
+        }
+
+        @Override
+        public int getPesticideStock() {
+            return system.getPesticideStock();
+        }
+
+        @Override
+        public int getTreatmentThreshold() {
+            return system.getTreatmentThreshold();
+        }
+
+        @Override
+        public void setTreatmentThreshold(int threshold) {
+            engine.runBetweenTicks(() -> system.setTreatmentThreshold(threshold));
+        }
+
+        @Override
+        public void refillPesticide(int amount) {
+            engine.runBetweenTicks(() -> system.refillPesticide(amount));
+        }
+
+        @Override
+        public void treatZone(int zoneId) {
+            engine.runBetweenTicks(() -> system.manualTreat(zoneId));
+        }
+    }
+
+    private class HeatingControl implements HeatingSystemMXBean {
+        private final HeatingSystem system;
+
+        HeatingControl(HeatingSystem system) {
+            this.system = system;
+        }
+
+        @Override
+        public int getCurrentTemperature() {
+            return system.getCurrentTemperature();
+        }
+
+        @Override
+        public String getMode() {
+            return system.getHeatingMode().name();
+        }
+
+        @Override
+        public int getTargetMinTemperature() {
+            return system.getTargetMinTemperature();
+        }
+
+        @Override
+        public int getTargetMaxTemperature() {
+            return system.getTargetMaxTemperature();
+        }
+
+        @Override
+        public void setTargetRange(int minTemp, int maxTemp) {
+            engine.runBetweenTicks(() -> system.setTargetRange(minTemp, maxTemp));
+        }
+
+        @Override
+        public int getEnergyConsumption() {
+            return system.getEnergyConsumption();
+        }
+    }
+
+    private static class CoolingControl implements CoolingSystemMXBean {
+        private final CoolingSystem system;
+
+        CoolingControl(CoolingSystem system) {
+            this.system = system;
+        }
+
+        @Override
+        public int getCurrentTemperature() {
+            return system.getCurrentTemperature();
+        }
+
+        @Override
+        public String getMode() {
+            return system.getCoolingMode().name();
+        }
+
+        @Override
+        public int getEnergyConsumption() {
+            return system.getEnergyConsumption();
+        }
+    }
+}
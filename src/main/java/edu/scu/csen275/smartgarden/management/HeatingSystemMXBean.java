@@ -0,0 +1,22 @@
+package edu.scu.csen275.smartgarden.management;
+
+/**
+ * JMX view of the heating system.
+ */
+public interface HeatingSystemMXBean {
+
+    int getCurrentTemperature();
+
+    String getMode();
+
+    int getTargetMinTemperature();
+
+    int getTargetMaxTemperature();
+
+    /**
+     * Sets the target range in °C; min must be below max.
+     */
+    void setTargetRange(int minTemp, int maxTemp);
+
+    int getEnergyConsumption();
+}
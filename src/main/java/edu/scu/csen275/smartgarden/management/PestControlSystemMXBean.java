@@ -0,0 +1,25 @@
+package edu.scu.csen275.smartgarden.management;
+
+/**
+ * JMX view of the pest control system.
+ */
+public interface PestControlSystemMXBean {
+
+    int getActivePests();
+
+    int getPesticideStock();
+
+    int getTreatmentThreshold();
+
+    /**
+     * Sets the infestation percentage (0-100) at which zones are treated.
+     */
+    void setTreatmentThreshold(int threshold);
+
+    void refillPesticide(int amount);
+
+    /**
+     * Treats one zone now, as the manual treatment button does.
+     */
+    void treatZone(int zoneId);
+}
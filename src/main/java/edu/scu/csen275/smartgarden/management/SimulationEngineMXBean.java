@@ -0,0 +1,37 @@
+package edu.scu.csen275.smartgarden.management;
+
+/**
+ * JMX view of the headless simulation engine.
+ */
+public interface SimulationEngineMXBean {
+
+    boolean isRunning();
+
+    long getElapsedTicks();
+
+    int getDay();
+
+    String getSimulationTime();
+
+    int getSpeedMultiplier();
+
+    /**
+     * Sets the simulation speed multiplier (1-10).
+     */
+    void setSpeedMultiplier(int multiplier);
+
+    double getLastTickMillis();
+
+    double getAverageTickMillis();
+
+    double getMaxTickMillis();
+
+    int getLivingPlants();
+
+    int getTotalPlants();
+
+    /**
+     * Logs a statistics summary and flushes the log to disk.
+     */
+    void checkpoint();
+}
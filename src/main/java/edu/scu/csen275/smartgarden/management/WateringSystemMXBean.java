@@ -0,0 +1,26 @@
+package edu.scu.csen275.smartgarden.management;
+
+/**
+ * JMX view of the watering system.
+ */
+public interface WateringSystemMXBean {
+
+    int getWaterSupply();
+
+    int getMoistureThreshold();
+
+    /**
+     * Sets the moisture threshold percentage (0-100).
+     */
+    void setMoistureThreshold(int threshold);
+
+    /**
+     * Adds water to the shared supply.
+     */
+    void refillWater(int amount);
+
+    /**
+     * Waters one zone now, as the manual watering button does.
+     */
+    void waterZone(int zoneId);
+}
@@ -0,0 +1,39 @@
+package edu.scu.csen275.smartgarden.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Monotonically increasing count. Increments are striped across cells so
+ * concurrent writers never contend, and reads never block writers.
+ */
+public class Counter extends Metric {
+    private final LongAdder value;
+
+    Counter(String name, String help) {
+        super(name, help);
+        this.value = new LongAdder();
+    }
+
+    public void increment() {
+        value.increment();
+    }
+
+    /**
+     * Adds a non-negative amount.
+     */
+    public void add(long amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("Counter cannot decrease: " + amount);
+        }
+        value.add(amount);
+    }
+
+    public long get() {
+        return value.sum();
+    }
+
+    @Override
+    public String getType() {
+        return "counter";
+    }
+}
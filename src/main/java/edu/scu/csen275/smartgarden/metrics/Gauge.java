@@ -0,0 +1,26 @@
+package edu.scu.csen275.smartgarden.metrics;
+
+/**
+ * Current value that can go up and down. The simulation sets gauges at the
+ * end of each tick, so reading one never touches simulation state.
+ */
+public class Gauge extends Metric {
+    private volatile double value;
+
+    Gauge(String name, String help) {
+        super(name, help);
+    }
+
+    public void set(double value) {
+        this.value = value;
+    }
+
+    public double get() {
+        return value;
+    }
+
+    @Override
+    public String getType() {
+        return "gauge";
+    }
+}
@@ -0,0 +1,88 @@
+package edu.scu.csen275.smartgarden.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Distribution of observed values over fixed bucket upper bounds.
+ * Each bucket is a striped counter, so observing is lock-free and a
+ * concurrent snapshot never stalls the observer.
+ */
+public class Histogram extends Metric {
+    private final double[] bounds;
+    private final LongAdder[] buckets; // last bucket is +Inf
+    private final DoubleAdder sum;
+
+    Histogram(String name, String help, double... bounds) {
+        super(name, help);
+        if (bounds.length == 0) {
+            throw new IllegalArgumentException("Histogram needs at least one bucket bound");
+        }
+        for (int i = 1; i < bounds.length; i++) {
+            if (bounds[i] <= bounds[i - 1]) {
+                throw new IllegalArgumentException("Bucket bounds must be strictly increasing");
+            }
+        }
+        this.bounds = bounds.clone();
+        this.buckets = new LongAdder[bounds.length + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+        this.sum = new DoubleAdder();
+    }
+
+    /**
+     * Records one observation.
+     */
+    public void observe(double value) {
+        int index = Arrays.binarySearch(bounds, value);
+        if (index < 0) {
+            index = -index - 1; // first bound greater than the value
+        }
+        buckets[index].increment();
+        sum.add(value);
+    }
+
+    /**
+     * Records a duration measured with System.nanoTime(), in seconds.
+     */
+    public void observeNanos(long nanos) {
+        observe(nanos / 1_000_000_000.0);
+    }
+
+    /**
+     * Gets the bucket upper bounds, excluding +Inf.
+     */
+    public double[] getBounds() {
+        return bounds.clone();
+    }
+
+    /**
+     * Gets a point-in-time copy of the counts. Observations that race with
+     * the snapshot may appear in some buckets but not yet in the sum.
+     */
+    public Snapshot snapshot() {
+        long[] cumulative = new long[buckets.length];
+        long running = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            running += buckets[i].sum();
+            cumulative[i] = running;
+        }
+        return new Snapshot(bounds.clone(), cumulative, sum.sum());
+    }
+
+    @Override
+    public String getType() {
+        return "histogram";
+    }
+
+    /**
+     * Cumulative bucket counts; the last entry is the total count (+Inf).
+     */
+    public record Snapshot(double[] bounds, long[] cumulativeCounts, double sum) {
+        public long count() {
+            return cumulativeCounts[cumulativeCounts.length - 1];
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package edu.scu.csen275.smartgarden.metrics;
+
+/**
+ * Base class for metrics held by the {@link MetricsRegistry}.
+ * Names follow the Prometheus convention, e.g. "garden_waterings_total".
+ */
+public abstract class Metric {
+    private final String name;
+    private final String help;
+
+    protected Metric(String name, String help) {
+        if (name == null || !name.matches("[a-zA-Z_:][a-zA-Z0-9_:]*")) {
+            throw new IllegalArgumentException("Invalid metric name: " + name);
+        }
+        this.name = name;
+        this.help = help;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getHelp() {
+        return help;
+    }
+
+    /**
+     * Gets the metric type: "counter", "gauge" or "histogram".
+     */
+    public abstract String getType();
+}
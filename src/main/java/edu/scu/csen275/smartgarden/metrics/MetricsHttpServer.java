@@ -0,0 +1,117 @@
+package edu.scu.csen275.smartgarden.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import edu.scu.csen275.smartgarden.util.LogCategory;
+import edu.scu.csen275.smartgarden.util.Logger;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Serves the registry at http://localhost:PORT/metrics in Prometheus text
+ * format. Bound to the loopback address only. Each scrape runs on its own
+ * virtual thread and only reads published metric values, so scrapes never
+ * block or slow the simulation tick.
+ *
+ * The port comes from the "smartgarden.metrics.port" system property
+ * (default 9464); a negative port disables the endpoint and 0 picks a free one.
+ */
+public class MetricsHttpServer {
+    public static final int DEFAULT_PORT = 9464;
+    public static final String PATH = "/metrics";
+
+    private final MetricsRegistry registry;
+    private final int requestedPort;
+    private HttpServer server;
+    private ExecutorService executor;
+
+    private static final Logger logger = Logger.getInstance();
+
+    /**
+     * Creates a server for the shared registry on the configured port.
+     */
+    public MetricsHttpServer() {
+        this(MetricsRegistry.getInstance(), Integer.getInteger("smartgarden.metrics.port", DEFAULT_PORT));
+    }
+
+    /**
+     * Creates a server for a registry on a specific port.
+     */
+    public MetricsHttpServer(MetricsRegistry registry, int port) {
+        this.registry = registry;
+        this.requestedPort = port;
+    }
+
+    /**
+     * Starts serving. Does nothing if already started or disabled; a port
+     * that cannot be bound is logged and the simulation carries on without it.
+     */
+    public synchronized void start() {
+        if (server != null || requestedPort < 0) {
+            return;
+        }
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), requestedPort), 0);
+        } catch (IOException e) {
+            logger.error(LogCategory.METRICS, "Could not start metrics endpoint on port {}: {}", requestedPort, e.getMessage());
+            return;
+        }
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext(PATH, this::handle);
+        server.start();
+        logger.info(LogCategory.METRICS, "Metrics endpoint listening on http://localhost:{}{}", getPort(), PATH);
+    }
+
+    /**
+     * Stops serving and waits briefly for in-flight scrapes.
+     */
+    public synchronized void stop() {
+        if (server == null) {
+            return;
+        }
+        int port = getPort();
+        server.stop(1);
+        executor.close();
+        server = null;
+        executor = null;
+        logger.info(LogCategory.METRICS, "Metrics endpoint on port {} stopped", port);
+    }
+
+    public synchronized boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * Gets the bound port, or -1 if not running.
+     */
+    public synchronized int getPort() {
+        return server != null ? server.getAddress().getPort() : -1;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String method = exchange.getRequestMethod();
+            if (!method.equals("GET") && !method.equals("HEAD")) {
+                exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = PrometheusFormat.write(registry.getMetrics()).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", PrometheusFormat.CONTENT_TYPE);
+            if (method.equals("HEAD")) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+}
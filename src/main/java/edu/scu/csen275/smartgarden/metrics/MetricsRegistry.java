@@ -0,0 +1,91 @@
+package edu.scu.csen275.smartgarden.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Registry of every metric in the application. Metrics are created once,
+ * usually in static fields of the class that updates them, and looked up
+ * by name afterwards; updating a metric never goes through the registry.
+ */
+public class MetricsRegistry {
+    private static volatile MetricsRegistry instance;
+    private static final Object lock = new Object();
+
+    /** Tick duration buckets in seconds, from 50µs up to 1s. */
+    public static final double[] TICK_SECONDS_BUCKETS =
+        {0.00005, 0.0001, 0.00025, 0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1.0};
+
+    private final Map<String, Metric> metrics;
+
+    /**
+     * Creates an empty registry. Use getInstance() for the shared one.
+     */
+    public MetricsRegistry() {
+        this.metrics = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Gets the singleton instance of the MetricsRegistry.
+     */
+    public static MetricsRegistry getInstance() {
+        if (instance == null) {
+            synchronized (lock) {
+                if (instance == null) {
+                    instance = new MetricsRegistry();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Gets the counter with this name, creating it if needed.
+     */
+    public Counter counter(String name, String help) {
+        return register(name, Counter.class, () -> new Counter(name, help));
+    }
+
+    /**
+     * Gets the gauge with this name, creating it if needed.
+     */
+    public Gauge gauge(String name, String help) {
+        return register(name, Gauge.class, () -> new Gauge(name, help));
+    }
+
+    /**
+     * Gets the histogram with this name, creating it with these bucket
+     * bounds if needed.
+     */
+    public Histogram histogram(String name, String help, double... bounds) {
+        return register(name, Histogram.class, () -> new Histogram(name, help, bounds));
+    }
+
+    /**
+     * Gets a metric by name, or null if none is registered.
+     */
+    public Metric get(String name) {
+        return metrics.get(name);
+    }
+
+    /**
+     * Gets all metrics sorted by name.
+     */
+    public List<Metric> getMetrics() {
+        List<Metric> result = new ArrayList<>(metrics.values());
+        result.sort(Comparator.comparing(Metric::getName));
+        return result;
+    }
+
+    private <T extends Metric> T register(String name, Class<T> type, Supplier<T> factory) {
+        Metric metric = metrics.computeIfAbsent(name, n -> factory.get());
+        if (!type.isInstance(metric)) {
+            throw new IllegalArgumentException("Metric " + name + " is already registered as a " + metric.getType());
+        }
+        return type.cast(metric);
+    }
+}
@@ -0,0 +1,60 @@
+package edu.scu.csen275.smartgarden.metrics;
+
+import java.util.List;
+
+/**
+ * Writes metrics in the Prometheus text exposition format (version 0.0.4).
+ */
+public final class PrometheusFormat {
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private PrometheusFormat() {
+    }
+
+    /**
+     * Renders every metric, with HELP and TYPE lines, into one string.
+     */
+    public static String write(List<Metric> metrics) {
+        StringBuilder sb = new StringBuilder(metrics.size() * 128);
+        for (Metric metric : metrics) {
+            sb.append("# HELP ").append(metric.getName()).append(' ').append(escapeHelp(metric.getHelp())).append('\n');
+            sb.append("# TYPE ").append(metric.getName()).append(' ').append(metric.getType()).append('\n');
+            if (metric instanceof Counter counter) {
+                sb.append(metric.getName()).append(' ').append(counter.get()).append('\n');
+            } else if (metric instanceof Gauge gauge) {
+                sb.append(metric.getName()).append(' ').append(formatValue(gauge.get())).append('\n');
+            } else if (metric instanceof Histogram histogram) {
+                writeHistogram(sb, metric.getName(), histogram.snapshot());
+            }
+        }
+        return sb.toString();
+    }
+
+    private static void writeHistogram(StringBuilder sb, String name, Histogram.Snapshot snapshot) {
+        double[] bounds = snapshot.bounds();
+        long[] counts = snapshot.cumulativeCounts();
+        for (int i = 0; i < counts.length; i++) {
+            String le = i < bounds.length ? formatValue(bounds[i]) : "+Inf";
+            sb.append(name).append("_bucket{le=\"").append(le).append("\"} ").append(counts[i]).append('\n');
+        }
+        sb.append(name).append("_sum ").append(formatValue(snapshot.sum())).append('\n');
+        sb.append(name).append("_count ").append(snapshot.count()).append('\n');
+    }
+
+    static String formatValue(double value) {
+        if (Double.isNaN(value)) {
+            return "NaN";
+        }
+        if (Double.isInfinite(value)) {
+            return value > 0 ? "+Inf" : "-Inf";
+        }
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+        return Double.toString(value);
+    }
+
+    private static String escapeHelp(String help) {
+        return help == null ? "" : help.replace("\\", "\\\\").replace("\n", "\\n");
+    }
+}
@@ -5,19 +5,10 @@ package edu.scu.csen275.smartgarden.model;
  * Flowers have moderate growth rates and low water requirements.
  */
 public class Flower extends Plant {
-    private static final int DEFAULT_LIFESPAN = 90; // days
-    private static final int WATER_REQ = 30;
-    private static final int SUNLIGHT_REQ = 70;
-    private static final int MIN_TEMP = 10;
-    private static final int MAX_TEMP = 30;
-    private static final int PEST_RESISTANCE = 3;
-    private static final int GROWTH_DURATION = 7; // days per stage
-    
     private final String bloomColor;
     
     public Flower(Position position, String bloomColor) {
-        super("Flower", position, DEFAULT_LIFESPAN, WATER_REQ, SUNLIGHT_REQ,
-              MIN_TEMP, MAX_TEMP, PEST_RESISTANCE);
+        super("Flower", SpeciesCatalog.getDefault().lookup(bloomColor, PlantCategory.FLOWER), position);
         this.bloomColor = bloomColor;
     }
     
@@ -25,11 +16,6 @@ public class Flower extends Plant {
         this(position, "Pink");
     }
     
-    @Override
-    public int getGrowthDuration() {
-        return GROWTH_DURATION;
-    }
-    
     public String getBloomColor() {
         return bloomColor;
     }
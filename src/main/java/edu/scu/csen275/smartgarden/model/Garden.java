@@ -1,12 +1,15 @@
 package edu.scu.csen275.smartgarden.model;
 
 import javafx.beans.property.*;
+import edu.scu.csen275.smartgarden.util.LogCategory;
 import edu.scu.csen275.smartgarden.util.Logger;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Represents the entire garden with its grid layout and zones.
@@ -17,6 +20,8 @@ public class Garden {
     private final int columns;
     private final Map<Position, Plant> plantMap;
     private final List<Zone> zones;
+    private final Zone[] zoneByCell; // row * columns + column -> zone
+    private final Plant[] plantByCell; // row * columns + column -> plant, null if empty
     private final LocalDateTime creationTime;
     
     private final ObjectProperty<String> currentWeather;
@@ -37,6 +42,8 @@ public class Garden {
         this.columns = columns;
         this.plantMap = new HashMap<>();
         this.zones = new ArrayList<>();
+        this.zoneByCell = new Zone[rows * columns];
+        this.plantByCell = new Plant[rows * columns];
         this.creationTime = LocalDateTime.now();
         
         this.currentWeather = new SimpleObjectProperty<>("SUNNY");
@@ -45,12 +52,12 @@ public class Garden {
         
         initializeZones();
         
-        logger.info("Garden", "Created " + rows + "x" + columns + " garden with " + 
-                   zones.size() + " zones");
+        logger.info(LogCategory.GARDEN, "Created {}x{} garden with {} zones", rows, columns, zones.size());
     }
     
     /**
-     * Initializes zones for the garden (3x3 grid of zones).
+     * Initializes zones for the garden (3x3 grid of zones) and the
+     * cell-to-zone lookup table.
      */
     private void initializeZones() {
         int zoneRows = rows / 3;
@@ -72,7 +79,11 @@ public class Garden {
                     }
                 }
                 
-                zones.add(new Zone(zoneId++, boundaries));
+                Zone zone = new Zone(zoneId++, boundaries);
+                for (Position cell : boundaries) {
+                    zoneByCell[cell.row() * columns + cell.column()] = zone;
+                }
+                zones.add(zone);
             }
         }
     }
@@ -84,35 +95,62 @@ public class Garden {
         Position pos = plant.getPosition();
         
         if (!isValidPosition(pos)) {
-            logger.warning("Garden", "Invalid position: " + pos);
+            logger.warning(LogCategory.GARDEN, "Invalid position: {}", pos);
             return false;
         }
         
         if (isPositionOccupied(pos)) {
-            logger.warning("Garden", "Position already occupied: " + pos);
+            logger.warning(LogCategory.GARDEN, "Position already occupied: {}", pos);
             return false;
         }
         
         plantMap.put(pos, plant);
+        plantByCell[pos.row() * columns + pos.column()] = plant;
         totalPlants.set(totalPlants.get() + 1);
         livingPlants.set(livingPlants.get() + 1);
         
         // Add to appropriate zone
-        for (Zone zone : zones) {
-            if (zone.containsPosition(pos)) {
-                zone.addPlant(plant);
-                break;
-            }
-        }
+        zoneByCell[pos.row() * columns + pos.column()].addPlant(plant);
         
         // Plant already starts with waterLevel = waterRequirement in constructor
         // No need for additional watering here
         
-        logger.info("Garden", "Planted " + plant.getPlantType() + " at " + pos + 
-                   " with initial water: " + plant.getWaterRequirement());
+        logger.info(LogCategory.GARDEN, "Planted {} at {} with initial water: {}",
+                   plant.getPlantType(), pos, plant.getWaterRequirement());
         return true;
     }
     
+    /**
+     * Adds many plants in one pass. Each plant is validated as in
+     * {@link #addPlant(Plant)}, but the plant counts are updated once and a
+     * single summary line is logged instead of one line per plant, so seeding
+     * a large garden is linear in the number of plants.
+     *
+     * @return the number of plants added; the rest were out of bounds or on occupied cells
+     */
+    public int plantAll(Collection<? extends Plant> plants) {
+        int added = 0;
+        int alive = 0;
+        for (Plant plant : plants) {
+            Position pos = plant.getPosition();
+            if (!isValidPosition(pos) || plantMap.putIfAbsent(pos, plant) != null) {
+                logger.debug(LogCategory.GARDEN, "Rejected {} at {}", plant.getPlantType(), pos);
+                continue;
+            }
+            plantByCell[pos.row() * columns + pos.column()] = plant;
+            zoneByCell[pos.row() * columns + pos.column()].addPlant(plant);
+            added++;
+            if (!plant.isDead()) {
+                alive++;
+            }
+        }
+        
+        totalPlants.set(totalPlants.get() + added);
+        livingPlants.set(livingPlants.get() + alive);
+        logger.info(LogCategory.GARDEN, "Planted {} of {} plants", added, plants.size());
+        return added;
+    }
+    
     /**
      * Removes a plant from the garden.
      */
@@ -126,14 +164,10 @@ public class Garden {
             }
             
             // Remove from zone
-            for (Zone zone : zones) {
-                if (zone.containsPosition(position)) {
-                    zone.removePlant(plant);
-                    break;
-                }
-            }
+            plantByCell[position.row() * columns + position.column()] = null;
+            zoneByCell[position.row() * columns + position.column()].removePlant(plant);
             
-            logger.info("Garden", "Removed plant from " + position);
+            logger.info(LogCategory.GARDEN, "Removed plant from {}", position);
             return true;
         }
         
@@ -154,6 +188,18 @@ public class Garden {
         return new ArrayList<>(plantMap.values());
     }
     
+    /**
+     * Visits every plant in row-major position order, without copying or
+     * sorting the plants.
+     */
+    public void forEachPlantInPositionOrder(Consumer<? super Plant> action) {
+        for (Plant plant : plantByCell) {
+            if (plant != null) {
+                action.accept(plant);
+            }
+        }
+    }
+    
     /**
      * Gets all living plants.
      */
@@ -199,12 +245,7 @@ public class Garden {
      * Gets the zone containing a specific position.
      */
     public Zone getZoneForPosition(Position position) {
-        for (Zone zone : zones) {
-            if (zone.containsPosition(position)) {
-                return zone;
-            }
-        }
-        return null;
+        return isValidPosition(position) ? zoneByCell[position.row() * columns + position.column()] : null;
     }
     
     /**
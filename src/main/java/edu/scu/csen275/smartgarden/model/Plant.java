@@ -1,6 +1,10 @@
 package edu.scu.csen275.smartgarden.model;
 
 import javafx.beans.property.*;
+import edu.scu.csen275.smartgarden.jfr.PlantDeathEvent;
+import edu.scu.csen275.smartgarden.metrics.Counter;
+import edu.scu.csen275.smartgarden.metrics.MetricsRegistry;
+import edu.scu.csen275.smartgarden.util.LogCategory;
 import edu.scu.csen275.smartgarden.util.Logger;
 
 /**
@@ -16,13 +20,9 @@ public abstract class Plant {
     private final IntegerProperty daysAlive;
     private final BooleanProperty isDead;
     
-    // Configuration properties
-    private final int maxLifespan;
-    private final int waterRequirement;
-    private final int sunlightRequirement;
-    private final int minTemperature;
-    private final int maxTemperature;
-    private final int pestResistance;
+    // Growth and care parameters, shared by all plants of the species;
+    // replaced only between ticks when the species config is reloaded
+    private PlantSpecies species;
     
     // State tracking
     private int daysSinceGrowth;
@@ -31,6 +31,19 @@ public abstract class Plant {
     private final String plantType;
     
     protected static final Logger logger = Logger.getInstance();
+    private static final Counter deaths = MetricsRegistry.getInstance()
+        .counter("garden_plant_deaths_total", "Plants that have died");
+    
+    /**
+     * Growth duration for plants created with explicit parameters; such
+     * subclasses override {@link #getGrowthDuration()}.
+     */
+    private static final int DEFAULT_GROWTH_DURATION = 7;
+    
+    /** Damage of a pest attack on top of the pest's damage rate, before resistance. */
+    private static final int BASE_PEST_DAMAGE = 3;
+    /** Damage rate of an attack by an unspecified pest. */
+    private static final int DEFAULT_PEST_DAMAGE_RATE = 2;
     
     /**
      * Creates a new Plant with specified parameters.
@@ -38,21 +51,23 @@ public abstract class Plant {
     protected Plant(String plantType, Position position, int maxLifespan, 
                    int waterRequirement, int sunlightRequirement,
                    int minTemperature, int maxTemperature, int pestResistance) {
+        this(plantType, new PlantSpecies(null, null, maxLifespan, waterRequirement, sunlightRequirement,
+             minTemperature, maxTemperature, pestResistance, DEFAULT_GROWTH_DURATION), position);
+    }
+    
+    /**
+     * Creates a new Plant whose parameters come from a species catalog row.
+     */
+    protected Plant(String plantType, PlantSpecies species, Position position) {
         this.plantType = plantType;
+        this.species = species;
         this.position = new SimpleObjectProperty<>(position);
         this.growthStage = new SimpleObjectProperty<>(GrowthStage.SEED);
         this.healthLevel = new SimpleIntegerProperty(100);
-        this.waterLevel = new SimpleIntegerProperty(waterRequirement); // Start with full water requirement
+        this.waterLevel = new SimpleIntegerProperty(species.waterRequirement()); // Start with full water requirement
         this.daysAlive = new SimpleIntegerProperty(0);
         this.isDead = new SimpleBooleanProperty(false);
         
-        this.maxLifespan = maxLifespan;
-        this.waterRequirement = waterRequirement;
-        this.sunlightRequirement = sunlightRequirement;
-        this.minTemperature = minTemperature;
-        this.maxTemperature = maxTemperature;
-        this.pestResistance = pestResistance;
-        
         this.daysSinceGrowth = 0;
         this.pestAttacks = 0;
         this.totalPestAttacks = 0;
@@ -83,7 +98,7 @@ public abstract class Plant {
         updateHealth();
         
         // Check for death
-        if (healthLevel.get() <= 0 || daysAlive.get() >= maxLifespan) {
+        if (healthLevel.get() <= 0 || daysAlive.get() >= species.lifespan()) {
             die();
         }
     }
@@ -104,8 +119,8 @@ public abstract class Plant {
             GrowthStage nextStage = growthStage.get().next();
             growthStage.set(nextStage);
             daysSinceGrowth = 0;
-            logger.info("Plant", plantType + " at " + position.get() + 
-                       " advanced to " + nextStage.getDisplayName());
+            logger.info(LogCategory.PLANT, "{} at {} advanced to {}",
+                       plantType, position.get(), nextStage.getDisplayName());
         }
     }
     
@@ -120,7 +135,7 @@ public abstract class Plant {
         waterLevel.set(Math.min(100, waterLevel.get() + amount));
         
         // Bonus health if water needs are met
-        if (waterLevel.get() >= waterRequirement) {
+        if (waterLevel.get() >= species.waterRequirement()) {
             heal(2);
         }
     }
@@ -155,18 +170,27 @@ public abstract class Plant {
      * Records a pest attack on this plant.
      */
     public void pestAttack() {
+        pestAttack(DEFAULT_PEST_DAMAGE_RATE);
+    }
+    
+    /**
+     * Handles an attack by a pest with the given damage rate. Damage is the
+     * base damage plus the rate, less the plant's pest resistance, and at
+     * least 1.
+     */
+    public void pestAttack(int damageRate) {
         if (isDead.get()) {
             return;
         }
         
         pestAttacks++;
         totalPestAttacks++; // Always increment total (never decreases)
-        int damage = Math.max(1, 5 - pestResistance);
+        int damage = Math.max(1, BASE_PEST_DAMAGE + damageRate - species.pestResistance());
         takeDamage(damage);
         
         if (pestAttacks % 5 == 0) {
-            logger.warning("Plant", plantType + " at " + position.get() + 
-                          " has suffered " + pestAttacks + " pest attacks (Total: " + totalPestAttacks + ")");
+            logger.warning(LogCategory.PLANT, "{} at {} has suffered {} pest attacks (Total: {})",
+                       plantType, position.get(), pestAttacks, totalPestAttacks);
         }
     }
     
@@ -186,9 +210,9 @@ public abstract class Plant {
             return;
         }
         
-        if (currentTemp < minTemperature) {
+        if (currentTemp < species.minTemperature()) {
             takeDamage(2);
-        } else if (currentTemp > maxTemperature) {
+        } else if (currentTemp > species.maxTemperature()) {
             takeDamage(1);
         } else {
             heal(1); // Optimal temperature
@@ -222,8 +246,17 @@ public abstract class Plant {
         if (!isDead.get()) {
             isDead.set(true);
             healthLevel.set(0);
-            logger.warning("Plant", plantType + " at " + position.get() + " has died. " +
-                          "Days alive: " + daysAlive.get() + ", Total pest attacks: " + totalPestAttacks);
+            deaths.increment();
+            PlantDeathEvent event = new PlantDeathEvent();
+            if (event.shouldCommit()) {
+                event.plantType = plantType;
+                event.position = String.valueOf(position.get());
+                event.daysAlive = daysAlive.get();
+                event.totalPestAttacks = totalPestAttacks;
+                event.commit();
+            }
+            logger.warning(LogCategory.PLANT, "{} at {} has died. Days alive: {}, Total pest attacks: {}",
+                       plantType, position.get(), daysAlive.get(), totalPestAttacks);
         }
     }
     
@@ -232,7 +265,7 @@ public abstract class Plant {
      */
     private void updateHealth() {
         // Water stress
-        if (waterLevel.get() < waterRequirement / 2) {
+        if (waterLevel.get() < species.waterRequirement() / 2) {
             takeDamage(1);
         }
         
@@ -244,9 +277,10 @@ public abstract class Plant {
     
     /**
      * Gets the number of days required for each growth stage.
-     * Subclasses must implement this to define growth rate.
      */
-    public abstract int getGrowthDuration();
+    public int getGrowthDuration() {
+        return species.growthDuration();
+    }
     
     /**
      * Gets the plant type name.
@@ -255,6 +289,31 @@ public abstract class Plant {
         return plantType;
     }
     
+    /**
+     * Gets the PlantType of this plant, or null for plants with a name that
+     * is not one of the PlantType display names.
+     */
+    public PlantType getType() {
+        return species.type();
+    }
+    
+    /**
+     * Gets the species parameters this plant currently uses.
+     */
+    public PlantSpecies getSpecies() {
+        return species;
+    }
+    
+    /**
+     * Switches this plant to its row in a new catalog. Plants that are not a
+     * known PlantType keep their parameters. Call between ticks only.
+     */
+    public void rebindSpecies(SpeciesCatalog catalog) {
+        if (species.type() != null) {
+            species = catalog.get(species.type());
+        }
+    }
+    
     /**
      * Calculates health percentage (0-100).
      */
@@ -299,13 +358,13 @@ public abstract class Plant {
     public int getWaterLevel() { return waterLevel.get(); }
     public int getDaysAlive() { return daysAlive.get(); }
     public boolean isDead() { return isDead.get(); }
-    public int getWaterRequirement() { return waterRequirement; }
-    public int getSunlightRequirement() { return sunlightRequirement; }
+    public int getWaterRequirement() { return species.waterRequirement(); }
+    public int getSunlightRequirement() { return species.sunlightRequirement(); }
     public int getPestAttacks() { return pestAttacks; }
     public int getTotalPestAttacks() { return totalPestAttacks; }
-    public int getMaxLifespan() { return maxLifespan; }
-    public int getMinTemperature() { return minTemperature; }
-    public int getMaxTemperature() { return maxTemperature; }
+    public int getMaxLifespan() { return species.lifespan(); }
+    public int getMinTemperature() { return species.minTemperature(); }
+    public int getMaxTemperature() { return species.maxTemperature(); }
     
     @Override
     public String toString() {
@@ -0,0 +1,15 @@
+package edu.scu.csen275.smartgarden.model;
+
+/**
+ * Growth and care parameters shared by every plant of one species. Rows are
+ * built once by {@link SpeciesCatalog} and referenced by each plant, so the
+ * simulation reads these values from one shared object.
+ *
+ * @param type the species, or null for category defaults and ad-hoc plants
+ * @param growthDuration days per growth stage
+ */
+public record PlantSpecies(PlantType type, PlantCategory category, int lifespan,
+                           int waterRequirement, int sunlightRequirement,
+                           int minTemperature, int maxTemperature,
+                           int pestResistance, int growthDuration) {
+}
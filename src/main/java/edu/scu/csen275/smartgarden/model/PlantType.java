@@ -1,5 +1,8 @@
 package edu.scu.csen275.smartgarden.model;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Enum representing all available plant types with their emojis, display names, and categories.
  */
@@ -23,6 +26,14 @@ public enum PlantType {
     private final String displayName;
     private final PlantCategory category;
     
+    private static final Map<String, PlantType> byDisplayName = new HashMap<>();
+    
+    static {
+        for (PlantType type : values()) {
+            byDisplayName.put(type.displayName, type);
+        }
+    }
+    
     PlantType(String emoji, String displayName, PlantCategory category) {
         this.emoji = emoji;
         this.displayName = displayName;
@@ -41,6 +52,37 @@ public enum PlantType {
         return category;
     }
     
+    /**
+     * Finds the plant type with this display name, e.g. "Apple Sapling".
+     * 
+     * @return The plant type, or null if no type has this name
+     */
+    public static PlantType fromDisplayName(String displayName) {
+        return byDisplayName.get(displayName);
+    }
+    
+    /**
+     * Creates a new plant of this type at a position.
+     */
+    public Plant createPlant(Position position) {
+        return switch (this) {
+            // Fruit Plants
+            case STRAWBERRY -> new Fruit(position, "Strawberry");
+            case GRAPEVINE -> new Fruit(position, "Grapevine");
+            case APPLE -> new Fruit(position, "Apple Sapling");
+            
+            // Vegetable Crops
+            case CARROT -> new Vegetable(position, "Carrot");
+            case TOMATO -> new Vegetable(position, "Tomato");
+            case ONION -> new Vegetable(position, "Onion");
+            
+            // Flowers
+            case SUNFLOWER -> new Flower(position, "Sunflower");
+            case TULIP -> new Flower(position, "Tulip");
+            case ROSE -> new Flower(position, "Rose");
+        };
+    }
+    
     /**
      * Gets the category header text for display in dropdown.
      */
@@ -0,0 +1,139 @@
+package edu.scu.csen275.smartgarden.model;
+
+import edu.scu.csen275.smartgarden.config.GardenConfigReader;
+import edu.scu.csen275.smartgarden.config.PlantProfile;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Species parameter table compiled from plants.json. Holds one immutable
+ * {@link PlantSpecies} row per PlantType, indexed by ordinal; plants keep a
+ * reference to their row instead of copying the values or overriding
+ * methods per subclass. Sunlight and pest resistance are not in the file
+ * and come from the category defaults, as do types the file leaves out.
+ */
+public final class SpeciesCatalog {
+    private static final PlantSpecies[] categoryDefaults = new PlantSpecies[PlantCategory.values().length];
+
+    static {
+        categoryDefaults[PlantCategory.FRUIT.ordinal()] =
+            new PlantSpecies(null, PlantCategory.FRUIT, 90, 50, 75, 12, 30, 4, 8);
+        categoryDefaults[PlantCategory.VEGETABLE.ordinal()] =
+            new PlantSpecies(null, PlantCategory.VEGETABLE, 90, 60, 80, 15, 28, 2, 5);
+        categoryDefaults[PlantCategory.FLOWER.ordinal()] =
+            new PlantSpecies(null, PlantCategory.FLOWER, 90, 30, 70, 10, 30, 3, 7);
+    }
+
+    private static volatile SpeciesCatalog defaultCatalog = loadDefault();
+
+    private final PlantSpecies[] byType;
+
+    private SpeciesCatalog(PlantSpecies[] byType) {
+        this.byType = byType;
+    }
+
+    /**
+     * Gets the catalog new plants are created from: the one compiled from
+     * plants.json on the classpath, or the last one installed by a reload.
+     */
+    public static SpeciesCatalog getDefault() {
+        return defaultCatalog;
+    }
+
+    /**
+     * Installs the catalog used for new plants. Existing plants keep their
+     * rows until {@link Plant#rebindSpecies(SpeciesCatalog)} is called.
+     */
+    public static void setDefault(SpeciesCatalog catalog) {
+        if (catalog == null) {
+            throw new IllegalArgumentException("Catalog cannot be null");
+        }
+        defaultCatalog = catalog;
+    }
+
+    /**
+     * Compiles plant profiles into a catalog. Profiles whose name is not a
+     * PlantType display name are ignored; a later profile for the same type
+     * replaces an earlier one.
+     */
+    public static SpeciesCatalog compile(Collection<PlantProfile> profiles) {
+        PlantSpecies[] byType = new PlantSpecies[PlantType.values().length];
+        for (PlantType type : PlantType.values()) {
+            byType[type.ordinal()] = withType(categoryDefaults(type.getCategory()), type);
+        }
+        for (PlantProfile profile : profiles) {
+            PlantType type = PlantType.fromDisplayName(profile.name());
+            if (type == null) {
+                continue;
+            }
+            PlantSpecies defaults = categoryDefaults(type.getCategory());
+            byType[type.ordinal()] = new PlantSpecies(type, type.getCategory(), profile.lifespan(),
+                profile.waterRequirement(), defaults.sunlightRequirement(), profile.minTemperature(),
+                profile.maxTemperature(), defaults.pestResistance(), profile.growthDuration());
+        }
+        return new SpeciesCatalog(byType);
+    }
+
+    /**
+     * Streams plant profiles in the plants.json format and compiles them.
+     *
+     * @throws edu.scu.csen275.smartgarden.config.ConfigException if the file is malformed
+     */
+    public static SpeciesCatalog load(Reader in, String source) throws IOException {
+        List<PlantProfile> profiles = new ArrayList<>();
+        GardenConfigReader.readPlantProfiles(in, source, profiles::add);
+        return compile(profiles);
+    }
+
+    /**
+     * Gets the parameters used when plants.json has no entry for a plant.
+     */
+    public static PlantSpecies categoryDefaults(PlantCategory category) {
+        return categoryDefaults[category.ordinal()];
+    }
+
+    /**
+     * Gets the row for a plant type.
+     */
+    public PlantSpecies get(PlantType type) {
+        return byType[type.ordinal()];
+    }
+
+    /**
+     * Gets the row for a plant name, or the category defaults if the name is
+     * not a PlantType display name.
+     */
+    public PlantSpecies lookup(String displayName, PlantCategory category) {
+        PlantType type = PlantType.fromDisplayName(displayName);
+        return type != null ? byType[type.ordinal()] : categoryDefaults(category);
+    }
+
+    private static PlantSpecies withType(PlantSpecies defaults, PlantType type) {
+        return new PlantSpecies(type, defaults.category(), defaults.lifespan(), defaults.waterRequirement(),
+            defaults.sunlightRequirement(), defaults.minTemperature(), defaults.maxTemperature(),
+            defaults.pestResistance(), defaults.growthDuration());
+    }
+
+    /**
+     * Reads plants.json from the classpath, falling back to the category
+     * defaults if it is missing or malformed.
+     */
+    private static SpeciesCatalog loadDefault() {
+        try (InputStream in = SpeciesCatalog.class.getResourceAsStream("/plants.json")) {
+            if (in != null) {
+                return load(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)), "plants.json");
+            }
+            System.err.println("[SpeciesCatalog] WARNING: plants.json not found, using category defaults");
+        } catch (Exception e) {
+            System.err.println("[SpeciesCatalog] ERROR loading plants.json: " + e.getMessage());
+        }
+        return compile(List.of());
+    }
+}
@@ -2,7 +2,9 @@ package edu.scu.csen275.smartgarden.model;
 
 import javafx.beans.property.*;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Represents a zone in the garden.
@@ -11,7 +13,7 @@ import java.util.List;
 public class Zone {
     private final int zoneId;
     private final List<Position> boundaries;
-    private final List<Plant> plantsInZone;
+    private final Set<Plant> plantsInZone; // insertion order, O(1) add and remove
     
     private final IntegerProperty moistureLevel;
     private final IntegerProperty temperature;
@@ -23,7 +25,7 @@ public class Zone {
     public Zone(int zoneId, List<Position> boundaries) {
         this.zoneId = zoneId;
         this.boundaries = new ArrayList<>(boundaries);
-        this.plantsInZone = new ArrayList<>();
+        this.plantsInZone = new LinkedHashSet<>();
         this.moistureLevel = new SimpleIntegerProperty(50);
         this.temperature = new SimpleIntegerProperty(20);
         this.pestInfestationLevel = new SimpleIntegerProperty(0);
@@ -40,9 +42,7 @@ public class Zone {
      * Adds a plant to this zone.
      */
     public void addPlant(Plant plant) {
-        if (!plantsInZone.contains(plant)) {
-            plantsInZone.add(plant);
-        }
+        plantsInZone.add(plant);
     }
     
     /**
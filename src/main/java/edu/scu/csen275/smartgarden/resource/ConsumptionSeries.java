@@ -0,0 +1,107 @@
+package edu.scu.csen275.smartgarden.resource;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-zone consumption time series for one resource.
+ * The open bucket is a striped counter so recording never blocks; closed
+ * buckets are kept in a fixed-size ring per zone, oldest first when read.
+ */
+public class ConsumptionSeries {
+    private final int bucketTicks;
+    private final int retainedBuckets;
+    private final Map<Integer, ZoneSeries> zones;
+    private final LongAdder total;
+
+    /**
+     * Creates a new ConsumptionSeries.
+     *
+     * @param bucketTicks simulation ticks covered by one bucket
+     * @param retainedBuckets number of closed buckets kept per zone
+     */
+    public ConsumptionSeries(int bucketTicks, int retainedBuckets) {
+        if (bucketTicks <= 0 || retainedBuckets <= 0) {
+            throw new IllegalArgumentException("Bucket size and retention must be positive");
+        }
+        this.bucketTicks = bucketTicks;
+        this.retainedBuckets = retainedBuckets;
+        this.zones = new ConcurrentHashMap<>();
+        this.total = new LongAdder();
+    }
+
+    /**
+     * Records consumption for a zone in the open bucket.
+     */
+    public void record(int zoneId, long amount) {
+        if (amount <= 0) {
+            return;
+        }
+        zones.computeIfAbsent(zoneId, id -> new ZoneSeries(retainedBuckets)).current.add(amount);
+        total.add(amount);
+    }
+
+    /**
+     * Closes the open bucket of every zone and starts a new one.
+     */
+    public void roll() {
+        for (ZoneSeries series : zones.values()) {
+            series.roll();
+        }
+    }
+
+    /**
+     * Gets closed buckets for a zone, oldest first.
+     */
+    public long[] getHistory(int zoneId) {
+        ZoneSeries series = zones.get(zoneId);
+        return series != null ? series.snapshot() : new long[0];
+    }
+
+    /**
+     * Gets consumption in the open bucket for a zone.
+     */
+    public long getCurrent(int zoneId) {
+        ZoneSeries series = zones.get(zoneId);
+        return series != null ? series.current.sum() : 0;
+    }
+
+    public long getTotal() {
+        return total.sum();
+    }
+
+    public int getBucketTicks() {
+        return bucketTicks;
+    }
+
+    /**
+     * Ring of closed buckets for one zone. Only roll() and snapshot() lock;
+     * the recording path touches the striped counter alone.
+     */
+    private static final class ZoneSeries {
+        private final LongAdder current = new LongAdder();
+        private final long[] buckets;
+        private int head;
+        private int size;
+
+        ZoneSeries(int capacity) {
+            this.buckets = new long[capacity];
+        }
+
+        synchronized void roll() {
+            buckets[head] = current.sumThenReset();
+            head = (head + 1) % buckets.length;
+            size = Math.min(size + 1, buckets.length);
+        }
+
+        synchronized long[] snapshot() {
+            long[] result = new long[size];
+            int start = (head - size + buckets.length) % buckets.length;
+            for (int i = 0; i < size; i++) {
+                result[i] = buckets[(start + i) % buckets.length];
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package edu.scu.csen275.smartgarden.resource;
+
+/**
+ * Decides how much to top up a reservoir when the ledger runs its refill pass.
+ */
+@FunctionalInterface
+public interface RefillPolicy {
+    
+    /**
+     * Policy that never refills.
+     */
+    RefillPolicy NONE = (level, capacity) -> 0;
+    
+    /**
+     * Returns the amount to deposit given the current level and capacity.
+     * A result of zero or less means no refill.
+     */
+    long refillAmount(long level, long capacity);
+    
+    /**
+     * Refills back up to the target once the level drops below the threshold.
+     */
+    static RefillPolicy threshold(long threshold, long target) {
+        if (threshold < 0 || target < threshold) {
+            throw new IllegalArgumentException("Refill target must be at least the threshold");
+        }
+        return (level, capacity) -> level < threshold ? target - level : 0;
+    }
+    
+    /**
+     * Refills to full capacity once the level drops below the given fraction of it.
+     */
+    static RefillPolicy belowFraction(double fraction) {
+        if (fraction < 0 || fraction > 1) {
+            throw new IllegalArgumentException("Fraction must be 0-1");
+        }
+        return (level, capacity) -> level < capacity * fraction ? capacity - level : 0;
+    }
+}
@@ -0,0 +1,132 @@
+package edu.scu.csen275.smartgarden.resource;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A single water tank or pesticide store in the resource network.
+ * The level is one atomic cell updated by compare-and-set, so concurrent
+ * withdrawals can never overdraw it; the lifetime totals are striped
+ * counters that are only read for reporting.
+ */
+public class Reservoir {
+    private final String name;
+    private final ResourceType type;
+    private final long capacity;
+    private final RefillPolicy refillPolicy;
+    private final AtomicLong level;
+    private final LongAdder deposited;
+    private final LongAdder withdrawn;
+
+    /**
+     * Creates a new Reservoir that starts full.
+     */
+    public Reservoir(String name, ResourceType type, long capacity, RefillPolicy refillPolicy) {
+        this(name, type, capacity, capacity, refillPolicy);
+    }
+
+    /**
+     * Creates a new Reservoir with a custom starting level.
+     */
+    public Reservoir(String name, ResourceType type, long capacity, long initialLevel,
+                     RefillPolicy refillPolicy) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Reservoir capacity must be positive");
+        }
+        if (initialLevel < 0) {
+            throw new IllegalArgumentException("Initial level cannot be negative");
+        }
+        this.name = name;
+        this.type = type;
+        this.capacity = capacity;
+        this.level = new AtomicLong(initialLevel);
+        this.refillPolicy = refillPolicy != null ? refillPolicy : RefillPolicy.NONE;
+        this.deposited = new LongAdder();
+        this.withdrawn = new LongAdder();
+    }
+
+    /**
+     * Withdraws up to the requested amount and returns what was granted.
+     * Racing withdrawals retry until one of them wins, so the level never
+     * goes below zero.
+     */
+    public long withdraw(long requested) {
+        if (requested <= 0) {
+            return 0;
+        }
+        while (true) {
+            long current = level.get();
+            long granted = Math.min(requested, current);
+            if (granted <= 0) {
+                return 0;
+            }
+            if (level.compareAndSet(current, current - granted)) {
+                withdrawn.add(granted);
+                return granted;
+            }
+        }
+    }
+
+    /**
+     * Adds the given amount. Manual refills may exceed capacity, as before.
+     */
+    public void deposit(long amount) {
+        if (amount > 0) {
+            level.addAndGet(amount);
+            deposited.add(amount);
+        }
+    }
+
+    /**
+     * Applies this reservoir's refill policy and returns the amount deposited.
+     */
+    public long applyRefillPolicy() {
+        long amount = refillPolicy.refillAmount(getLevel(), capacity);
+        deposit(amount);
+        return Math.max(0, amount);
+    }
+
+    /**
+     * Gets the current level (never negative).
+     */
+    public long getLevel() {
+        return level.get();
+    }
+
+    /**
+     * Gets how far the reservoir is below capacity.
+     */
+    public long getDeficit() {
+        return Math.max(0, capacity - getLevel());
+    }
+
+    // Getters
+    public String getName() {
+        return name;
+    }
+
+    public ResourceType getType() {
+        return type;
+    }
+
+    public long getCapacity() {
+        return capacity;
+    }
+
+    public RefillPolicy getRefillPolicy() {
+        return refillPolicy;
+    }
+
+    public long getTotalWithdrawn() {
+        return withdrawn.sum();
+    }
+
+    public long getTotalDeposited() {
+        return deposited.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "Reservoir[" + name + ", " + getLevel() + "/" + capacity + " " + type.getUnit() + "]";
+    }
+}
@@ -0,0 +1,276 @@
+package edu.scu.csen275.smartgarden.resource;
+
+import edu.scu.csen275.smartgarden.util.LogCategory;
+import edu.scu.csen275.smartgarden.util.Logger;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.LongConsumer;
+
+/**
+ * Resource ledger that owns every water reservoir and pesticide store.
+ * Reservoirs either serve specific zones (a sector) or are shared by the whole
+ * garden. Draws for a zone go to its sector reservoirs first, then to the
+ * shared ones. Refill policies and consumption bucketing run once per tick,
+ * and level listeners are told the total level once per tick rather than on
+ * every draw, so draws from many zones never meet on one listener.
+ */
+public class ResourceLedger {
+    private final Map<ResourceType, List<Reservoir>> reservoirs;
+    private final Map<ResourceType, List<Reservoir>> sharedReservoirs;
+    private final Map<ResourceType, Map<Integer, List<Reservoir>>> sectorReservoirs;
+    private final Map<ResourceType, Map<Integer, Reservoir[]>> routes;
+    private final Map<ResourceType, ConsumptionSeries> consumption;
+    private final Map<ResourceType, List<LongConsumer>> levelListeners;
+    private long ticks;
+
+    private static final Logger logger = Logger.getInstance();
+    private static final int DEFAULT_BUCKET_TICKS = 60; // one simulated hour
+    private static final int DEFAULT_RETAINED_BUCKETS = 48; // two simulated days
+
+    // Default supplies - refill once below 20% of the initial amount
+    public static final int DEFAULT_WATER_CAPACITY = 10000; // liters
+    public static final int DEFAULT_WATER_REFILL_THRESHOLD = 2000;
+    public static final int DEFAULT_PESTICIDE_CAPACITY = 50;
+    public static final int DEFAULT_PESTICIDE_REFILL_THRESHOLD = 10;
+
+    /**
+     * Creates an empty ResourceLedger.
+     */
+    public ResourceLedger() {
+        this.reservoirs = new EnumMap<>(ResourceType.class);
+        this.sharedReservoirs = new EnumMap<>(ResourceType.class);
+        this.sectorReservoirs = new EnumMap<>(ResourceType.class);
+        this.routes = new EnumMap<>(ResourceType.class);
+        this.consumption = new EnumMap<>(ResourceType.class);
+        this.levelListeners = new EnumMap<>(ResourceType.class);
+
+        for (ResourceType type : ResourceType.values()) {
+            reservoirs.put(type, new CopyOnWriteArrayList<>());
+            sharedReservoirs.put(type, new CopyOnWriteArrayList<>());
+            sectorReservoirs.put(type, new ConcurrentHashMap<>());
+            routes.put(type, new ConcurrentHashMap<>());
+            consumption.put(type, new ConsumptionSeries(DEFAULT_BUCKET_TICKS, DEFAULT_RETAINED_BUCKETS));
+            levelListeners.put(type, new CopyOnWriteArrayList<>());
+        }
+    }
+
+    /**
+     * Creates a ledger with one shared water reservoir and one shared pesticide
+     * store, matching the original single-supply behavior.
+     * <p>
+     * Every zone's draw lands on the same reservoir level, which is the one
+     * contended cell in the network. That is deliberate: at one draw per zone
+     * per tick the CAS retries are negligible, whereas striping the default
+     * supply into per-zone sectors would strand water in one zone while
+     * another runs dry. Deployments that do see contention can add sector
+     * reservoirs with {@link #addReservoir(Reservoir, int...)}, which are
+     * drawn before the shared one.
+     */
+    public static ResourceLedger createDefault() {
+        ResourceLedger ledger = new ResourceLedger();
+        ledger.addReservoir(new Reservoir("Main water reservoir", ResourceType.WATER,
+            DEFAULT_WATER_CAPACITY,
+            RefillPolicy.threshold(DEFAULT_WATER_REFILL_THRESHOLD, DEFAULT_WATER_CAPACITY)));
+        ledger.addReservoir(new Reservoir("Main pesticide store", ResourceType.PESTICIDE,
+            DEFAULT_PESTICIDE_CAPACITY,
+            RefillPolicy.threshold(DEFAULT_PESTICIDE_REFILL_THRESHOLD, DEFAULT_PESTICIDE_CAPACITY)));
+        return ledger;
+    }
+
+    /**
+     * Adds a reservoir to the network.
+     *
+     * @param reservoir The reservoir to add
+     * @param zoneIds Zones served by this reservoir; none means shared by all zones
+     */
+    public void addReservoir(Reservoir reservoir, int... zoneIds) {
+        ResourceType type = reservoir.getType();
+        reservoirs.get(type).add(reservoir);
+
+        if (zoneIds.length == 0) {
+            sharedReservoirs.get(type).add(reservoir);
+        } else {
+            for (int zoneId : zoneIds) {
+                sectorReservoirs.get(type)
+                    .computeIfAbsent(zoneId, id -> new CopyOnWriteArrayList<>())
+                    .add(reservoir);
+            }
+        }
+
+        routes.get(type).clear();
+        notifyLevel(type);
+        if (zoneIds.length == 0) {
+            logger.info(LogCategory.RESOURCES, "Added {} (shared)", reservoir);
+        } else {
+            logger.info(LogCategory.RESOURCES, "Added {} serving {} zone(s)", reservoir, zoneIds.length);
+        }
+    }
+
+    /**
+     * Draws up to the requested amount for a zone and returns what was granted.
+     */
+    public long draw(ResourceType type, int zoneId, long amount) {
+        if (amount <= 0) {
+            return 0;
+        }
+
+        long remaining = amount;
+        for (Reservoir reservoir : route(type, zoneId)) {
+            remaining -= reservoir.withdraw(remaining);
+            if (remaining == 0) {
+                break;
+            }
+        }
+
+        long granted = amount - remaining;
+        if (granted > 0) {
+            consumption.get(type).record(zoneId, granted);
+        }
+        return granted;
+    }
+
+    /**
+     * Gets the amount a zone could draw right now.
+     */
+    public long available(ResourceType type, int zoneId) {
+        long total = 0;
+        for (Reservoir reservoir : route(type, zoneId)) {
+            total += reservoir.getLevel();
+        }
+        return total;
+    }
+
+    /**
+     * Deposits into the network: reservoirs below capacity are topped up in
+     * registration order, and any remainder goes to the first reservoir.
+     */
+    public void deposit(ResourceType type, long amount) {
+        List<Reservoir> all = reservoirs.get(type);
+        if (amount <= 0 || all.isEmpty()) {
+            return;
+        }
+
+        long remaining = amount;
+        for (Reservoir reservoir : all) {
+            long share = Math.min(remaining, reservoir.getDeficit());
+            reservoir.deposit(share);
+            remaining -= share;
+            if (remaining == 0) {
+                break;
+            }
+        }
+        if (remaining > 0) {
+            all.get(0).deposit(remaining);
+        }
+    }
+
+    /**
+     * Runs once per simulation tick: applies refill policies, publishes the
+     * total levels to the level listeners and closes the consumption buckets
+     * when a bucket boundary is reached.
+     */
+    public void tick() {
+        ticks++;
+
+        for (ResourceType type : ResourceType.values()) {
+            for (Reservoir reservoir : reservoirs.get(type)) {
+                long before = reservoir.getLevel();
+                long amount = reservoir.applyRefillPolicy();
+                if (amount > 0) {
+                    logger.info(LogCategory.RESOURCES, "Auto-refilled {}: {} -> {} {}",
+                               reservoir.getName(), before, reservoir.getLevel(), type.getUnit());
+                }
+            }
+            notifyLevel(type);
+
+            ConsumptionSeries series = consumption.get(type);
+            if (ticks % series.getBucketTicks() == 0) {
+                series.roll();
+            }
+        }
+    }
+
+    /**
+     * Registers a listener that receives the total level once per tick, on
+     * the thread that calls tick().
+     */
+    public void addLevelListener(ResourceType type, LongConsumer listener) {
+        levelListeners.get(type).add(listener);
+    }
+
+    /**
+     * Gets the total level across every reservoir of a type.
+     */
+    public long getLevel(ResourceType type) {
+        long total = 0;
+        for (Reservoir reservoir : reservoirs.get(type)) {
+            total += reservoir.getLevel();
+        }
+        return total;
+    }
+
+    /**
+     * Gets the total capacity across every reservoir of a type.
+     */
+    public long getCapacity(ResourceType type) {
+        long total = 0;
+        for (Reservoir reservoir : reservoirs.get(type)) {
+            total += reservoir.getCapacity();
+        }
+        return total;
+    }
+
+    /**
+     * Gets the total amount consumed since the ledger was created.
+     */
+    public long getTotalConsumed(ResourceType type) {
+        return consumption.get(type).getTotal();
+    }
+
+    /**
+     * Gets the consumption time series for a resource.
+     */
+    public ConsumptionSeries getConsumption(ResourceType type) {
+        return consumption.get(type);
+    }
+
+    /**
+     * Gets all reservoirs of a type.
+     */
+    public List<Reservoir> getReservoirs(ResourceType type) {
+        return new ArrayList<>(reservoirs.get(type));
+    }
+
+    /**
+     * Resolves the reservoirs serving a zone, sector reservoirs first.
+     */
+    private Reservoir[] route(ResourceType type, int zoneId) {
+        return routes.get(type).computeIfAbsent(zoneId, id -> {
+            List<Reservoir> route = new ArrayList<>(
+                sectorReservoirs.get(type).getOrDefault(id, List.of()));
+            route.addAll(sharedReservoirs.get(type));
+            return route.toArray(new Reservoir[0]);
+        });
+    }
+
+    private void notifyLevel(ResourceType type) {
+        List<LongConsumer> listeners = levelListeners.get(type);
+        if (listeners.isEmpty()) {
+            return;
+        }
+        long level = getLevel(type);
+        for (LongConsumer listener : listeners) {
+            listener.accept(level);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ResourceLedger[Water: " + getLevel(ResourceType.WATER) + "L, Pesticide: " +
+               getLevel(ResourceType.PESTICIDE) + "]";
+    }
+}
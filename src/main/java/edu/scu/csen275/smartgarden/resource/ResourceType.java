@@ -0,0 +1,25 @@
+package edu.scu.csen275.smartgarden.resource;
+
+/**
+ * Consumable resources tracked by the resource ledger.
+ */
+public enum ResourceType {
+    WATER("Water", "L"),
+    PESTICIDE("Pesticide", "applications");
+    
+    private final String displayName;
+    private final String unit;
+    
+    ResourceType(String displayName, String unit) {
+        this.displayName = displayName;
+        this.unit = unit;
+    }
+    
+    public String getDisplayName() {
+        return displayName;
+    }
+    
+    public String getUnit() {
+        return unit;
+    }
+}
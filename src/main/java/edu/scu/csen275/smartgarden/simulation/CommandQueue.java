@@ -0,0 +1,112 @@
+package edu.scu.csen275.smartgarden.simulation;
+
+import edu.scu.csen275.smartgarden.util.LogCategory;
+import edu.scu.csen275.smartgarden.util.Logger;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded multi-producer, single-consumer queue of garden mutations. Any
+ * thread may submit a command; only the simulation thread drains the queue,
+ * between ticks, so commands never run concurrently with a tick or with each
+ * other. A full queue makes producers wait, and a producer that still finds
+ * it full after the timeout gets a RejectedExecutionException.
+ */
+final class CommandQueue {
+    private static final Logger logger = Logger.getInstance();
+
+    private record Command(Runnable action, long enqueuedNanos) {
+    }
+
+    private final BlockingQueue<Command> queue;
+    private final long offerTimeoutMillis;
+
+    /**
+     * Creates a queue.
+     *
+     * @param capacity commands the queue holds before producers wait
+     * @param offerTimeoutMillis how long a producer waits for space
+     */
+    CommandQueue(int capacity, long offerTimeoutMillis) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        if (offerTimeoutMillis < 0) {
+            throw new IllegalArgumentException("Offer timeout cannot be negative");
+        }
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.offerTimeoutMillis = offerTimeoutMillis;
+    }
+
+    /**
+     * Queues a command, waiting for space if the queue is full.
+     *
+     * @throws RejectedExecutionException if the queue stays full for the
+     *         whole timeout, or the caller is interrupted while waiting
+     */
+    void submit(Runnable action) {
+        if (action == null) {
+            throw new IllegalArgumentException("Command cannot be null");
+        }
+        Command command = new Command(action, System.nanoTime());
+        boolean queued;
+        try {
+            queued = queue.offer(command) || queue.offer(command, offerTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queued = false;
+        }
+        if (!queued) {
+            SimulationMetrics.recordCommandRejected();
+            throw new RejectedExecutionException("Simulation command queue is full (" + remainingCapacity()
+                + " free of " + capacity() + ")");
+        }
+        SimulationMetrics.recordCommandQueued(queue.size());
+    }
+
+    /**
+     * Runs the commands that were queued when the drain started, in order.
+     * Commands queued by these commands wait for the next drain. A command
+     * that throws is logged and does not stop the others.
+     *
+     * Synchronized so that a thread taking over after the simulation thread
+     * stopped never drains at the same time as it.
+     *
+     * @return the number of commands run
+     */
+    synchronized int drain() {
+        int pending = queue.size();
+        int run = 0;
+        for (; run < pending; run++) {
+            Command command = queue.poll();
+            if (command == null) {
+                break;
+            }
+            SimulationMetrics.recordCommandLatency(System.nanoTime() - command.enqueuedNanos());
+            try {
+                command.action().run();
+            } catch (RuntimeException e) {
+                SimulationMetrics.recordCommandError();
+                logger.logException(LogCategory.SIMULATION, "Queued command failed", e);
+            }
+        }
+        if (run > 0) {
+            SimulationMetrics.recordCommandQueued(queue.size());
+        }
+        return run;
+    }
+
+    int size() {
+        return queue.size();
+    }
+
+    int remainingCapacity() {
+        return queue.remainingCapacity();
+    }
+
+    int capacity() {
+        return queue.size() + queue.remainingCapacity();
+    }
+}
@@ -0,0 +1,244 @@
+package edu.scu.csen275.smartgarden.simulation;
+
+import edu.scu.csen275.smartgarden.model.Garden;
+import edu.scu.csen275.smartgarden.model.GrowthStage;
+import edu.scu.csen275.smartgarden.model.Plant;
+import edu.scu.csen275.smartgarden.model.PlantType;
+import edu.scu.csen275.smartgarden.model.Position;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable copy of the garden taken at a tick boundary. The engines publish
+ * a new snapshot after every tick, so readers on other threads (the API,
+ * metrics, JMX, the UI) get a consistent view of every plant without
+ * locking or racing the simulation thread.
+ *
+ * Plant state is held column-wise in primitive arrays, one slot per plant in
+ * row-major position order; {@link #plant(int)} builds a record view of one
+ * slot on demand.
+ */
+public final class GardenSnapshot {
+    /** Snapshot of a garden with no plants, before the first tick. */
+    public static final GardenSnapshot EMPTY = new GardenSnapshot(0, 0, null, 0, 0, WeatherSystem.Weather.SUNNY, 0, 0,
+        new int[0], new String[0], new byte[0], new byte[0], new byte[0], new byte[0], new int[0], new int[0],
+        new int[0], new boolean[0]);
+
+    private static final GrowthStage[] STAGES = GrowthStage.values();
+    private static final PlantType[] TYPES = PlantType.values();
+
+    private final long tick;
+    private final int day;
+    private final LocalDateTime simulationTime;
+    private final int rows;
+    private final int columns;
+    private final WeatherSystem.Weather weather;
+    private final int livingPlants;
+    private final int activePests;
+
+    // One slot per plant
+    private final int[] cells; // row * columns + column
+    private final String[] names;
+    private final byte[] types; // PlantType ordinal, -1 if none
+    private final byte[] stages;
+    private final byte[] health;
+    private final byte[] water;
+    private final int[] waterRequirements;
+    private final int[] daysAlive;
+    private final int[] pestAttacks;
+    private final boolean[] dead;
+
+    /**
+     * One plant's state in a snapshot.
+     *
+     * @param type null for plants whose name is not a PlantType
+     */
+    public record PlantState(Position position, String plantType, PlantType type, GrowthStage stage,
+                             int health, int waterLevel, int waterRequirement, int daysAlive, int pestAttacks,
+                             boolean dead) {
+    }
+
+    private GardenSnapshot(long tick, int day, LocalDateTime simulationTime, int rows, int columns,
+                           WeatherSystem.Weather weather, int livingPlants, int activePests, int[] cells, String[] names,
+                           byte[] types, byte[] stages, byte[] health, byte[] water, int[] waterRequirements,
+                           int[] daysAlive, int[] pestAttacks, boolean[] dead) {
+        this.tick = tick;
+        this.day = day;
+        this.simulationTime = simulationTime;
+        this.rows = rows;
+        this.columns = columns;
+        this.weather = weather;
+        this.livingPlants = livingPlants;
+        this.activePests = activePests;
+        this.cells = cells;
+        this.names = names;
+        this.types = types;
+        this.stages = stages;
+        this.health = health;
+        this.water = water;
+        this.waterRequirements = waterRequirements;
+        this.daysAlive = daysAlive;
+        this.pestAttacks = pestAttacks;
+        this.dead = dead;
+    }
+
+    /**
+     * Copies the garden's current state. Must run on the simulation thread
+     * between ticks.
+     */
+    public static GardenSnapshot capture(long tick, int day, LocalDateTime simulationTime, Garden garden,
+                                         WeatherSystem.Weather weather, int activePests) {
+        int rows = garden.getRows();
+        int columns = garden.getColumns();
+        Columns data = new Columns(garden.getTotalPlants());
+        garden.forEachPlantInPositionOrder(plant -> data.add(plant, columns));
+        return new GardenSnapshot(tick, day, simulationTime, rows, columns, weather, data.living, activePests,
+            data.cells, data.names, data.types, data.stages, data.health, data.water, data.waterRequirements,
+            data.daysAlive, data.pestAttacks, data.dead);
+    }
+
+    /**
+     * Arrays being filled by capture(), one slot per plant.
+     */
+    private static final class Columns {
+        final int[] cells;
+        final String[] names;
+        final byte[] types;
+        final byte[] stages;
+        final byte[] health;
+        final byte[] water;
+        final int[] waterRequirements;
+        final int[] daysAlive;
+        final int[] pestAttacks;
+        final boolean[] dead;
+        int size;
+        int living;
+
+        Columns(int capacity) {
+            cells = new int[capacity];
+            names = new String[capacity];
+            types = new byte[capacity];
+            stages = new byte[capacity];
+            health = new byte[capacity];
+            water = new byte[capacity];
+            waterRequirements = new int[capacity];
+            daysAlive = new int[capacity];
+            pestAttacks = new int[capacity];
+            dead = new boolean[capacity];
+        }
+
+        void add(Plant plant, int columns) {
+            int i = size++;
+            cells[i] = cellOf(plant.getPosition(), columns);
+            names[i] = plant.getPlantType();
+            types[i] = plant.getType() != null ? (byte) plant.getType().ordinal() : -1;
+            stages[i] = (byte) plant.getGrowthStage().ordinal();
+            health[i] = (byte) plant.getHealthLevel(); // 0-100
+            water[i] = (byte) plant.getWaterLevel(); // 0-100
+            waterRequirements[i] = plant.getWaterRequirement();
+            daysAlive[i] = plant.getDaysAlive();
+            pestAttacks[i] = plant.getTotalPestAttacks();
+            dead[i] = plant.isDead();
+            if (!dead[i]) {
+                living++;
+            }
+        }
+    }
+
+    private static int cellOf(Position position, int columns) {
+        return position.row() * columns + position.column();
+    }
+
+    /**
+     * Gets the number of plants, alive or dead.
+     */
+    public int size() {
+        return cells.length;
+    }
+
+    /**
+     * Gets the state of the plant in a slot, 0 to size() - 1.
+     */
+    public PlantState plant(int index) {
+        return new PlantState(getPosition(index), names[index], types[index] >= 0 ? TYPES[types[index]] : null,
+            STAGES[stages[index]], health[index], water[index], waterRequirements[index], daysAlive[index],
+            pestAttacks[index], dead[index]);
+    }
+
+    /**
+     * Gets every plant's state, in row-major position order.
+     */
+    public List<PlantState> getPlants() {
+        List<PlantState> plants = new ArrayList<>(size());
+        for (int i = 0; i < size(); i++) {
+            plants.add(plant(i));
+        }
+        return plants;
+    }
+
+    public Position getPosition(int index) {
+        return new Position(cells[index] / columns, cells[index] % columns);
+    }
+
+    public int getHealth(int index) {
+        return health[index];
+    }
+
+    public int getWaterLevel(int index) {
+        return water[index];
+    }
+
+    public int getWaterRequirement(int index) {
+        return waterRequirements[index];
+    }
+
+    public boolean isDead(int index) {
+        return dead[index];
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    public int getDay() {
+        return day;
+    }
+
+    /**
+     * Gets the simulated time of the tick, or null before the first one.
+     */
+    public LocalDateTime getSimulationTime() {
+        return simulationTime;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public WeatherSystem.Weather getWeather() {
+        return weather;
+    }
+
+    public int getLivingPlants() {
+        return livingPlants;
+    }
+
+    public int getDeadPlants() {
+        return size() - livingPlants;
+    }
+
+    public int getActivePests() {
+        return activePests;
+    }
+
+    @Override
+    public String toString() {
+        return "GardenSnapshot[tick " + tick + ", day " + day + ", " + livingPlants + "/" + size()
+            + " alive, " + activePests + " pests]";
+    }
+}
@@ -1,18 +1,31 @@
 package edu.scu.csen275.smartgarden.simulation;
 
+import edu.scu.csen275.smartgarden.config.ConfigReloader;
+import edu.scu.csen275.smartgarden.jfr.TickEvent;
+import edu.scu.csen275.smartgarden.jfr.TickPhaseEvent;
 import edu.scu.csen275.smartgarden.model.Garden;
 import edu.scu.csen275.smartgarden.model.Plant;
+import edu.scu.csen275.smartgarden.resource.ResourceLedger;
+import edu.scu.csen275.smartgarden.resource.ResourceType;
 import edu.scu.csen275.smartgarden.system.*;
+import edu.scu.csen275.smartgarden.util.LogCategory;
 import edu.scu.csen275.smartgarden.util.Logger;
 
 import java.time.LocalDateTime;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
  * Headless simulation engine for API/monitoring use.
@@ -24,22 +37,36 @@ import java.util.concurrent.atomic.AtomicInteger;
  */
 public class HeadlessSimulationEngine {
     private final Garden garden;
+    private final ResourceLedger resourceLedger;
     private final WateringSystem wateringSystem;
     private final HeatingSystem heatingSystem;
     private final CoolingSystem coolingSystem;
     private final PestControlSystem pestControlSystem;
     private final WeatherSystem weatherSystem;
+    private volatile ConfigReloader configReloader;
     
     private ScheduledExecutorService scheduler;
+    private ScheduledFuture<?> tickTask;
     private volatile boolean isRunning = false;
+    private volatile int speedMultiplier = 1;
+    private volatile long lastTickNanos;
+    private volatile long maxTickNanos;
+    private volatile long totalTickNanos;
     private final AtomicLong elapsedTicks = new AtomicLong(0);
     private final AtomicInteger dayCounter = new AtomicInteger(0);
     private volatile int ticksPerDay = 0;
     private volatile LocalDateTime simulationTime;
+    private volatile GardenSnapshot snapshot = GardenSnapshot.EMPTY;
+    private volatile Thread tickThread;
+    private final CommandQueue commands = new CommandQueue(COMMAND_QUEUE_CAPACITY, COMMAND_OFFER_TIMEOUT_MS);
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
     
     private static final Logger logger = Logger.getInstance();
     private static final int BASE_TICK_INTERVAL_MS = 1000; // 1 second real time = 1 minute sim time
     private static final int TICKS_PER_SIM_DAY = 1440; // 1440 minutes in a day
+    private static final int COMMAND_QUEUE_CAPACITY = 1024;
+    private static final long COMMAND_OFFER_TIMEOUT_MS = 1000;
+    private static final long COMMAND_WAIT_POLL_MS = 100;
     
     // Track active instances for automatic cleanup
     private static final Set<HeadlessSimulationEngine> activeInstances = ConcurrentHashMap.newKeySet();
@@ -52,10 +79,11 @@ public class HeadlessSimulationEngine {
      */
     public HeadlessSimulationEngine(Garden garden) {
         this.garden = garden;
-        this.wateringSystem = new WateringSystem(garden);
+        this.resourceLedger = ResourceLedger.createDefault();
+        this.wateringSystem = new WateringSystem(garden, resourceLedger);
         this.heatingSystem = new HeatingSystem(garden);
         this.coolingSystem = new CoolingSystem(garden);
-        this.pestControlSystem = new PestControlSystem(garden);
+        this.pestControlSystem = new PestControlSystem(garden, resourceLedger);
         this.weatherSystem = new WeatherSystem(garden, this.heatingSystem, this.coolingSystem);
         
         // Connect weather system to watering system
@@ -65,14 +93,16 @@ public class HeadlessSimulationEngine {
         this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
             Thread t = new Thread(r, "HeadlessSimulationEngine");
             t.setDaemon(true);
+            tickThread = t;
             return t;
         });
+        routeCommands();
         
         // Register this instance for automatic cleanup
         activeInstances.add(this);
         registerShutdownHook();
         
-        logger.info("Simulation", "Headless simulation engine created");
+        logger.info(LogCategory.SIMULATION, "Headless simulation engine created");
     }
     
     /**
@@ -93,6 +123,7 @@ public class HeadlessSimulationEngine {
                                     PestControlSystem pestControlSystem,
                                     WeatherSystem weatherSystem) {
         this.garden = garden;
+        this.resourceLedger = wateringSystem.getResourceLedger();
         this.wateringSystem = wateringSystem;
         this.heatingSystem = heatingSystem;
         this.coolingSystem = coolingSystem;
@@ -103,14 +134,16 @@ public class HeadlessSimulationEngine {
         this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
             Thread t = new Thread(r, "HeadlessSimulationEngine");
             t.setDaemon(true);
+            tickThread = t;
             return t;
         });
+        routeCommands();
         
         // Register this instance for automatic cleanup
         activeInstances.add(this);
         registerShutdownHook();
         
-        logger.info("Simulation", "Headless simulation engine created (reusing systems)");
+        logger.info(LogCategory.SIMULATION, "Headless simulation engine created (reusing systems)");
     }
     
     /**
@@ -153,17 +186,182 @@ public class HeadlessSimulationEngine {
      */
     public void start() {
         if (isRunning) {
-            logger.warning("Simulation", "Headless simulation already running");
+            logger.warning(LogCategory.SIMULATION, "Headless simulation already running");
             return;
         }
         
         if (garden.getLivingPlants().isEmpty()) {
-            logger.warning("Simulation", "Cannot start - no plants in garden");
+            logger.warning(LogCategory.SIMULATION, "Cannot start - no plants in garden");
             throw new IllegalStateException("Garden must have at least one plant");
         }
         
+        snapshot = capture(elapsedTicks.get());
         isRunning = true;
-        scheduler.scheduleAtFixedRate(this::tick, 0, BASE_TICK_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        scheduleTicks(0);
+    }
+    
+    /**
+     * Sets the reloader whose staged config is installed at the start of
+     * each tick, or null to stop picking up config changes.
+     */
+    public void setConfigReloader(ConfigReloader configReloader) {
+        this.configReloader = configReloader;
+    }
+    
+    /**
+     * Sets the simulation speed multiplier (1-10). Takes effect from the next
+     * tick; a simulated day is always TICKS_PER_SIM_DAY ticks.
+     */
+    public synchronized void setSpeed(int multiplier) {
+        if (multiplier < 1 || multiplier > 10) {
+            throw new IllegalArgumentException("Speed multiplier must be 1-10");
+        }
+        speedMultiplier = multiplier;
+        if (isRunning && tickTask != null) {
+            tickTask.cancel(false);
+            scheduleTicks(BASE_TICK_INTERVAL_MS / multiplier);
+        }
+        logger.info(LogCategory.SIMULATION, "Headless speed set to {}x", multiplier);
+    }
+    
+    private synchronized void scheduleTicks(long initialDelayMs) {
+        tickTask = scheduler.scheduleAtFixedRate(this::tick, initialDelayMs,
+            BASE_TICK_INTERVAL_MS / speedMultiplier, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Sends the shared systems' deferred mutations (delayed pest treatments,
+     * real-time weather rotation) through this engine's command queue.
+     */
+    private void routeCommands() {
+        pestControlSystem.setCommandExecutor(this::submit);
+        weatherSystem.setCommandExecutor(this::submit);
+    }
+    
+    /**
+     * Queues a mutation to run on the simulation thread between ticks and
+     * returns without waiting. Runs it directly when the simulation is not
+     * running or when called from the simulation thread.
+     *
+     * @throws RejectedExecutionException if the queue stays full
+     */
+    public void submit(Runnable command) {
+        if (!isRunning || scheduler.isShutdown() || Thread.currentThread() == tickThread) {
+            command.run();
+            return;
+        }
+        commands.submit(command);
+        requestDrain();
+        if (!isRunning || scheduler.isShutdown()) {
+            // stop() may have run its final drain before the command was queued
+            drainAfterStop();
+        }
+    }
+    
+    /**
+     * Waits for the simulation thread to finish, then runs any commands it
+     * left in the queue on the caller's thread.
+     */
+    private void drainAfterStop() {
+        try {
+            scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (scheduler.isTerminated()) {
+            commands.drain();
+        }
+    }
+    
+    /**
+     * Runs a task on the simulation thread between ticks and waits for it, so
+     * callers from other threads (e.g. JMX) never race with a tick. Runs the
+     * task directly when the simulation is not running.
+     */
+    public void runBetweenTicks(Runnable task) {
+        callBetweenTicks(() -> {
+            task.run();
+            return null;
+        });
+    }
+    
+    /**
+     * Like runBetweenTicks(), for tasks that read simulation state that is not
+     * safe to read while a tick is running.
+     */
+    public <T> T callBetweenTicks(Supplier<T> task) {
+        if (!isRunning || scheduler.isShutdown() || Thread.currentThread() == tickThread) {
+            return task.get();
+        }
+        CompletableFuture<T> result = new CompletableFuture<>();
+        submit(() -> {
+            try {
+                result.complete(task.get());
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        try {
+            while (true) {
+                try {
+                    return result.get(COMMAND_WAIT_POLL_MS, TimeUnit.MILLISECONDS);
+                } catch (TimeoutException e) {
+                    if (scheduler.isTerminated()) {
+                        commands.drain(); // the simulation stopped before reaching our command
+                    }
+                }
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for the simulation thread", e);
+        }
+    }
+    
+    /**
+     * Drains the command queue on the simulation thread soon, between ticks,
+     * rather than waiting for the next tick. At most one drain is pending.
+     */
+    private void requestDrain() {
+        if (!drainScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            scheduler.execute(() -> {
+                drainScheduled.set(false);
+                commands.drain();
+            });
+        } catch (RejectedExecutionException e) {
+            drainScheduled.set(false); // shutting down; stop() drains what is left
+        }
+    }
+    
+    /**
+     * Gets the number of commands waiting for the simulation thread.
+     */
+    public int getCommandQueueDepth() {
+        return commands.size();
+    }
+    
+    /**
+     * Logs a statistics summary for the current tick and flushes the log,
+     * so the files on disk reflect the simulation up to this point.
+     */
+    public void checkpoint() {
+        runBetweenTicks(() -> {
+            logger.info(LogCategory.STATISTICS, "Checkpoint at tick {} (day {}): living plants {}/{}, pests {}",
+                       elapsedTicks.get(), dayCounter.get(), garden.getLivingPlantCount(),
+                       garden.getTotalPlants(), pestControlSystem.getHarmfulPestCount());
+            logger.info(LogCategory.STATISTICS, "Water used: {}L, pesticide used: {}, heating energy: {}, cooling energy: {}",
+                       resourceLedger.getTotalConsumed(ResourceType.WATER),
+                       pestControlSystem.getResourceLedger().getTotalConsumed(ResourceType.PESTICIDE),
+                       heatingSystem.getEnergyConsumption(), coolingSystem.getEnergyConsumption());
+        });
+        logger.flush();
     }
     
     /**
@@ -185,37 +383,89 @@ public class HeadlessSimulationEngine {
             scheduler.shutdownNow();
             Thread.currentThread().interrupt();
         }
-        logger.info("Simulation", "Headless simulation stopped at tick " + elapsedTicks.get());
+        // The simulation thread is gone; run what it left behind here
+        commands.drain();
+        logger.setSimulationTick(-1);
+        logger.info(LogCategory.SIMULATION, "Headless simulation stopped at tick {}", elapsedTicks.get());
     }
     
     /**
-     * Main simulation tick - same logic as SimulationEngine.tick()
-     * Called every BASE_TICK_INTERVAL_MS milliseconds.
+     * Runs exactly one tick on the caller's thread. For tests, benchmarks and
+     * other callers that drive the simulation themselves.
+     *
+     * @throws IllegalStateException if the simulation loop is running
+     */
+    public void step() {
+        if (isRunning) {
+            throw new IllegalStateException("Cannot step while the simulation loop is running");
+        }
+        runTick();
+    }
+    
+    /**
+     * Scheduled tick; does nothing once the loop has been stopped.
      */
     private void tick() {
         if (!isRunning) {
             return;
         }
-        
+        runTick();
+    }
+    
+    /**
+     * Main simulation tick - same logic as SimulationEngine.tick()
+     * Called every BASE_TICK_INTERVAL_MS milliseconds.
+     */
+    private void runTick() {
+        long startNanos = System.nanoTime();
+        TickEvent tickEvent = TickEvent.start("headless");
         try {
-            elapsedTicks.incrementAndGet();
+            // Install a reloaded config before anything reads it this tick
+            ConfigReloader reloader = configReloader;
+            if (reloader != null) {
+                reloader.applyPending(garden);
+            }
+            
+            // Apply mutations queued by other threads since the last tick
+            commands.drain();
+            
+            long tick = elapsedTicks.incrementAndGet();
+            logger.setSimulationTick(tick);
+            logger.setSimulationDay(dayCounter.get());
             ticksPerDay++;
             
             // Advance simulation time by 1 minute
             simulationTime = simulationTime.plusMinutes(1);
             
             // Update all plants (water decreases, health updates)
+            TickPhaseEvent phase = TickPhaseEvent.start(tick, "plants");
             updatePlants();
+            phase.commit();
             
             // Update all systems
+            phase = TickPhaseEvent.start(tick, "watering");
             wateringSystem.checkAndWater();
+            phase.commit();
+            phase = TickPhaseEvent.start(tick, "heating");
             heatingSystem.update();
+            phase.commit();
+            phase = TickPhaseEvent.start(tick, "cooling");
             coolingSystem.update();
+            phase.commit();
+            phase = TickPhaseEvent.start(tick, "pestControl");
             pestControlSystem.update();
+            phase.commit();
+            phase = TickPhaseEvent.start(tick, "weather");
             weatherSystem.update();
+            phase.commit();
             
-            // Auto-refill water and pesticide if below threshold
-            autoRefillSupplies();
+            // Apply reservoir refill policies and roll consumption buckets
+            phase = TickPhaseEvent.start(tick, "resources");
+            resourceLedger.tick();
+            if (pestControlSystem.getResourceLedger() != resourceLedger) {
+                pestControlSystem.getResourceLedger().tick();
+            }
+            phase.commit();
             
             // Check for new day
             if (ticksPerDay >= TICKS_PER_SIM_DAY) {
@@ -225,20 +475,45 @@ public class HeadlessSimulationEngine {
             
             // Update garden living count
             garden.updateLivingCount();
+            GardenSnapshot published = capture(tick);
+            snapshot = published;
+            SimulationMetrics.recordTick(startNanos, published, resourceLedger, pestControlSystem);
+            recordTickTime(System.nanoTime() - startNanos);
+            tickEvent.finish(tick, dayCounter.get(), garden.getLivingPlantCount());
             
             // Log every 100 ticks
             if (elapsedTicks.get() % 100 == 0) {
-                logger.debug("Simulation", "Headless Tick " + elapsedTicks.get() + 
+                logger.debug(LogCategory.SIMULATION, () -> "Headless Tick " + elapsedTicks.get() + 
                             " | Day " + dayCounter.get() + 
                             " | Living plants: " + garden.getLivingPlants().size());
             }
             
         } catch (Exception e) {
-            logger.logException("Simulation", "Error during headless tick " + elapsedTicks.get(), e);
+            SimulationMetrics.recordTickError();
+            logger.logException(LogCategory.SIMULATION, "Error during headless tick " + elapsedTicks.get(), e);
             // Continue simulation despite errors
         }
     }
     
+    /**
+     * Copies the garden for readers on other threads. Runs on the tick thread.
+     */
+    private GardenSnapshot capture(long tick) {
+        return GardenSnapshot.capture(tick, dayCounter.get(), simulationTime, garden,
+            weatherSystem.getCurrentWeather(), pestControlSystem.getHarmfulPestCount());
+    }
+    
+    /**
+     * Tracks tick latency for monitoring. Only the tick thread writes these.
+     */
+    private void recordTickTime(long nanos) {
+        lastTickNanos = nanos;
+        totalTickNanos += nanos;
+        if (nanos > maxTickNanos) {
+            maxTickNanos = nanos;
+        }
+    }
+    
     /**
      * Updates all plants in the garden.
      * This causes water to decrease, health to update based on conditions.
@@ -254,8 +529,8 @@ public class HeadlessSimulationEngine {
      */
     private void advanceDay() {
         int day = dayCounter.incrementAndGet();
-        logger.info("Simulation", "Headless Day " + day + " complete. Living plants: " + 
-                   garden.getLivingPlants().size() + "/" + garden.getTotalPlants());
+        logger.info(LogCategory.SIMULATION, "Headless Day {} complete. Living plants: {}/{}",
+                   day, garden.getLivingPlants().size(), garden.getTotalPlants());
         
         // Advance all plants by one day
         for (Plant plant : garden.getAllPlants()) {
@@ -263,37 +538,8 @@ public class HeadlessSimulationEngine {
         }
     }
     
-    /**
-     * Automatically refills water and pesticide supplies when they drop below threshold.
-     * Same logic as SimulationEngine.
-     */
-    private void autoRefillSupplies() {
-        // Water supply threshold: 20% of initial (2000L out of 10000L)
-        final int WATER_THRESHOLD = 2000;
-        final int INITIAL_WATER = 10000;
-        
-        int currentWater = wateringSystem.getWaterSupply();
-        if (currentWater < WATER_THRESHOLD) {
-            int refillAmount = INITIAL_WATER - currentWater;
-            wateringSystem.refillWater(refillAmount);
-            logger.info("Simulation", "Auto-refilled water supply: " + currentWater + "L -> " + 
-                       INITIAL_WATER + "L");
-        }
-        
-        // Pesticide stock threshold: 20% of initial (10 out of 50)
-        final int PESTICIDE_THRESHOLD = 10;
-        final int INITIAL_PESTICIDE = 50;
-        
-        int currentPesticide = pestControlSystem.getPesticideStock();
-        if (currentPesticide < PESTICIDE_THRESHOLD) {
-            int refillAmount = INITIAL_PESTICIDE - currentPesticide;
-            pestControlSystem.refillPesticide(refillAmount);
-            logger.info("Simulation", "Auto-refilled pesticide stock: " + currentPesticide + " -> " + 
-                       INITIAL_PESTICIDE);
-        }
-    }
-    
     // Getters for systems (same interface as SimulationEngine)
+    public ResourceLedger getResourceLedger() { return resourceLedger; }
     public WateringSystem getWateringSystem() { return wateringSystem; }
     public HeatingSystem getHeatingSystem() { return heatingSystem; }
     public CoolingSystem getCoolingSystem() { return coolingSystem; }
@@ -305,5 +551,22 @@ public class HeadlessSimulationEngine {
     public long getElapsedTicks() { return elapsedTicks.get(); }
     public int getDayCounter() { return dayCounter.get(); }
     public LocalDateTime getSimulationTime() { return simulationTime; }
+    
+    /**
+     * Gets the garden as of the last completed tick. Safe to call from any
+     * thread while the simulation runs; never blocks the tick thread.
+     */
+    public GardenSnapshot getSnapshot() { return snapshot; }
+    public int getSpeedMultiplier() { return speedMultiplier; }
+    public long getLastTickNanos() { return lastTickNanos; }
+    public long getMaxTickNanos() { return maxTickNanos; }
+    
+    /**
+     * Gets the mean tick duration in nanoseconds, or 0 before the first tick.
+     */
+    public long getAverageTickNanos() {
+        long ticks = elapsedTicks.get();
+        return ticks > 0 ? totalTickNanos / ticks : 0;
+    }
 }
 
@@ -1,11 +1,16 @@
 package edu.scu.csen275.smartgarden.simulation;
 
+import edu.scu.csen275.smartgarden.jfr.TickEvent;
+import edu.scu.csen275.smartgarden.jfr.TickPhaseEvent;
 import edu.scu.csen275.smartgarden.model.Garden;
 import edu.scu.csen275.smartgarden.model.Plant;
+import edu.scu.csen275.smartgarden.resource.ResourceLedger;
+import edu.scu.csen275.smartgarden.resource.ResourceType;
 import edu.scu.csen275.smartgarden.system.CoolingSystem;
 import edu.scu.csen275.smartgarden.system.HeatingSystem;
 import edu.scu.csen275.smartgarden.system.PestControlSystem;
 import edu.scu.csen275.smartgarden.system.WateringSystem;
+import edu.scu.csen275.smartgarden.util.LogCategory;
 import edu.scu.csen275.smartgarden.util.Logger;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
@@ -20,6 +25,7 @@ import java.time.format.DateTimeFormatter;
  */
 public class SimulationEngine {
     private final Garden garden;
+    private final ResourceLedger resourceLedger;
     private final WateringSystem wateringSystem;
     private final HeatingSystem heatingSystem;
     private final CoolingSystem coolingSystem;
@@ -34,6 +40,7 @@ public class SimulationEngine {
     
     private int ticksPerDay;
     private int dayCounter;
+    private volatile GardenSnapshot snapshot = GardenSnapshot.EMPTY;
     
     private static final Logger logger = Logger.getInstance();
     private static final int BASE_TICK_INTERVAL_MS = 1000; // 1 second real time = 1 minute sim time at 1x
@@ -44,10 +51,11 @@ public class SimulationEngine {
      */
     public SimulationEngine(Garden garden) {
         this.garden = garden;
-        this.wateringSystem = new WateringSystem(garden);
+        this.resourceLedger = ResourceLedger.createDefault();
+        this.wateringSystem = new WateringSystem(garden, resourceLedger);
         this.heatingSystem = new HeatingSystem(garden);
         this.coolingSystem = new CoolingSystem(garden);
-        this.pestControlSystem = new PestControlSystem(garden);
+        this.pestControlSystem = new PestControlSystem(garden, resourceLedger);
         this.weatherSystem = new WeatherSystem(garden, this.heatingSystem, this.coolingSystem);
         
         // Connect weather system to watering system (so watering skips when raining)
@@ -67,7 +75,7 @@ public class SimulationEngine {
         );
         timeline.setCycleCount(Timeline.INDEFINITE);
         
-        logger.info("Simulation", "Simulation engine created and ready");
+        logger.info(LogCategory.SIMULATION, "Simulation engine created and ready");
     }
     
     /**
@@ -75,18 +83,19 @@ public class SimulationEngine {
      */
     public void start() {
         if (state.get() == SimulationState.RUNNING) {
-            logger.warning("Simulation", "Simulation already running");
+            logger.warning(LogCategory.SIMULATION, "Simulation already running");
             return;
         }
         
         if (garden.getLivingPlants().isEmpty()) {
-            logger.warning("Simulation", "Cannot start - no plants in garden");
+            logger.warning(LogCategory.SIMULATION, "Cannot start - no plants in garden");
             throw new IllegalStateException("Garden must have at least one plant");
         }
         
+        snapshot = capture(elapsedTicks.get());
         state.set(SimulationState.RUNNING);
         timeline.play();
-        logger.info("Simulation", "Simulation started at speed " + speedMultiplier.get() + "x");
+        logger.info(LogCategory.SIMULATION, "Simulation started at speed {}x", speedMultiplier.get());
     }
     
     /**
@@ -99,7 +108,8 @@ public class SimulationEngine {
         
         state.set(SimulationState.PAUSED);
         timeline.pause();
-        logger.info("Simulation", "Simulation paused at tick " + elapsedTicks.get());
+        logger.setSimulationTick(-1);
+        logger.info(LogCategory.SIMULATION, "Simulation paused at tick {}", elapsedTicks.get());
     }
     
     /**
@@ -110,9 +120,10 @@ public class SimulationEngine {
             return;
         }
         
+        snapshot = capture(elapsedTicks.get());
         state.set(SimulationState.RUNNING);
         timeline.play();
-        logger.info("Simulation", "Simulation resumed");
+        logger.info(LogCategory.SIMULATION, "Simulation resumed");
     }
     
     /**
@@ -121,8 +132,9 @@ public class SimulationEngine {
     public void stop() {
         state.set(SimulationState.STOPPED);
         timeline.stop();
-        logger.info("Simulation", "Simulation stopped. Total ticks: " + elapsedTicks.get() + 
-                   ", Days: " + dayCounter);
+        logger.setSimulationTick(-1);
+        logger.info(LogCategory.SIMULATION, "Simulation stopped. Total ticks: {}, Days: {}",
+                   elapsedTicks.get(), dayCounter);
         
         // Log final statistics
         logStatistics();
@@ -138,32 +150,51 @@ public class SimulationEngine {
         
         speedMultiplier.set(multiplier);
         timeline.setRate(multiplier);
-        logger.info("Simulation", "Speed set to " + multiplier + "x");
+        logger.info(LogCategory.SIMULATION, "Speed set to {}x", multiplier);
     }
     
     /**
      * Main simulation tick - called every interval.
      */
     private void tick() {
+        long startNanos = System.nanoTime();
+        TickEvent tickEvent = TickEvent.start("ui");
         try {
             elapsedTicks.set(elapsedTicks.get() + 1);
+            long tick = elapsedTicks.get();
             ticksPerDay++;
+            logger.setSimulationTick(elapsedTicks.get());
+            logger.setSimulationDay(dayCounter);
             
             // Advance simulation time by 1 minute
             simulationTime.set(simulationTime.get().plusMinutes(1));
             
             // Update all plants
+            TickPhaseEvent phase = TickPhaseEvent.start(tick, "plants");
             updatePlants();
+            phase.commit();
             
             // Update all systems
+            phase = TickPhaseEvent.start(tick, "watering");
             wateringSystem.checkAndWater();
+            phase.commit();
+            phase = TickPhaseEvent.start(tick, "heating");
             heatingSystem.update();
+            phase.commit();
+            phase = TickPhaseEvent.start(tick, "cooling");
             coolingSystem.update();
+            phase.commit();
+            phase = TickPhaseEvent.start(tick, "pestControl");
             pestControlSystem.update();
+            phase.commit();
+            phase = TickPhaseEvent.start(tick, "weather");
             weatherSystem.update();
+            phase.commit();
             
-            // Auto-refill water and pesticide if below threshold
-            autoRefillSupplies();
+            // Apply reservoir refill policies and roll consumption buckets
+            phase = TickPhaseEvent.start(tick, "resources");
+            resourceLedger.tick();
+            phase.commit();
             
             // Check for new day
             if (ticksPerDay >= TICKS_PER_SIM_DAY / speedMultiplier.get()) {
@@ -173,47 +204,31 @@ public class SimulationEngine {
             
             // Update garden living count
             garden.updateLivingCount();
+            GardenSnapshot published = capture(tick);
+            snapshot = published;
+            SimulationMetrics.recordTick(startNanos, published, resourceLedger, pestControlSystem);
+            tickEvent.finish(tick, dayCounter, garden.getLivingPlantCount());
             
             // Log every 100 ticks
             if (elapsedTicks.get() % 100 == 0) {
-                logger.debug("Simulation", "Tick " + elapsedTicks.get() + 
+                logger.debug(LogCategory.SIMULATION, () -> "Tick " + elapsedTicks.get() + 
                             " | Day " + dayCounter + 
                             " | Living plants: " + garden.getLivingPlants().size());
             }
             
         } catch (Exception e) {
-            logger.logException("Simulation", "Error during tick " + elapsedTicks.get(), e);
+            SimulationMetrics.recordTickError();
+            logger.logException(LogCategory.SIMULATION, "Error during tick " + elapsedTicks.get(), e);
             // Continue simulation despite errors
         }
     }
     
     /**
-     * Automatically refills water and pesticide supplies when they drop below threshold.
+     * Copies the garden for readers off the FX thread.
      */
-    private void autoRefillSupplies() {
-        // Water supply threshold: 20% of initial (2000L out of 10000L)
-        final int WATER_THRESHOLD = 2000;
-        final int INITIAL_WATER = 10000;
-        
-        int currentWater = wateringSystem.getWaterSupply();
-        if (currentWater < WATER_THRESHOLD) {
-            int refillAmount = INITIAL_WATER - currentWater;
-            wateringSystem.refillWater(refillAmount);
-            logger.info("Simulation", "Auto-refilled water supply: " + currentWater + "L -> " + 
-                       INITIAL_WATER + "L");
-        }
-        
-        // Pesticide stock threshold: 20% of initial (10 out of 50)
-        final int PESTICIDE_THRESHOLD = 10;
-        final int INITIAL_PESTICIDE = 50;
-        
-        int currentPesticide = pestControlSystem.getPesticideStock();
-        if (currentPesticide < PESTICIDE_THRESHOLD) {
-            int refillAmount = INITIAL_PESTICIDE - currentPesticide;
-            pestControlSystem.refillPesticide(refillAmount);
-            logger.info("Simulation", "Auto-refilled pesticide stock: " + currentPesticide + " -> " + 
-                       INITIAL_PESTICIDE);
-        }
+    private GardenSnapshot capture(long tick) {
+        return GardenSnapshot.capture(tick, dayCounter, simulationTime.get(), garden,
+            weatherSystem.getCurrentWeather(), pestControlSystem.getHarmfulPestCount());
     }
     
     /**
@@ -230,8 +245,8 @@ public class SimulationEngine {
      */
     private void advanceDay() {
         dayCounter++;
-        logger.info("Simulation", "Day " + dayCounter + " complete. Living plants: " + 
-                   garden.getLivingPlants().size() + "/" + garden.getTotalPlants());
+        logger.info(LogCategory.SIMULATION, "Day {} complete. Living plants: {}/{}",
+                   dayCounter, garden.getLivingPlants().size(), garden.getTotalPlants());
         
         // Advance all plants by one day
         for (Plant plant : garden.getAllPlants()) {
@@ -243,21 +258,18 @@ public class SimulationEngine {
      * Logs simulation statistics.
      */
     private void logStatistics() {
-        logger.info("Statistics", "=== Simulation Summary ===");
-        logger.info("Statistics", "Total ticks: " + elapsedTicks.get());
-        logger.info("Statistics", "Days elapsed: " + dayCounter);
-        logger.info("Statistics", "Total plants: " + garden.getTotalPlants());
-        logger.info("Statistics", "Living plants: " + garden.getLivingPlants().size());
-        logger.info("Statistics", "Dead plants: " + garden.getDeadPlants().size());
-        logger.info("Statistics", "Water used: " + 
-                   (10000 - wateringSystem.getWaterSupply()) + "L");
-        logger.info("Statistics", "Heating energy used: " + 
-                   heatingSystem.getEnergyConsumption() + " units");
-        logger.info("Statistics", "Cooling energy used: " + 
-                   coolingSystem.getEnergyConsumption() + " units");
-        logger.info("Statistics", "Pesticide used: " + 
-                   (50 - pestControlSystem.getPesticideStock()) + " applications");
-        logger.info("Statistics", "=========================");
+        logger.info(LogCategory.STATISTICS, "=== Simulation Summary ===");
+        logger.info(LogCategory.STATISTICS, "Total ticks: {}", elapsedTicks.get());
+        logger.info(LogCategory.STATISTICS, "Days elapsed: {}", dayCounter);
+        logger.info(LogCategory.STATISTICS, "Total plants: {}", garden.getTotalPlants());
+        logger.info(LogCategory.STATISTICS, "Living plants: {}", garden.getLivingPlants().size());
+        logger.info(LogCategory.STATISTICS, "Dead plants: {}", garden.getDeadPlants().size());
+        logger.info(LogCategory.STATISTICS, "Water used: {}L", resourceLedger.getTotalConsumed(ResourceType.WATER));
+        logger.info(LogCategory.STATISTICS, "Heating energy used: {} units", heatingSystem.getEnergyConsumption());
+        logger.info(LogCategory.STATISTICS, "Cooling energy used: {} units", coolingSystem.getEnergyConsumption());
+        logger.info(LogCategory.STATISTICS, "Pesticide used: {} applications",
+                   resourceLedger.getTotalConsumed(ResourceType.PESTICIDE));
+        logger.info(LogCategory.STATISTICS, "=========================");
     }
     
     // System getters
@@ -265,6 +277,10 @@ public class SimulationEngine {
         return garden;
     }
     
+    public ResourceLedger getResourceLedger() {
+        return resourceLedger;
+    }
+    
     public WateringSystem getWateringSystem() {
         return wateringSystem;
     }
@@ -322,7 +338,15 @@ public class SimulationEngine {
     public int getDayCounter() {
         return dayCounter;
     }
-    
+
+    /**
+     * Gets the garden as of the last completed tick. Safe to read from any
+     * thread without going through the FX thread.
+     */
+    public GardenSnapshot getSnapshot() {
+        return snapshot;
+    }
+
     /**
      * Gets formatted simulation time string.
      */
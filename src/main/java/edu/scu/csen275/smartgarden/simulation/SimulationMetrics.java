@@ -0,0 +1,86 @@
+package edu.scu.csen275.smartgarden.simulation;
+
+import edu.scu.csen275.smartgarden.metrics.Counter;
+import edu.scu.csen275.smartgarden.metrics.Gauge;
+import edu.scu.csen275.smartgarden.metrics.Histogram;
+import edu.scu.csen275.smartgarden.metrics.MetricsRegistry;
+import edu.scu.csen275.smartgarden.resource.ResourceLedger;
+import edu.scu.csen275.smartgarden.resource.ResourceType;
+import edu.scu.csen275.smartgarden.system.PestControlSystem;
+
+/**
+ * Tick metrics shared by the UI and headless engines. Gauges are set from
+ * the tick thread once the tick completes, so metric readers only ever see
+ * the published values and never touch the garden.
+ */
+final class SimulationMetrics {
+    private static final MetricsRegistry registry = MetricsRegistry.getInstance();
+
+    private static final Counter ticks = registry.counter(
+        "garden_ticks_total", "Simulation ticks completed");
+    private static final Counter tickErrors = registry.counter(
+        "garden_tick_errors_total", "Simulation ticks that threw an exception");
+    private static final Histogram tickDuration = registry.histogram(
+        "garden_tick_duration_seconds", "Wall-clock time spent in one simulation tick",
+        MetricsRegistry.TICK_SECONDS_BUCKETS);
+    private static final Gauge simulationDay = registry.gauge(
+        "garden_simulation_day", "Current simulated day");
+    private static final Gauge livingPlants = registry.gauge(
+        "garden_living_plants", "Plants currently alive");
+    private static final Gauge totalPlants = registry.gauge(
+        "garden_plants", "Plants in the garden, alive or dead");
+    private static final Gauge activePests = registry.gauge(
+        "garden_active_pests", "Live pests in the garden");
+    private static final Gauge waterLevel = registry.gauge(
+        "garden_water_level_liters", "Water left across all reservoirs");
+    private static final Gauge pesticideLevel = registry.gauge(
+        "garden_pesticide_level", "Pesticide left across all stores");
+    private static final Gauge commandQueueDepth = registry.gauge(
+        "garden_command_queue_depth", "Commands waiting for the simulation thread");
+    private static final Counter commandsRejected = registry.counter(
+        "garden_commands_rejected_total", "Commands refused because the queue stayed full");
+    private static final Counter commandErrors = registry.counter(
+        "garden_command_errors_total", "Queued commands that threw an exception");
+    private static final Histogram commandLatency = registry.histogram(
+        "garden_command_queue_latency_seconds", "Time a command waited in the queue before it ran",
+        MetricsRegistry.TICK_SECONDS_BUCKETS);
+
+    private SimulationMetrics() {
+    }
+
+    /**
+     * Records a completed tick and publishes the garden gauges from the
+     * tick's snapshot.
+     */
+    static void recordTick(long startNanos, GardenSnapshot snapshot, ResourceLedger ledger,
+                           PestControlSystem pestControlSystem) {
+        ticks.increment();
+        simulationDay.set(snapshot.getDay());
+        livingPlants.set(snapshot.getLivingPlants());
+        totalPlants.set(snapshot.size());
+        activePests.set(snapshot.getActivePests());
+        waterLevel.set(ledger.getLevel(ResourceType.WATER));
+        pesticideLevel.set(pestControlSystem.getResourceLedger().getLevel(ResourceType.PESTICIDE));
+        tickDuration.observeNanos(System.nanoTime() - startNanos);
+    }
+
+    static void recordTickError() {
+        tickErrors.increment();
+    }
+
+    static void recordCommandQueued(int depth) {
+        commandQueueDepth.set(depth);
+    }
+
+    static void recordCommandLatency(long nanos) {
+        commandLatency.observeNanos(nanos);
+    }
+
+    static void recordCommandRejected() {
+        commandsRejected.increment();
+    }
+
+    static void recordCommandError() {
+        commandErrors.increment();
+    }
+}
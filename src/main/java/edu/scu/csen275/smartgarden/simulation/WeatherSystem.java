@@ -1,14 +1,20 @@
 package edu.scu.csen275.smartgarden.simulation;
 
+import edu.scu.csen275.smartgarden.jfr.WeatherChangeEvent;
+import edu.scu.csen275.smartgarden.metrics.Counter;
+import edu.scu.csen275.smartgarden.metrics.MetricsRegistry;
 import edu.scu.csen275.smartgarden.model.Garden;
 import edu.scu.csen275.smartgarden.model.Plant;
 import edu.scu.csen275.smartgarden.system.CoolingSystem;
 import edu.scu.csen275.smartgarden.system.HeatingSystem;
+import edu.scu.csen275.smartgarden.util.LogCategory;
 import edu.scu.csen275.smartgarden.util.Logger;
 import javafx.animation.*;
 import javafx.beans.property.*;
 import javafx.util.Duration;
 import java.util.Random;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Simulates dynamic weather conditions that affect plant growth.
@@ -25,8 +31,13 @@ public class WeatherSystem {
     private boolean rotateSunnyRainyMode = false; // Rotate between sunny and rainy every minute
     private boolean apiModeEnabled = false; // When enabled, automatic weather changes are disabled
     private Timeline realTimeRotationTimer; // Timer for real-world time rotation
+    private volatile Executor commandExecutor = Runnable::run;
     
     private static final Logger logger = Logger.getInstance();
+    private static final Counter weatherChanges = MetricsRegistry.getInstance()
+        .counter("garden_weather_changes_total", "Times the weather changed");
+    private static final Counter rainyTicks = MetricsRegistry.getInstance()
+        .counter("garden_rainy_ticks_total", "Simulation ticks spent raining");
     private static final int MIN_WEATHER_DURATION = 30; // minutes
     private static final int MAX_WEATHER_DURATION = 120; // minutes
     
@@ -49,12 +60,34 @@ public class WeatherSystem {
         this.weatherDuration = 60;
         this.random = new Random();
         
-        logger.info("Weather", "Weather system initialized. Current: " + Weather.SUNNY);
+        // Counts every change, whether from ticks, the rotation timer or the API
+        currentWeather.addListener((obs, oldWeather, newWeather) -> {
+            weatherChanges.increment();
+            WeatherChangeEvent event = new WeatherChangeEvent();
+            if (event.shouldCommit()) {
+                event.from = oldWeather.name();
+                event.to = newWeather.name();
+                event.commit();
+            }
+        });
+        
+        logger.info(LogCategory.WEATHER, "Weather system initialized. Current: {}", Weather.SUNNY);
         
         // Set initial temperature based on initial weather
         applyTemperatureForWeather(Weather.SUNNY);
     }
     
+    /**
+     * Sets where real-time weather rotations run. Defaults to the timer's
+     * own thread; the headless engine routes them to its command queue.
+     */
+    public void setCommandExecutor(Executor executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor cannot be null");
+        }
+        this.commandExecutor = executor;
+    }
+    
     /**
      * Sets whether API mode is enabled.
      * When enabled, automatic weather changes are disabled (weather only via API calls).
@@ -103,6 +136,7 @@ public class WeatherSystem {
         
         // Apply weather effects - rain should water plants continuously
         if (currentWeather.get() == Weather.RAINY) {
+            rainyTicks.increment();
             // When raining, water plants every tick (every minute)
             applyWeatherEffects();
         } else {
@@ -126,7 +160,7 @@ public class WeatherSystem {
         currentWeather.set(Weather.RAINY);
         garden.setWeather(Weather.RAINY.name());
         weatherDuration = 1; // 1 minute duration
-        logger.info("Weather", "TEST MODE ENABLED: Rain will occur every 1 minute for testing");
+        logger.info(LogCategory.WEATHER, "TEST MODE ENABLED: Rain will occur every 1 minute for testing");
     }
     
     /**
@@ -135,7 +169,7 @@ public class WeatherSystem {
     public void disableRainTestMode() {
         rainTestMode = false;
         rotateSunnyRainyMode = false;
-        logger.info("Weather", "TEST MODE DISABLED: Returning to normal weather behavior");
+        logger.info(LogCategory.WEATHER, "TEST MODE DISABLED: Returning to normal weather behavior");
     }
     
     /**
@@ -159,31 +193,42 @@ public class WeatherSystem {
         // Create real-time timer that rotates weather every 60 seconds (1 actual minute)
         realTimeRotationTimer = new Timeline(
             new KeyFrame(Duration.seconds(60), e -> {
-                // Rotate weather every 60 seconds: SUNNY → RAINY → SNOWY → SUNNY
-                Weather current = currentWeather.get();
-                Weather newWeather;
-                if (current == Weather.SUNNY) {
-                    newWeather = Weather.RAINY;
-                } else if (current == Weather.RAINY) {
-                    newWeather = Weather.SNOWY;
-                } else { // SNOWY
-                    newWeather = Weather.SUNNY;
+                try {
+                    commandExecutor.execute(this::rotateWeather);
+                } catch (RejectedExecutionException ex) {
+                    logger.warning(LogCategory.WEATHER, "Weather rotation skipped: {}", ex.getMessage());
                 }
-                
-                // Set temperature for the new weather
-                applyTemperatureForWeather(newWeather);
-                
-                previousWeather = current;
-                currentWeather.set(newWeather);
-                garden.setWeather(newWeather.name());
-                logger.info("Weather", "REAL-TIME ROTATION: Weather changed from " + current + " to " + 
-                           newWeather + " (after 1 actual minute)");
             })
         );
         realTimeRotationTimer.setCycleCount(Timeline.INDEFINITE);
         realTimeRotationTimer.play();
         
-        logger.info("Weather", "REAL-TIME ROTATION MODE ENABLED: Weather will rotate between SUNNY → RAINY → SNOWY every 1 actual minute (60 seconds)");
+        logger.info(LogCategory.WEATHER, "REAL-TIME ROTATION MODE ENABLED: Weather will rotate between SUNNY → RAINY → SNOWY every 1 actual minute (60 seconds)");
+    }
+    
+    /**
+     * Rotates the weather SUNNY → RAINY → SNOWY → SUNNY. Fired by the
+     * real-time timer through the command executor.
+     */
+    private void rotateWeather() {
+        Weather current = currentWeather.get();
+        Weather newWeather;
+        if (current == Weather.SUNNY) {
+            newWeather = Weather.RAINY;
+        } else if (current == Weather.RAINY) {
+            newWeather = Weather.SNOWY;
+        } else { // SNOWY
+            newWeather = Weather.SUNNY;
+        }
+        
+        // Set temperature for the new weather
+        applyTemperatureForWeather(newWeather);
+        
+        previousWeather = current;
+        currentWeather.set(newWeather);
+        garden.setWeather(newWeather.name());
+        logger.info(LogCategory.WEATHER, "REAL-TIME ROTATION: Weather changed from {} to {} (after 1 actual minute)",
+                   current, newWeather);
     }
     
     /**
@@ -195,7 +240,7 @@ public class WeatherSystem {
             realTimeRotationTimer.stop();
             realTimeRotationTimer = null;
         }
-        logger.info("Weather", "ROTATION MODE DISABLED: Returning to normal weather behavior");
+        logger.info(LogCategory.WEATHER, "ROTATION MODE DISABLED: Returning to normal weather behavior");
     }
     
     /**
@@ -216,20 +261,20 @@ public class WeatherSystem {
                 newWeather = Weather.SUNNY;
             }
             weatherDuration = 1; // 1 minute
-            logger.info("Weather", "ROTATION MODE: Weather changed from " + oldWeather + " to " + 
-                       newWeather + " (Duration: 1 min)");
+            logger.info(LogCategory.WEATHER, "ROTATION MODE: Weather changed from {} to {} (Duration: 1 min)",
+                       oldWeather, newWeather);
         }
         // TEST MODE: Force rain every minute
         else if (rainTestMode) {
             newWeather = Weather.RAINY;
             weatherDuration = 1; // 1 minute
-            logger.info("Weather", "TEST MODE: Weather forced to RAINY (Duration: 1 min)");
+            logger.info(LogCategory.WEATHER, "TEST MODE: Weather forced to RAINY (Duration: 1 min)");
         } else {
             newWeather = generateNextWeather(oldWeather);
             weatherDuration = MIN_WEATHER_DURATION + 
                              random.nextInt(MAX_WEATHER_DURATION - MIN_WEATHER_DURATION);
-            logger.info("Weather", "Weather changed from " + oldWeather + " to " + 
-                       newWeather + " (Duration: " + weatherDuration + " min)");
+            logger.info(LogCategory.WEATHER, "Weather changed from {} to {} (Duration: {} min)",
+                       oldWeather, newWeather, weatherDuration);
         }
         
         // Set temperature immediately when weather changes
@@ -264,7 +309,7 @@ public class WeatherSystem {
                 coolingSystem.setAmbientTemperature(targetTemp);
             }
             if (!apiModeEnabled) {
-                logger.info("Weather", "SUNNY weather: Temperature set to " + targetTemp + "°C");
+                logger.info(LogCategory.WEATHER, "SUNNY weather: Temperature set to {}°C", targetTemp);
             }
             // Turn off heating when sunny (temp >= 17°C threshold)
             heatingSystem.update(); // This will deactivate heating
@@ -278,7 +323,7 @@ public class WeatherSystem {
                 coolingSystem.setAmbientTemperature(targetTemp);
             }
             if (!apiModeEnabled) {
-                logger.info("Weather", "RAINY weather: Temperature set to " + targetTemp + "°C");
+                logger.info(LogCategory.WEATHER, "RAINY weather: Temperature set to {}°C", targetTemp);
             }
             // Heating will activate (temp < 15°C, deficit = 5 = LOW mode)
             heatingSystem.update();
@@ -292,7 +337,7 @@ public class WeatherSystem {
                 coolingSystem.setAmbientTemperature(targetTemp);
             }
             if (!apiModeEnabled) {
-                logger.info("Weather", "SNOWY weather: Temperature set to " + targetTemp + "°C");
+                logger.info(LogCategory.WEATHER, "SNOWY weather: Temperature set to {}°C", targetTemp);
             }
             // Heating will activate (temp < 15°C, deficit > 10 = HIGH mode)
             heatingSystem.update();
@@ -371,7 +416,7 @@ public class WeatherSystem {
         currentWeather.set(weather);
         garden.setWeather(weather.name());
         weatherDuration = 60;
-        logger.info("Weather", "Weather manually set to " + weather);
+        logger.info(LogCategory.WEATHER, "Weather manually set to {}", weather);
     }
     
     /**
@@ -0,0 +1,220 @@
+package edu.scu.csen275.smartgarden.soak;
+
+import edu.scu.csen275.smartgarden.model.Plant;
+import edu.scu.csen275.smartgarden.simulation.HeadlessSimulationEngine;
+import edu.scu.csen275.smartgarden.system.HarmfulPest;
+import edu.scu.csen275.smartgarden.system.PestControlSystem;
+import edu.scu.csen275.smartgarden.util.LogCategory;
+import edu.scu.csen275.smartgarden.util.Logger;
+import edu.scu.csen275.smartgarden.workload.ScheduledCall;
+import edu.scu.csen275.smartgarden.workload.WeatherChange;
+import edu.scu.csen275.smartgarden.workload.WorkloadGenerator;
+import edu.scu.csen275.smartgarden.workload.WorkloadSpec;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadInfo;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Soak test harness for multi-day headless runs. Builds a garden from a
+ * {@link WorkloadSpec}, then steps a {@link HeadlessSimulationEngine} on the
+ * calling thread as fast as it will go, applying the spec's weather trace
+ * and parasite calls. At regular points it requests a full GC and records
+ * the heap in use, bytes allocated per thread and the thread count, then
+ * hands the samples to a {@link SoakReport}. Run as a program:
+ *
+ * <pre>java edu.scu.csen275.smartgarden.soak.SoakHarness --days 30 --size 50 --report logs/soak.txt</pre>
+ *
+ * The exit status is 1 if the report finds sustained growth.
+ */
+public class SoakHarness {
+    private static final Logger logger = Logger.getInstance();
+    private static final int TICKS_PER_SIM_DAY = 1440;
+
+    private final WorkloadSpec spec;
+    private final int days;
+    private int samplesPerDay = 4;
+    private long maxHeapGrowthBytes = 16L * 1024 * 1024;
+    private int maxThreadGrowth = 4;
+
+    /**
+     * Creates a harness that runs the spec's garden for a number of simulated days.
+     */
+    public SoakHarness(WorkloadSpec spec, int days) {
+        if (days <= 0) {
+            throw new IllegalArgumentException("Soak run must last at least one day");
+        }
+        this.spec = spec;
+        this.days = days;
+    }
+
+    public void setSamplesPerDay(int samplesPerDay) {
+        if (samplesPerDay <= 0 || samplesPerDay > TICKS_PER_SIM_DAY) {
+            throw new IllegalArgumentException("Samples per day must be between 1 and " + TICKS_PER_SIM_DAY);
+        }
+        this.samplesPerDay = samplesPerDay;
+    }
+
+    public void setMaxHeapGrowthBytes(long maxHeapGrowthBytes) {
+        this.maxHeapGrowthBytes = maxHeapGrowthBytes;
+    }
+
+    public void setMaxThreadGrowth(int maxThreadGrowth) {
+        this.maxThreadGrowth = maxThreadGrowth;
+    }
+
+    /**
+     * Runs the soak test and analyzes the samples.
+     */
+    public SoakReport run() {
+        WorkloadGenerator generator = new WorkloadGenerator(spec);
+        long totalTicks = (long) days * TICKS_PER_SIM_DAY;
+        List<WeatherChange> weather = generator.generateWeatherTrace(totalTicks);
+        List<ScheduledCall> parasites = generator.generateCalls(totalTicks).stream()
+            .filter(call -> call.kind() == ScheduledCall.Kind.PARASITE)
+            .toList();
+        SplittableRandom random = new SplittableRandom(spec.getSeed());
+
+        HeadlessSimulationEngine engine = new HeadlessSimulationEngine(generator.createGarden());
+        engine.getWeatherSystem().setApiModeEnabled(true);
+        engine.getPestControlSystem().setApiModeEnabled(true);
+
+        AllocationSampler sampler = new AllocationSampler();
+        Map<Long, Long> allocatedAtStart = sampler.allocatedByThread();
+        long sampleInterval = Math.max(1, TICKS_PER_SIM_DAY / samplesPerDay);
+        List<SoakSample> samples = new ArrayList<>();
+        long startMillis = System.currentTimeMillis();
+        logger.info(LogCategory.SIMULATION, "Soak run started: {} days, {}", days, spec);
+
+        int nextWeather = 0;
+        int nextParasite = 0;
+        samples.add(sampler.sample(0, engine, startMillis));
+        for (long tick = 0; tick < totalTicks; tick++) {
+            while (nextWeather < weather.size() && weather.get(nextWeather).tick() == tick) {
+                weather.get(nextWeather++).applyTo(engine.getWeatherSystem());
+            }
+            while (nextParasite < parasites.size() && parasites.get(nextParasite).tick() == tick) {
+                infest(engine, (String) parasites.get(nextParasite++).argument(), random);
+            }
+            engine.step();
+            if ((tick + 1) % sampleInterval == 0) {
+                samples.add(sampler.sample(tick + 1, engine, startMillis));
+            }
+        }
+
+        engine.stop();
+        logger.info(LogCategory.SIMULATION, "Soak run finished after {} ms", System.currentTimeMillis() - startMillis);
+        return new SoakReport(samples, sampler.allocatedSince(allocatedAtStart), maxHeapGrowthBytes, maxThreadGrowth);
+    }
+
+    /**
+     * Places a pest on a random living plant, as the API's parasite call would.
+     */
+    private static void infest(HeadlessSimulationEngine engine, String pestType, SplittableRandom random) {
+        List<Plant> living = engine.getGarden().getLivingPlants();
+        if (!living.isEmpty()) {
+            Plant plant = living.get(random.nextInt(living.size()));
+            engine.getPestControlSystem().registerPest(new HarmfulPest(pestType, plant.getPosition()));
+        }
+    }
+
+    /**
+     * Reads heap and per-thread allocation figures from the platform beans.
+     */
+    private static final class AllocationSampler {
+        private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        private final com.sun.management.ThreadMXBean threads;
+
+        AllocationSampler() {
+            this.threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            if (threads.isThreadAllocatedMemorySupported()) {
+                threads.setThreadAllocatedMemoryEnabled(true);
+            }
+        }
+
+        SoakSample sample(long tick, HeadlessSimulationEngine engine, long startMillis) {
+            System.gc();
+            long heapAfterGc = memory.getHeapMemoryUsage().getUsed();
+            long allocated = allocatedByThread().values().stream().mapToLong(Long::longValue).sum();
+            return new SoakSample(tick, engine.getDayCounter(), heapAfterGc, allocated,
+                threads.getThreadCount(), engine.getPestControlSystem().getPests().size(),
+                PestControlSystem.getPendingTreatmentCount(), System.currentTimeMillis() - startMillis);
+        }
+
+        Map<Long, Long> allocatedByThread() {
+            Map<Long, Long> result = new HashMap<>();
+            if (!threads.isThreadAllocatedMemoryEnabled()) {
+                return result;
+            }
+            long[] ids = threads.getAllThreadIds();
+            long[] bytes = threads.getThreadAllocatedBytes(ids);
+            for (int i = 0; i < ids.length; i++) {
+                if (bytes[i] >= 0) {
+                    result.put(ids[i], bytes[i]);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Gets bytes allocated by each live thread since the baseline, keyed by thread name.
+         */
+        Map<String, Long> allocatedSince(Map<Long, Long> baseline) {
+            Map<Long, Long> current = allocatedByThread();
+            long[] ids = current.keySet().stream().mapToLong(Long::longValue).toArray();
+            ThreadInfo[] infos = threads.getThreadInfo(ids);
+            Map<String, Long> result = new HashMap<>();
+            for (int i = 0; i < ids.length; i++) {
+                if (infos[i] != null) {
+                    long delta = current.get(ids[i]) - baseline.getOrDefault(ids[i], 0L);
+                    result.merge(infos[i].getThreadName(), delta, Long::sum);
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Runs a soak test from the command line and writes its report.
+     */
+    public static void main(String[] args) throws IOException {
+        WorkloadSpec spec = WorkloadSpec.defaults();
+        int days = 7;
+        int size = 9;
+        Path report = Paths.get("logs", "soak-report.txt");
+        long maxGrowthMb = 16;
+
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--days" -> days = Integer.parseInt(value);
+                case "--size" -> size = Integer.parseInt(value);
+                case "--density" -> spec = spec.density(Double.parseDouble(value));
+                case "--parasites" -> spec = spec.parasitesPerDay(Double.parseDouble(value));
+                case "--seed" -> spec = spec.seed(Long.parseLong(value));
+                case "--report" -> report = Paths.get(value);
+                case "--max-heap-growth-mb" -> maxGrowthMb = Long.parseLong(value);
+                default -> {
+                    System.err.println("Usage: SoakHarness [--days N] [--size N] [--density D] [--parasites N]"
+                        + " [--seed N] [--report FILE] [--max-heap-growth-mb N]");
+                    System.exit(2);
+                }
+            }
+        }
+
+        SoakHarness harness = new SoakHarness(spec.size(size, size), days);
+        harness.setMaxHeapGrowthBytes(maxGrowthMb * 1024 * 1024);
+        SoakReport result = harness.run();
+        result.write(report);
+        System.out.println(result.passed() ? "Soak run passed" : "Soak run FAILED: " + result.getFailures());
+        System.out.println("Report written to " + report.toAbsolutePath());
+        System.exit(result.passed() ? 0 : 1);
+    }
+}
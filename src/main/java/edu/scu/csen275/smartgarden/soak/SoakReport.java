@@ -0,0 +1,175 @@
+package edu.scu.csen275.smartgarden.soak;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Trend analysis of the samples from a soak run.
+ *
+ * The first quarter of the samples is treated as warm-up and ignored. Heap
+ * growth is the least-squares slope of heap-after-GC over the remaining
+ * samples, projected across their span; it only counts as sustained if the
+ * lowest sample in the last third is still above the highest in the first
+ * third, so a single late spike does not fail the run.
+ */
+public class SoakReport {
+    private static final double TICKS_PER_SIM_DAY = 1440.0;
+    private static final int TOP_THREADS = 10;
+
+    private final List<SoakSample> samples;
+    private final Map<String, Long> threadAllocations;
+    private final long maxHeapGrowthBytes;
+    private final int maxThreadGrowth;
+    private final List<String> failures;
+    private final double heapSlopeBytesPerDay;
+    private final long heapGrowthBytes;
+    private final int threadGrowth;
+
+    /**
+     * Analyzes the samples of a run.
+     *
+     * @param samples samples in the order they were taken
+     * @param threadAllocations bytes allocated during the run, by thread name
+     * @param maxHeapGrowthBytes sustained heap growth above which the run fails
+     * @param maxThreadGrowth thread count growth above which the run fails
+     */
+    public SoakReport(List<SoakSample> samples, Map<String, Long> threadAllocations,
+                      long maxHeapGrowthBytes, int maxThreadGrowth) {
+        this.samples = List.copyOf(samples);
+        this.threadAllocations = Map.copyOf(threadAllocations);
+        this.maxHeapGrowthBytes = maxHeapGrowthBytes;
+        this.maxThreadGrowth = maxThreadGrowth;
+        this.failures = new ArrayList<>();
+
+        List<SoakSample> steady = this.samples.subList(this.samples.size() / 4, this.samples.size());
+        if (steady.size() < 3) {
+            heapSlopeBytesPerDay = 0;
+            heapGrowthBytes = 0;
+            threadGrowth = 0;
+            return;
+        }
+
+        heapSlopeBytesPerDay = slope(steady);
+        double spanDays = (steady.get(steady.size() - 1).tick() - steady.get(0).tick()) / TICKS_PER_SIM_DAY;
+        heapGrowthBytes = Math.round(heapSlopeBytesPerDay * spanDays);
+        threadGrowth = steady.get(steady.size() - 1).threadCount() - steady.get(0).threadCount();
+
+        int third = steady.size() / 3;
+        long earlyMax = steady.subList(0, third).stream().mapToLong(SoakSample::heapAfterGcBytes).max().orElse(0);
+        long lateMin = steady.subList(steady.size() - third, steady.size()).stream()
+            .mapToLong(SoakSample::heapAfterGcBytes).min().orElse(0);
+        if (heapGrowthBytes > maxHeapGrowthBytes && lateMin > earlyMax) {
+            failures.add(String.format("Heap after GC grew %s over %.1f days (%s/day), limit %s",
+                formatBytes(heapGrowthBytes), spanDays, formatBytes(Math.round(heapSlopeBytesPerDay)),
+                formatBytes(maxHeapGrowthBytes)));
+        }
+        if (threadGrowth > maxThreadGrowth) {
+            failures.add(String.format("Thread count grew by %d, limit %d", threadGrowth, maxThreadGrowth));
+        }
+    }
+
+    /**
+     * Least-squares slope of heap-after-GC against simulated days.
+     */
+    private static double slope(List<SoakSample> points) {
+        double meanX = 0;
+        double meanY = 0;
+        for (SoakSample sample : points) {
+            meanX += sample.tick() / TICKS_PER_SIM_DAY;
+            meanY += sample.heapAfterGcBytes();
+        }
+        meanX /= points.size();
+        meanY /= points.size();
+        double covariance = 0;
+        double variance = 0;
+        for (SoakSample sample : points) {
+            double dx = sample.tick() / TICKS_PER_SIM_DAY - meanX;
+            covariance += dx * (sample.heapAfterGcBytes() - meanY);
+            variance += dx * dx;
+        }
+        return variance == 0 ? 0 : covariance / variance;
+    }
+
+    public boolean passed() {
+        return failures.isEmpty();
+    }
+
+    public List<String> getFailures() {
+        return List.copyOf(failures);
+    }
+
+    public List<SoakSample> getSamples() {
+        return samples;
+    }
+
+    public double getHeapSlopeBytesPerDay() {
+        return heapSlopeBytesPerDay;
+    }
+
+    public long getHeapGrowthBytes() {
+        return heapGrowthBytes;
+    }
+
+    public int getThreadGrowth() {
+        return threadGrowth;
+    }
+
+    /**
+     * Formats the verdict, the sample table and the heaviest allocating threads.
+     */
+    public String format() {
+        StringBuilder out = new StringBuilder();
+        out.append("Smart Garden soak report\n");
+        out.append("Result: ").append(passed() ? "PASS" : "FAIL").append('\n');
+        for (String failure : failures) {
+            out.append("  - ").append(failure).append('\n');
+        }
+        out.append(String.format("Heap trend: %s/day, %s over the steady window (limit %s)%n",
+            formatBytes(Math.round(heapSlopeBytesPerDay)), formatBytes(heapGrowthBytes), formatBytes(maxHeapGrowthBytes)));
+        out.append(String.format("Thread growth: %d (limit %d)%n%n", threadGrowth, maxThreadGrowth));
+
+        out.append(String.format("%10s %5s %12s %14s %8s %7s %8s %10s%n",
+            "tick", "day", "heapAfterGC", "allocated", "threads", "pests", "pending", "elapsedMs"));
+        for (SoakSample s : samples) {
+            out.append(String.format("%10d %5d %12s %14s %8d %7d %8d %10d%n",
+                s.tick(), s.day(), formatBytes(s.heapAfterGcBytes()), formatBytes(s.allocatedBytes()),
+                s.threadCount(), s.trackedPests(), s.pendingTreatments(), s.elapsedMillis()));
+        }
+
+        out.append("\nAllocated during run, by thread:\n");
+        threadAllocations.entrySet().stream()
+            .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+            .limit(TOP_THREADS)
+            .forEach(e -> out.append(String.format("  %-40s %14s%n", e.getKey(), formatBytes(e.getValue()))));
+        return out.toString();
+    }
+
+    /**
+     * Writes the formatted report to a file, replacing it if it exists.
+     */
+    public void write(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.writeString(file, format(), StandardCharsets.UTF_8);
+    }
+
+    static String formatBytes(long bytes) {
+        long magnitude = Math.abs(bytes);
+        if (magnitude >= 1L << 30) {
+            return String.format("%.2fG", bytes / (double) (1L << 30));
+        } else if (magnitude >= 1L << 20) {
+            return String.format("%.2fM", bytes / (double) (1L << 20));
+        } else if (magnitude >= 1L << 10) {
+            return String.format("%.1fK", bytes / (double) (1L << 10));
+        }
+        return bytes + "B";
+    }
+}
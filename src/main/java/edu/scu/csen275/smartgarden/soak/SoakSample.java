@@ -0,0 +1,17 @@
+package edu.scu.csen275.smartgarden.soak;
+
+/**
+ * One measurement taken during a soak run.
+ *
+ * @param tick simulation ticks completed
+ * @param day simulated day
+ * @param heapAfterGcBytes heap in use right after a requested full GC
+ * @param allocatedBytes bytes allocated so far by all live threads
+ * @param threadCount live threads in the JVM
+ * @param trackedPests pests held by the pest control system, alive or not
+ * @param pendingTreatments headless treatments waiting on the shared scheduler
+ * @param elapsedMillis wall-clock time since the run started
+ */
+public record SoakSample(long tick, int day, long heapAfterGcBytes, long allocatedBytes,
+                         int threadCount, int trackedPests, int pendingTreatments, long elapsedMillis) {
+}
@@ -1,8 +1,11 @@
 package edu.scu.csen275.smartgarden.system;
 
+import edu.scu.csen275.smartgarden.metrics.Counter;
+import edu.scu.csen275.smartgarden.metrics.MetricsRegistry;
 import edu.scu.csen275.smartgarden.model.Garden;
 import edu.scu.csen275.smartgarden.model.Plant;
 import edu.scu.csen275.smartgarden.model.Zone;
+import edu.scu.csen275.smartgarden.util.LogCategory;
 import edu.scu.csen275.smartgarden.util.Logger;
 import javafx.beans.property.*;
 import java.util.HashMap;
@@ -21,6 +24,8 @@ public class CoolingSystem {
     private boolean apiModeEnabled = false; // When enabled, temperature change logs are suppressed
     
     private static final Logger logger = Logger.getInstance();
+    private static final Counter energyUsed = MetricsRegistry.getInstance()
+        .counter("garden_cooling_energy_units_total", "Energy used by the cooling system");
     private static final int DEFAULT_AMBIENT_TEMP = 20;
     
     /**
@@ -34,7 +39,7 @@ public class CoolingSystem {
         this.energyConsumption = new SimpleIntegerProperty(0);
         
         initializeSensors();
-        logger.info("Cooling", "Cooling system initialized");
+        logger.info(LogCategory.COOLING, "Cooling system initialized");
     }
     
     /**
@@ -92,8 +97,8 @@ public class CoolingSystem {
         int excess = currentTemperature.get() - maxPlantTemp;
         
         if (coolingMode.get() == CoolingMode.OFF) {
-            logger.info("Cooling", "Cooling activated. Current temp: " + 
-                       currentTemperature.get() + "°C (max threshold: " + maxPlantTemp + "°C)");
+            logger.info(LogCategory.COOLING, "Cooling activated. Current temp: {}°C (max threshold: {}°C)",
+                       currentTemperature.get(), maxPlantTemp);
         }
         
         // Set cooling mode based on temperature excess
@@ -115,6 +120,7 @@ public class CoolingSystem {
         
         decreaseTemperature(decrease);
         energyConsumption.set(energyConsumption.get() + decrease);
+        energyUsed.add(decrease);
     }
     
     /**
@@ -123,8 +129,7 @@ public class CoolingSystem {
     private void deactivateCooling() {
         if (coolingMode.get() != CoolingMode.OFF) {
             coolingMode.set(CoolingMode.OFF);
-            logger.info("Cooling", "Cooling deactivated. Current temp: " + 
-                       currentTemperature.get() + "°C");
+            logger.info(LogCategory.COOLING, "Cooling deactivated. Current temp: {}°C", currentTemperature.get());
         }
     }
     
@@ -139,7 +144,8 @@ public class CoolingSystem {
         }
         // Update current temperature
         int newTemp = Math.max(0, oldTemp - amount);
-        logger.info("Cooling", "Temperature decreasing: " + oldTemp + "°C → " + newTemp + "°C (decreased by " + amount + "°C)");
+        logger.info(LogCategory.COOLING, "Temperature decreasing: {}°C → {}°C (decreased by {}°C)",
+                   oldTemp, newTemp, amount);
     }
     
     /**
@@ -186,7 +192,7 @@ public class CoolingSystem {
             zone.setTemperature(temperature);
         }
         if (!apiModeEnabled) {
-            logger.info("Cooling", "Ambient temperature set to " + temperature + "°C (was " + oldTemp + "°C)");
+            logger.info(LogCategory.COOLING, "Ambient temperature set to {}°C (was {}°C)", temperature, oldTemp);
         }
     }
     
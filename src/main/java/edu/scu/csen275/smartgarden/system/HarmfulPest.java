@@ -8,24 +8,44 @@ import edu.scu.csen275.smartgarden.model.Position;
  */
 public class HarmfulPest extends Pest {
     
+    private static final String DEFAULT_SPECIES = "Red Mite";
+    
+    /**
+     * Creates a new HarmfulPest of a species.
+     */
+    public HarmfulPest(PestSpecies species, Position position) {
+        super(species, position);
+    }
+    
     /**
-     * Creates a new HarmfulPest.
+     * Creates a new HarmfulPest, looking up the species by name. Names are
+     * not registered, so callers cannot grow the species registry.
+     *
+     * @throws IllegalArgumentException if no species has this name
      */
     public HarmfulPest(String type, Position position) {
-        super(type, calculateDamageRate(type), position);
+        this(requireSpecies(type), position);
     }
     
     /**
      * Creates a default harmful pest (Red Mite).
      */
     public HarmfulPest(Position position) {
-        this("Red Mite", position);
+        this(PestSpecies.of(DEFAULT_SPECIES), position); // looked up each time so reloads apply
+    }
+    
+    private static PestSpecies requireSpecies(String type) {
+        PestSpecies species = type != null ? PestSpecies.find(type) : null;
+        if (species == null) {
+            throw new IllegalArgumentException("Unknown pest species: " + type);
+        }
+        return species;
     }
     
     @Override
     public void causeDamage(Plant plant) {
         if (isAlive && !plant.isDead()) {
-            plant.pestAttack();
+            plant.pestAttack(species.getDamageRate());
         }
     }
     
@@ -33,18 +53,5 @@ public class HarmfulPest extends Pest {
     public boolean isBeneficial() {
         return false;
     }
-    
-    /**
-     * Calculates damage rate based on pest type (Set C).
-     */
-    private static int calculateDamageRate(String type) {
-        return switch (type.toLowerCase()) {
-            case "red mite" -> 2;
-            case "green leaf worm" -> 3;
-            case "black beetle" -> 4;
-            case "brown caterpillar" -> 2;
-            default -> 2;
-        };
-    }
 }
 
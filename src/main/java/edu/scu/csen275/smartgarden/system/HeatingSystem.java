@@ -1,8 +1,11 @@
 package edu.scu.csen275.smartgarden.system;
 
+import edu.scu.csen275.smartgarden.metrics.Counter;
+import edu.scu.csen275.smartgarden.metrics.MetricsRegistry;
 import edu.scu.csen275.smartgarden.model.Garden;
 import edu.scu.csen275.smartgarden.model.Plant;
 import edu.scu.csen275.smartgarden.model.Zone;
+import edu.scu.csen275.smartgarden.util.LogCategory;
 import edu.scu.csen275.smartgarden.util.Logger;
 import javafx.beans.property.*;
 import java.util.HashMap;
@@ -22,6 +25,8 @@ public class HeatingSystem {
     private boolean apiModeEnabled = false; // When enabled, temperature change logs are suppressed
     
     private static final Logger logger = Logger.getInstance();
+    private static final Counter energyUsed = MetricsRegistry.getInstance()
+        .counter("garden_heating_energy_units_total", "Energy used by the heating system");
     private static final int DEFAULT_MIN_TEMP = 15; // Celsius
     private static final int DEFAULT_MAX_TEMP = 28; // Celsius
     private static final int DEFAULT_AMBIENT_TEMP = 20;
@@ -39,8 +44,8 @@ public class HeatingSystem {
         this.energyConsumption = new SimpleIntegerProperty(0);
         
         initializeSensors();
-        logger.info("Heating", "Heating system initialized. Target range: " + 
-                   DEFAULT_MIN_TEMP + "-" + DEFAULT_MAX_TEMP + "°C");
+        logger.info(LogCategory.HEATING, "Heating system initialized. Target range: {}-{}°C",
+                   DEFAULT_MIN_TEMP, DEFAULT_MAX_TEMP);
     }
     
     /**
@@ -79,8 +84,7 @@ public class HeatingSystem {
      */
     private void activateHeating() {
         if (heatingMode.get() == HeatingMode.OFF) {
-            logger.info("Heating", "Heating activated. Current temp: " + 
-                       currentTemperature.get() + "°C");
+            logger.info(LogCategory.HEATING, "Heating activated. Current temp: {}°C", currentTemperature.get());
         }
         
         // Set heating mode based on temperature deficit
@@ -103,6 +107,7 @@ public class HeatingSystem {
         
         increaseTemperature(increase);
         energyConsumption.set(energyConsumption.get() + increase);
+        energyUsed.add(increase);
     }
     
     /**
@@ -111,8 +116,7 @@ public class HeatingSystem {
     private void deactivateHeating() {
         if (heatingMode.get() != HeatingMode.OFF) {
             heatingMode.set(HeatingMode.OFF);
-            logger.info("Heating", "Heating deactivated. Current temp: " + 
-                       currentTemperature.get() + "°C");
+            logger.info(LogCategory.HEATING, "Heating deactivated. Current temp: {}°C", currentTemperature.get());
         }
         
         // Don't apply natural cooling - weather system controls temperature
@@ -130,7 +134,8 @@ public class HeatingSystem {
         }
         // Update current temperature (it's calculated from zones in monitor(), but log here)
         int newTemp = oldTemp + amount;
-        logger.info("Heating", "Temperature increasing: " + oldTemp + "°C → " + newTemp + "°C (increased by " + amount + "°C)");
+        logger.info(LogCategory.HEATING, "Temperature increasing: {}°C → {}°C (increased by {}°C)",
+                   oldTemp, newTemp, amount);
     }
     
     /**
@@ -145,7 +150,8 @@ public class HeatingSystem {
         // Update current temperature (it's calculated from zones in monitor(), but log here)
         int newTemp = Math.max(0, oldTemp - amount);
         if (oldTemp != newTemp) {
-            logger.info("Heating", "Temperature decreasing: " + oldTemp + "°C → " + newTemp + "°C (decreased by " + amount + "°C)");
+            logger.info(LogCategory.HEATING, "Temperature decreasing: {}°C → {}°C (decreased by {}°C)",
+                       oldTemp, newTemp, amount);
         }
     }
     
@@ -193,7 +199,7 @@ public class HeatingSystem {
             zone.setTemperature(temperature);
         }
         if (!apiModeEnabled) {
-            logger.info("Heating", "Ambient temperature set to " + temperature + "°C (was " + oldTemp + "°C)");
+            logger.info(LogCategory.HEATING, "Ambient temperature set to {}°C (was {}°C)", temperature, oldTemp);
         }
     }
     
@@ -214,8 +220,7 @@ public class HeatingSystem {
         }
         targetMinTemperature.set(minTemp);
         targetMaxTemperature.set(maxTemp);
-        logger.info("Heating", "Target temperature range updated: " + 
-                   minTemp + "-" + maxTemp + "°C");
+        logger.info(LogCategory.HEATING, "Target temperature range updated: {}-{}°C", minTemp, maxTemp);
     }
     
     /**
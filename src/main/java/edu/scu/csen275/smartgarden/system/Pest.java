@@ -7,17 +7,15 @@ import edu.scu.csen275.smartgarden.model.Position;
  * Abstract base class for pests and insects in the garden.
  */
 public abstract class Pest {
-    protected final String pestType;
-    protected final int damageRate;
+    protected final PestSpecies species;
     protected Position position;
     protected boolean isAlive;
     
     /**
-     * Creates a new Pest.
+     * Creates a new Pest of a species.
      */
-    protected Pest(String pestType, int damageRate, Position position) {
-        this.pestType = pestType;
-        this.damageRate = damageRate;
+    protected Pest(PestSpecies species, Position position) {
+        this.species = species;
         this.position = position;
         this.isAlive = true;
     }
@@ -41,11 +39,15 @@ public abstract class Pest {
     
     // Getters
     public String getPestType() {
-        return pestType;
+        return species.getName();
+    }
+    
+    public PestSpecies getSpecies() {
+        return species;
     }
     
     public int getDamageRate() {
-        return damageRate;
+        return species.getDamageRate();
     }
     
     public Position getPosition() {
@@ -62,7 +64,7 @@ public abstract class Pest {
     
     @Override
     public String toString() {
-        return pestType + " at " + position + " [" + (isAlive ? "Alive" : "Dead") + "]";
+        return species.getName() + " at " + position + " [" + (isAlive ? "Alive" : "Dead") + "]";
     }
 }
 
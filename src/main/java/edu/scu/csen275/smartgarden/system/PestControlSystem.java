@@ -1,10 +1,16 @@
 package edu.scu.csen275.smartgarden.system;
 
+import edu.scu.csen275.smartgarden.jfr.TreatmentEvent;
+import edu.scu.csen275.smartgarden.metrics.Counter;
+import edu.scu.csen275.smartgarden.metrics.MetricsRegistry;
 import edu.scu.csen275.smartgarden.model.Garden;
 import edu.scu.csen275.smartgarden.model.Plant;
 import edu.scu.csen275.smartgarden.model.Position;
 import edu.scu.csen275.smartgarden.model.Zone;
+import edu.scu.csen275.smartgarden.resource.ResourceLedger;
+import edu.scu.csen275.smartgarden.resource.ResourceType;
 import edu.scu.csen275.smartgarden.ui.PestEventBridge;
+import edu.scu.csen275.smartgarden.util.LogCategory;
 import edu.scu.csen275.smartgarden.util.Logger;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
@@ -14,8 +20,9 @@ import javafx.util.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -24,33 +31,52 @@ import java.util.concurrent.TimeUnit;
 public class PestControlSystem {
     private final Garden garden;
     private final List<Pest> pests;
-    private final IntegerProperty pesticideStock;
+    private final ResourceLedger resourceLedger;
+    private final IntegerProperty pesticideStock; // UI view of the ledger's total pesticide level, refreshed each tick
     private final IntegerProperty detectionSensitivity;
     private final IntegerProperty treatmentThreshold;
     private final Random random;
     private PestEventBridge pestEventBridge;
+    private volatile Executor commandExecutor = Runnable::run;
     private boolean apiModeEnabled = false; // When enabled, automatic pest spawning is disabled
-    private static final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+    private static final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(2);
     
     private static final Logger logger = Logger.getInstance();
-    private static final int INITIAL_PESTICIDE_STOCK = 50;
+    private static final Counter pestsSpawned = MetricsRegistry.getInstance()
+        .counter("garden_pests_spawned_total", "Pests that appeared, randomly or through the API");
+    private static final Counter eliminations = MetricsRegistry.getInstance()
+        .counter("garden_pests_eliminated_total", "Pests eliminated by treatment");
+    private static final Counter treatments = MetricsRegistry.getInstance()
+        .counter("garden_pest_treatments_total", "Pesticide treatments applied to a zone");
+    private static final Counter pesticideUsed = MetricsRegistry.getInstance()
+        .counter("garden_pesticide_used_total", "Pesticide units drawn by treatments");
     private static final int DEFAULT_SENSITIVITY = 50;
     private static final int DEFAULT_THRESHOLD = 30; // Infestation percentage - lowered for earlier treatment
     private static final double PEST_SPAWN_PROBABILITY = 0.05; // 5% per check
     
     /**
-     * Creates a new PestControlSystem for the garden.
+     * Creates a new PestControlSystem for the garden with its own default ledger.
      */
     public PestControlSystem(Garden garden) {
+        this(garden, ResourceLedger.createDefault());
+    }
+    
+    /**
+     * Creates a new PestControlSystem drawing pesticide from a shared resource ledger.
+     */
+    public PestControlSystem(Garden garden, ResourceLedger resourceLedger) {
         this.garden = garden;
         this.pests = new ArrayList<>();
-        this.pesticideStock = new SimpleIntegerProperty(INITIAL_PESTICIDE_STOCK);
+        this.resourceLedger = resourceLedger;
+        this.pesticideStock = new SimpleIntegerProperty((int) resourceLedger.getLevel(ResourceType.PESTICIDE));
         this.detectionSensitivity = new SimpleIntegerProperty(DEFAULT_SENSITIVITY);
         this.treatmentThreshold = new SimpleIntegerProperty(DEFAULT_THRESHOLD);
         this.random = new Random();
         
-        logger.info("PestControl", "Pest control system initialized. Stock: " + 
-                   INITIAL_PESTICIDE_STOCK + ", Threshold: " + DEFAULT_THRESHOLD + "%");
+        resourceLedger.addLevelListener(ResourceType.PESTICIDE, level -> pesticideStock.set((int) level));
+        
+        logger.info(LogCategory.PEST_CONTROL, "Pest control system initialized. Stock: {}, Threshold: {}%",
+                   currentStock(), DEFAULT_THRESHOLD);
     }
     
     /**
@@ -109,13 +135,14 @@ public class PestControlSystem {
         Plant targetPlant = livingPlants.get(random.nextInt(livingPlants.size()));
         Position position = targetPlant.getPosition();
         
-        // All pests are harmful
-        String[] harmfulTypes = {"Red Mite", "Green Leaf Worm", "Black Beetle", "Brown Caterpillar"};
-        String type = harmfulTypes[random.nextInt(harmfulTypes.length)];
-        Pest newPest = new HarmfulPest(type, position);
-        logger.warning("PestControl", type + " appeared at " + position);
+        // All pests are harmful; the configured list changes when parasites.json is reloaded
+        List<PestSpecies> spawnable = PestSpecies.configured();
+        PestSpecies species = spawnable.get(random.nextInt(spawnable.size()));
+        Pest newPest = new HarmfulPest(species, position);
+        logger.warning(LogCategory.PEST_CONTROL, "{} appeared at {}", species.getName(), position);
         
         pests.add(newPest);
+        pestsSpawned.increment();
         
         // NOTIFY UI IMMEDIATELY when pest spawns
         if (pestEventBridge != null) {
@@ -132,8 +159,9 @@ public class PestControlSystem {
     public void registerPest(Pest pest) {
         if (pest != null && pest.isAlive()) {
             pests.add(pest);
-            logger.info("PestControl", "Registered external pest: " + pest.getPestType() + 
-                       " at " + pest.getPosition());
+            pestsSpawned.increment();
+            logger.info(LogCategory.PEST_CONTROL, "Registered external pest: {} at {}",
+                       pest.getPestType(), pest.getPosition());
             
             // Notify UI
             if (pestEventBridge != null) {
@@ -183,14 +211,14 @@ public class PestControlSystem {
         ThreatLevel threat = assessThreat(zone);
         
         if (threat == ThreatLevel.HIGH || threat == ThreatLevel.CRITICAL) {
-            logger.info("PestControl", "Threat detected in Zone " + zone.getZoneId() + " (" + threat + ")");
+            logger.info(LogCategory.PEST_CONTROL, "Threat detected in Zone {} ({})", zone.getZoneId(), threat);
             
             // DELAY treatment by 3 seconds so user can see pests attacking
             // Try to use JavaFX Timeline if available (UI mode)
             // If JavaFX toolkit not initialized, fall back to thread-based delay (headless/API mode)
             Timeline delayTreatment = new Timeline(
                 new KeyFrame(Duration.seconds(3), e -> {
-                    applyTreatment(zone);
+                    submitTreatment(zone);
                 })
             );
             
@@ -199,12 +227,24 @@ public class PestControlSystem {
             } catch (RuntimeException e) {
                 // JavaFX toolkit not initialized - use thread-based delay (headless/API mode)
                 scheduler.schedule(() -> {
-                    applyTreatment(zone);
+                    submitTreatment(zone);
                 }, 3, TimeUnit.SECONDS);
             }
         }
     }
     
+    /**
+     * Hands a delayed treatment to the command executor, so it runs on the
+     * simulation thread rather than the timer's thread.
+     */
+    private void submitTreatment(Zone zone) {
+        try {
+            commandExecutor.execute(() -> applyTreatment(zone));
+        } catch (RejectedExecutionException e) {
+            logger.warning(LogCategory.PEST_CONTROL, "Treatment of Zone {} dropped: {}", zone.getZoneId(), e.getMessage());
+        }
+    }
+    
     /**
      * Assesses the threat level for a zone.
      * Now also checks for actual harmful pests in the zone - treats immediately when pests are present.
@@ -244,14 +284,18 @@ public class PestControlSystem {
      * Applies pesticide treatment to a zone.
      */
     private void applyTreatment(Zone zone) {
-        if (pesticideStock.get() <= 0) {
-            logger.error("PestControl", "Cannot treat Zone " + zone.getZoneId() + 
-                        " - no pesticide stock");
+        // Consume pesticide first (from this zone's sector store first), so a
+        // zone is only treated with stock the ledger actually granted
+        long drawn = resourceLedger.draw(ResourceType.PESTICIDE, zone.getZoneId(), 1);
+        if (drawn <= 0) {
+            logger.error(LogCategory.PEST_CONTROL, "Cannot treat Zone {} - no pesticide stock", zone.getZoneId());
             return;
         }
         
-        logger.info("PestControl", "Applying treatment to Zone " + zone.getZoneId() + 
-                   " - Infestation: " + zone.getPestInfestationLevel() + "%");
+        TreatmentEvent treatmentEvent = new TreatmentEvent();
+        treatmentEvent.begin();
+        logger.info(LogCategory.PEST_CONTROL, "Applying treatment to Zone {} - Infestation: {}%",
+                   zone.getZoneId(), zone.getPestInfestationLevel());
         
         // NOTIFY UI FIRST - before removing pests (so animation can show them)
         // Notify for all plants in the zone
@@ -288,11 +332,20 @@ public class PestControlSystem {
         int newLevel = Math.max(0, zone.getPestInfestationLevel() - 50);
         zone.updatePestLevel(newLevel);
         
-        // Consume pesticide
-        pesticideStock.set(pesticideStock.get() - 1);
+        treatments.increment();
+        eliminations.add(pestsEliminated);
+        pesticideUsed.add(drawn);
+        treatmentEvent.end();
+        if (treatmentEvent.shouldCommit()) {
+            treatmentEvent.zoneId = zone.getZoneId();
+            treatmentEvent.pestsEliminated = pestsEliminated;
+            treatmentEvent.amount = drawn;
+            treatmentEvent.plantCount = zone.getLivingPlantCount();
+            treatmentEvent.commit();
+        }
         
-        logger.info("PestControl", "Treatment complete for Zone " + zone.getZoneId() + 
-                   ". Eliminated: " + pestsEliminated + ", Stock remaining: " + pesticideStock.get());
+        logger.info(LogCategory.PEST_CONTROL, "Treatment complete for Zone {}. Eliminated: {}, Stock remaining: {}",
+                   zone.getZoneId(), pestsEliminated, currentStock());
     }
     
     /**
@@ -324,18 +377,36 @@ public class PestControlSystem {
     public void manualTreat(int zoneId) {
         Zone zone = garden.getZone(zoneId);
         if (zone != null) {
-            logger.info("PestControl", "Manual treatment triggered for Zone " + zoneId);
+            logger.info(LogCategory.PEST_CONTROL, "Manual treatment triggered for Zone {}", zoneId);
             applyTreatment(zone);
         }
     }
     
+    /**
+     * Updates the infestation percentage at which a zone is treated.
+     */
+    public void setTreatmentThreshold(int threshold) {
+        if (threshold < 0 || threshold > 100) {
+            throw new IllegalArgumentException("Threshold must be 0-100");
+        }
+        treatmentThreshold.set(threshold);
+        logger.info(LogCategory.PEST_CONTROL, "Treatment threshold updated to {}%", threshold);
+    }
+    
     /**
      * Refills pesticide stock.
      */
     public void refillPesticide(int amount) {
-        pesticideStock.set(pesticideStock.get() + amount);
-        logger.info("PestControl", "Pesticide stock refilled by " + amount + 
-                   ". Total: " + pesticideStock.get());
+        resourceLedger.deposit(ResourceType.PESTICIDE, amount);
+        logger.info(LogCategory.PEST_CONTROL, "Pesticide stock refilled by {}. Total: {}", amount, currentStock());
+    }
+    
+    /**
+     * Gets the number of headless treatments scheduled but not yet applied,
+     * across all pest control systems.
+     */
+    public static int getPendingTreatmentCount() {
+        return scheduler.getQueue().size();
     }
     
     /**
@@ -359,6 +430,13 @@ public class PestControlSystem {
             .count();
     }
     
+    /**
+     * Reads the ledger directly; the property is only refreshed each tick.
+     */
+    private int currentStock() {
+        return (int) resourceLedger.getLevel(ResourceType.PESTICIDE);
+    }
+    
     // Property getters
     public IntegerProperty pesticideStockProperty() {
         return pesticideStock;
@@ -374,7 +452,7 @@ public class PestControlSystem {
     
     // Value getters
     public int getPesticideStock() {
-        return pesticideStock.get();
+        return currentStock();
     }
     
     public int getDetectionSensitivity() {
@@ -389,6 +467,10 @@ public class PestControlSystem {
         return new ArrayList<>(pests);
     }
     
+    public ResourceLedger getResourceLedger() {
+        return resourceLedger;
+    }
+    
     /**
      * Sets the pest event bridge for UI notifications.
      */
@@ -396,6 +478,18 @@ public class PestControlSystem {
         this.pestEventBridge = bridge;
     }
     
+    /**
+     * Sets where delayed treatments run. Defaults to running them on the
+     * timer thread that fires them; the headless engine routes them to its
+     * command queue.
+     */
+    public void setCommandExecutor(Executor executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor cannot be null");
+        }
+        this.commandExecutor = executor;
+    }
+    
     /**
      * Threat level enumeration.
      */
@@ -409,7 +503,7 @@ public class PestControlSystem {
     @Override
     public String toString() {
         return "PestControlSystem[Pests: " + getHarmfulPestCount() + 
-               ", Stock: " + pesticideStock.get() + "]";
+               ", Stock: " + currentStock() + "]";
     }
 }
 
@@ -0,0 +1,239 @@
+package edu.scu.csen275.smartgarden.system;
+
+import edu.scu.csen275.smartgarden.config.GardenConfigReader;
+import edu.scu.csen275.smartgarden.config.ParasiteDefinition;
+import edu.scu.csen275.smartgarden.model.PlantType;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of pest species. The species in parasites.json are loaded at
+ * startup, in file order, and get ids 0, 1, 2, ...; any other name passed to
+ * {@link #of(String)} is registered on first use with the default damage
+ * rate and no target plants. Pests hold a reference to their species, so
+ * creating a pest does no name parsing or lookup.
+ */
+public final class PestSpecies {
+    /** Damage rate for species not in the config. */
+    public static final int DEFAULT_DAMAGE = 2;
+
+    private static final Map<String, PestSpecies> byLowerCaseName = new ConcurrentHashMap<>();
+    private static final List<PestSpecies> registry = new ArrayList<>();
+    private static volatile PestSpecies[] byId = new PestSpecies[0];
+    private static volatile List<PestSpecies> configured;
+
+    private final int id;
+    private final String name;
+    private final int damageRate;
+    private final Set<PlantType> targets;
+    private final long targetMask;
+
+    static {
+        List<PestSpecies> loaded = new ArrayList<>();
+        for (PestSpecies parsed : loadConfig()) {
+            loaded.add(register(parsed.name, parsed.damageRate, parsed.targets));
+        }
+        configured = List.copyOf(loaded);
+    }
+
+    private PestSpecies(int id, String name, int damageRate, Set<PlantType> targets) {
+        this.id = id;
+        this.name = name;
+        this.damageRate = damageRate;
+        this.targets = targets.isEmpty()
+            ? Collections.unmodifiableSet(EnumSet.noneOf(PlantType.class))
+            : Collections.unmodifiableSet(EnumSet.copyOf(targets));
+        long mask = 0;
+        for (PlantType type : targets) {
+            mask |= 1L << type.ordinal();
+        }
+        this.targetMask = mask;
+    }
+
+    /**
+     * Gets the species with this name, ignoring case, registering it if it is
+     * new. Registered species are never removed, so names from outside the
+     * program (API calls, user input) should go through {@link #find(String)}.
+     */
+    public static PestSpecies of(String name) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Pest species name cannot be empty");
+        }
+        PestSpecies species = byLowerCaseName.get(name.toLowerCase(Locale.ROOT));
+        return species != null ? species : register(name, DEFAULT_DAMAGE, Set.of());
+    }
+
+    /**
+     * Gets the species with this name, ignoring case, or null if none is registered.
+     */
+    public static PestSpecies find(String name) {
+        return byLowerCaseName.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Gets a species by id.
+     *
+     * @throws ArrayIndexOutOfBoundsException if no species has this id
+     */
+    public static PestSpecies byId(int id) {
+        return byId[id];
+    }
+
+    /**
+     * Gets the species defined in parasites.json, in file order. Ids are in
+     * file order too unless the file has been reloaded with new or reordered
+     * entries.
+     */
+    public static List<PestSpecies> configured() {
+        return configured;
+    }
+
+    /**
+     * Gets the number of registered species; ids are below this value.
+     */
+    public static int count() {
+        return byId.length;
+    }
+
+    /**
+     * Replaces the configured species with new definitions, e.g. after
+     * parasites.json changed. A name that is already registered keeps its id
+     * and gets a new species object with the new damage rate and targets;
+     * pests created earlier keep the species they were created with.
+     *
+     * @return the new configured species, in definition order
+     */
+    public static List<PestSpecies> reload(List<ParasiteDefinition> definitions) {
+        List<PestSpecies> loaded = new ArrayList<>();
+        synchronized (registry) {
+            for (ParasiteDefinition definition : definitions) {
+                String key = definition.name().toLowerCase(Locale.ROOT);
+                PestSpecies existing = byLowerCaseName.get(key);
+                int id = existing != null ? existing.id : registry.size();
+                PestSpecies species = new PestSpecies(id, definition.name(), definition.damage(), definition.targets());
+                if (existing != null) {
+                    registry.set(id, species);
+                } else {
+                    registry.add(species);
+                }
+                byLowerCaseName.put(key, species);
+                loaded.add(species);
+            }
+            byId = registry.toArray(new PestSpecies[0]);
+            configured = List.copyOf(loaded);
+            return configured;
+        }
+    }
+
+    private static PestSpecies register(String name, int damageRate, Set<PlantType> targets) {
+        synchronized (registry) {
+            return byLowerCaseName.computeIfAbsent(name.toLowerCase(Locale.ROOT), key -> {
+                PestSpecies created = new PestSpecies(registry.size(), name, damageRate, targets);
+                registry.add(created);
+                byId = registry.toArray(new PestSpecies[0]);
+                return created;
+            });
+        }
+    }
+
+    /**
+     * Parses species definitions from the parasites config format:
+     * {@code {"parasites": [{"name": "Red Mite", "damage": 2, "targetPlants": ["Rose"]}]}}.
+     * The result is not registered; ids are positions in the list. Target
+     * names are PlantType display names; unknown names are ignored.
+     *
+     * @throws IllegalArgumentException if the JSON is malformed
+     */
+    public static List<PestSpecies> parse(String json) {
+        try {
+            return read(new StringReader(json), "parasites");
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
+    private static List<PestSpecies> read(Reader in, String source) throws IOException {
+        List<PestSpecies> result = new ArrayList<>();
+        GardenConfigReader.readParasites(in, source, DEFAULT_DAMAGE, parasite ->
+            result.add(new PestSpecies(result.size(), parasite.name(), parasite.damage(), parasite.targets())));
+        return result;
+    }
+
+    /**
+     * Streams parasites.json from the classpath, falling back to the four
+     * built-in species if it is missing, empty or malformed.
+     */
+    private static List<PestSpecies> loadConfig() {
+        try (InputStream in = PestSpecies.class.getResourceAsStream("/parasites.json")) {
+            if (in != null) {
+                List<PestSpecies> parsed = read(
+                    new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)), "parasites.json");
+                if (!parsed.isEmpty()) {
+                    return parsed;
+                }
+            }
+            System.err.println("[PestSpecies] WARNING: parasites.json not found or empty, using default species");
+        } catch (Exception e) {
+            System.err.println("[PestSpecies] ERROR loading parasites.json: " + e.getMessage());
+        }
+        return List.of(
+            new PestSpecies(0, "Red Mite", 2, EnumSet.of(PlantType.STRAWBERRY, PlantType.GRAPEVINE,
+                PlantType.CARROT, PlantType.TOMATO, PlantType.SUNFLOWER, PlantType.ROSE)),
+            new PestSpecies(1, "Green Leaf Worm", 3, EnumSet.of(PlantType.STRAWBERRY, PlantType.APPLE,
+                PlantType.ONION, PlantType.TULIP)),
+            new PestSpecies(2, "Black Beetle", 4, EnumSet.of(PlantType.GRAPEVINE, PlantType.TOMATO, PlantType.ROSE)),
+            new PestSpecies(3, "Brown Caterpillar", 2, EnumSet.of(PlantType.APPLE, PlantType.CARROT,
+                PlantType.SUNFLOWER)));
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getDamageRate() {
+        return damageRate;
+    }
+
+    /**
+     * Gets the plant types this species attacks.
+     */
+    public Set<PlantType> getTargets() {
+        return targets;
+    }
+
+    /**
+     * Gets the target plant types as a bitmask of PlantType ordinals.
+     */
+    public long getTargetMask() {
+        return targetMask;
+    }
+
+    /**
+     * Returns true if this species attacks plants of the given type.
+     */
+    public boolean targets(PlantType type) {
+        return type != null && (targetMask & (1L << type.ordinal())) != 0;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
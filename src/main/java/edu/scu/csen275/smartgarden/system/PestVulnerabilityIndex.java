@@ -0,0 +1,175 @@
+package edu.scu.csen275.smartgarden.system;
+
+import edu.scu.csen275.smartgarden.model.PlantType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable index of which pests can attack which plant types.
+ *
+ * Each pest gets a small id in the order it was added. The index holds the
+ * set of plant types each pest targets, and for each plant type a bitmask of
+ * the pests that target it, so checking a plant against a pest is a single
+ * bit test. Pest names are matched ignoring case.
+ */
+public final class PestVulnerabilityIndex {
+    /** Most pests an index can hold, one bit of the mask each. */
+    public static final int MAX_PESTS = Long.SIZE;
+
+    private final List<String> pestNames;
+    private final Map<String, Integer> idsByLowerCaseName;
+    private final List<Set<PlantType>> targets;
+    private final long[] masksByType;
+    private final List<List<String>> pestsByType;
+
+    private PestVulnerabilityIndex(Map<String, EnumSet<PlantType>> targetsByPest) {
+        List<String> names = new ArrayList<>();
+        Map<String, Integer> ids = new HashMap<>();
+        List<Set<PlantType>> targetSets = new ArrayList<>();
+        long[] masks = new long[PlantType.values().length];
+
+        for (Map.Entry<String, EnumSet<PlantType>> entry : targetsByPest.entrySet()) {
+            int id = names.size();
+            names.add(entry.getKey());
+            ids.put(entry.getKey().toLowerCase(Locale.ROOT), id);
+            targetSets.add(Collections.unmodifiableSet(EnumSet.copyOf(entry.getValue())));
+            for (PlantType type : entry.getValue()) {
+                masks[type.ordinal()] |= 1L << id;
+            }
+        }
+
+        List<List<String>> byType = new ArrayList<>();
+        for (PlantType type : PlantType.values()) {
+            List<String> pests = new ArrayList<>();
+            for (int id = 0; id < names.size(); id++) {
+                if ((masks[type.ordinal()] & (1L << id)) != 0) {
+                    pests.add(names.get(id));
+                }
+            }
+            byType.add(List.copyOf(pests));
+        }
+
+        this.pestNames = List.copyOf(names);
+        this.idsByLowerCaseName = Map.copyOf(ids);
+        this.targets = List.copyOf(targetSets);
+        this.masksByType = masks;
+        this.pestsByType = List.copyOf(byType);
+    }
+
+    /**
+     * Builds an index from the parasites config format read by
+     * {@link PestSpecies#parse(String)}.
+     *
+     * @throws IllegalArgumentException if the config defines no parasites
+     */
+    public static PestVulnerabilityIndex fromJson(String json) {
+        List<PestSpecies> species = PestSpecies.parse(json);
+        if (species.isEmpty()) {
+            throw new IllegalArgumentException("No parasites found in config");
+        }
+        return fromSpecies(species);
+    }
+
+    /**
+     * Builds an index over a list of species. Pest ids are positions in the
+     * list, so for {@link PestSpecies#configured()} they equal species ids.
+     */
+    public static PestVulnerabilityIndex fromSpecies(List<PestSpecies> species) {
+        Builder builder = builder();
+        for (PestSpecies pest : species) {
+            builder.add(pest.getName(), pest.getTargets().toArray(new PlantType[0]));
+        }
+        return builder.build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Gets the id of a pest, ignoring case, or -1 if it is not in the index.
+     */
+    public int pestId(String pestName) {
+        Integer id = idsByLowerCaseName.get(pestName.toLowerCase(Locale.ROOT));
+        return id != null ? id : -1;
+    }
+
+    /**
+     * Gets a pest's name as written in the config.
+     */
+    public String pestName(int pestId) {
+        return pestNames.get(pestId);
+    }
+
+    public List<String> getPestNames() {
+        return pestNames;
+    }
+
+    /**
+     * Gets the plant types a pest can attack.
+     */
+    public Set<PlantType> targetsOf(int pestId) {
+        return targets.get(pestId);
+    }
+
+    /**
+     * Gets the bitmask of pest ids that can attack a plant type; 0 for null.
+     */
+    public long maskOf(PlantType type) {
+        return type != null ? masksByType[type.ordinal()] : 0L;
+    }
+
+    /**
+     * Returns true if the pest can attack plants of this type.
+     */
+    public boolean isVulnerable(PlantType type, int pestId) {
+        return (maskOf(type) & (1L << pestId)) != 0;
+    }
+
+    /**
+     * Gets the names of the pests that can attack a plant type, in id order.
+     */
+    public List<String> pestsFor(PlantType type) {
+        return type != null ? pestsByType.get(type.ordinal()) : List.of();
+    }
+
+    /**
+     * Collects pest targets before building an index.
+     */
+    public static final class Builder {
+        private final Map<String, EnumSet<PlantType>> targetsByPest = new LinkedHashMap<>();
+        private final Map<String, String> namesByLowerCase = new HashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Adds plant types a pest can attack. Names differing only in case
+         * are the same pest; the first spelling is kept.
+         */
+        public Builder add(String pestName, PlantType... types) {
+            if (pestName == null || pestName.isBlank()) {
+                throw new IllegalArgumentException("Pest name cannot be empty");
+            }
+            String name = namesByLowerCase.getOrDefault(pestName.toLowerCase(Locale.ROOT), pestName);
+            if (!targetsByPest.containsKey(name) && targetsByPest.size() == MAX_PESTS) {
+                throw new IllegalArgumentException("Index cannot hold more than " + MAX_PESTS + " pests");
+            }
+            namesByLowerCase.putIfAbsent(pestName.toLowerCase(Locale.ROOT), name);
+            EnumSet<PlantType> set = targetsByPest.computeIfAbsent(name, k -> EnumSet.noneOf(PlantType.class));
+            Collections.addAll(set, types);
+            return this;
+        }
+
+        public PestVulnerabilityIndex build() {
+            return new PestVulnerabilityIndex(targetsByPest);
+        }
+    }
+}
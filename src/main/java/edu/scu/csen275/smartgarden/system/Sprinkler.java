@@ -2,6 +2,9 @@ package edu.scu.csen275.smartgarden.system;
 
 import edu.scu.csen275.smartgarden.model.Plant;
 import edu.scu.csen275.smartgarden.model.Zone;
+import edu.scu.csen275.smartgarden.metrics.Counter;
+import edu.scu.csen275.smartgarden.metrics.MetricsRegistry;
+import edu.scu.csen275.smartgarden.util.LogCategory;
 import edu.scu.csen275.smartgarden.util.Logger;
 import java.time.LocalDateTime;
 
@@ -15,6 +18,8 @@ public class Sprinkler {
     private LocalDateTime lastActivation;
     
     private static final Logger logger = Logger.getInstance();
+    private static final Counter activations = MetricsRegistry.getInstance()
+        .counter("garden_sprinkler_activations_total", "Sprinkler activations");
     private static final int DEFAULT_FLOW_RATE = 5; // liters per minute per plant
     
     /**
@@ -41,7 +46,8 @@ public class Sprinkler {
         if (!isActive) {
             isActive = true;
             lastActivation = LocalDateTime.now();
-            logger.info("Watering", "Sprinkler activated for Zone " + zone.getZoneId());
+            activations.increment();
+            logger.info(LogCategory.WATERING, "Sprinkler activated for Zone {}", zone.getZoneId());
         }
     }
     
@@ -51,10 +57,22 @@ public class Sprinkler {
     public void deactivate() {
         if (isActive) {
             isActive = false;
-            logger.info("Watering", "Sprinkler deactivated for Zone " + zone.getZoneId());
+            logger.info(LogCategory.WATERING, "Sprinkler deactivated for Zone {}", zone.getZoneId());
         }
     }
     
+    /**
+     * Gets how much of the given amount distributeWater would actually use,
+     * so callers can draw exactly that from the supply beforehand.
+     */
+    public int getDemand(int amount) {
+        int plantCount = zone.getLivingPlantCount();
+        if (amount <= 0 || plantCount == 0) {
+            return 0;
+        }
+        return plantCount * Math.min(amount / plantCount, flowRate);
+    }
+    
     /**
      * Distributes water to plants in the zone.
      */
@@ -1,9 +1,16 @@
 package edu.scu.csen275.smartgarden.system;
 
+import edu.scu.csen275.smartgarden.jfr.SprinklerEvent;
+import edu.scu.csen275.smartgarden.metrics.Counter;
+import edu.scu.csen275.smartgarden.metrics.MetricsRegistry;
 import edu.scu.csen275.smartgarden.model.Garden;
 import edu.scu.csen275.smartgarden.model.Zone;
+import edu.scu.csen275.smartgarden.resource.ResourceLedger;
+import edu.scu.csen275.smartgarden.resource.ResourceType;
 import edu.scu.csen275.smartgarden.simulation.WeatherSystem;
+import edu.scu.csen275.smartgarden.util.LogCategory;
 import edu.scu.csen275.smartgarden.util.Logger;
+import edu.scu.csen275.smartgarden.util.Logger.LogLevel;
 import javafx.beans.property.*;
 import java.util.HashMap;
 import java.util.Map;
@@ -17,28 +24,41 @@ public class WateringSystem {
     private final Garden garden;
     private final Map<Integer, Sprinkler> sprinklers;
     private final Map<Integer, MoistureSensor> sensors;
-    private final IntegerProperty waterSupply;
+    private final ResourceLedger resourceLedger;
+    private final IntegerProperty waterSupply; // UI view of the ledger's total water level, refreshed each tick
     private final IntegerProperty moistureThreshold;
     private WeatherSystem weatherSystem; // Reference to weather system
     
     private static final Logger logger = Logger.getInstance();
-    private static final int INITIAL_WATER_SUPPLY = 10000; // liters
+    private static final Counter waterings = MetricsRegistry.getInstance()
+        .counter("garden_waterings_total", "Zone watering cycles completed");
+    private static final Counter waterDrawn = MetricsRegistry.getInstance()
+        .counter("garden_water_used_liters_total", "Water drawn by the watering system");
     private static final int DEFAULT_MOISTURE_THRESHOLD = 40; // percentage
     private static final int WATER_PER_CYCLE = 10; // amount to water per cycle
     
     /**
-     * Creates a new WateringSystem for the garden.
+     * Creates a new WateringSystem for the garden with its own default ledger.
      */
     public WateringSystem(Garden garden) {
+        this(garden, ResourceLedger.createDefault());
+    }
+    
+    /**
+     * Creates a new WateringSystem drawing water from a shared resource ledger.
+     */
+    public WateringSystem(Garden garden, ResourceLedger resourceLedger) {
         this.garden = garden;
         this.sprinklers = new HashMap<>();
         this.sensors = new HashMap<>();
-        this.waterSupply = new SimpleIntegerProperty(INITIAL_WATER_SUPPLY);
+        this.resourceLedger = resourceLedger;
+        this.waterSupply = new SimpleIntegerProperty((int) resourceLedger.getLevel(ResourceType.WATER));
         this.moistureThreshold = new SimpleIntegerProperty(DEFAULT_MOISTURE_THRESHOLD);
         
+        resourceLedger.addLevelListener(ResourceType.WATER, level -> waterSupply.set((int) level));
+        
         initializeSprinklersAndSensors();
-        logger.info("Watering", "Watering system initialized with " + 
-                   sprinklers.size() + " zones");
+        logger.info(LogCategory.WATERING, "Watering system initialized with {} zones", sprinklers.size());
     }
     
     /**
@@ -47,7 +67,7 @@ public class WateringSystem {
      */
     public void setWeatherSystem(WeatherSystem weatherSystem) {
         this.weatherSystem = weatherSystem;
-        logger.info("Watering", "Weather system connected - will skip watering when raining");
+        logger.info(LogCategory.WATERING, "Weather system connected - will skip watering when raining");
         
         // Add listener to stop sprinklers when weather changes to RAINY
         if (weatherSystem != null) {
@@ -55,7 +75,7 @@ public class WateringSystem {
                 if (newWeather == WeatherSystem.Weather.RAINY && oldWeather != WeatherSystem.Weather.RAINY) {
                     // Rain just started - stop all active sprinklers
                     stopAllSprinklers();
-                    logger.info("Watering", "Rain detected - stopped all active sprinklers");
+                    logger.info(LogCategory.WATERING, "Rain detected - stopped all active sprinklers");
                 }
             });
         }
@@ -79,12 +99,13 @@ public class WateringSystem {
     public void checkAndWater() {
         // Check if it's raining - don't water if it is
         if (weatherSystem != null && weatherSystem.getCurrentWeather() == WeatherSystem.Weather.RAINY) {
-            logger.info("Watering", "Skipping watering - it's currently raining");
+            logger.info(LogCategory.WATERING, "Skipping watering - it's currently raining");
             return;
         }
         
-        if (waterSupply.get() < 10) {
-            logger.warning("Watering", "Water supply critically low: " + waterSupply.get() + "L");
+        int supply = currentSupply();
+        if (supply < 10) {
+            logger.warning(LogCategory.WATERING, "Water supply critically low: {}L", supply);
             return;
         }
         
@@ -93,7 +114,7 @@ public class WateringSystem {
             MoistureSensor sensor = sensors.get(zone.getZoneId());
             
             if (sensor.getStatus() == Sensor.SensorStatus.ERROR) {
-                logger.error("Watering", "Sensor error in Zone " + zone.getZoneId());
+                logger.error(LogCategory.WATERING, "Sensor error in Zone {}", zone.getZoneId());
                 continue;
             }
             
@@ -103,8 +124,8 @@ public class WateringSystem {
             if (!plantsNeedingWater.isEmpty() && zone.getLivingPlantCount() > 0) {
                 // Water the zone to hydrate plants
                 waterZone(zone.getZoneId(), WATER_PER_CYCLE);
-                logger.info("Watering", "Auto-watered Zone " + zone.getZoneId() + 
-                           " - " + plantsNeedingWater.size() + " plants needed water");
+                logger.info(LogCategory.WATERING, "Auto-watered Zone {} - {} plants needed water",
+                           zone.getZoneId(), plantsNeedingWater.size());
             }
         }
     }
@@ -118,19 +139,21 @@ public class WateringSystem {
         Zone zone = garden.getZone(zoneId);
         
         if (sprinkler == null || zone == null) {
-            logger.error("Watering", "Invalid zone ID: " + zoneId);
+            logger.error(LogCategory.WATERING, "Invalid zone ID: {}", zoneId);
             return;
         }
         
         // Check if it's raining before starting
         if (weatherSystem != null && weatherSystem.getCurrentWeather() == WeatherSystem.Weather.RAINY) {
-            logger.info("Watering", "Skipping watering Zone " + zoneId + " - it's currently raining");
+            logger.info(LogCategory.WATERING, "Skipping watering Zone {} - it's currently raining", zoneId);
             return;
         }
         
-        if (waterSupply.get() < amount) {
-            amount = waterSupply.get();
-            logger.warning("Watering", "Limited water available for Zone " + zoneId);
+        int available = (int) Math.min(Integer.MAX_VALUE,
+            resourceLedger.available(ResourceType.WATER, zoneId));
+        if (available < amount) {
+            amount = available;
+            logger.warning(LogCategory.WATERING, "Limited water available for Zone {}", zoneId);
         }
         
         if (amount <= 0) {
@@ -138,26 +161,49 @@ public class WateringSystem {
         }
         
         // Activate sprinkler
+        SprinklerEvent sprinklerEvent = new SprinklerEvent();
+        sprinklerEvent.begin();
         sprinkler.activate();
         
         // Check weather again before distributing water (in case it started raining)
         if (weatherSystem != null && weatherSystem.getCurrentWeather() == WeatherSystem.Weather.RAINY) {
-            logger.info("Watering", "Stopping watering Zone " + zoneId + " - rain detected");
+            logger.info(LogCategory.WATERING, "Stopping watering Zone {} - rain detected", zoneId);
             sprinkler.deactivate();
             return;
         }
         
-        // Distribute water
-        int waterUsed = sprinkler.distributeWater(amount);
+        // Draw first (this zone's sector reservoirs before the shared ones) so
+        // plants only ever receive water the supply actually granted
+        long drawn = resourceLedger.draw(ResourceType.WATER, zoneId, sprinkler.getDemand(amount));
+        if (drawn <= 0) {
+            logger.warning(LogCategory.WATERING, "No water granted for Zone {}", zoneId);
+            sprinkler.deactivate();
+            return;
+        }
         
-        // Update supply
-        waterSupply.set(waterSupply.get() - waterUsed);
+        // Distribute water, returning any rounding remainder to the supply
+        int waterUsed = sprinkler.distributeWater((int) drawn);
+        if (waterUsed < drawn) {
+            resourceLedger.deposit(ResourceType.WATER, drawn - waterUsed);
+        }
+        waterings.increment();
+        waterDrawn.add(waterUsed);
         
         // Deactivate sprinkler
         sprinkler.deactivate();
+        sprinklerEvent.end();
+        if (sprinklerEvent.shouldCommit()) {
+            sprinklerEvent.zoneId = zoneId;
+            sprinklerEvent.amount = waterUsed;
+            sprinklerEvent.plantCount = zone.getLivingPlantCount();
+            sprinklerEvent.commit();
+        }
         
-        logger.info("Watering", "Zone " + zoneId + " watered with " + waterUsed + 
-                   "L. Supply remaining: " + waterSupply.get() + "L");
+        // Summing the reservoir levels only feeds the message, so skip it when INFO is off
+        if (logger.isEnabled(LogLevel.INFO, LogCategory.WATERING)) {
+            logger.info(LogCategory.WATERING, "Zone {} watered with {}L. Supply remaining: {}L",
+                       zoneId, waterUsed, currentSupply());
+        }
     }
     
     /**
@@ -167,7 +213,8 @@ public class WateringSystem {
         for (Sprinkler sprinkler : sprinklers.values()) {
             if (sprinkler != null && sprinkler.isActive()) {
                 sprinkler.deactivate();
-                logger.info("Watering", "Stopped active sprinkler for Zone " + sprinkler.getZone().getZoneId() + " due to rain");
+                logger.info(LogCategory.WATERING, "Stopped active sprinkler for Zone {} due to rain",
+                           sprinkler.getZone().getZoneId());
             }
         }
     }
@@ -176,7 +223,7 @@ public class WateringSystem {
      * Manually waters a zone (user override).
      */
     public void manualWater(int zoneId) {
-        logger.info("Watering", "Manual watering triggered for Zone " + zoneId);
+        logger.info(LogCategory.WATERING, "Manual watering triggered for Zone {}", zoneId);
         waterZone(zoneId, WATER_PER_CYCLE);
     }
     
@@ -188,23 +235,31 @@ public class WateringSystem {
             throw new IllegalArgumentException("Threshold must be 0-100");
         }
         moistureThreshold.set(threshold);
-        logger.info("Watering", "Moisture threshold updated to " + threshold + "%");
+        logger.info(LogCategory.WATERING, "Moisture threshold updated to {}%", threshold);
     }
     
     /**
      * Refills water supply.
      */
     public void refillWater(int amount) {
-        waterSupply.set(waterSupply.get() + amount);
-        logger.info("Watering", "Water supply refilled by " + amount + "L. Total: " + 
-                   waterSupply.get() + "L");
+        resourceLedger.deposit(ResourceType.WATER, amount);
+        if (logger.isEnabled(LogLevel.INFO, LogCategory.WATERING)) {
+            logger.info(LogCategory.WATERING, "Water supply refilled by {}L. Total: {}L", amount, currentSupply());
+        }
     }
     
     /**
      * Checks if water is available.
      */
     public boolean isWaterAvailable() {
-        return waterSupply.get() > 0;
+        return currentSupply() > 0;
+    }
+    
+    /**
+     * Gets the resource ledger this system draws water from.
+     */
+    public ResourceLedger getResourceLedger() {
+        return resourceLedger;
     }
     
     /**
@@ -221,6 +276,13 @@ public class WateringSystem {
         return sprinklers.get(zoneId);
     }
     
+    /**
+     * Reads the ledger directly; the property is only refreshed each tick.
+     */
+    private int currentSupply() {
+        return (int) resourceLedger.getLevel(ResourceType.WATER);
+    }
+    
     // Property getters
     public IntegerProperty waterSupplyProperty() {
         return waterSupply;
@@ -232,7 +294,7 @@ public class WateringSystem {
     
     // Value getters
     public int getWaterSupply() {
-        return waterSupply.get();
+        return currentSupply();
     }
     
     public int getMoistureThreshold() {
@@ -242,7 +304,7 @@ public class WateringSystem {
     @Override
     public String toString() {
         return "WateringSystem[Zones: " + sprinklers.size() + 
-               ", Water: " + waterSupply.get() + "L, Threshold: " + 
+               ", Water: " + currentSupply() + "L, Threshold: " + 
                moistureThreshold.get() + "%]";
     }
 }
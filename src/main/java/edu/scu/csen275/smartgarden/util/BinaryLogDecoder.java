@@ -0,0 +1,213 @@
+package edu.scu.csen275.smartgarden.util;
+
+import edu.scu.csen275.smartgarden.util.Logger.LogEntry;
+import edu.scu.csen275.smartgarden.util.Logger.LogLevel;
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Streaming decoder for logs written by {@link BinaryLogEncoder}.
+ * Entries are read one at a time, so files of any size decode in constant
+ * memory. Run as a program to print binary logs in the usual text format:
+ *
+ * <pre>java edu.scu.csen275.smartgarden.util.BinaryLogDecoder logs/garden_X.sglog [more files...]</pre>
+ *
+ * Compressed segments (.gz) are accepted as well.
+ */
+public class BinaryLogDecoder implements AutoCloseable {
+    private final InputStream in;
+    private final List<String> categories;
+    private final List<String> templates;
+    private final LogLevel[] levels;
+    private long previousMillis;
+
+    /**
+     * Creates a decoder over a stream positioned at the start of a binary log.
+     */
+    public BinaryLogDecoder(InputStream in) {
+        this.in = in instanceof BufferedInputStream ? in : new BufferedInputStream(in, 64 * 1024);
+        this.categories = new ArrayList<>();
+        this.templates = new ArrayList<>();
+        this.levels = LogLevel.values();
+    }
+
+    /**
+     * Opens a binary log file, decompressing it if the name ends in ".gz".
+     */
+    public static BinaryLogDecoder open(Path file) throws IOException {
+        InputStream stream = Files.newInputStream(file);
+        if (file.getFileName().toString().endsWith(".gz")) {
+            stream = new GZIPInputStream(stream, 64 * 1024);
+        }
+        return new BinaryLogDecoder(stream);
+    }
+
+    /**
+     * Reads the next entry, or returns null at the end of the stream.
+     *
+     * @throws IOException if the data is truncated or not a binary log
+     */
+    public LogEntry next() throws IOException {
+        while (true) {
+            int type = in.read();
+            if (type < 0) {
+                return null;
+            }
+            switch (type) {
+                case BinaryLogEncoder.RECORD_HEADER -> readHeader();
+                case BinaryLogEncoder.RECORD_CATEGORY -> define(categories, "category");
+                case BinaryLogEncoder.RECORD_TEMPLATE -> define(templates, "template");
+                case BinaryLogEncoder.RECORD_ENTRY -> {
+                    return readEntry();
+                }
+                default -> throw new IOException("Unknown record type " + type);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private void readHeader() throws IOException {
+        for (byte expected : BinaryLogEncoder.MAGIC) {
+            if (readByte() != expected) {
+                throw new IOException("Not a Smart Garden binary log");
+            }
+        }
+        int version = readByte();
+        if (version != BinaryLogEncoder.VERSION) {
+            throw new IOException("Unsupported binary log version " + version);
+        }
+        categories.clear();
+        templates.clear();
+        previousMillis = 0;
+    }
+
+    private void define(List<String> dictionary, String kind) throws IOException {
+        int id = (int) readVarint();
+        String value = readString();
+        if (id != dictionary.size() + 1) {
+            throw new IOException("Out-of-order " + kind + " id " + id);
+        }
+        dictionary.add(value);
+    }
+
+    private LogEntry readEntry() throws IOException {
+        int levelOrdinal = readByte();
+        if (levelOrdinal < 0 || levelOrdinal >= levels.length) {
+            throw new IOException("Invalid level " + levelOrdinal);
+        }
+        long epochMillis = previousMillis + readSignedVarint();
+        previousMillis = epochMillis;
+        long tick = readSignedVarint();
+        long day = readSignedVarint();
+        String category = lookup(categories, (int) readVarint(), "category");
+        int templateId = (int) readVarint();
+
+        if (templateId == BinaryLogEncoder.LITERAL_TEMPLATE) {
+            return new LogEntry(epochMillis, levels[levelOrdinal], category, readString(), null, tick, day);
+        }
+        String template = lookup(templates, templateId, "template");
+        Object[] args = new Object[(int) readVarint()];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = readArg();
+        }
+        return new LogEntry(epochMillis, levels[levelOrdinal], category, template, args, tick, day);
+    }
+
+    private Object readArg() throws IOException {
+        int tag = readByte();
+        return switch (tag) {
+            case BinaryLogEncoder.ARG_NULL -> null;
+            case BinaryLogEncoder.ARG_LONG -> readSignedVarint();
+            case BinaryLogEncoder.ARG_DOUBLE -> Double.longBitsToDouble(readFixed(8));
+            case BinaryLogEncoder.ARG_FLOAT -> Float.intBitsToFloat((int) readFixed(4));
+            case BinaryLogEncoder.ARG_BOOLEAN -> readByte() != 0;
+            case BinaryLogEncoder.ARG_STRING -> readString();
+            default -> throw new IOException("Unknown argument type " + tag);
+        };
+    }
+
+    private static String lookup(List<String> dictionary, int id, String kind) throws IOException {
+        if (id < 1 || id > dictionary.size()) {
+            throw new IOException("Undefined " + kind + " id " + id);
+        }
+        return dictionary.get(id - 1);
+    }
+
+    private String readString() throws IOException {
+        int length = (int) readVarint();
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length != length) {
+            throw new EOFException("Truncated string");
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private long readSignedVarint() throws IOException {
+        long raw = readVarint();
+        return (raw >>> 1) ^ -(raw & 1); // zigzag
+    }
+
+    private long readVarint() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    private long readFixed(int bytes) throws IOException {
+        long value = 0;
+        for (int i = 0; i < bytes; i++) {
+            value = (value << 8) | readByte();
+        }
+        return value;
+    }
+
+    private int readByte() throws IOException {
+        int b = in.read();
+        if (b < 0) {
+            throw new EOFException("Truncated binary log");
+        }
+        return b;
+    }
+
+    /**
+     * Prints each binary log file given on the command line as text.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: BinaryLogDecoder <file.sglog[.gz]>...");
+            System.exit(1);
+        }
+        BufferedWriter out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+        for (String arg : args) {
+            try (BinaryLogDecoder decoder = open(Paths.get(arg))) {
+                LogEntry entry;
+                while ((entry = decoder.next()) != null) {
+                    out.write(entry.toFileFormat());
+                    out.newLine();
+                }
+            }
+        }
+        out.flush();
+    }
+}
@@ -0,0 +1,201 @@
+package edu.scu.csen275.smartgarden.util;
+
+import edu.scu.csen275.smartgarden.util.Logger.LogEntry;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes log entries into the compact binary log format.
+ *
+ * A stream is a sequence of records, each starting with a type byte:
+ * <ul>
+ *   <li>HEADER: magic "SGLB" and a version byte; resets all dictionaries</li>
+ *   <li>CATEGORY / TEMPLATE: varint id and UTF-8 string, defined before first use</li>
+ *   <li>ENTRY: level byte, zigzag varints for the epoch-millis delta from the
+ *       previous entry, sim tick and sim day, a varint category id, then a
+ *       varint template id followed by typed arguments, or template id 0
+ *       followed by the literal message</li>
+ * </ul>
+ * Each rolled segment starts with its own header, so segments decode
+ * independently. Not thread-safe; used by the logger's writer thread only.
+ */
+public class BinaryLogEncoder {
+    static final byte[] MAGIC = {'S', 'G', 'L', 'B'};
+    static final byte VERSION = 1;
+
+    static final byte RECORD_HEADER = 0;
+    static final byte RECORD_CATEGORY = 1;
+    static final byte RECORD_TEMPLATE = 2;
+    static final byte RECORD_ENTRY = 3;
+
+    static final byte ARG_NULL = 0;
+    static final byte ARG_LONG = 1;
+    static final byte ARG_DOUBLE = 2;
+    static final byte ARG_FLOAT = 3;
+    static final byte ARG_BOOLEAN = 4;
+    static final byte ARG_STRING = 5;
+
+    static final int LITERAL_TEMPLATE = 0;
+
+    private final Map<String, Integer> categories;
+    private final Map<String, Integer> templates;
+    private byte[] buffer;
+    private int position;
+    private long previousMillis;
+    private boolean headerWritten;
+
+    /**
+     * Creates a new BinaryLogEncoder.
+     */
+    public BinaryLogEncoder() {
+        this.categories = new HashMap<>();
+        this.templates = new HashMap<>();
+        this.buffer = new byte[64 * 1024];
+    }
+
+    /**
+     * Encodes a batch of entries. The returned buffer is only valid until the
+     * next call.
+     */
+    public ByteBuffer encode(List<LogEntry> entries) {
+        position = 0;
+        if (!headerWritten) {
+            writeHeader();
+        }
+        for (LogEntry entry : entries) {
+            writeEntry(entry);
+        }
+        return ByteBuffer.wrap(buffer, 0, position);
+    }
+
+    /**
+     * Forgets all dictionary definitions so the next batch starts a
+     * self-contained stream (used after the log file rolls).
+     */
+    public void reset() {
+        categories.clear();
+        templates.clear();
+        previousMillis = 0;
+        headerWritten = false;
+    }
+
+    private void writeHeader() {
+        writeByte(RECORD_HEADER);
+        ensure(MAGIC.length + 1);
+        System.arraycopy(MAGIC, 0, buffer, position, MAGIC.length);
+        position += MAGIC.length;
+        writeByte(VERSION);
+        headerWritten = true;
+    }
+
+    private void writeEntry(LogEntry entry) {
+        int categoryId = define(categories, entry.category(), RECORD_CATEGORY);
+        Object[] args = entry.getArgs();
+        boolean literal = args == null || args.length == 0;
+        int templateId = literal ? LITERAL_TEMPLATE : define(templates, entry.getTemplate(), RECORD_TEMPLATE);
+
+        writeByte(RECORD_ENTRY);
+        writeByte((byte) entry.level().ordinal());
+        writeSignedVarint(entry.getEpochMillis() - previousMillis);
+        previousMillis = entry.getEpochMillis();
+        writeSignedVarint(entry.getSimulationTick());
+        writeSignedVarint(entry.getSimulationDay());
+        writeVarint(categoryId);
+        writeVarint(templateId);
+        if (literal) {
+            writeString(entry.message());
+            return;
+        }
+        writeVarint(args.length);
+        for (Object arg : args) {
+            writeArg(arg);
+        }
+    }
+
+    /**
+     * Returns the id for a dictionary value, emitting its definition first
+     * if it has not been seen in this stream.
+     */
+    private int define(Map<String, Integer> dictionary, String value, byte recordType) {
+        Integer id = dictionary.get(value);
+        if (id == null) {
+            id = dictionary.size() + 1; // 0 is reserved for literal messages
+            dictionary.put(value, id);
+            writeByte(recordType);
+            writeVarint(id);
+            writeString(value);
+        }
+        return id;
+    }
+
+    private void writeArg(Object arg) {
+        if (arg == null) {
+            writeByte(ARG_NULL);
+        } else if (arg instanceof Long || arg instanceof Integer || arg instanceof Short || arg instanceof Byte) {
+            writeByte(ARG_LONG);
+            writeSignedVarint(((Number) arg).longValue());
+        } else if (arg instanceof Double d) {
+            writeByte(ARG_DOUBLE);
+            writeFixed64(Double.doubleToRawLongBits(d));
+        } else if (arg instanceof Float f) {
+            writeByte(ARG_FLOAT);
+            writeFixed32(Float.floatToRawIntBits(f));
+        } else if (arg instanceof Boolean b) {
+            writeByte(ARG_BOOLEAN);
+            writeByte((byte) (b ? 1 : 0));
+        } else {
+            writeByte(ARG_STRING);
+            writeString(String.valueOf(arg));
+        }
+    }
+
+    private void writeString(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(bytes.length);
+        ensure(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    private void writeSignedVarint(long value) {
+        writeVarint((value << 1) ^ (value >> 63)); // zigzag
+    }
+
+    private void writeVarint(long value) {
+        ensure(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    private void writeFixed64(long value) {
+        ensure(8);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer[position++] = (byte) (value >>> shift);
+        }
+    }
+
+    private void writeFixed32(int value) {
+        ensure(4);
+        for (int shift = 24; shift >= 0; shift -= 8) {
+            buffer[position++] = (byte) (value >>> shift);
+        }
+    }
+
+    private void writeByte(byte value) {
+        ensure(1);
+        buffer[position++] = value;
+    }
+
+    private void ensure(int bytes) {
+        if (position + bytes > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + bytes));
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package edu.scu.csen275.smartgarden.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of log categories. Each distinct category name is interned once
+ * and given a small dense id, which the logger uses to look up the
+ * category's level threshold in an array. The categories used by the
+ * application are predefined; any other name is registered on first use.
+ */
+public final class LogCategory {
+    private static final Map<String, LogCategory> registry = new ConcurrentHashMap<>();
+    private static final List<LogCategory> categories = new ArrayList<>();
+
+    public static final LogCategory API = of("API");
+    public static final LogCategory APPLICATION = of("Application");
+    public static final LogCategory CONFIG = of("Config");
+    public static final LogCategory CONTROLLER = of("Controller");
+    public static final LogCategory COOLING = of("Cooling");
+    public static final LogCategory GARDEN = of("Garden");
+    public static final LogCategory HEATING = of("Heating");
+    public static final LogCategory LOGGER = of("Logger");
+    public static final LogCategory METRICS = of("Metrics");
+    public static final LogCategory PEST_CONTROL = of("PestControl");
+    public static final LogCategory PLANT = of("Plant");
+    public static final LogCategory RESOURCES = of("Resources");
+    public static final LogCategory SIMULATION = of("Simulation");
+    public static final LogCategory STATISTICS = of("Statistics");
+    public static final LogCategory SYSTEM = of("System");
+    public static final LogCategory WATERING = of("Watering");
+    public static final LogCategory WEATHER = of("Weather");
+
+    private final String name;
+    private final int id;
+
+    private LogCategory(String name, int id) {
+        this.name = name;
+        this.id = id;
+    }
+
+    /**
+     * Gets the category with this name, registering it if it is new.
+     */
+    public static LogCategory of(String name) {
+        LogCategory category = registry.get(name);
+        if (category != null) {
+            return category;
+        }
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Category name cannot be empty");
+        }
+        synchronized (categories) {
+            return registry.computeIfAbsent(name, n -> {
+                LogCategory created = new LogCategory(n, categories.size());
+                categories.add(created);
+                return created;
+            });
+        }
+    }
+
+    /**
+     * Gets every registered category, in registration order.
+     */
+    public static List<LogCategory> values() {
+        synchronized (categories) {
+            return new ArrayList<>(categories);
+        }
+    }
+
+    /**
+     * Gets the number of registered categories; ids are below this value.
+     */
+    public static int count() {
+        synchronized (categories) {
+            return categories.size();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
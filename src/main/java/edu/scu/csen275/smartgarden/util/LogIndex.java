@@ -0,0 +1,144 @@
+package edu.scu.csen275.smartgarden.util;
+
+import edu.scu.csen275.smartgarden.util.Logger.LogEntry;
+import edu.scu.csen275.smartgarden.util.Logger.LogLevel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * In-memory log store with per-category and per-level indexes.
+ * Entries are kept only in the main ring. The indexes hold the sequence
+ * numbers of their entries in that ring, so a query only scans the smallest
+ * index that can contain its results, memory stays bounded by the main
+ * ring's capacity, and entries the main ring has overwritten are skipped.
+ */
+public class LogIndex {
+    private final int capacity;
+    private final LogRingBuffer<LogEntry> all;
+    private final Map<String, SequenceRing> byCategory;
+    private final SequenceRing[] byLevel;
+
+    /**
+     * Creates a new LogIndex.
+     */
+    public LogIndex(int capacity) {
+        this.capacity = capacity;
+        this.all = new LogRingBuffer<>(capacity);
+        this.byCategory = new ConcurrentHashMap<>();
+        this.byLevel = new SequenceRing[LogLevel.values().length];
+        for (int i = 0; i < byLevel.length; i++) {
+            byLevel[i] = new SequenceRing(capacity);
+        }
+    }
+
+    /**
+     * Adds an entry to the store and its indexes. Safe to call from any thread.
+     */
+    public void add(LogEntry entry) {
+        long sequence = all.add(entry);
+        SequenceRing categoryRing = byCategory.get(entry.category());
+        if (categoryRing == null) {
+            categoryRing = byCategory.computeIfAbsent(entry.category(), c -> new SequenceRing(capacity));
+        }
+        categoryRing.add(sequence);
+        byLevel[entry.level().ordinal()].add(sequence);
+    }
+
+    /**
+     * Gets the matching entries, oldest first.
+     */
+    public List<LogEntry> query(LogQuery query) {
+        List<LogEntry> result = new ArrayList<>();
+        if (query.getCategory() == null && query.getLevel() == null) {
+            all.forEach(entry -> {
+                if (query.matches(entry)) {
+                    result.add(entry);
+                }
+            });
+            return result;
+        }
+
+        SequenceRing source = selectSource(query);
+        if (source == null) {
+            return result;
+        }
+        long end = source.cursor.get();
+        for (long i = Math.max(0, end - capacity); i < end; i++) {
+            long sequence = source.get(i);
+            LogEntry entry = sequence >= 0 ? all.get(sequence) : null;
+            if (entry != null && query.matches(entry)) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets up to count of the most recent entries, oldest first.
+     */
+    public List<LogEntry> recent(int count) {
+        return all.recent(count);
+    }
+
+    /**
+     * Gets every entry in the main ring, oldest first.
+     */
+    public List<LogEntry> snapshot() {
+        return all.snapshot();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Picks the smaller of the category and level indexes the query allows,
+     * or null if the category has never been logged. Both are complete for
+     * the main ring's window, since each holds as many positions as it does.
+     */
+    private SequenceRing selectSource(LogQuery query) {
+        SequenceRing source = null;
+        if (query.getCategory() != null) {
+            source = byCategory.get(query.getCategory());
+            if (source == null) {
+                return null;
+            }
+        }
+        if (query.getLevel() != null) {
+            SequenceRing levelRing = byLevel[query.getLevel().ordinal()];
+            if (source == null || levelRing.size() < source.size()) {
+                source = levelRing;
+            }
+        }
+        return source;
+    }
+
+    /**
+     * Lock-free ring of sequence numbers into the main ring.
+     */
+    private static final class SequenceRing {
+        private final AtomicLongArray slots; // sequence + 1; 0 means empty
+        private final AtomicLong cursor = new AtomicLong();
+
+        SequenceRing(int capacity) {
+            this.slots = new AtomicLongArray(capacity);
+        }
+
+        void add(long sequence) {
+            long position = cursor.getAndIncrement();
+            slots.set((int) (position % slots.length()), sequence + 1);
+        }
+
+        long get(long position) {
+            return slots.get((int) (position % slots.length())) - 1;
+        }
+
+        int size() {
+            return (int) Math.min(slots.length(), cursor.get());
+        }
+    }
+}
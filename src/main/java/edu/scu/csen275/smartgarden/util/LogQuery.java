@@ -0,0 +1,116 @@
+package edu.scu.csen275.smartgarden.util;
+
+import edu.scu.csen275.smartgarden.util.Logger.LogEntry;
+import edu.scu.csen275.smartgarden.util.Logger.LogLevel;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Immutable set of criteria for searching logs. Unset criteria match
+ * everything, e.g. {@code LogQuery.all().category("PestControl")
+ * .level(LogLevel.WARNING).onDay(12)}.
+ */
+public final class LogQuery {
+    private final String category;
+    private final LogLevel level;
+    private final long fromMillis;
+    private final long toMillis;
+    private final long day;
+
+    private static final LogQuery ALL = new LogQuery(null, null, Long.MIN_VALUE, Long.MAX_VALUE, -1);
+
+    private LogQuery(String category, LogLevel level, long fromMillis, long toMillis, long day) {
+        this.category = category;
+        this.level = level;
+        this.fromMillis = fromMillis;
+        this.toMillis = toMillis;
+        this.day = day;
+    }
+
+    /**
+     * Gets a query that matches every entry.
+     */
+    public static LogQuery all() {
+        return ALL;
+    }
+
+    public LogQuery category(String newCategory) {
+        return new LogQuery(newCategory, level, fromMillis, toMillis, day);
+    }
+
+    public LogQuery level(LogLevel newLevel) {
+        return new LogQuery(category, newLevel, fromMillis, toMillis, day);
+    }
+
+    /**
+     * Restricts the query to entries logged between the two instants, inclusive.
+     */
+    public LogQuery between(long newFromMillis, long newToMillis) {
+        if (newFromMillis > newToMillis) {
+            throw new IllegalArgumentException("Start of range must not be after its end");
+        }
+        return new LogQuery(category, level, newFromMillis, newToMillis, day);
+    }
+
+    public LogQuery between(LocalDateTime from, LocalDateTime to) {
+        ZoneId zone = ZoneId.systemDefault();
+        return between(from.atZone(zone).toInstant().toEpochMilli(), to.atZone(zone).toInstant().toEpochMilli());
+    }
+
+    /**
+     * Restricts the query to entries logged on one simulated day.
+     */
+    public LogQuery onDay(long newDay) {
+        if (newDay < 0) {
+            throw new IllegalArgumentException("Day cannot be negative");
+        }
+        return new LogQuery(category, level, fromMillis, toMillis, newDay);
+    }
+
+    /**
+     * Returns true if the entry satisfies every criterion.
+     */
+    public boolean matches(LogEntry entry) {
+        return (category == null || category.equals(entry.category()))
+            && (level == null || level == entry.level())
+            && (day < 0 || day == entry.getSimulationDay())
+            && matchesTime(entry.getEpochMillis());
+    }
+
+    boolean matchesTime(long epochMillis) {
+        return epochMillis >= fromMillis && epochMillis <= toMillis;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public LogLevel getLevel() {
+        return level;
+    }
+
+    public long getFromMillis() {
+        return fromMillis;
+    }
+
+    public long getToMillis() {
+        return toMillis;
+    }
+
+    /**
+     * Gets the simulated day, or -1 if any day matches.
+     */
+    public long getDay() {
+        return day;
+    }
+
+    public boolean hasTimeRange() {
+        return fromMillis != Long.MIN_VALUE || toMillis != Long.MAX_VALUE;
+    }
+
+    @Override
+    public String toString() {
+        return "LogQuery[category=" + category + ", level=" + level + ", from=" + fromMillis +
+               ", to=" + toMillis + ", day=" + day + "]";
+    }
+}
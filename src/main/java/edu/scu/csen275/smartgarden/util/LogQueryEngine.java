@@ -0,0 +1,261 @@
+package edu.scu.csen275.smartgarden.util;
+
+import edu.scu.csen275.smartgarden.util.LogSegmentIndex.Segment;
+import edu.scu.csen275.smartgarden.util.Logger.LogEntry;
+import edu.scu.csen275.smartgarden.util.Logger.LogLevel;
+import java.io.BufferedReader;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Runs log queries against the files written by a {@link RollingLogFile}.
+ * The segment index is consulted first so only segments whose time range,
+ * simulated day, levels and categories can match are opened. Plain files are memory-mapped and
+ * filtered on raw bytes, so non-matching lines are never decoded; compressed
+ * segments are streamed through a gzip reader.
+ *
+ * Timestamps in text logs have one-second resolution, so time ranges are
+ * matched to the second. Binary logs (.sglog) are decoded entry by entry and
+ * matched exactly.
+ */
+public class LogQueryEngine {
+    private final RollingLogFile logFile;
+
+    // Line layout written by LogEntry.appendFileFormat:
+    // [yyyy-MM-dd HH:mm:ss] LEVEL   [category       ] message
+    private static final int TIMESTAMP_START = 1;
+    private static final int TIMESTAMP_LENGTH = 19;
+    private static final int LEVEL_START = 22;
+    private static final int CATEGORY_START = 31;
+    private static final long MAP_CHUNK_BYTES = 256L * 1024 * 1024;
+
+    /**
+     * Creates a LogQueryEngine over one rolling log.
+     */
+    public LogQueryEngine(RollingLogFile logFile) {
+        this.logFile = logFile;
+    }
+
+    /**
+     * Gets the matching entries from every rolled segment and the active file,
+     * oldest first. Entries read back from text logs carry no tick or day.
+     */
+    public List<LogEntry> query(LogQuery query) throws IOException {
+        LineMatcher matcher = new LineMatcher(query);
+        List<LogEntry> result = new ArrayList<>();
+        boolean binary = logFile.getActiveFile().getFileName().toString().endsWith(".sglog");
+
+        for (Segment segment : logFile.getIndex().findOverlapping(query.getFromMillis(), query.getToMillis())) {
+            if ((query.getDay() >= 0 && segment.day() != query.getDay())
+                    || !segment.mayContain(query.getLevel(), query.getCategory())) {
+                continue;
+            }
+            Path compressed = segment.file().resolveSibling(segment.file().getFileName() + ".gz");
+            if (binary) {
+                scanBinary(Files.exists(segment.file()) ? segment.file() : compressed, query, result);
+            } else if (segment.compressed()) {
+                scanCompressed(segment.file(), matcher, result);
+            } else if (Files.exists(segment.file())) {
+                scanMapped(segment.file(), matcher, result);
+            } else {
+                scanCompressed(compressed, matcher, result); // compressed since the index was read
+            }
+        }
+
+        long[] range = logFile.getActiveRange();
+        boolean activeMatches = range[0] < 0 || (range[0] <= query.getToMillis() && range[1] >= query.getFromMillis());
+        if (activeMatches && (query.getDay() < 0 || logFile.getActiveDay() == query.getDay())) {
+            if (binary) {
+                scanBinary(logFile.getActiveFile(), query, result);
+            } else {
+                scanMapped(logFile.getActiveFile(), matcher, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Scans a plain log file through read-only memory maps, one chunk at a time.
+     */
+    private static void scanMapped(Path file, LineMatcher matcher, List<LogEntry> result) throws IOException {
+        if (!Files.exists(file)) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                long length = Math.min(MAP_CHUNK_BYTES, size - position);
+                MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                int lineStart = 0;
+                int limit = map.limit();
+                for (int i = 0; i < limit; i++) {
+                    if (map.get(i) == '\n') {
+                        matcher.matchBytes(map, lineStart, i, result);
+                        lineStart = i + 1;
+                    }
+                }
+                if (lineStart == 0 && position + length < size) {
+                    throw new IOException("Log line longer than " + MAP_CHUNK_BYTES + " bytes in " + file);
+                }
+                // Continue from the start of the partial line, or stop at a trailing partial line
+                position += lineStart;
+                if (position + (limit - lineStart) >= size) {
+                    break;
+                }
+            }
+        }
+    }
+
+    private static void scanBinary(Path file, LogQuery query, List<LogEntry> result) throws IOException {
+        if (!Files.exists(file)) {
+            return;
+        }
+        try (BinaryLogDecoder decoder = BinaryLogDecoder.open(file)) {
+            LogEntry entry;
+            while ((entry = decoder.next()) != null) {
+                if (query.matches(entry)) {
+                    result.add(entry);
+                }
+            }
+        } catch (EOFException e) {
+            // The active file may end in a record that is still being written
+        }
+    }
+
+    private static void scanCompressed(Path file, LineMatcher matcher, List<LogEntry> result) throws IOException {
+        if (!Files.exists(file)) {
+            return; // removed by retention since the index was read
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                matcher.matchString(line, result);
+            }
+        }
+    }
+
+    /**
+     * Tests lines against a query, cheapest checks first.
+     */
+    private static final class LineMatcher {
+        private final LogQuery query;
+        private final byte[] level;
+        private final byte[] category;
+        private final ZoneId zone = ZoneId.systemDefault();
+        private long cachedMinuteKey = Long.MIN_VALUE;
+        private long cachedMinuteMillis;
+
+        LineMatcher(LogQuery query) {
+            this.query = query;
+            this.level = query.getLevel() != null ? query.getLevel().name().getBytes(StandardCharsets.US_ASCII) : null;
+            this.category = query.getCategory() != null
+                ? query.getCategory().getBytes(StandardCharsets.UTF_8) : null;
+        }
+
+        void matchBytes(MappedByteBuffer map, int start, int end, List<LogEntry> result) {
+            if (end > start && map.get(end - 1) == '\r') {
+                end--;
+            }
+            if (end - start <= CATEGORY_START || map.get(start) != '[') {
+                return; // header or blank line
+            }
+            if (level != null && !fieldMatches(map, start + LEVEL_START, end, level)) {
+                return;
+            }
+            if (category != null && !fieldMatches(map, start + CATEGORY_START, end, category)) {
+                return;
+            }
+            byte[] bytes = new byte[end - start];
+            map.get(start, bytes);
+            matchString(new String(bytes, StandardCharsets.UTF_8), result);
+        }
+
+        void matchString(String line, List<LogEntry> result) {
+            if (line.length() <= CATEGORY_START || line.charAt(0) != '[') {
+                return;
+            }
+            int levelEnd = line.indexOf(' ', LEVEL_START);
+            int categoryEnd = line.indexOf("] ", CATEGORY_START);
+            if (levelEnd < 0 || categoryEnd < 0) {
+                return;
+            }
+            LogLevel entryLevel;
+            try {
+                entryLevel = LogLevel.valueOf(line.substring(LEVEL_START, levelEnd));
+            } catch (IllegalArgumentException e) {
+                return; // not a log entry line
+            }
+            String entryCategory = line.substring(CATEGORY_START, categoryEnd).stripTrailing();
+            if ((query.getLevel() != null && entryLevel != query.getLevel())
+                    || (query.getCategory() != null && !query.getCategory().equals(entryCategory))) {
+                return;
+            }
+            long millis = parseTimestamp(line);
+            if (millis == Long.MIN_VALUE) {
+                return;
+            }
+            // Second resolution: match if any instant within that second is in range
+            if (query.hasTimeRange() && !(millis + 999 >= query.getFromMillis() && millis <= query.getToMillis())) {
+                return;
+            }
+            result.add(new LogEntry(LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), zone),
+                entryLevel, entryCategory, line.substring(categoryEnd + 2)));
+        }
+
+        private static boolean fieldMatches(MappedByteBuffer map, int position, int end, byte[] expected) {
+            if (position + expected.length >= end) {
+                return false;
+            }
+            for (int i = 0; i < expected.length; i++) {
+                if (map.get(position + i) != expected[i]) {
+                    return false;
+                }
+            }
+            byte next = map.get(position + expected.length);
+            return next == ' ' || next == ']';
+        }
+
+        /**
+         * Parses "yyyy-MM-dd HH:mm:ss" at the start of the line, reusing the
+         * zone conversion for every line within the same minute.
+         */
+        private long parseTimestamp(String line) {
+            int p = TIMESTAMP_START;
+            if (line.length() < p + TIMESTAMP_LENGTH) {
+                return Long.MIN_VALUE;
+            }
+            try {
+                int year = Integer.parseInt(line, p, p + 4, 10);
+                int month = Integer.parseInt(line, p + 5, p + 7, 10);
+                int dayOfMonth = Integer.parseInt(line, p + 8, p + 10, 10);
+                int hour = Integer.parseInt(line, p + 11, p + 13, 10);
+                int minute = Integer.parseInt(line, p + 14, p + 16, 10);
+                int second = Integer.parseInt(line, p + 17, p + 19, 10);
+                long minuteKey = ((((long) year * 13 + month) * 32 + dayOfMonth) * 24 + hour) * 60 + minute;
+                if (minuteKey != cachedMinuteKey) {
+                    cachedMinuteKey = minuteKey;
+                    cachedMinuteMillis = LocalDateTime.of(year, month, dayOfMonth, hour, minute)
+                        .atZone(zone).toInstant().toEpochMilli();
+                }
+                return cachedMinuteMillis + second * 1000L;
+            } catch (RuntimeException e) {
+                return Long.MIN_VALUE;
+            }
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package edu.scu.csen275.smartgarden.util;
+
+import edu.scu.csen275.smartgarden.util.Logger.LogEntry;
+import edu.scu.csen275.smartgarden.util.Logger.LogLevel;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Folds repeated log messages into periodic summaries.
+ * Entries are grouped by category and message template, so per-plant lines
+ * that differ only in their arguments share one budget. Each group may write
+ * a limited number of entries per window of simulation ticks; the rest are
+ * counted and reported as "(repeated N times in last M ticks)" once the
+ * window closes. ERROR entries and entries logged outside a running
+ * simulation are never limited.
+ *
+ * Limits may be changed from any thread, but admit() and sweep() must only
+ * be called from the logger's writer thread.
+ */
+public class LogRateLimiter {
+    private final Map<String, RateLimit> categoryLimits;
+    private volatile RateLimit defaultLimit;
+
+    // Writer-thread state: category -> template -> open window
+    private final Map<String, Map<String, Window>> windows;
+    private long nextSweepTick;
+
+    private static final int SWEEP_INTERVAL_TICKS = 10;
+
+    /**
+     * Creates a new LogRateLimiter.
+     */
+    public LogRateLimiter(RateLimit defaultLimit) {
+        this.categoryLimits = new ConcurrentHashMap<>();
+        this.defaultLimit = defaultLimit;
+        this.windows = new HashMap<>();
+    }
+
+    /**
+     * Decides whether an entry should be written. Summaries for windows that
+     * close as a result are passed to the consumer before returning.
+     */
+    public boolean admit(LogEntry entry, Consumer<LogEntry> summaries) {
+        long tick = entry.getSimulationTick();
+        if (tick < 0 || entry.level() == LogLevel.ERROR) {
+            return true;
+        }
+        RateLimit limit = getLimit(entry.category());
+        if (limit.isUnlimited()) {
+            return true;
+        }
+
+        Window window = windows
+            .computeIfAbsent(entry.category(), c -> new HashMap<>())
+            .computeIfAbsent(entry.getTemplate(), t -> new Window());
+        if (window.isExpired(tick) || tick < window.startTick) {
+            window.close(summaries);
+            window.open(tick, limit.windowTicks());
+        }
+        if (window.admitted < limit.maxPerWindow()) {
+            window.admitted++;
+            return true;
+        }
+        window.suppressed++;
+        window.lastSuppressed = entry;
+        return false;
+    }
+
+    /**
+     * Closes every window that has ended by the given tick, emitting summaries
+     * for the ones that suppressed entries. Cheap when called every batch.
+     */
+    public void sweep(long currentTick, Consumer<LogEntry> summaries) {
+        if (currentTick >= 0 && currentTick < nextSweepTick) {
+            return;
+        }
+        nextSweepTick = currentTick + SWEEP_INTERVAL_TICKS;
+
+        for (Map<String, Window> templates : windows.values()) {
+            Iterator<Window> it = templates.values().iterator();
+            while (it.hasNext()) {
+                Window window = it.next();
+                // A negative tick means the simulation stopped; close everything
+                if (currentTick < 0 || window.isExpired(currentTick)) {
+                    window.close(summaries);
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Sets the limit for one category, overriding the default.
+     */
+    public void setLimit(String category, RateLimit limit) {
+        categoryLimits.put(category, limit);
+    }
+
+    /**
+     * Removes a category override so the default limit applies again.
+     */
+    public void clearLimit(String category) {
+        categoryLimits.remove(category);
+    }
+
+    public RateLimit getLimit(String category) {
+        return categoryLimits.getOrDefault(category, defaultLimit);
+    }
+
+    public void setDefaultLimit(RateLimit limit) {
+        this.defaultLimit = limit;
+    }
+
+    public RateLimit getDefaultLimit() {
+        return defaultLimit;
+    }
+
+    /**
+     * Allows maxPerWindow entries per group every windowTicks ticks.
+     */
+    public record RateLimit(int maxPerWindow, int windowTicks) {
+        public static final RateLimit UNLIMITED = new RateLimit(Integer.MAX_VALUE, 1);
+
+        public RateLimit {
+            if (maxPerWindow < 1 || windowTicks < 1) {
+                throw new IllegalArgumentException("Rate limit values must be positive");
+            }
+        }
+
+        public boolean isUnlimited() {
+            return maxPerWindow == Integer.MAX_VALUE;
+        }
+
+        /**
+         * Parses "max/ticks" (e.g. "2/20") or "unlimited".
+         */
+        public static RateLimit parse(String spec) {
+            String trimmed = spec.trim();
+            if (trimmed.equalsIgnoreCase("unlimited")) {
+                return UNLIMITED;
+            }
+            int slash = trimmed.indexOf('/');
+            if (slash < 0) {
+                throw new IllegalArgumentException("Expected max/ticks but got: " + spec);
+            }
+            return new RateLimit(Integer.parseInt(trimmed.substring(0, slash).trim()),
+                                 Integer.parseInt(trimmed.substring(slash + 1).trim()));
+        }
+
+        @Override
+        public String toString() {
+            return isUnlimited() ? "unlimited" : maxPerWindow + "/" + windowTicks;
+        }
+    }
+
+    /**
+     * Budget for one category/template group.
+     */
+    private static final class Window {
+        private long startTick = Long.MIN_VALUE;
+        private int windowTicks = 1;
+        private int admitted;
+        private int suppressed;
+        private LogEntry lastSuppressed;
+
+        boolean isExpired(long tick) {
+            return startTick == Long.MIN_VALUE || tick >= startTick + windowTicks;
+        }
+
+        void open(long tick, int ticks) {
+            startTick = tick;
+            windowTicks = ticks;
+            admitted = 0;
+            suppressed = 0;
+            lastSuppressed = null;
+        }
+
+        void close(Consumer<LogEntry> summaries) {
+            if (suppressed > 0) {
+                long span = lastSuppressed.getSimulationTick() - startTick + 1;
+                summaries.accept(new LogEntry(lastSuppressed.getEpochMillis(), lastSuppressed.level(),
+                    lastSuppressed.category(),
+                    lastSuppressed.message() + " (repeated " + suppressed + " times in last " +
+                        span + " ticks)",
+                    null, lastSuppressed.getSimulationTick(), lastSuppressed.getSimulationDay()));
+            }
+            suppressed = 0;
+            lastSuppressed = null;
+        }
+    }
+}
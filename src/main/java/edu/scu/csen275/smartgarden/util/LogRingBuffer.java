@@ -0,0 +1,112 @@
+package edu.scu.csen275.smartgarden.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Fixed-capacity lock-free ring buffer that retains the most recent entries.
+ * Any number of threads may append and read concurrently. Once the buffer is
+ * full, each append overwrites the oldest entry, so memory stays bounded no
+ * matter how long the simulation runs.
+ *
+ * @param <E> entry type
+ */
+public class LogRingBuffer<E> {
+    private final int capacity;
+    private final AtomicReferenceArray<Slot<E>> slots;
+    private final AtomicLong cursor;
+
+    /**
+     * Creates a new LogRingBuffer.
+     */
+    public LogRingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.cursor = new AtomicLong();
+    }
+
+    /**
+     * Appends an entry, overwriting the oldest one when full.
+     *
+     * @return the entry's sequence number, for {@link #get(long)}
+     */
+    public long add(E entry) {
+        long sequence = cursor.getAndIncrement();
+        slots.set((int) (sequence % capacity), new Slot<>(sequence, entry));
+        return sequence;
+    }
+
+    /**
+     * Gets the entry with a sequence number, or null if it has been
+     * overwritten or is still being written.
+     */
+    public E get(long sequence) {
+        Slot<E> slot = slots.get((int) (sequence % capacity));
+        return slot != null && slot.sequence() == sequence ? slot.entry() : null;
+    }
+
+    /**
+     * Gets up to {@code count} of the most recent entries, oldest first.
+     * Runs in O(count) regardless of how many entries were ever appended.
+     */
+    public List<E> recent(int count) {
+        long end = cursor.get();
+        long start = Math.max(0, end - Math.min(count, capacity));
+        List<E> result = new ArrayList<>((int) (end - start));
+        for (long sequence = start; sequence < end; sequence++) {
+            Slot<E> slot = slots.get((int) (sequence % capacity));
+            // Skip slots still being written or already overwritten by a newer lap
+            if (slot != null && slot.sequence() == sequence) {
+                result.add(slot.entry());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets every retained entry, oldest first.
+     */
+    public List<E> snapshot() {
+        return recent(capacity);
+    }
+
+    /**
+     * Visits every retained entry, oldest first, without copying the buffer.
+     */
+    public void forEach(Consumer<? super E> action) {
+        long end = cursor.get();
+        for (long sequence = Math.max(0, end - capacity); sequence < end; sequence++) {
+            Slot<E> slot = slots.get((int) (sequence % capacity));
+            if (slot != null && slot.sequence() == sequence) {
+                action.accept(slot.entry());
+            }
+        }
+    }
+
+    /**
+     * Gets the number of retained entries.
+     */
+    public int size() {
+        return (int) Math.min(capacity, cursor.get());
+    }
+
+    /**
+     * Gets the number of entries ever appended.
+     */
+    public long getTotalAppended() {
+        return cursor.get();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    private record Slot<E>(long sequence, E entry) {
+    }
+}
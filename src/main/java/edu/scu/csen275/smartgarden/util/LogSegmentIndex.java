@@ -0,0 +1,239 @@
+package edu.scu.csen275.smartgarden.util;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Index of rolled log segments with the time range, simulated day, levels
+ * and categories each one covers. It is persisted as a small tab-separated
+ * file next to the segments, so queries can pick the relevant files without
+ * opening the rest.
+ */
+public class LogSegmentIndex {
+    private final Path indexFile;
+    private final List<Segment> segments;
+
+    /**
+     * Creates a LogSegmentIndex backed by the given file, loading any
+     * segments recorded by an earlier session.
+     */
+    public LogSegmentIndex(Path indexFile) {
+        this.indexFile = indexFile;
+        this.segments = new ArrayList<>();
+        load();
+    }
+
+    /**
+     * Records a newly rolled segment.
+     */
+    public synchronized void add(Segment segment) {
+        segments.add(segment);
+        save();
+    }
+
+    /**
+     * Replaces a segment entry, e.g. once it has been compressed.
+     */
+    public synchronized void replace(Segment oldSegment, Segment newSegment) {
+        int position = segments.indexOf(oldSegment);
+        if (position >= 0) {
+            segments.set(position, newSegment);
+            save();
+        }
+    }
+
+    /**
+     * Removes and returns the oldest segments until the files of the rest
+     * take at most maxTotalBytes on disk.
+     */
+    public synchronized List<Segment> trimToBytes(long maxTotalBytes) {
+        long total = 0;
+        long[] sizes = new long[segments.size()];
+        for (int i = 0; i < sizes.length; i++) {
+            sizes[i] = sizeOf(segments.get(i).file());
+            total += sizes[i];
+        }
+        List<Segment> removed = new ArrayList<>();
+        for (int i = 0; total > maxTotalBytes && i < sizes.length; i++) {
+            removed.add(segments.remove(0));
+            total -= sizes[i];
+        }
+        if (!removed.isEmpty()) {
+            save();
+        }
+        return removed;
+    }
+
+    /**
+     * Gets all segments, oldest first.
+     */
+    public synchronized List<Segment> getSegments() {
+        return new ArrayList<>(segments);
+    }
+
+    /**
+     * Gets the segments whose time range overlaps [fromMillis, toMillis].
+     */
+    public synchronized List<Segment> findOverlapping(long fromMillis, long toMillis) {
+        List<Segment> result = new ArrayList<>();
+        for (Segment segment : segments) {
+            if (segment.overlaps(fromMillis, toMillis)) {
+                result.add(segment);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the highest sequence number recorded, or 0 if there is none.
+     */
+    public synchronized int getLastSequence() {
+        int last = 0;
+        for (Segment segment : segments) {
+            last = Math.max(last, segment.sequence());
+        }
+        return last;
+    }
+
+    public Path getIndexFile() {
+        return indexFile;
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return 0; // already gone
+        }
+    }
+
+    private void load() {
+        if (!Files.exists(indexFile)) {
+            return;
+        }
+        try {
+            Path directory = indexFile.toAbsolutePath().getParent();
+            for (String line : Files.readAllLines(indexFile, StandardCharsets.UTF_8)) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                Segment segment = Segment.parse(line, directory);
+                if (Files.exists(segment.file())) {
+                    segments.add(segment);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Ignoring unreadable log segment index " + indexFile + ": " + e.getMessage());
+        }
+    }
+
+    private void save() {
+        StringBuilder sb = new StringBuilder();
+        for (Segment segment : segments) {
+            sb.append(segment.toIndexLine()).append('\n');
+        }
+        try {
+            // Write then move so a crash never leaves a half-written index
+            Path temp = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+            Files.writeString(temp, sb, StandardCharsets.UTF_8);
+            Files.move(temp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("Failed to update log segment index: " + e.getMessage());
+        }
+    }
+
+    /**
+     * One rolled log file.
+     *
+     * @param file path of the segment (".gz" once compressed)
+     * @param sequence roll number, increasing over the life of the log
+     * @param firstMillis timestamp of the first entry, or -1 if unknown
+     * @param lastMillis timestamp of the last entry, or -1 if unknown
+     * @param day simulated day the segment covers, or -1 if unknown
+     * @param compressed whether the file is gzip-compressed
+     * @param levels bit set of the LogLevel ordinals present, or -1 if unknown
+     * @param categories names of the categories present, or null if unknown
+     */
+    public record Segment(Path file, int sequence, long firstMillis, long lastMillis, long day,
+                          boolean compressed, int levels, Set<String> categories) {
+
+        /**
+         * Creates a segment whose levels and categories are unknown.
+         */
+        public Segment(Path file, int sequence, long firstMillis, long lastMillis, long day, boolean compressed) {
+            this(file, sequence, firstMillis, lastMillis, day, compressed, -1, null);
+        }
+
+        /**
+         * Returns true if this segment may contain entries with the level and
+         * category; null matches any. Unknown contents always match.
+         */
+        public boolean mayContain(Logger.LogLevel level, String category) {
+            if (level != null && (levels & (1 << level.ordinal())) == 0) {
+                return false;
+            }
+            return category == null || categories == null || categories.contains(category);
+        }
+
+        /**
+         * Returns true if this segment may contain entries in the range.
+         * Segments with an unknown range always match.
+         */
+        public boolean overlaps(long fromMillis, long toMillis) {
+            if (firstMillis < 0 || lastMillis < 0) {
+                return true;
+            }
+            return firstMillis <= toMillis && lastMillis >= fromMillis;
+        }
+
+        public Segment withFile(Path newFile, boolean isCompressed) {
+            return new Segment(newFile, sequence, firstMillis, lastMillis, day, isCompressed, levels, categories);
+        }
+
+        /**
+         * Copies category names for a segment, or returns null (unknown) if
+         * any name cannot be stored in the index file.
+         */
+        static Set<String> categorySet(Collection<String> names) {
+            Set<String> set = new TreeSet<>();
+            for (String name : names) {
+                if (name.isEmpty() || name.indexOf(',') >= 0 || name.indexOf('\t') >= 0
+                        || name.indexOf('\n') >= 0 || name.indexOf('\r') >= 0 || name.equals("*")) {
+                    return null;
+                }
+                set.add(name);
+            }
+            return Set.copyOf(set);
+        }
+
+        String toIndexLine() {
+            return file.getFileName() + "\t" + sequence + "\t" + firstMillis + "\t" + lastMillis + "\t" +
+                   day + "\t" + compressed + "\t" + levels + "\t" +
+                   (categories != null ? String.join(",", new TreeSet<>(categories)) : "*");
+        }
+
+        static Segment parse(String line, Path directory) {
+            String[] fields = line.split("\t", -1);
+            if (fields.length != 6 && fields.length != 8) {
+                throw new IllegalArgumentException("Malformed index line: " + line);
+            }
+            // Indexes written before levels and categories were recorded have six fields
+            int levels = fields.length == 8 ? Integer.parseInt(fields[6]) : -1;
+            Set<String> categories = null;
+            if (fields.length == 8 && !fields[7].equals("*")) {
+                categories = fields[7].isEmpty() ? Set.of() : Set.of(fields[7].split(","));
+            }
+            return new Segment(directory.resolve(fields[0]), Integer.parseInt(fields[1]),
+                Long.parseLong(fields[2]), Long.parseLong(fields[3]), Long.parseLong(fields[4]),
+                Boolean.parseBoolean(fields[5]), levels, categories);
+        }
+    }
+}
@@ -1,66 +1,192 @@
 package edu.scu.csen275.smartgarden.util;
 
-import java.io.BufferedWriter;
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardOpenOption;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
 
 /**
  * Centralized logging system for the Smart Garden application.
  * Thread-safe singleton implementation with file and in-memory logging.
+ * 
+ * Callers only enqueue entries into a bounded ring buffer; a single background
+ * writer thread batches them to the session log file and, in API mode, to
+ * log.txt. Simulation threads therefore never block on disk I/O unless the
+ * BLOCK overflow policy is selected.
+ * 
+ * Messages can be passed as a template with {} placeholders plus arguments,
+ * or as a Supplier. Either way nothing is built for a disabled level, and
+ * templates are only expanded when the entry is rendered.
+ * 
+ * While a simulation is running, entries are tagged with the current tick.
+ * With -Dsmartgarden.log.rateLimit=max/ticks (e.g. 2/20), repeated messages
+ * are folded into summaries by a {@link LogRateLimiter} before they reach
+ * the session log and log.txt; by default nothing is folded. The in-memory
+ * log always keeps every entry.
+ * 
+ * Both the session log and log.txt are {@link RollingLogFile}s: they roll
+ * over by size and by simulated day, and rolled segments are compressed in
+ * the background and listed in a segment index with the levels and
+ * categories they hold. The oldest segments are deleted once the rolled
+ * files exceed smartgarden.log.maxTotalBytes (4 GB by default).
+ * 
+ * With -Dsmartgarden.log.format=binary the session log is written in the
+ * compact {@link BinaryLogEncoder} format (logs/garden_*.sglog) instead of
+ * text; {@link BinaryLogDecoder} renders it back. log.txt is always text.
  */
 public class Logger {
-    private static Logger instance;
+    private static volatile Logger instance;
     private static final Object lock = new Object();
     
     private final Path logFilePath;
     private final String sessionId;
-    private final ConcurrentLinkedQueue<LogEntry> buffer;
-    private final List<LogEntry> memoryLog;
-    private LogLevel minLogLevel;
-    private BufferedWriter writer;
+    private final MpscRingBuffer<LogEntry> buffer;
+    private volatile LogIndex memoryLog;
+    private final Thread writerThread;
+    private final LongAdder droppedEntries;
+    private volatile LogLevel minLogLevel;
+    private final Map<String, LogLevel> categoryLevels; // per-category overrides
+    private volatile byte[] categoryThresholds; // effective level ordinal by category id
+    private volatile OverflowPolicy overflowPolicy;
+    private volatile long writtenIndex; // entries written by the writer thread
+    private volatile boolean closed;
+    private volatile long simulationTick = -1;
+    private volatile long simulationDay = -1;
+    private final LogRateLimiter rateLimiter;
+    private final RollingLogFile logFile;
+    
+    // Writer-thread state, reused for every batch
+    private final List<LogEntry> batchEntries;
+    private final BinaryLogEncoder binaryEncoder; // null when the session log is text
+    private final StringBuilder batchText;
+    private final CharsetEncoder encoder;
+    private ByteBuffer batchBytes;
+    private long cachedSecond = Long.MIN_VALUE;
+    private String cachedTimestamp;
+    private long batchFirstMillis = -1;
+    private long batchLastMillis;
+    private int batchLevels; // bit set of LogLevel ordinals in the batch
+    private final Set<String> batchCategories = new HashSet<>();
     
     // API logging support - write to log.txt when API mode is enabled
-    private static BufferedWriter apiLogWriter;
-    private static boolean apiModeEnabled = false;
+    private static RollingLogFile apiLog;
+    private static volatile boolean apiModeEnabled = false;
     private static final Object apiLogLock = new Object();
     
+    public static final String MXBEAN_NAME = "edu.scu.csen275.smartgarden:type=Logger";
+    
     private static final DateTimeFormatter TIME_FORMATTER = 
         DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-    private static final int BUFFER_FLUSH_SIZE = 10;
+    private static final int DEFAULT_QUEUE_CAPACITY = 8192;
+    private static final int DEFAULT_MEMORY_RETENTION = 10_000;
+    private static final String DEFAULT_RATE_LIMIT = "unlimited"; // or entries per group / ticks, e.g. "2/20"
+    private static final long DEFAULT_MAX_FILE_BYTES = 64L * 1024 * 1024;
+    private static final long DEFAULT_MAX_TOTAL_BYTES = 4L * 1024 * 1024 * 1024; // rolled, compressed
+    private static final long MAX_FILE_BYTES =
+        Long.getLong("smartgarden.log.maxFileBytes", DEFAULT_MAX_FILE_BYTES);
+    private static final long MAX_TOTAL_BYTES =
+        Long.getLong("smartgarden.log.maxTotalBytes", DEFAULT_MAX_TOTAL_BYTES);
+    private static final int WRITE_BATCH_SIZE = 512;
+    private static final int INITIAL_BATCH_BYTES = 64 * 1024;
+    private static final long WRITER_IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long FLUSH_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(2);
     
     /**
      * Private constructor for singleton pattern.
      */
     private Logger() {
         this.sessionId = generateSessionId();
-        this.buffer = new ConcurrentLinkedQueue<>();
-        this.memoryLog = new ArrayList<>();
+        this.buffer = new MpscRingBuffer<>(
+            Integer.getInteger("smartgarden.log.queueCapacity", DEFAULT_QUEUE_CAPACITY));
+        this.memoryLog = new LogIndex(
+            Integer.getInteger("smartgarden.log.memoryRetention", DEFAULT_MEMORY_RETENTION));
+        this.droppedEntries = new LongAdder();
         this.minLogLevel = LogLevel.INFO;
+        this.categoryLevels = new ConcurrentHashMap<>();
+        this.categoryThresholds = new byte[0];
+        this.overflowPolicy = OverflowPolicy.valueOf(
+            System.getProperty("smartgarden.log.overflow", OverflowPolicy.DROP.name()));
+        this.rateLimiter = new LogRateLimiter(LogRateLimiter.RateLimit.parse(
+            System.getProperty("smartgarden.log.rateLimit", DEFAULT_RATE_LIMIT)));
+        this.batchEntries = new ArrayList<>(WRITE_BATCH_SIZE + 1);
+        this.binaryEncoder = "binary".equalsIgnoreCase(System.getProperty("smartgarden.log.format", "text"))
+            ? new BinaryLogEncoder() : null;
+        this.batchText = new StringBuilder(INITIAL_BATCH_BYTES);
+        this.encoder = StandardCharsets.UTF_8.newEncoder();
+        this.batchBytes = ByteBuffer.allocateDirect(INITIAL_BATCH_BYTES);
         
         // Create logs directory if it doesn't exist
         try {
-            Path logsDir = Paths.get("logs");
+            Path logsDir = Paths.get(System.getProperty("smartgarden.log.dir", "logs"));
             if (!Files.exists(logsDir)) {
                 Files.createDirectories(logsDir);
             }
             
-            this.logFilePath = logsDir.resolve("garden_" + sessionId + ".log");
-            this.writer = Files.newBufferedWriter(logFilePath, 
-                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            String extension = binaryEncoder != null ? ".sglog" : ".log";
+            this.logFilePath = logsDir.resolve("garden_" + sessionId + extension);
+            this.logFile = new RollingLogFile(logFilePath, MAX_FILE_BYTES, MAX_TOTAL_BYTES);
             
-            logHeader();
+            if (binaryEncoder == null) {
+                logHeader();
+            }
         } catch (IOException e) {
             System.err.println("Failed to initialize logger: " + e.getMessage());
             throw new RuntimeException("Logger initialization failed", e);
         }
+        
+        this.writerThread = new Thread(this::runWriter, "Logger-Writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        
+        // Drain whatever is still queued when the JVM exits
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "Logger-ShutdownHook"));
+        
+        String levels = System.getProperty("smartgarden.log.levels");
+        if (levels != null) {
+            setCategoryLevels(levels);
+        }
+        registerMXBean();
+    }
+    
+    /**
+     * Exposes level control over JMX. Failure only loses remote control.
+     */
+    private void registerMXBean() {
+        try {
+            ObjectName name = new ObjectName(MXBEAN_NAME);
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (!server.isRegistered(name)) {
+                server.registerMBean(new LoggerControl(this), name);
+            }
+        } catch (JMException e) {
+            System.err.println("Failed to register logger MXBean: " + e.getMessage());
+        }
     }
     
     /**
@@ -77,44 +203,286 @@ public class Logger {
         return instance;
     }
     
+    /**
+     * Returns true if messages at this level are recorded by default, i.e.
+     * for categories without their own threshold.
+     */
+    public boolean isEnabled(LogLevel level) {
+        return level.ordinal() >= minLogLevel.ordinal();
+    }
+    
+    /**
+     * Returns true if messages at this level are currently recorded for the
+     * category. Call sites can use this to guard work that only feeds a log
+     * message.
+     */
+    public boolean isEnabled(LogLevel level, String category) {
+        return isEnabled(level, LogCategory.of(category));
+    }
+    
+    /**
+     * Returns true if messages at this level are currently recorded for the
+     * category. This is a single array lookup.
+     */
+    public boolean isEnabled(LogLevel level, LogCategory category) {
+        byte[] thresholds = categoryThresholds;
+        int id = category.getId();
+        int threshold = id < thresholds.length ? thresholds[id] : minLogLevel.ordinal();
+        return level.ordinal() >= threshold;
+    }
+    
     /**
      * Logs a message with specified level and category.
      */
     public void log(LogLevel level, String category, String message) {
-        if (level.ordinal() < minLogLevel.ordinal()) {
+        log(level, LogCategory.of(category), message);
+    }
+    
+    /**
+     * Logs a message with specified level and category.
+     */
+    public void log(LogLevel level, LogCategory category, String message) {
+        if (!isEnabled(level, category)) {
             return; // Skip messages below minimum level
         }
-        
-        LogEntry entry = new LogEntry(LocalDateTime.now(), level, category, message);
-        buffer.add(entry);
+        append(new LogEntry(System.currentTimeMillis(), level, category.getName(), message, null,
+                            simulationTick, simulationDay));
+    }
+    
+    /**
+     * Logs a message template with {} placeholders. See
+     * {@link #log(LogLevel, LogCategory, String, Object...)}.
+     */
+    public void log(LogLevel level, String category, String template, Object... args) {
+        log(level, LogCategory.of(category), template, args);
+    }
+    
+    /**
+     * Logs a message template with {} placeholders. The template is only
+     * expanded when the entry is rendered; arguments other than numbers,
+     * strings, booleans and enums are converted to strings right away so
+     * later changes to them do not leak into the message.
+     */
+    public void log(LogLevel level, LogCategory category, String template, Object... args) {
+        if (!isEnabled(level, category)) {
+            return;
+        }
+        Object[] values = args;
+        for (int i = 0; i < args.length; i++) {
+            Object arg = args[i];
+            if (arg != null && !(arg instanceof String || arg instanceof Number
+                    || arg instanceof Boolean || arg instanceof Character || arg instanceof Enum)) {
+                if (values == args) {
+                    values = args.clone(); // never write into the caller's array
+                }
+                values[i] = String.valueOf(arg);
+            }
+        }
+        append(new LogEntry(System.currentTimeMillis(), level, category.getName(), template, values,
+                            simulationTick, simulationDay));
+    }
+    
+    /**
+     * Logs a message built by the supplier, which is only called if the level
+     * is enabled.
+     */
+    public void log(LogLevel level, String category, Supplier<String> message) {
+        log(level, LogCategory.of(category), message);
+    }
+    
+    /**
+     * Logs a message built by the supplier, which is only called if the level
+     * is enabled.
+     */
+    public void log(LogLevel level, LogCategory category, Supplier<String> message) {
+        if (!isEnabled(level, category)) {
+            return;
+        }
+        append(new LogEntry(System.currentTimeMillis(), level, category.getName(), message.get(), null,
+                            simulationTick, simulationDay));
+    }
+    
+    private void append(LogEntry entry) {
         memoryLog.add(entry);
+        enqueue(entry);
+    }
+    
+    /**
+     * Hands an entry to the writer thread, applying the overflow policy if the
+     * ring buffer is full.
+     */
+    private void enqueue(LogEntry entry) {
+        if (buffer.offer(entry)) {
+            return;
+        }
+        
+        if (overflowPolicy == OverflowPolicy.BLOCK && !closed) {
+            LockSupport.unpark(writerThread);
+            while (!buffer.offer(entry)) {
+                if (closed) {
+                    droppedEntries.increment();
+                    return;
+                }
+                LockSupport.parkNanos(50_000);
+            }
+            return;
+        }
+        
+        droppedEntries.increment();
+    }
+    
+    /**
+     * Writer thread loop: drains the ring buffer in batches and flushes each
+     * destination once per batch.
+     */
+    private void runWriter() {
+        while (!closed || !buffer.isEmpty()) {
+            int written = writeBatch();
+            if (written == 0) {
+                LockSupport.parkNanos(this, WRITER_IDLE_PARK_NANOS);
+            }
+        }
+        
+        // Report anything the rate limiter is still holding back
+        rateLimiter.sweep(-1, this::addToBatch);
+        writeBatchEntries();
+    }
+    
+    /**
+     * Collects one batch and writes it to the session log and (in API mode)
+     * log.txt. Only called from the writer thread.
+     */
+    private int writeBatch() {
+        long dropped = droppedEntries.sumThenReset();
+        if (dropped > 0) {
+            addToBatch(new LogEntry(System.currentTimeMillis(), LogLevel.WARNING, LogCategory.LOGGER.getName(),
+                "Dropped {} log entries - writer queue full", new Object[] {dropped},
+                simulationTick, simulationDay));
+        }
+        rateLimiter.sweep(simulationTick, this::addToBatch);
+        int drained = buffer.drain(this::appendIfAdmitted, WRITE_BATCH_SIZE);
+        writeBatchEntries();
+        
+        writtenIndex = buffer.getConsumerIndex();
+        return drained;
+    }
+    
+    /**
+     * Writes the collected entries. Text is rendered into a reused
+     * StringBuilder and encoded into a reused byte buffer, and only when a
+     * text destination needs it, so a batch costs one write per destination.
+     */
+    private void writeBatchEntries() {
+        if (batchEntries.isEmpty()) {
+            return;
+        }
+        long day = simulationDay;
+        ByteBuffer text = null;
+        
+        try {
+            if (binaryEncoder != null) {
+                ByteBuffer bytes = binaryEncoder.encode(batchEntries);
+                // Every segment must start with a header and its own dictionaries
+                if (logFile.rollIfNeeded(bytes.remaining(), day)) {
+                    binaryEncoder.reset();
+                    bytes = binaryEncoder.encode(batchEntries);
+                }
+                logFile.write(bytes, batchFirstMillis, batchLastMillis, day, batchLevels, batchCategories);
+            } else {
+                text = renderText();
+                logFile.write(text, batchFirstMillis, batchLastMillis, day, batchLevels, batchCategories);
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to flush log buffer: " + e.getMessage());
+        }
         
         // Also write to log.txt if API mode is enabled (for API monitoring)
         if (apiModeEnabled) {
-            writeToApiLog(entry);
+            synchronized (apiLogLock) {
+                try {
+                    if (apiLog != null) {
+                        text = text != null ? text.rewind() : renderText();
+                        apiLog.write(text, batchFirstMillis, batchLastMillis, day, batchLevels, batchCategories);
+                    }
+                } catch (IOException e) {
+                    // Silently fail - don't disrupt logging if log.txt write fails
+                }
+            }
         }
         
-        // Flush if buffer is full
-        if (buffer.size() >= BUFFER_FLUSH_SIZE) {
-            flush();
+        batchEntries.clear();
+        batchFirstMillis = -1;
+        batchLevels = 0;
+        batchCategories.clear();
+    }
+    
+    private ByteBuffer renderText() {
+        batchText.setLength(0);
+        String lineSeparator = System.lineSeparator();
+        for (LogEntry entry : batchEntries) {
+            entry.appendFileFormat(batchText, formatTimestamp(entry.getEpochMillis()));
+            batchText.append(lineSeparator);
+        }
+        return encodeBatch();
+    }
+    
+    private void appendIfAdmitted(LogEntry entry) {
+        if (rateLimiter.admit(entry, this::addToBatch)) {
+            addToBatch(entry);
+        }
+    }
+    
+    private void addToBatch(LogEntry entry) {
+        if (batchFirstMillis < 0) {
+            batchFirstMillis = entry.getEpochMillis();
         }
+        batchLastMillis = entry.getEpochMillis();
+        batchLevels |= 1 << entry.level().ordinal();
+        batchCategories.add(entry.category());
+        batchEntries.add(entry);
     }
     
     /**
-     * Writes a log entry to the API log.txt file (when API mode is enabled).
+     * Formats a timestamp, reusing the previous result within the same second.
      */
-    private static void writeToApiLog(LogEntry entry) {
-        synchronized (apiLogLock) {
-            try {
-                if (apiLogWriter != null) {
-                    apiLogWriter.write(entry.toFileFormat());
-                    apiLogWriter.newLine();
-                    apiLogWriter.flush();
+    private String formatTimestamp(long epochMillis) {
+        long second = Math.floorDiv(epochMillis, 1000L);
+        if (second != cachedSecond) {
+            cachedSecond = second;
+            cachedTimestamp = toLocalDateTime(epochMillis).format(TIME_FORMATTER);
+        }
+        return cachedTimestamp;
+    }
+    
+    /**
+     * Encodes the batch text as UTF-8, growing the byte buffer if needed.
+     */
+    private ByteBuffer encodeBatch() {
+        CharBuffer chars = CharBuffer.wrap(batchText);
+        batchBytes.clear();
+        encoder.reset();
+        while (true) {
+            CoderResult result = encoder.encode(chars, batchBytes, true);
+            if (result.isOverflow()) {
+                ByteBuffer larger = ByteBuffer.allocateDirect(batchBytes.capacity() * 2);
+                batchBytes.flip();
+                larger.put(batchBytes);
+                batchBytes = larger;
+            } else if (result.isUnderflow()) {
+                if (encoder.flush(batchBytes).isOverflow()) {
+                    continue;
                 }
-            } catch (IOException e) {
-                // Silently fail - don't disrupt logging if log.txt write fails
+                break;
+            } else {
+                try {
+                    result.throwException();
+                } catch (CharacterCodingException e) {
+                    System.err.println("Failed to encode log batch: " + e.getMessage());
+                }
+                break;
             }
         }
+        return batchBytes.flip();
     }
     
     /**
@@ -124,6 +492,73 @@ public class Logger {
         log(LogLevel.INFO, category, message);
     }
     
+    /**
+     * Logs an INFO level message template with one argument.
+     */
+    public void info(String category, String template, Object arg) {
+        info(LogCategory.of(category), template, arg);
+    }
+    
+    /**
+     * Logs an INFO level message template with two arguments.
+     */
+    public void info(String category, String template, Object arg1, Object arg2) {
+        info(LogCategory.of(category), template, arg1, arg2);
+    }
+    
+    /**
+     * Logs an INFO level message template with any number of arguments.
+     */
+    public void info(String category, String template, Object... args) {
+        log(LogLevel.INFO, category, template, args);
+    }
+    
+    /**
+     * Logs an INFO level message built only if the level is enabled.
+     */
+    public void info(String category, Supplier<String> message) {
+        log(LogLevel.INFO, category, message);
+    }
+    
+    /**
+     * Logs an INFO level message.
+     */
+    public void info(LogCategory category, String message) {
+        log(LogLevel.INFO, category, message);
+    }
+    
+    /**
+     * Logs an INFO level message template with one argument.
+     */
+    public void info(LogCategory category, String template, Object arg) {
+        if (isEnabled(LogLevel.INFO, category)) {
+            log(LogLevel.INFO, category, template, new Object[] {arg});
+        }
+    }
+    
+    /**
+     * Logs an INFO level message template with two arguments.
+     */
+    public void info(LogCategory category, String template, Object arg1, Object arg2) {
+        if (isEnabled(LogLevel.INFO, category)) {
+            log(LogLevel.INFO, category, template, new Object[] {arg1, arg2});
+        }
+    }
+    
+    /**
+     * Logs an INFO level message template with any number of arguments.
+     */
+    public void info(LogCategory category, String template, Object... args) {
+        log(LogLevel.INFO, category, template, args);
+    }
+    
+    /**
+     * Logs an INFO level message built only if the level is enabled.
+     */
+    public void info(LogCategory category, Supplier<String> message) {
+        log(LogLevel.INFO, category, message);
+    }
+    
     /**
      * Logs a WARNING level message.
      */
@@ -131,6 +566,73 @@ public class Logger {
         log(LogLevel.WARNING, category, message);
     }
     
+    /**
+     * Logs a WARNING level message template with one argument.
+     */
+    public void warning(String category, String template, Object arg) {
+        warning(LogCategory.of(category), template, arg);
+    }
+    
+    /**
+     * Logs a WARNING level message template with two arguments.
+     */
+    public void warning(String category, String template, Object arg1, Object arg2) {
+        warning(LogCategory.of(category), template, arg1, arg2);
+    }
+    
+    /**
+     * Logs a WARNING level message template with any number of arguments.
+     */
+    public void warning(String category, String template, Object... args) {
+        log(LogLevel.WARNING, category, template, args);
+    }
+    
+    /**
+     * Logs a WARNING level message built only if the level is enabled.
+     */
+    public void warning(String category, Supplier<String> message) {
+        log(LogLevel.WARNING, category, message);
+    }
+    
+    /**
+     * Logs a WARNING level message.
+     */
+    public void warning(LogCategory category, String message) {
+        log(LogLevel.WARNING, category, message);
+    }
+    
+    /**
+     * Logs a WARNING level message template with one argument.
+     */
+    public void warning(LogCategory category, String template, Object arg) {
+        if (isEnabled(LogLevel.WARNING, category)) {
+            log(LogLevel.WARNING, category, template, new Object[] {arg});
+        }
+    }
+    
+    /**
+     * Logs a WARNING level message template with two arguments.
+     */
+    public void warning(LogCategory category, String template, Object arg1, Object arg2) {
+        if (isEnabled(LogLevel.WARNING, category)) {
+            log(LogLevel.WARNING, category, template, new Object[] {arg1, arg2});
+        }
+    }
+    
+    /**
+     * Logs a WARNING level message template with any number of arguments.
+     */
+    public void warning(LogCategory category, String template, Object... args) {
+        log(LogLevel.WARNING, category, template, args);
+    }
+    
+    /**
+     * Logs a WARNING level message built only if the level is enabled.
+     */
+    public void warning(LogCategory category, Supplier<String> message) {
+        log(LogLevel.WARNING, category, message);
+    }
+    
     /**
      * Logs an ERROR level message.
      */
@@ -138,6 +640,73 @@ public class Logger {
         log(LogLevel.ERROR, category, message);
     }
     
+    /**
+     * Logs an ERROR level message template with one argument.
+     */
+    public void error(String category, String template, Object arg) {
+        error(LogCategory.of(category), template, arg);
+    }
+    
+    /**
+     * Logs an ERROR level message template with two arguments.
+     */
+    public void error(String category, String template, Object arg1, Object arg2) {
+        error(LogCategory.of(category), template, arg1, arg2);
+    }
+    
+    /**
+     * Logs an ERROR level message template with any number of arguments.
+     */
+    public void error(String category, String template, Object... args) {
+        log(LogLevel.ERROR, category, template, args);
+    }
+    
+    /**
+     * Logs an ERROR level message built only if the level is enabled.
+     */
+    public void error(String category, Supplier<String> message) {
+        log(LogLevel.ERROR, category, message);
+    }
+    
+    /**
+     * Logs an ERROR level message.
+     */
+    public void error(LogCategory category, String message) {
+        log(LogLevel.ERROR, category, message);
+    }
+    
+    /**
+     * Logs an ERROR level message template with one argument.
+     */
+    public void error(LogCategory category, String template, Object arg) {
+        if (isEnabled(LogLevel.ERROR, category)) {
+            log(LogLevel.ERROR, category, template, new Object[] {arg});
+        }
+    }
+    
+    /**
+     * Logs an ERROR level message template with two arguments.
+     */
+    public void error(LogCategory category, String template, Object arg1, Object arg2) {
+        if (isEnabled(LogLevel.ERROR, category)) {
+            log(LogLevel.ERROR, category, template, new Object[] {arg1, arg2});
+        }
+    }
+    
+    /**
+     * Logs an ERROR level message template with any number of arguments.
+     */
+    public void error(LogCategory category, String template, Object... args) {
+        log(LogLevel.ERROR, category, template, args);
+    }
+    
+    /**
+     * Logs an ERROR level message built only if the level is enabled.
+     */
+    public void error(LogCategory category, Supplier<String> message) {
+        log(LogLevel.ERROR, category, message);
+    }
+    
     /**
      * Logs a DEBUG level message.
      */
@@ -145,72 +714,353 @@ public class Logger {
         log(LogLevel.DEBUG, category, message);
     }
     
+    /**
+     * Logs a DEBUG level message template with one argument.
+     */
+    public void debug(String category, String template, Object arg) {
+        debug(LogCategory.of(category), template, arg);
+    }
+    
+    /**
+     * Logs a DEBUG level message template with two arguments.
+     */
+    public void debug(String category, String template, Object arg1, Object arg2) {
+        debug(LogCategory.of(category), template, arg1, arg2);
+    }
+    
+    /**
+     * Logs a DEBUG level message template with any number of arguments.
+     */
+    public void debug(String category, String template, Object... args) {
+        log(LogLevel.DEBUG, category, template, args);
+    }
+    
+    /**
+     * Logs a DEBUG level message built only if the level is enabled.
+     */
+    public void debug(String category, Supplier<String> message) {
+        log(LogLevel.DEBUG, category, message);
+    }
+    
+    /**
+     * Logs a DEBUG level message.
+     */
+    public void debug(LogCategory category, String message) {
+        log(LogLevel.DEBUG, category, message);
+    }
+    
+    /**
+     * Logs a DEBUG level message template with one argument.
+     */
+    public void debug(LogCategory category, String template, Object arg) {
+        if (isEnabled(LogLevel.DEBUG, category)) {
+            log(LogLevel.DEBUG, category, template, new Object[] {arg});
+        }
+    }
+    
+    /**
+     * Logs a DEBUG level message template with two arguments.
+     */
+    public void debug(LogCategory category, String template, Object arg1, Object arg2) {
+        if (isEnabled(LogLevel.DEBUG, category)) {
+            log(LogLevel.DEBUG, category, template, new Object[] {arg1, arg2});
+        }
+    }
+    
+    /**
+     * Logs a DEBUG level message template with any number of arguments.
+     */
+    public void debug(LogCategory category, String template, Object... args) {
+        log(LogLevel.DEBUG, category, template, args);
+    }
+    
+    /**
+     * Logs a DEBUG level message built only if the level is enabled.
+     */
+    public void debug(LogCategory category, Supplier<String> message) {
+        log(LogLevel.DEBUG, category, message);
+    }
+    
     /**
      * Logs an exception with stack trace.
      */
     public void logException(String category, String message, Exception e) {
-        error(category, message + ": " + e.getMessage());
-        error(category, "Stack trace: " + getStackTrace(e));
+        logException(LogCategory.of(category), message, e);
     }
     
     /**
-     * Flushes buffered log entries to file.
+     * Logs an exception with stack trace.
      */
-    public synchronized void flush() {
-        try {
-            while (!buffer.isEmpty()) {
-                LogEntry entry = buffer.poll();
-                if (entry != null) {
-                    writer.write(entry.toFileFormat());
-                    writer.newLine();
-                }
-            }
-            writer.flush();
-        } catch (IOException e) {
-            System.err.println("Failed to flush log buffer: " + e.getMessage());
+    public void logException(LogCategory category, String message, Exception e) {
+        error(category, "{}: {}", message, e.getMessage());
+        if (isEnabled(LogLevel.ERROR, category)) {
+            error(category, "Stack trace: {}", getStackTrace(e));
         }
     }
     
     /**
-     * Gets recent log entries (last N entries).
+     * Waits until every entry queued before this call has been written to disk.
+     * Gives up after a short timeout so a stalled disk cannot hang the caller.
+     */
+    public void flush() {
+        if (Thread.currentThread() == writerThread) {
+            return;
+        }
+        long target = buffer.getProducerIndex();
+        long deadline = System.nanoTime() + FLUSH_TIMEOUT_NANOS;
+        while (writtenIndex < target && writerThread.isAlive() && System.nanoTime() < deadline) {
+            LockSupport.unpark(writerThread);
+            LockSupport.parkNanos(100_000);
+        }
+    }
+    
+    /**
+     * Gets recent log entries (last N entries). O(N) in the requested count.
      */
     public List<LogEntry> getRecentLogs(int count) {
-        int size = memoryLog.size();
-        int fromIndex = Math.max(0, size - count);
-        return new ArrayList<>(memoryLog.subList(fromIndex, size));
+        return memoryLog.recent(count);
     }
     
     /**
-     * Gets all log entries in memory.
+     * Gets all log entries still retained in memory.
      */
     public List<LogEntry> getAllLogs() {
-        return new ArrayList<>(memoryLog);
+        return memoryLog.snapshot();
     }
     
     /**
-     * Filters logs by category.
+     * Filters retained logs by category.
      */
     public List<LogEntry> filterByCategory(String category) {
-        return memoryLog.stream()
-            .filter(entry -> entry.category().equals(category))
-            .toList();
+        return query(LogQuery.all().category(category));
     }
     
     /**
-     * Filters logs by level.
+     * Filters retained logs by level.
      */
     public List<LogEntry> filterByLevel(LogLevel level) {
-        return memoryLog.stream()
-            .filter(entry -> entry.level() == level)
-            .toList();
+        return query(LogQuery.all().level(level));
+    }
+    
+    /**
+     * Searches the in-memory log using its category and level indexes.
+     */
+    public List<LogEntry> query(LogQuery query) {
+        return memoryLog.query(query);
+    }
+    
+    /**
+     * Searches this session's log files on disk, including rolled segments.
+     * Pending entries are flushed first so the result is up to date.
+     */
+    public List<LogEntry> queryHistory(LogQuery query) throws IOException {
+        flush();
+        return new LogQueryEngine(logFile).query(query);
+    }
+    
+    /**
+     * Sets how many entries are retained in memory. The most recent entries
+     * are carried over into the resized buffer.
+     */
+    public void setMemoryRetention(int capacity) {
+        LogIndex resized = new LogIndex(capacity);
+        for (LogEntry entry : memoryLog.recent(capacity)) {
+            resized.add(entry);
+        }
+        memoryLog = resized;
+        info(LogCategory.LOGGER, "In-memory log retention set to {} entries", capacity);
+    }
+    
+    public int getMemoryRetention() {
+        return memoryLog.capacity();
+    }
+    
+    /**
+     * Sets what happens when the writer queue is full.
+     */
+    public void setOverflowPolicy(OverflowPolicy policy) {
+        this.overflowPolicy = policy;
+        info(LogCategory.LOGGER, "Overflow policy set to: {}", policy);
+    }
+    
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+    
+    /**
+     * Gets the number of entries dropped since the last writer batch.
+     */
+    public long getPendingDropCount() {
+        return droppedEntries.sum();
+    }
+    
+    /**
+     * Records the current simulation tick. Engines call this once per tick;
+     * pass -1 when the simulation pauses or stops so nothing is held back.
+     */
+    public void setSimulationTick(long tick) {
+        this.simulationTick = tick;
+    }
+    
+    public long getSimulationTick() {
+        return simulationTick;
+    }
+    
+    /**
+     * Records the current simulated day. Log files roll when it changes.
+     */
+    public void setSimulationDay(long day) {
+        this.simulationDay = day;
+    }
+    
+    /**
+     * Gets the rolling session log file.
+     */
+    public RollingLogFile getLogFile() {
+        return logFile;
     }
     
     /**
-     * Sets the minimum log level to record.
+     * Gets the rolling log.txt file, or null if API logging is disabled.
+     */
+    public static RollingLogFile getApiLogFile() {
+        return apiLog;
+    }
+    
+    /**
+     * Limits how often one message template of a category is written:
+     * at most maxPerWindow entries every windowTicks ticks, with the rest
+     * folded into a summary line.
+     */
+    public void setRateLimit(String category, int maxPerWindow, int windowTicks) {
+        rateLimiter.setLimit(category, new LogRateLimiter.RateLimit(maxPerWindow, windowTicks));
+        info(LogCategory.LOGGER, "Rate limit for {} set to {}/{} ticks", category, maxPerWindow, windowTicks);
+    }
+    
+    /**
+     * Writes every entry of a category, regardless of the default limit.
+     */
+    public void disableRateLimit(String category) {
+        rateLimiter.setLimit(category, LogRateLimiter.RateLimit.UNLIMITED);
+        info(LogCategory.LOGGER, "Rate limit for {} disabled", category);
+    }
+    
+    public LogRateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+    
+    /**
+     * Sets the minimum log level to record for categories without their own
+     * threshold.
      */
     public void setMinLogLevel(LogLevel level) {
         this.minLogLevel = level;
-        info("Logger", "Minimum log level set to: " + level);
+        rebuildThresholds();
+        info(LogCategory.LOGGER, "Minimum log level set to: {}", level);
+    }
+    
+    public LogLevel getMinLogLevel() {
+        return minLogLevel;
+    }
+    
+    /**
+     * Sets the threshold for one category, or clears it when level is null so
+     * the category follows the minimum log level again.
+     */
+    public void setCategoryLevel(String category, LogLevel level) {
+        LogCategory.of(category);
+        if (level == null) {
+            categoryLevels.remove(category);
+        } else {
+            categoryLevels.put(category, level);
+        }
+        rebuildThresholds();
+        info(LogCategory.LOGGER, "Log level for {} set to: {}", category, level != null ? level : "default");
+    }
+    
+    /**
+     * Gets the threshold for one category, or null if it uses the default.
+     */
+    public LogLevel getCategoryLevel(String category) {
+        return categoryLevels.get(category);
+    }
+    
+    /**
+     * Applies a comma-separated list of category thresholds, such as
+     * "Watering=WARNING, PestControl=DEBUG". The name "*" sets the minimum
+     * log level, and the level "DEFAULT" clears a category's threshold.
+     * The whole spec is validated before anything changes.
+     *
+     * @throws IllegalArgumentException if the spec is malformed
+     */
+    public void setCategoryLevels(String spec) {
+        Map<String, LogLevel> parsed = new LinkedHashMap<>();
+        for (String part : spec.split(",")) {
+            if (part.isBlank()) {
+                continue;
+            }
+            int equals = part.indexOf('=');
+            if (equals < 0) {
+                throw new IllegalArgumentException("Expected category=LEVEL but got: " + part.trim());
+            }
+            String category = part.substring(0, equals).trim();
+            String levelName = part.substring(equals + 1).trim().toUpperCase();
+            if (category.isEmpty()) {
+                throw new IllegalArgumentException("Missing category in: " + part.trim());
+            }
+            LogLevel level = null;
+            if (!levelName.equals("DEFAULT")) {
+                try {
+                    level = LogLevel.valueOf(levelName);
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Unknown log level: " + levelName);
+                }
+            }
+            if (category.equals("*") && level == null) {
+                throw new IllegalArgumentException("The default level cannot be DEFAULT");
+            }
+            parsed.put(category, level);
+        }
+        
+        for (Map.Entry<String, LogLevel> entry : parsed.entrySet()) {
+            if (entry.getKey().equals("*")) {
+                minLogLevel = entry.getValue();
+            } else if (entry.getValue() == null) {
+                categoryLevels.remove(entry.getKey());
+            } else {
+                LogCategory.of(entry.getKey());
+                categoryLevels.put(entry.getKey(), entry.getValue());
+            }
+        }
+        rebuildThresholds();
+        info(LogCategory.LOGGER, "Log levels set to: {}", getCategoryLevels());
+    }
+    
+    /**
+     * Gets the current thresholds in the format accepted by
+     * setCategoryLevels(), starting with the default ("*").
+     */
+    public String getCategoryLevels() {
+        StringBuilder sb = new StringBuilder("*=").append(minLogLevel);
+        for (Map.Entry<String, LogLevel> entry : new TreeMap<>(categoryLevels).entrySet()) {
+            sb.append(',').append(entry.getKey()).append('=').append(entry.getValue());
+        }
+        return sb.toString();
+    }
+    
+    /**
+     * Recomputes the per-category threshold array. Runs only when levels
+     * change; readers always see a complete array.
+     */
+    private synchronized void rebuildThresholds() {
+        LogLevel fallback = minLogLevel;
+        List<LogCategory> categories = LogCategory.values();
+        byte[] thresholds = new byte[categories.size()];
+        for (LogCategory category : categories) {
+            LogLevel level = categoryLevels.getOrDefault(category.getName(), fallback);
+            thresholds[category.getId()] = (byte) level.ordinal();
+        }
+        categoryThresholds = thresholds;
     }
     
     /**
@@ -222,21 +1072,17 @@ public class Logger {
     public static void enableApiLogging(Path apiLogFile) {
         synchronized (apiLogLock) {
             try {
-                // Write header to log.txt
-                apiLogWriter = Files.newBufferedWriter(apiLogFile, 
-                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                apiLog = new RollingLogFile(apiLogFile, MAX_FILE_BYTES, MAX_TOTAL_BYTES);
                 
                 // Write separator for new session
-                apiLogWriter.write("\n");
-                apiLogWriter.write("=====================================");
-                apiLogWriter.newLine();
-                apiLogWriter.write("Smart Garden Simulation API Log");
-                apiLogWriter.newLine();
-                apiLogWriter.write("Session Started: " + LocalDateTime.now().format(TIME_FORMATTER));
-                apiLogWriter.newLine();
-                apiLogWriter.write("=====================================");
-                apiLogWriter.newLine();
-                apiLogWriter.flush();
+                String nl = System.lineSeparator();
+                String header = "\n" +
+                    "=====================================" + nl +
+                    "Smart Garden Simulation API Log" + nl +
+                    "Session Started: " + LocalDateTime.now().format(TIME_FORMATTER) + nl +
+                    "=====================================" + nl;
+                long now = System.currentTimeMillis();
+                apiLog.write(StandardCharsets.UTF_8.encode(header), now, now, -1);
                 
                 apiModeEnabled = true;
             } catch (IOException e) {
@@ -250,12 +1096,16 @@ public class Logger {
      * Disables API logging and closes the log.txt file.
      */
     public static void disableApiLogging() {
+        // Let the writer thread drain pending entries into log.txt first
+        Logger current = instance;
+        if (current != null) {
+            current.flush();
+        }
         synchronized (apiLogLock) {
             try {
-                if (apiLogWriter != null) {
-                    apiLogWriter.flush();
-                    apiLogWriter.close();
-                    apiLogWriter = null;
+                if (apiLog != null) {
+                    apiLog.close();
+                    apiLog = null;
                 }
                 apiModeEnabled = false;
             } catch (IOException e) {
@@ -268,15 +1118,19 @@ public class Logger {
      * Closes the logger and releases resources.
      */
     public void close() {
-        flush();
         try {
-            info("Logger", "Closing log session: " + sessionId);
+            info(LogCategory.LOGGER, "Closing log session: {}", sessionId);
             flush();
-            if (writer != null) {
-                writer.close();
+            closed = true;
+            LockSupport.unpark(writerThread);
+            writerThread.join(TimeUnit.NANOSECONDS.toMillis(FLUSH_TIMEOUT_NANOS));
+            if (logFile != null) {
+                logFile.close();
             }
         } catch (IOException e) {
             System.err.println("Error closing logger: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
     }
     
@@ -292,17 +1146,15 @@ public class Logger {
      */
     private void logHeader() {
         try {
-            writer.write("=====================================");
-            writer.newLine();
-            writer.write("Smart Garden Simulation Log");
-            writer.newLine();
-            writer.write("Session ID: " + sessionId);
-            writer.newLine();
-            writer.write("Started: " + LocalDateTime.now().format(TIME_FORMATTER));
-            writer.newLine();
-            writer.write("=====================================");
-            writer.newLine();
-            writer.flush();
+            String nl = System.lineSeparator();
+            String header =
+                "=====================================" + nl +
+                "Smart Garden Simulation Log" + nl +
+                "Session ID: " + sessionId + nl +
+                "Started: " + LocalDateTime.now().format(TIME_FORMATTER) + nl +
+                "=====================================" + nl;
+            long now = System.currentTimeMillis();
+            logFile.write(StandardCharsets.UTF_8.encode(header), now, now, -1);
         } catch (IOException e) {
             System.err.println("Failed to write log header: " + e.getMessage());
         }
@@ -319,24 +1171,163 @@ public class Logger {
         return sb.toString();
     }
     
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+    
     /**
-     * Represents a single log entry.
+     * Represents a single log entry. The message is kept as a template plus
+     * arguments and rendered at most once, on first use.
      */
-    public record LogEntry(LocalDateTime timestamp, LogLevel level, String category, String message) {
+    public static final class LogEntry {
+        private static final DateTimeFormatter DISPLAY_FORMATTER = DateTimeFormatter.ofPattern("HH:mm:ss");
+        
+        private final long epochMillis;
+        private final LogLevel level;
+        private final String category;
+        private final String template;
+        private final Object[] args;
+        private final long simulationTick;
+        private final long simulationDay;
+        private volatile String message;
+        
+        public LogEntry(LocalDateTime timestamp, LogLevel level, String category, String message) {
+            this(timestamp.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(),
+                 level, category, message, null, -1);
+        }
+        
+        LogEntry(long epochMillis, LogLevel level, String category, String template, Object[] args,
+                 long simulationTick) {
+            this(epochMillis, level, category, template, args, simulationTick, -1);
+        }
+        
+        LogEntry(long epochMillis, LogLevel level, String category, String template, Object[] args,
+                 long simulationTick, long simulationDay) {
+            this.epochMillis = epochMillis;
+            this.simulationTick = simulationTick;
+            this.simulationDay = simulationDay;
+            this.level = level;
+            this.category = category;
+            this.template = template;
+            this.args = args;
+            if (args == null || args.length == 0) {
+                this.message = template;
+            }
+        }
+        
+        public LocalDateTime timestamp() {
+            return toLocalDateTime(epochMillis);
+        }
+        
+        public long getEpochMillis() {
+            return epochMillis;
+        }
+        
+        /**
+         * Gets the simulation tick the entry was logged at, or -1 if no
+         * simulation was running.
+         */
+        public long getSimulationTick() {
+            return simulationTick;
+        }
+        
+        /**
+         * Gets the simulated day the entry was logged on, or -1 if unknown.
+         */
+        public long getSimulationDay() {
+            return simulationDay;
+        }
+        
+        String getTemplate() {
+            return template;
+        }
+        
+        Object[] getArgs() {
+            return args;
+        }
+        
+        public LogLevel level() {
+            return level;
+        }
+        
+        public String category() {
+            return category;
+        }
+        
+        public String message() {
+            String rendered = message;
+            if (rendered == null) {
+                StringBuilder sb = new StringBuilder(template.length() + 16 * args.length);
+                appendMessage(sb);
+                rendered = sb.toString();
+                message = rendered;
+            }
+            return rendered;
+        }
+        
         public String toFileFormat() {
-            return String.format("[%s] %-7s [%-15s] %s",
-                timestamp.format(TIME_FORMATTER),
-                level.name(),
-                category,
-                message);
+            StringBuilder sb = new StringBuilder(64 + template.length());
+            appendFileFormat(sb, timestamp().format(TIME_FORMATTER));
+            return sb.toString();
         }
         
         public String toDisplayFormat() {
-            return String.format("[%s] %s: %s",
-                timestamp.format(DateTimeFormatter.ofPattern("HH:mm:ss")),
-                category,
-                message);
+            return "[" + timestamp().format(DISPLAY_FORMATTER) + "] " + category + ": " + message();
+        }
+        
+        /**
+         * Appends "[timestamp] LEVEL   [category       ] message" without
+         * building intermediate strings.
+         */
+        void appendFileFormat(StringBuilder sb, String formattedTimestamp) {
+            sb.append('[').append(formattedTimestamp).append("] ");
+            appendPadded(sb, level.name(), 7);
+            sb.append(" [");
+            appendPadded(sb, category, 15);
+            sb.append("] ");
+            appendMessage(sb);
+        }
+        
+        private void appendMessage(StringBuilder sb) {
+            String rendered = message;
+            if (rendered != null) {
+                sb.append(rendered);
+                return;
+            }
+            int argIndex = 0;
+            int start = 0;
+            int placeholder;
+            while ((placeholder = template.indexOf("{}", start)) >= 0) {
+                sb.append(template, start, placeholder);
+                if (argIndex < args.length) {
+                    sb.append(args[argIndex++]);
+                } else {
+                    sb.append("{}");
+                }
+                start = placeholder + 2;
+            }
+            sb.append(template, start, template.length());
+        }
+        
+        private static void appendPadded(StringBuilder sb, String value, int width) {
+            sb.append(value);
+            for (int i = value.length(); i < width; i++) {
+                sb.append(' ');
+            }
         }
+        
+        @Override
+        public String toString() {
+            return toFileFormat();
+        }
+    }
+    
+    /**
+     * What to do with a new entry when the writer queue is full.
+     */
+    public enum OverflowPolicy {
+        DROP,  // Discard the entry and report the count in the next batch
+        BLOCK  // Wait for the writer to make room (may stall the caller)
     }
     
     /**
@@ -0,0 +1,73 @@
+package edu.scu.csen275.smartgarden.util;
+
+import edu.scu.csen275.smartgarden.util.Logger.LogLevel;
+import java.util.List;
+
+/**
+ * JMX adapter that exposes a Logger through {@link LoggerMXBean}.
+ */
+class LoggerControl implements LoggerMXBean {
+    private final Logger logger;
+
+    LoggerControl(Logger logger) {
+        this.logger = logger;
+    }
+
+    @Override
+    public String getDefaultLevel() {
+        return logger.getMinLogLevel().name();
+    }
+
+    @Override
+    public void setDefaultLevel(String level) {
+        logger.setMinLogLevel(parseLevel(level));
+    }
+
+    @Override
+    public String getCategoryLevels() {
+        return logger.getCategoryLevels();
+    }
+
+    @Override
+    public void setCategoryLevels(String spec) {
+        logger.setCategoryLevels(spec);
+    }
+
+    @Override
+    public void setCategoryLevel(String category, String level) {
+        logger.setCategoryLevel(category, level.trim().equalsIgnoreCase("DEFAULT") ? null : parseLevel(level));
+    }
+
+    @Override
+    public String[] getCategories() {
+        List<LogCategory> categories = LogCategory.values();
+        String[] names = new String[categories.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = categories.get(i).getName();
+        }
+        return names;
+    }
+
+    @Override
+    public int getMemoryRetention() {
+        return logger.getMemoryRetention();
+    }
+
+    @Override
+    public void setMemoryRetention(int entries) {
+        logger.setMemoryRetention(entries);
+    }
+
+    @Override
+    public long getPendingDropCount() {
+        return logger.getPendingDropCount();
+    }
+
+    private static LogLevel parseLevel(String level) {
+        try {
+            return LogLevel.valueOf(level.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown log level: " + level);
+        }
+    }
+}
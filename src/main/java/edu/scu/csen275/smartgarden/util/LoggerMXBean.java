@@ -0,0 +1,37 @@
+package edu.scu.csen275.smartgarden.util;
+
+/**
+ * JMX management interface for the logger, registered as
+ * "edu.scu.csen275.smartgarden:type=Logger". Levels use the names of
+ * {@link Logger.LogLevel}; category specs use the format of
+ * {@link Logger#setCategoryLevels(String)}.
+ */
+public interface LoggerMXBean {
+
+    String getDefaultLevel();
+
+    void setDefaultLevel(String level);
+
+    /**
+     * Gets all thresholds, e.g. "*=INFO,PestControl=DEBUG,Watering=WARNING".
+     */
+    String getCategoryLevels();
+
+    void setCategoryLevels(String spec);
+
+    /**
+     * Sets one category's threshold; "DEFAULT" clears it.
+     */
+    void setCategoryLevel(String category, String level);
+
+    /**
+     * Gets every category that has been logged to or configured.
+     */
+    String[] getCategories();
+
+    int getMemoryRetention();
+
+    void setMemoryRetention(int entries);
+
+    long getPendingDropCount();
+}
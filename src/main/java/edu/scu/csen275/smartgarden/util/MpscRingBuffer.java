@@ -0,0 +1,127 @@
+package edu.scu.csen275.smartgarden.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded lock-free ring buffer for many producers and a single consumer.
+ * Each slot carries a sequence number, so producers claim slots with one CAS
+ * and the consumer never takes a lock. Capacity is rounded up to a power of two.
+ *
+ * @param <E> element type
+ */
+public class MpscRingBuffer<E> {
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<E> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong producerIndex;
+    private volatile long consumerIndex; // written by the single consumer only
+
+    /**
+     * Creates a new MpscRingBuffer.
+     */
+    public MpscRingBuffer(int requestedCapacity) {
+        if (requestedCapacity < 2) {
+            throw new IllegalArgumentException("Capacity must be at least 2");
+        }
+        this.capacity = Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+        this.producerIndex = new AtomicLong();
+    }
+
+    /**
+     * Adds an element if there is room. Safe to call from any thread.
+     *
+     * @return false if the buffer is full
+     */
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new NullPointerException("Element cannot be null");
+        }
+        while (true) {
+            long index = producerIndex.get();
+            int slot = (int) index & mask;
+            long sequence = sequences.get(slot);
+            if (sequence == index) {
+                if (producerIndex.compareAndSet(index, index + 1)) {
+                    slots.lazySet(slot, element);
+                    sequences.set(slot, index + 1); // publish
+                    return true;
+                }
+            } else if (sequence < index) {
+                return false; // slot still holds an unconsumed element
+            }
+            // Another producer claimed this index - retry with the new one
+        }
+    }
+
+    /**
+     * Removes the next element, or returns null if none is published yet.
+     * Must only be called from the consumer thread.
+     */
+    public E poll() {
+        long index = consumerIndex;
+        int slot = (int) index & mask;
+        if (sequences.get(slot) != index + 1) {
+            return null;
+        }
+        E element = slots.get(slot);
+        slots.lazySet(slot, null);
+        sequences.set(slot, index + capacity); // release the slot to producers
+        consumerIndex = index + 1;
+        return element;
+    }
+
+    /**
+     * Drains up to {@code limit} elements into the consumer.
+     * Must only be called from the consumer thread.
+     *
+     * @return number of elements drained
+     */
+    public int drain(Consumer<? super E> consumer, int limit) {
+        int drained = 0;
+        E element;
+        while (drained < limit && (element = poll()) != null) {
+            consumer.accept(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * Gets the number of elements ever claimed by producers.
+     */
+    public long getProducerIndex() {
+        return producerIndex.get();
+    }
+
+    /**
+     * Gets the number of elements ever consumed.
+     */
+    public long getConsumerIndex() {
+        return consumerIndex;
+    }
+
+    /**
+     * Gets an estimate of the number of queued elements.
+     */
+    public int size() {
+        return (int) Math.max(0, Math.min(capacity, producerIndex.get() - consumerIndex));
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+}
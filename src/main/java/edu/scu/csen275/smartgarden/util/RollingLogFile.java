@@ -0,0 +1,251 @@
+package edu.scu.csen275.smartgarden.util;
+
+import edu.scu.csen275.smartgarden.util.LogSegmentIndex.Segment;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Log file that rolls over by size and by simulated day.
+ * The active file keeps its original name (e.g. log.txt) so it can still be
+ * tailed. Rolled segments are renamed to name.N.ext, gzip-compressed on a
+ * background thread and recorded in a segment index with their time range,
+ * day, levels and categories. The oldest segments are deleted once the
+ * rolled files together exceed maxTotalBytes.
+ *
+ * Not thread-safe: write() and roll() must be called from one thread at a
+ * time (the logger's writer thread, or under the API log lock).
+ */
+public class RollingLogFile implements AutoCloseable {
+    private final Path activeFile;
+    private final String stem;
+    private final String extension;
+    private final long maxBytes;
+    private final long maxTotalBytes;
+    private final LogSegmentIndex index;
+    private final ExecutorService compressor;
+
+    private FileChannel channel;
+    private int nextSequence;
+    private int segmentLevels;
+    private boolean contentsKnown;
+    private final Set<String> segmentCategories = new HashSet<>();
+
+    // Read by queries on other threads
+    private volatile long size;
+    private volatile long firstMillis;
+    private volatile long lastMillis;
+    private volatile long segmentDay;
+
+    private static final int COPY_BUFFER_BYTES = 64 * 1024;
+
+    /**
+     * Opens (or creates) a rolling log file, appending to existing content.
+     *
+     * @param activeFile file currently written to
+     * @param maxBytes roll once the active file would exceed this size
+     * @param maxTotalBytes disk space the rolled segments may take together
+     */
+    public RollingLogFile(Path activeFile, long maxBytes, long maxTotalBytes) throws IOException {
+        if (maxBytes <= 0 || maxTotalBytes <= 0) {
+            throw new IllegalArgumentException("Size and retention limits must be positive");
+        }
+        this.activeFile = activeFile.toAbsolutePath();
+        String fileName = this.activeFile.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        this.stem = dot > 0 ? fileName.substring(0, dot) : fileName;
+        this.extension = dot > 0 ? fileName.substring(dot) : "";
+        this.maxBytes = maxBytes;
+        this.maxTotalBytes = maxTotalBytes;
+        this.index = new LogSegmentIndex(this.activeFile.resolveSibling(fileName + ".index"));
+        this.nextSequence = index.getLastSequence() + 1;
+        this.segmentDay = -1;
+        this.compressor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "Logger-Compressor");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        openActive();
+
+        // Finish compressing segments left over from an interrupted session
+        for (Segment segment : index.getSegments()) {
+            if (!segment.compressed()) {
+                compressor.execute(() -> compress(segment));
+            }
+        }
+    }
+
+    /**
+     * Writes bytes that hold no log entries, such as a session header.
+     */
+    public void write(ByteBuffer bytes, long batchFirstMillis, long batchLastMillis, long simulationDay)
+            throws IOException {
+        write(bytes, batchFirstMillis, batchLastMillis, simulationDay, 0, Set.of());
+    }
+
+    /**
+     * Writes bytes covering entries logged between firstMillis and lastMillis
+     * during the given simulated day (-1 if no simulation is running).
+     * Rolls first if the write would exceed the size limit or the day changed.
+     *
+     * @param levels bit set of the LogLevel ordinals of the entries
+     * @param categories category names of the entries
+     */
+    public void write(ByteBuffer bytes, long batchFirstMillis, long batchLastMillis, long simulationDay,
+                      int levels, Collection<String> categories) throws IOException {
+        rollIfNeeded(bytes.remaining(), simulationDay);
+        if (simulationDay >= 0) {
+            segmentDay = simulationDay;
+        }
+        segmentLevels |= levels;
+        segmentCategories.addAll(categories);
+
+        while (bytes.hasRemaining()) {
+            size += channel.write(bytes);
+        }
+        if (firstMillis < 0) {
+            firstMillis = batchFirstMillis;
+        }
+        lastMillis = Math.max(lastMillis, batchLastMillis);
+    }
+
+    /**
+     * Rolls if writing pendingBytes on the given day would exceed the size
+     * limit or start a new day. Writers whose output must begin with a header
+     * in each segment call this before encoding and re-encode if it rolled.
+     *
+     * @return true if the file rolled
+     */
+    public boolean rollIfNeeded(long pendingBytes, long simulationDay) throws IOException {
+        boolean dayChanged = simulationDay >= 0 && segmentDay >= 0 && simulationDay != segmentDay;
+        if (size > 0 && (dayChanged || size + pendingBytes > maxBytes)) {
+            roll();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Closes the active file, hands it to the compressor as a new segment and
+     * starts an empty active file.
+     */
+    public void roll() throws IOException {
+        channel.close();
+        Path rolled = activeFile.resolveSibling(stem + "." + nextSequence + extension);
+        Files.move(activeFile, rolled);
+        Segment segment = contentsKnown
+            ? new Segment(rolled, nextSequence, firstMillis, lastMillis, segmentDay, false,
+                          segmentLevels, Segment.categorySet(segmentCategories))
+            : new Segment(rolled, nextSequence, firstMillis, lastMillis, segmentDay, false);
+        nextSequence++;
+        index.add(segment);
+        compressor.execute(() -> compress(segment));
+
+        openActive();
+        firstMillis = -1;
+        lastMillis = -1;
+        segmentLevels = 0;
+        segmentCategories.clear();
+    }
+
+    /**
+     * Gets the segment index for this log.
+     */
+    public LogSegmentIndex getIndex() {
+        return index;
+    }
+
+    public Path getActiveFile() {
+        return activeFile;
+    }
+
+    /**
+     * Gets the time range of the active file as {first, last}; -1 if unknown.
+     */
+    public long[] getActiveRange() {
+        return new long[] {firstMillis, lastMillis};
+    }
+
+    /**
+     * Gets the simulated day of the active file, or -1 if unknown.
+     */
+    public long getActiveDay() {
+        return segmentDay;
+    }
+
+    /**
+     * Gets the number of bytes in the active file.
+     */
+    public long getActiveSize() {
+        return size;
+    }
+
+    /**
+     * Closes the active file and waits briefly for pending compression.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+        compressor.shutdown();
+        try {
+            compressor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void openActive() throws IOException {
+        channel = FileChannel.open(activeFile,
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        size = channel.size();
+        // Content from an earlier session may start at any time before its last write
+        firstMillis = size > 0 ? 0 : -1;
+        lastMillis = size > 0 ? Files.getLastModifiedTime(activeFile).toMillis() : -1;
+        // and may hold any level or category
+        contentsKnown = size == 0;
+    }
+
+    /**
+     * Compresses one segment, then applies the retention limit.
+     * Runs on the compressor thread.
+     */
+    private void compress(Segment segment) {
+        Path source = segment.file();
+        Path target = source.resolveSibling(source.getFileName() + ".gz");
+        try (InputStream in = Files.newInputStream(source);
+             OutputStream out = new GZIPOutputStream(Files.newOutputStream(target), COPY_BUFFER_BYTES)) {
+            in.transferTo(out);
+        } catch (IOException e) {
+            System.err.println("Failed to compress log segment " + source + ": " + e.getMessage());
+            return;
+        }
+
+        try {
+            Files.delete(source);
+        } catch (IOException e) {
+            System.err.println("Failed to delete compressed log segment " + source + ": " + e.getMessage());
+        }
+        index.replace(segment, segment.withFile(target, true));
+
+        for (Segment expired : index.trimToBytes(maxTotalBytes)) {
+            try {
+                Files.deleteIfExists(expired.file());
+            } catch (IOException e) {
+                System.err.println("Failed to delete old log segment " + expired.file() + ": " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package edu.scu.csen275.smartgarden.workload;
+
+import edu.scu.csen275.smartgarden.api.GardenSimulationAPI;
+
+/**
+ * One API call in a generated schedule, due at a simulation tick.
+ *
+ * @param tick the tick the call is due at, counted from 0
+ * @param kind which API method to call
+ * @param argument the rain amount or temperature, the pest name, or null
+ */
+public record ScheduledCall(long tick, Kind kind, Object argument) {
+
+    public enum Kind { RAIN, TEMPERATURE, PARASITE, GET_STATE }
+
+    /**
+     * Makes this call on the API.
+     */
+    public void applyTo(GardenSimulationAPI api) {
+        switch (kind) {
+            case RAIN -> api.rain((Integer) argument);
+            case TEMPERATURE -> api.temperature((Integer) argument);
+            case PARASITE -> api.parasite((String) argument);
+            case GET_STATE -> api.getState();
+        }
+    }
+}
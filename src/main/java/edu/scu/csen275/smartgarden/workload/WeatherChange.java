@@ -0,0 +1,17 @@
+package edu.scu.csen275.smartgarden.workload;
+
+import edu.scu.csen275.smartgarden.simulation.WeatherSystem;
+import edu.scu.csen275.smartgarden.simulation.WeatherSystem.Weather;
+
+/**
+ * One step of a generated weather trace: the weather from a tick onwards.
+ */
+public record WeatherChange(long tick, Weather weather) {
+
+    /**
+     * Sets this weather on the weather system.
+     */
+    public void applyTo(WeatherSystem weatherSystem) {
+        weatherSystem.setWeather(weather);
+    }
+}
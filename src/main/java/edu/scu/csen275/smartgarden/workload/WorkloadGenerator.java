@@ -0,0 +1,150 @@
+package edu.scu.csen275.smartgarden.workload;
+
+import edu.scu.csen275.smartgarden.model.Garden;
+import edu.scu.csen275.smartgarden.model.Plant;
+import edu.scu.csen275.smartgarden.model.PlantType;
+import edu.scu.csen275.smartgarden.model.Position;
+import edu.scu.csen275.smartgarden.simulation.WeatherSystem.Weather;
+import edu.scu.csen275.smartgarden.workload.ScheduledCall.Kind;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Builds reproducible synthetic inputs from a {@link WorkloadSpec}: a planted
+ * garden, a schedule of API calls and a weather trace. The garden, calls and
+ * weather each draw from their own random stream derived from the seed, so
+ * the same spec always produces the same output, and changing one part of
+ * the spec (e.g. the call rates) does not reshuffle the others.
+ */
+public class WorkloadGenerator {
+    private static final int TICKS_PER_SIM_DAY = 1440;
+    private static final Weather[] WEATHERS = Weather.values();
+
+    private final WorkloadSpec spec;
+    private final PlantType[] species;
+    private final int[] cumulativeWeights;
+
+    /**
+     * Creates a generator for one spec.
+     */
+    public WorkloadGenerator(WorkloadSpec spec) {
+        this.spec = spec;
+        List<PlantType> types = new ArrayList<>();
+        List<Integer> cumulative = new ArrayList<>();
+        int total = 0;
+        for (Map.Entry<PlantType, Integer> entry : spec.getSpeciesWeights().entrySet()) {
+            if (entry.getValue() > 0) {
+                total += entry.getValue();
+                types.add(entry.getKey());
+                cumulative.add(total);
+            }
+        }
+        this.species = types.toArray(new PlantType[0]);
+        this.cumulativeWeights = cumulative.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    public WorkloadSpec getSpec() {
+        return spec;
+    }
+
+    /**
+     * Creates a garden of the spec's size with exactly
+     * {@code round(rows * columns * density)} plants on randomly chosen cells.
+     */
+    public Garden createGarden() {
+        SplittableRandom random = stream(0);
+        Garden garden = new Garden(spec.getRows(), spec.getColumns());
+        long cells = (long) spec.getRows() * spec.getColumns();
+        long remaining = Math.round(cells * spec.getDensity());
+
+        List<Plant> plants = new ArrayList<>((int) remaining);
+
+        // Selection sampling: visits cells in order and keeps each with
+        // probability remaining / cellsLeft, which picks exactly 'remaining'
+        for (long cell = 0; cell < cells && remaining > 0; cell++) {
+            if (random.nextLong(cells - cell) < remaining) {
+                Position position = new Position((int) (cell / spec.getColumns()), (int) (cell % spec.getColumns()));
+                plants.add(pickSpecies(random).createPlant(position));
+                remaining--;
+            }
+        }
+        garden.plantAll(plants);
+        return garden;
+    }
+
+    /**
+     * Generates the API calls due in the first {@code ticks} ticks, in tick
+     * order. Each kind of call arrives independently at its daily rate.
+     */
+    public List<ScheduledCall> generateCalls(long ticks) {
+        SplittableRandom random = stream(1);
+        double rainChance = spec.getRainPerDay() / TICKS_PER_SIM_DAY;
+        double temperatureChance = spec.getTemperaturePerDay() / TICKS_PER_SIM_DAY;
+        double parasiteChance = spec.getParasitesPerDay() / TICKS_PER_SIM_DAY;
+        double stateChance = spec.getStateReportsPerDay() / TICKS_PER_SIM_DAY;
+        List<String> pests = spec.getPestTypes();
+
+        List<ScheduledCall> calls = new ArrayList<>();
+        for (long tick = 0; tick < ticks; tick++) {
+            if (random.nextDouble() < rainChance) {
+                calls.add(new ScheduledCall(tick, Kind.RAIN, random.nextInt(spec.getMaxRainAmount() + 1)));
+            }
+            if (random.nextDouble() < temperatureChance) {
+                int temperature = random.nextInt(spec.getMinTemperature(), spec.getMaxTemperature() + 1);
+                calls.add(new ScheduledCall(tick, Kind.TEMPERATURE, temperature));
+            }
+            if (random.nextDouble() < parasiteChance) {
+                calls.add(new ScheduledCall(tick, Kind.PARASITE, pests.get(random.nextInt(pests.size()))));
+            }
+            if (random.nextDouble() < stateChance) {
+                calls.add(new ScheduledCall(tick, Kind.GET_STATE, null));
+            }
+        }
+        return calls;
+    }
+
+    /**
+     * Generates a weather trace covering the first {@code ticks} ticks. The
+     * first change is at tick 0 and each weather differs from the previous one.
+     */
+    public List<WeatherChange> generateWeatherTrace(long ticks) {
+        SplittableRandom random = stream(2);
+        List<WeatherChange> trace = new ArrayList<>();
+        Weather previous = null;
+        long tick = 0;
+        while (tick < ticks) {
+            Weather weather = WEATHERS[random.nextInt(WEATHERS.length)];
+            if (weather == previous) {
+                continue;
+            }
+            trace.add(new WeatherChange(tick, weather));
+            previous = weather;
+            tick += random.nextInt(spec.getMinWeatherDuration(), spec.getMaxWeatherDuration() + 1);
+        }
+        return trace;
+    }
+
+    private PlantType pickSpecies(SplittableRandom random) {
+        int roll = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return species[i];
+            }
+        }
+        throw new IllegalStateException("Species weights are inconsistent");
+    }
+
+    /**
+     * Gets a fresh copy of one of the seed's independent random streams.
+     */
+    private SplittableRandom stream(int index) {
+        SplittableRandom root = new SplittableRandom(spec.getSeed());
+        SplittableRandom split = root.split();
+        for (int i = 0; i < index; i++) {
+            split = root.split();
+        }
+        return split;
+    }
+}
@@ -0,0 +1,245 @@
+package edu.scu.csen275.smartgarden.workload;
+
+import edu.scu.csen275.smartgarden.model.PlantType;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable description of a synthetic garden and the load applied to it.
+ * Unset values fall back to the defaults of the interactive demo, e.g.
+ * {@code WorkloadSpec.defaults().size(100, 100).density(0.8)
+ * .species(PlantType.TOMATO, 5).parasitesPerDay(200).seed(42)}.
+ *
+ * Call rates are expected calls per simulated day (1440 ticks); a rate of 0
+ * disables that call.
+ */
+public final class WorkloadSpec {
+    public static final List<String> DEFAULT_PESTS =
+        List.of("Red Mite", "Green Leaf Worm", "Black Beetle", "Brown Caterpillar");
+
+    private final int rows;
+    private final int columns;
+    private final double density;
+    private final Map<PlantType, Integer> speciesWeights;
+    private final List<String> pestTypes;
+    private final double rainPerDay;
+    private final double temperaturePerDay;
+    private final double parasitesPerDay;
+    private final double stateReportsPerDay;
+    private final int maxRainAmount;
+    private final int minTemperature;
+    private final int maxTemperature;
+    private final int minWeatherDuration;
+    private final int maxWeatherDuration;
+    private final long seed;
+
+    // Demo schedule: rain every 60s, temperature every 40s, parasite every 30s
+    private static final WorkloadSpec DEFAULTS = new WorkloadSpec(9, 9, 1.0, evenMix(), DEFAULT_PESTS,
+        24, 36, 48, 0, 40, 40, 120, 30, 120, 0L);
+
+    private WorkloadSpec(int rows, int columns, double density, Map<PlantType, Integer> speciesWeights,
+                         List<String> pestTypes, double rainPerDay, double temperaturePerDay,
+                         double parasitesPerDay, double stateReportsPerDay, int maxRainAmount,
+                         int minTemperature, int maxTemperature, int minWeatherDuration,
+                         int maxWeatherDuration, long seed) {
+        this.rows = rows;
+        this.columns = columns;
+        this.density = density;
+        this.speciesWeights = speciesWeights;
+        this.pestTypes = pestTypes;
+        this.rainPerDay = rainPerDay;
+        this.temperaturePerDay = temperaturePerDay;
+        this.parasitesPerDay = parasitesPerDay;
+        this.stateReportsPerDay = stateReportsPerDay;
+        this.maxRainAmount = maxRainAmount;
+        this.minTemperature = minTemperature;
+        this.maxTemperature = maxTemperature;
+        this.minWeatherDuration = minWeatherDuration;
+        this.maxWeatherDuration = maxWeatherDuration;
+        this.seed = seed;
+    }
+
+    /**
+     * Gets the default spec: a full 9x9 garden with every species equally
+     * likely and the demo's API call rates.
+     */
+    public static WorkloadSpec defaults() {
+        return DEFAULTS;
+    }
+
+    private static Map<PlantType, Integer> evenMix() {
+        Map<PlantType, Integer> weights = new EnumMap<>(PlantType.class);
+        for (PlantType type : PlantType.values()) {
+            weights.put(type, 1);
+        }
+        return Collections.unmodifiableMap(weights);
+    }
+
+    public WorkloadSpec size(int newRows, int newColumns) {
+        if (newRows <= 0 || newColumns <= 0) {
+            throw new IllegalArgumentException("Garden dimensions must be positive");
+        }
+        return new WorkloadSpec(newRows, newColumns, density, speciesWeights, pestTypes, rainPerDay,
+            temperaturePerDay, parasitesPerDay, stateReportsPerDay, maxRainAmount, minTemperature,
+            maxTemperature, minWeatherDuration, maxWeatherDuration, seed);
+    }
+
+    /**
+     * Sets the fraction of cells that get a plant, from 0 to 1.
+     */
+    public WorkloadSpec density(double newDensity) {
+        if (!(newDensity >= 0 && newDensity <= 1)) {
+            throw new IllegalArgumentException("Density must be between 0 and 1");
+        }
+        return new WorkloadSpec(rows, columns, newDensity, speciesWeights, pestTypes, rainPerDay,
+            temperaturePerDay, parasitesPerDay, stateReportsPerDay, maxRainAmount, minTemperature,
+            maxTemperature, minWeatherDuration, maxWeatherDuration, seed);
+    }
+
+    /**
+     * Sets the relative weight of one species; 0 removes it from the mix.
+     */
+    public WorkloadSpec species(PlantType type, int weight) {
+        if (weight < 0) {
+            throw new IllegalArgumentException("Species weight cannot be negative");
+        }
+        Map<PlantType, Integer> weights = new EnumMap<>(speciesWeights);
+        weights.put(type, weight);
+        return species(weights);
+    }
+
+    /**
+     * Replaces the species mix; species not in the map are not planted.
+     */
+    public WorkloadSpec species(Map<PlantType, Integer> newWeights) {
+        Map<PlantType, Integer> weights = new EnumMap<>(PlantType.class);
+        int total = 0;
+        for (Map.Entry<PlantType, Integer> entry : newWeights.entrySet()) {
+            if (entry.getValue() < 0) {
+                throw new IllegalArgumentException("Species weight cannot be negative");
+            }
+            weights.put(entry.getKey(), entry.getValue());
+            total += entry.getValue();
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("At least one species must have a positive weight");
+        }
+        return new WorkloadSpec(rows, columns, density, Collections.unmodifiableMap(weights), pestTypes,
+            rainPerDay, temperaturePerDay, parasitesPerDay, stateReportsPerDay, maxRainAmount,
+            minTemperature, maxTemperature, minWeatherDuration, maxWeatherDuration, seed);
+    }
+
+    /**
+     * Sets the pest names used for parasite calls, chosen uniformly.
+     */
+    public WorkloadSpec pests(List<String> newPestTypes) {
+        if (newPestTypes.isEmpty()) {
+            throw new IllegalArgumentException("At least one pest type is required");
+        }
+        return new WorkloadSpec(rows, columns, density, speciesWeights, List.copyOf(newPestTypes), rainPerDay,
+            temperaturePerDay, parasitesPerDay, stateReportsPerDay, maxRainAmount, minTemperature,
+            maxTemperature, minWeatherDuration, maxWeatherDuration, seed);
+    }
+
+    public WorkloadSpec rainPerDay(double rate) {
+        return new WorkloadSpec(rows, columns, density, speciesWeights, pestTypes, checkRate(rate),
+            temperaturePerDay, parasitesPerDay, stateReportsPerDay, maxRainAmount, minTemperature,
+            maxTemperature, minWeatherDuration, maxWeatherDuration, seed);
+    }
+
+    public WorkloadSpec temperaturePerDay(double rate) {
+        return new WorkloadSpec(rows, columns, density, speciesWeights, pestTypes, rainPerDay,
+            checkRate(rate), parasitesPerDay, stateReportsPerDay, maxRainAmount, minTemperature,
+            maxTemperature, minWeatherDuration, maxWeatherDuration, seed);
+    }
+
+    /**
+     * Sets the pest pressure as parasite calls per simulated day.
+     */
+    public WorkloadSpec parasitesPerDay(double rate) {
+        return new WorkloadSpec(rows, columns, density, speciesWeights, pestTypes, rainPerDay,
+            temperaturePerDay, checkRate(rate), stateReportsPerDay, maxRainAmount, minTemperature,
+            maxTemperature, minWeatherDuration, maxWeatherDuration, seed);
+    }
+
+    public WorkloadSpec stateReportsPerDay(double rate) {
+        return new WorkloadSpec(rows, columns, density, speciesWeights, pestTypes, rainPerDay,
+            temperaturePerDay, parasitesPerDay, checkRate(rate), maxRainAmount, minTemperature,
+            maxTemperature, minWeatherDuration, maxWeatherDuration, seed);
+    }
+
+    /**
+     * Sets the largest rain amount; amounts are drawn from 0 to this value.
+     */
+    public WorkloadSpec maxRainAmount(int amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("Rain amount cannot be negative");
+        }
+        return new WorkloadSpec(rows, columns, density, speciesWeights, pestTypes, rainPerDay,
+            temperaturePerDay, parasitesPerDay, stateReportsPerDay, amount, minTemperature,
+            maxTemperature, minWeatherDuration, maxWeatherDuration, seed);
+    }
+
+    /**
+     * Sets the Fahrenheit range temperature calls are drawn from, inclusive.
+     */
+    public WorkloadSpec temperatureRange(int min, int max) {
+        if (min > max) {
+            throw new IllegalArgumentException("Minimum temperature must not exceed maximum");
+        }
+        return new WorkloadSpec(rows, columns, density, speciesWeights, pestTypes, rainPerDay,
+            temperaturePerDay, parasitesPerDay, stateReportsPerDay, maxRainAmount, min, max,
+            minWeatherDuration, maxWeatherDuration, seed);
+    }
+
+    /**
+     * Sets how many ticks each weather in the trace lasts, inclusive.
+     */
+    public WorkloadSpec weatherDuration(int min, int max) {
+        if (min <= 0 || min > max) {
+            throw new IllegalArgumentException("Weather durations must be positive and min must not exceed max");
+        }
+        return new WorkloadSpec(rows, columns, density, speciesWeights, pestTypes, rainPerDay,
+            temperaturePerDay, parasitesPerDay, stateReportsPerDay, maxRainAmount, minTemperature,
+            maxTemperature, min, max, seed);
+    }
+
+    public WorkloadSpec seed(long newSeed) {
+        return new WorkloadSpec(rows, columns, density, speciesWeights, pestTypes, rainPerDay,
+            temperaturePerDay, parasitesPerDay, stateReportsPerDay, maxRainAmount, minTemperature,
+            maxTemperature, minWeatherDuration, maxWeatherDuration, newSeed);
+    }
+
+    private static double checkRate(double rate) {
+        if (!(rate >= 0 && rate <= 1440)) {
+            throw new IllegalArgumentException("Rate must be between 0 and 1440 calls per day");
+        }
+        return rate;
+    }
+
+    public int getRows() { return rows; }
+    public int getColumns() { return columns; }
+    public double getDensity() { return density; }
+    public Map<PlantType, Integer> getSpeciesWeights() { return speciesWeights; }
+    public List<String> getPestTypes() { return pestTypes; }
+    public double getRainPerDay() { return rainPerDay; }
+    public double getTemperaturePerDay() { return temperaturePerDay; }
+    public double getParasitesPerDay() { return parasitesPerDay; }
+    public double getStateReportsPerDay() { return stateReportsPerDay; }
+    public int getMaxRainAmount() { return maxRainAmount; }
+    public int getMinTemperature() { return minTemperature; }
+    public int getMaxTemperature() { return maxTemperature; }
+    public int getMinWeatherDuration() { return minWeatherDuration; }
+    public int getMaxWeatherDuration() { return maxWeatherDuration; }
+    public long getSeed() { return seed; }
+
+    @Override
+    public String toString() {
+        return String.format("WorkloadSpec[%dx%d, density=%.2f, species=%s, rain=%.1f/day, "
+                + "temperature=%.1f/day, parasites=%.1f/day, state=%.1f/day, seed=%d]",
+            rows, columns, density, speciesWeights, rainPerDay, temperaturePerDay,
+            parasitesPerDay, stateReportsPerDay, seed);
+    }
+}
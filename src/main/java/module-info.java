@@ -2,6 +2,10 @@ module edu.scu.csen275.smartgarden {
     requires javafx.controls;
     requires javafx.fxml;
     requires javafx.graphics;
+    requires java.management;
+    requires jdk.management;
+    requires jdk.httpserver;
+    requires jdk.jfr;
 
     opens edu.scu.csen275.smartgarden to javafx.fxml;
     opens edu.scu.csen275.smartgarden.controller to javafx.fxml;
@@ -9,11 +13,18 @@ module edu.scu.csen275.smartgarden {
     opens edu.scu.csen275.smartgarden.ui to javafx.fxml;
     
     exports edu.scu.csen275.smartgarden;
+    exports edu.scu.csen275.smartgarden.config;
     exports edu.scu.csen275.smartgarden.controller;
+    exports edu.scu.csen275.smartgarden.jfr;
+    exports edu.scu.csen275.smartgarden.management;
+    exports edu.scu.csen275.smartgarden.metrics;
     exports edu.scu.csen275.smartgarden.model;
+    exports edu.scu.csen275.smartgarden.resource;
     exports edu.scu.csen275.smartgarden.system;
     exports edu.scu.csen275.smartgarden.simulation;
+    exports edu.scu.csen275.smartgarden.soak;
     exports edu.scu.csen275.smartgarden.util;
     exports edu.scu.csen275.smartgarden.ui;
+    exports edu.scu.csen275.smartgarden.workload;
 }
 
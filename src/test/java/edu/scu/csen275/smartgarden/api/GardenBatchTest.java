@@ -0,0 +1,64 @@
+package edu.scu.csen275.smartgarden.api;
+
+import edu.scu.csen275.smartgarden.controller.GardenController;
+import edu.scu.csen275.smartgarden.model.PlantType;
+import edu.scu.csen275.smartgarden.model.Position;
+import edu.scu.csen275.smartgarden.simulation.WeatherSystem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for applying API commands as a batch.
+ */
+public class GardenBatchTest {
+
+    private GardenSimulationAPI api;
+
+    @BeforeEach
+    void setUp() {
+        GardenController controller = new GardenController(9, 9);
+        controller.plantSeed(PlantType.STRAWBERRY, new Position(0, 0));
+        controller.plantSeed(PlantType.ONION, new Position(4, 4));
+        controller.plantSeed(PlantType.TOMATO, new Position(8, 8));
+        api = new GardenSimulationAPI(controller);
+    }
+
+    @Test
+    @DisplayName("Applies every command and summarizes the batch")
+    void testApplyBatch() {
+        int waterBefore = api.getGarden().getPlant(new Position(4, 4)).getWaterLevel();
+
+        BatchResult result = api.applyBatch(List.of(
+            GardenCommand.rain(10),
+            GardenCommand.temperature(70),
+            GardenCommand.parasite("red mite")));
+
+        assertEquals(3, result.commands());
+        assertEquals(3, result.plantsVisited());
+        assertEquals(2, result.pestsRegistered()); // Strawberry and Tomato, not Onion
+        assertEquals(3, api.getDayCount());
+        assertEquals(WeatherSystem.Weather.RAINY, api.getController().getSimulationEngine()
+            .getWeatherSystem().getCurrentWeather());
+        assertTrue(api.getGarden().getPlant(new Position(4, 4)).getWaterLevel() > waterBefore);
+    }
+
+    @Test
+    @DisplayName("Empty batch changes nothing")
+    void testEmptyBatch() {
+        BatchResult result = api.applyBatch(List.of());
+        assertEquals(0, result.commands());
+        assertEquals(0, result.pestsRegistered());
+        assertEquals(0, api.getDayCount());
+    }
+
+    @Test
+    @DisplayName("Rejects blank parasite types")
+    void testParasiteValidation() {
+        assertThrows(IllegalArgumentException.class, () -> GardenCommand.parasite(" "));
+    }
+}
@@ -0,0 +1,114 @@
+package edu.scu.csen275.smartgarden.config;
+
+import edu.scu.csen275.smartgarden.model.Garden;
+import edu.scu.csen275.smartgarden.model.Plant;
+import edu.scu.csen275.smartgarden.model.PlantType;
+import edu.scu.csen275.smartgarden.model.Position;
+import edu.scu.csen275.smartgarden.system.PestSpecies;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for staging and applying reloaded species and pest configs.
+ */
+public class ConfigReloaderTest {
+
+    private static final String PLANTS = """
+        {"vegetables": [
+          {"name": "Carrot", "waterRequirement": 45, "minTemperature": 10, "maxTemperature": 25,
+           "lifespan": 60, "growthDuration": 4}
+        ]}""";
+
+    private static final String PARASITES = """
+        {"parasites": [
+          {"name": "Red Mite", "damage": 7, "targetPlants": ["Carrot"]},
+          {"name": "Aphid", "damage": 1, "targetPlants": ["Rose", "Carrot"]}
+        ]}""";
+
+    @TempDir
+    Path dir;
+
+    /**
+     * Reloads the bundled configs so other tests see the startup values.
+     */
+    @AfterEach
+    void restoreBundledConfig() throws IOException {
+        for (String file : new String[] {ConfigReloader.PLANTS_FILE, ConfigReloader.PARASITES_FILE}) {
+            try (InputStream in = getClass().getResourceAsStream("/" + file)) {
+                Files.copy(in, dir.resolve(file), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        ConfigReloader reloader = new ConfigReloader(dir);
+        assertTrue(reloader.reloadNow());
+        reloader.applyPending(null);
+    }
+
+    @Test
+    @DisplayName("Staged config is applied at the tick boundary and rebinds plants")
+    void testReloadAndApply() throws IOException {
+        Garden garden = new Garden(3, 3);
+        Plant carrot = PlantType.CARROT.createPlant(new Position(0, 0));
+        garden.addPlant(carrot);
+        long version = ConfigSnapshot.current().version();
+
+        Files.writeString(dir.resolve(ConfigReloader.PLANTS_FILE), PLANTS);
+        Files.writeString(dir.resolve(ConfigReloader.PARASITES_FILE), PARASITES);
+        ConfigReloader reloader = new ConfigReloader(dir);
+        assertTrue(reloader.reloadNow());
+
+        // Nothing changes until the simulation thread applies it
+        assertEquals(60, carrot.getWaterRequirement());
+        assertEquals(version, ConfigSnapshot.current().version());
+
+        assertTrue(reloader.applyPending(garden));
+        assertFalse(reloader.applyPending(garden));
+        assertEquals(45, carrot.getWaterRequirement());
+        assertEquals(4, carrot.getGrowthDuration());
+        assertEquals(45, PlantType.CARROT.createPlant(new Position(1, 1)).getWaterRequirement());
+
+        ConfigSnapshot snapshot = ConfigSnapshot.current();
+        assertEquals(version + 1, snapshot.version());
+        int aphid = snapshot.vulnerabilities().pestId("aphid");
+        assertEquals("Aphid", snapshot.pest(aphid).getName());
+        assertTrue(snapshot.vulnerabilities().isVulnerable(PlantType.ROSE, aphid));
+        assertEquals(7, PestSpecies.find("Red Mite").getDamageRate());
+        assertEquals(2, PestSpecies.configured().size());
+    }
+
+    @Test
+    @DisplayName("An invalid file is reported and the current config stays in effect")
+    void testInvalidConfigIsRejected() throws IOException {
+        Files.writeString(dir.resolve(ConfigReloader.PLANTS_FILE), "{\"vegetables\": [\n  {\"name\": \"Carrot\",}\n]}");
+        ConfigReloader reloader = new ConfigReloader(dir);
+        ConfigSnapshot before = ConfigSnapshot.current();
+
+        assertFalse(reloader.reloadNow());
+        assertFalse(reloader.hasPending());
+        assertFalse(reloader.applyPending(null));
+        assertSame(before, ConfigSnapshot.current());
+    }
+
+    @Test
+    @DisplayName("The watcher stages a reload when a config file changes")
+    void testWatcher() throws Exception {
+        try (ConfigReloader reloader = new ConfigReloader(dir)) {
+            reloader.start();
+            Files.writeString(dir.resolve(ConfigReloader.PLANTS_FILE), PLANTS);
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (!reloader.hasPending() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+            assertTrue(reloader.hasPending());
+        }
+    }
+}
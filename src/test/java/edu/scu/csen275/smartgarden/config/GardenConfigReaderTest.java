@@ -0,0 +1,91 @@
+package edu.scu.csen275.smartgarden.config;
+
+import edu.scu.csen275.smartgarden.model.PlantCategory;
+import edu.scu.csen275.smartgarden.model.PlantType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for reading garden layouts, plant profiles and parasites.
+ */
+public class GardenConfigReaderTest {
+
+    @Test
+    @DisplayName("Streams plants from a layout, skipping unknown fields")
+    void testReadGardenLayout() throws IOException {
+        String json = """
+            {"name": "test", "plants": [
+              {"type": "Apple Sapling", "note": [1, {"x": 2}], "position": {"row": 0, "column": 3}},
+              {"position": {"column": 1, "row": 2}, "type": "TULIP"}
+            ]}""";
+        List<String> planted = new ArrayList<>();
+        int count = GardenConfigReader.readGardenLayout(new StringReader(json), "layout",
+            (type, row, column) -> planted.add(type + "@" + row + "," + column));
+        assertEquals(2, count);
+        assertEquals(List.of("APPLE@0,3", "TULIP@2,1"), planted);
+    }
+
+    @Test
+    @DisplayName("Reports unknown plant types and missing fields at their location")
+    void testLayoutErrors() {
+        String unknown = "{\"plants\": [\n  {\"type\": \"Cactus\", \"position\": {\"row\": 0, \"column\": 0}}\n]}";
+        ConfigException e = assertThrows(ConfigException.class, () ->
+            GardenConfigReader.readGardenLayout(new StringReader(unknown), "layout", (type, row, column) -> { }));
+        assertEquals(2, e.getLine());
+        assertEquals(12, e.getColumn());
+
+        String missing = "{\"plants\": [{\"type\": \"Rose\"}]}";
+        e = assertThrows(ConfigException.class, () ->
+            GardenConfigReader.readGardenLayout(new StringReader(missing), "layout", (type, row, column) -> { }));
+        assertEquals(1, e.getLine());
+        assertEquals(13, e.getColumn());
+    }
+
+    @Test
+    @DisplayName("Reads the bundled plant profiles and parasites")
+    void testReadBundledConfigs() throws IOException {
+        List<PlantProfile> profiles = new ArrayList<>();
+        try (InputStream in = getClass().getResourceAsStream("/plants.json")) {
+            GardenConfigReader.readPlantProfiles(
+                new InputStreamReader(in, StandardCharsets.UTF_8), "plants.json", profiles::add);
+        }
+        assertEquals(PlantType.values().length, profiles.size());
+        PlantProfile strawberry = profiles.get(0);
+        assertEquals(PlantCategory.FRUIT, strawberry.category());
+        assertEquals("Strawberry", strawberry.name());
+        assertEquals(List.of("Red Mite", "Green Leaf Worm"), strawberry.vulnerableTo());
+
+        List<ParasiteDefinition> parasites = new ArrayList<>();
+        try (InputStream in = getClass().getResourceAsStream("/parasites.json")) {
+            GardenConfigReader.readParasites(
+                new InputStreamReader(in, StandardCharsets.UTF_8), "parasites.json", 2, parasites::add);
+        }
+        assertEquals(4, parasites.size());
+        assertEquals(new ParasiteDefinition("Black Beetle", 4,
+            EnumSet.of(PlantType.GRAPEVINE, PlantType.TOMATO, PlantType.ROSE)), parasites.get(2));
+    }
+
+    @Test
+    @DisplayName("Rejects more parasites than a pest mask can hold")
+    void testTooManyParasites() {
+        StringBuilder json = new StringBuilder("{\"parasites\": [");
+        for (int i = 0; i <= GardenConfigReader.MAX_PARASITES; i++) {
+            json.append(i > 0 ? "," : "").append("\n{\"name\": \"Pest ").append(i).append("\"}");
+        }
+        json.append("]}");
+        ConfigException e = assertThrows(ConfigException.class, () -> GardenConfigReader.readParasites(
+            new StringReader(json.toString()), "parasites", 2, parasite -> { }));
+        assertEquals(GardenConfigReader.MAX_PARASITES + 2, e.getLine());
+    }
+}
@@ -0,0 +1,74 @@
+package edu.scu.csen275.smartgarden.config;
+
+import edu.scu.csen275.smartgarden.config.JsonReader.Token;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the streaming JSON reader.
+ */
+public class JsonReaderTest {
+
+    private static JsonReader reader(String json) {
+        return new JsonReader(new StringReader(json), "test.json");
+    }
+
+    @Test
+    @DisplayName("Reads nested values, escapes and numbers in order")
+    void testReadsValues() throws IOException {
+        JsonReader reader = reader("{\"a\": [1, -2.5e1, true, null], \"b\": \"x\\\"\\u0041\", \"c\": {}}");
+        reader.beginObject();
+        assertEquals("a", reader.nextName());
+        reader.beginArray();
+        assertEquals(1, reader.nextInt());
+        assertEquals(-25.0, reader.nextDouble());
+        assertTrue(reader.nextBoolean());
+        reader.nextNull();
+        assertFalse(reader.hasNext());
+        reader.endArray();
+        assertEquals("b", reader.nextName());
+        assertEquals("x\"A", reader.nextString());
+        assertEquals("c", reader.nextName());
+        reader.skipValue();
+        reader.endObject();
+        assertEquals(Token.END_DOCUMENT, reader.peek());
+    }
+
+    @Test
+    @DisplayName("Reports syntax errors with line and column")
+    void testErrorLocation() {
+        ConfigException e = assertThrows(ConfigException.class, () -> {
+            JsonReader reader = reader("{\n  \"a\": 1\n  \"b\": 2\n}");
+            reader.beginObject();
+            reader.nextName();
+            reader.nextInt();
+            reader.hasNext();
+        });
+        assertEquals(3, e.getLine());
+        assertEquals(3, e.getColumn());
+        assertTrue(e.getMessage().startsWith("test.json:3:3: "));
+    }
+
+    @Test
+    @DisplayName("Rejects trailing commas, bad numbers and trailing data")
+    void testRejectsInvalidJson() {
+        assertThrows(ConfigException.class, () -> {
+            JsonReader reader = reader("[1, ]");
+            reader.beginArray();
+            reader.nextInt();
+            reader.hasNext();
+        });
+        assertThrows(ConfigException.class, () -> reader("01").peek());
+        assertThrows(ConfigException.class, () -> reader("1.5").nextInt());
+        assertThrows(ConfigException.class, () -> {
+            JsonReader reader = reader("{} {}");
+            reader.skipValue();
+            reader.endDocument();
+        });
+    }
+}
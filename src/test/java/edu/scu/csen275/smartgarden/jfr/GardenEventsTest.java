@@ -0,0 +1,62 @@
+package edu.scu.csen275.smartgarden.jfr;
+
+import jdk.jfr.EventType;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the flight recorder events.
+ */
+public class GardenEventsTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Events are disabled unless a recording enables them")
+    void testDisabledByDefault() {
+        assertFalse(EventType.getEventType(TickEvent.class).isEnabled());
+        assertFalse(EventType.getEventType(SprinklerEvent.class).isEnabled());
+    }
+
+    @Test
+    @DisplayName("Enabled events are recorded with their fields")
+    void testRecorded() throws IOException {
+        Path file = dir.resolve("garden.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(TickEvent.class);
+            recording.enable(ApiCallEvent.class);
+            recording.start();
+
+            TickEvent.start("headless").finish(42, 3, 7);
+            ApiCallEvent.start("rain", 5).finish(7);
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        RecordedEvent tick = events.stream()
+            .filter(e -> e.getEventType().getName().equals("edu.scu.csen275.smartgarden.Tick"))
+            .findFirst().orElseThrow();
+        assertEquals(42, tick.getLong("tick"));
+        assertEquals("headless", tick.getString("engine"));
+        assertEquals(7, tick.getInt("livingPlants"));
+
+        RecordedEvent call = events.stream()
+            .filter(e -> e.getEventType().getName().equals("edu.scu.csen275.smartgarden.ApiCall"))
+            .findFirst().orElseThrow();
+        assertEquals("rain", call.getString("method"));
+        assertEquals("5", call.getString("argument"));
+    }
+}
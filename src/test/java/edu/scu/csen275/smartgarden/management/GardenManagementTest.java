@@ -0,0 +1,66 @@
+package edu.scu.csen275.smartgarden.management;
+
+import edu.scu.csen275.smartgarden.model.Garden;
+import edu.scu.csen275.smartgarden.simulation.HeadlessSimulationEngine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.management.JMException;
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the engine and system MXBeans.
+ */
+public class GardenManagementTest {
+
+    private MBeanServer server;
+    private HeadlessSimulationEngine engine;
+    private GardenManagement management;
+
+    @BeforeEach
+    void setUp() {
+        server = MBeanServerFactory.newMBeanServer();
+        engine = new HeadlessSimulationEngine(new Garden(3, 3));
+        management = new GardenManagement(engine, server);
+        management.register();
+    }
+
+    @AfterEach
+    void tearDown() {
+        management.unregister();
+    }
+
+    @Test
+    @DisplayName("Beans are registered under the application domain")
+    void testRegistration() throws JMException {
+        for (String type : new String[] {"SimulationEngine", "WateringSystem", "PestControlSystem",
+                                         "HeatingSystem", "CoolingSystem"}) {
+            assertTrue(server.isRegistered(GardenManagement.objectName(type)), type);
+        }
+        management.unregister();
+        assertFalse(server.isRegistered(GardenManagement.objectName("WateringSystem")));
+    }
+
+    @Test
+    @DisplayName("Operations change the running systems")
+    void testOperations() throws JMException {
+        WateringSystemMXBean watering = JMX.newMXBeanProxy(server,
+            GardenManagement.objectName("WateringSystem"), WateringSystemMXBean.class);
+        watering.setMoistureThreshold(55);
+        assertEquals(55, engine.getWateringSystem().getMoistureThreshold());
+        assertThrows(IllegalArgumentException.class, () -> watering.setMoistureThreshold(150));
+
+        SimulationEngineMXBean control = JMX.newMXBeanProxy(server,
+            GardenManagement.objectName("SimulationEngine"), SimulationEngineMXBean.class);
+        control.setSpeedMultiplier(4);
+        assertEquals(4, engine.getSpeedMultiplier());
+        assertFalse(control.isRunning());
+        assertEquals(0, control.getElapsedTicks());
+    }
+}
@@ -0,0 +1,66 @@
+package edu.scu.csen275.smartgarden.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the Prometheus text format and the local metrics endpoint.
+ */
+public class MetricsHttpServerTest {
+
+    private MetricsHttpServer server;
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Histograms are written with cumulative buckets, sum and count")
+    void testHistogramFormat() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.histogram("test_seconds", "Test durations", 0.5, 1.0).observe(0.25);
+        registry.counter("test_total", "Test events").add(3);
+
+        String text = PrometheusFormat.write(registry.getMetrics());
+        assertTrue(text.contains("# TYPE test_seconds histogram\n"));
+        assertTrue(text.contains("test_seconds_bucket{le=\"0.5\"} 1\n"));
+        assertTrue(text.contains("test_seconds_bucket{le=\"+Inf\"} 1\n"));
+        assertTrue(text.contains("test_seconds_sum 0.25\n"));
+        assertTrue(text.contains("test_seconds_count 1\n"));
+        assertTrue(text.contains("test_total 3\n"));
+    }
+
+    @Test
+    @DisplayName("Endpoint serves metrics on localhost and stops cleanly")
+    void testScrape() throws IOException {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.gauge("test_level", "Test level").set(7);
+        server = new MetricsHttpServer(registry, 0);
+        server.start();
+        assertTrue(server.isRunning());
+
+        HttpURLConnection connection = (HttpURLConnection)
+            URI.create("http://127.0.0.1:" + server.getPort() + "/metrics").toURL().openConnection();
+        assertEquals(200, connection.getResponseCode());
+        assertTrue(connection.getContentType().startsWith("text/plain"));
+        try (InputStream in = connection.getInputStream()) {
+            assertTrue(new String(in.readAllBytes(), StandardCharsets.UTF_8).contains("test_level 7\n"));
+        }
+
+        server.stop();
+        assertFalse(server.isRunning());
+        assertEquals(-1, server.getPort());
+    }
+}
@@ -0,0 +1,72 @@
+package edu.scu.csen275.smartgarden.metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for counters, gauges and histograms in the metrics registry.
+ */
+public class MetricsRegistryTest {
+
+    private MetricsRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new MetricsRegistry();
+    }
+
+    @Test
+    @DisplayName("Counters are shared by name and sum concurrent increments")
+    void testCounter() throws InterruptedException {
+        Counter counter = registry.counter("test_events_total", "Test events");
+        assertSame(counter, registry.counter("test_events_total", "Test events"));
+
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    counter.increment();
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(40_000, counter.get());
+        assertThrows(IllegalArgumentException.class, () -> counter.add(-1));
+    }
+
+    @Test
+    @DisplayName("Histogram buckets are cumulative and include the upper bound")
+    void testHistogram() {
+        Histogram histogram = registry.histogram("test_seconds", "Test durations", 0.1, 1.0);
+        histogram.observe(0.05);
+        histogram.observe(0.1);
+        histogram.observe(0.5);
+        histogram.observe(5.0);
+
+        Histogram.Snapshot snapshot = histogram.snapshot();
+        assertArrayEquals(new long[] {2, 3, 4}, snapshot.cumulativeCounts());
+        assertEquals(4, snapshot.count());
+        assertEquals(5.65, snapshot.sum(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("A name cannot be reused for a different metric type")
+    void testTypeConflict() {
+        Gauge gauge = registry.gauge("test_level", "Test level");
+        gauge.set(42);
+        assertEquals(42, gauge.get());
+        assertThrows(IllegalArgumentException.class, () -> registry.counter("test_level", "Test level"));
+        assertThrows(IllegalArgumentException.class, () -> registry.gauge("bad name", "Invalid"));
+        assertEquals(List.of(gauge), registry.getMetrics());
+    }
+}
@@ -0,0 +1,57 @@
+package edu.scu.csen275.smartgarden.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for bulk planting and zone lookup in the garden.
+ */
+public class GardenTest {
+
+    @Test
+    @DisplayName("plantAll skips invalid and occupied cells and updates counts once")
+    void testPlantAll() {
+        Garden garden = new Garden(9, 9);
+        garden.addPlant(PlantType.ROSE.createPlant(new Position(0, 0)));
+
+        int added = garden.plantAll(List.of(
+            PlantType.TOMATO.createPlant(new Position(0, 0)),   // occupied
+            PlantType.ONION.createPlant(new Position(4, 4)),
+            PlantType.ONION.createPlant(new Position(4, 4)),    // duplicate in batch
+            PlantType.TULIP.createPlant(new Position(9, 0)),    // out of bounds
+            PlantType.CARROT.createPlant(new Position(8, 8))));
+
+        assertEquals(2, added);
+        assertEquals(3, garden.getTotalPlants());
+        assertEquals(3, garden.getLivingPlantCount());
+        assertEquals("Onion", garden.getPlant(new Position(4, 4)).getPlantType());
+        assertEquals(1, garden.getZoneForPosition(new Position(4, 4)).getPlantCount());
+        assertEquals(1, garden.getZone(9).getPlantCount());
+
+        List<Position> order = new ArrayList<>();
+        garden.forEachPlantInPositionOrder(plant -> order.add(plant.getPosition()));
+        assertEquals(List.of(new Position(0, 0), new Position(4, 4), new Position(8, 8)), order);
+    }
+
+    @Test
+    @DisplayName("Every cell maps to the zone whose boundaries contain it")
+    void testZoneLookup() {
+        Garden garden = new Garden(7, 5);
+        for (int row = 0; row < 7; row++) {
+            for (int column = 0; column < 5; column++) {
+                Position position = new Position(row, column);
+                assertTrue(garden.getZoneForPosition(position).containsPosition(position));
+            }
+        }
+        assertNull(garden.getZoneForPosition(new Position(7, 0)));
+
+        garden.plantAll(List.of(PlantType.ROSE.createPlant(new Position(6, 4))));
+        assertTrue(garden.removePlant(new Position(6, 4)));
+        assertEquals(0, garden.getZoneForPosition(new Position(6, 4)).getPlantCount());
+    }
+}
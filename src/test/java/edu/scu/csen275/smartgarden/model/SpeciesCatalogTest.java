@@ -0,0 +1,59 @@
+package edu.scu.csen275.smartgarden.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the species parameter table compiled from plants.json.
+ */
+public class SpeciesCatalogTest {
+
+    @Test
+    @DisplayName("Plants share their species row from the default catalog")
+    void testDefaultCatalog() {
+        SpeciesCatalog catalog = SpeciesCatalog.getDefault();
+        PlantSpecies carrot = catalog.get(PlantType.CARROT);
+        assertEquals(PlantType.CARROT, carrot.type());
+        assertEquals(60, carrot.waterRequirement());
+        assertEquals(5, carrot.growthDuration());
+
+        Plant first = PlantType.CARROT.createPlant(new Position(0, 0));
+        Plant second = PlantType.CARROT.createPlant(new Position(0, 1));
+        assertSame(carrot, first.getSpecies());
+        assertSame(first.getSpecies(), second.getSpecies());
+        assertEquals(5, first.getGrowthDuration());
+        assertEquals(PlantType.CARROT, first.getType());
+
+        Plant pink = new Flower(new Position(1, 1));
+        assertSame(SpeciesCatalog.categoryDefaults(PlantCategory.FLOWER), pink.getSpecies());
+        assertNull(pink.getType());
+    }
+
+    @Test
+    @DisplayName("Compiles profiles, keeping category defaults for missing types")
+    void testLoad() throws IOException {
+        String json = """
+            {"flowers": [
+              {"name": "Rose", "waterRequirement": 40, "minTemperature": 5, "maxTemperature": 25,
+               "lifespan": 120, "growthDuration": 3, "vulnerableTo": []},
+              {"name": "Orchid", "waterRequirement": 10, "minTemperature": 18, "maxTemperature": 30,
+               "lifespan": 60, "growthDuration": 9}
+            ]}""";
+        SpeciesCatalog catalog = SpeciesCatalog.load(new StringReader(json), "plants");
+
+        PlantSpecies rose = catalog.get(PlantType.ROSE);
+        assertEquals(40, rose.waterRequirement());
+        assertEquals(120, rose.lifespan());
+        assertEquals(3, rose.growthDuration());
+        assertEquals(SpeciesCatalog.categoryDefaults(PlantCategory.FLOWER).pestResistance(), rose.pestResistance());
+
+        PlantSpecies tulip = catalog.get(PlantType.TULIP);
+        assertEquals(PlantType.TULIP, tulip.type());
+        assertEquals(SpeciesCatalog.categoryDefaults(PlantCategory.FLOWER).growthDuration(), tulip.growthDuration());
+    }
+}
@@ -0,0 +1,130 @@
+package edu.scu.csen275.smartgarden.resource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for ResourceLedger reservoir routing, refill policies and consumption series.
+ */
+public class ResourceLedgerTest {
+
+    private ResourceLedger ledger;
+
+    @BeforeEach
+    void setUp() {
+        ledger = ResourceLedger.createDefault();
+    }
+
+    @Test
+    @DisplayName("Default ledger matches the original supplies")
+    void testDefaultSupplies() {
+        assertEquals(10000, ledger.getLevel(ResourceType.WATER));
+        assertEquals(50, ledger.getLevel(ResourceType.PESTICIDE));
+    }
+
+    @Test
+    @DisplayName("Draw never grants more than is available")
+    void testDrawClampsToAvailable() {
+        Reservoir small = new Reservoir("Small", ResourceType.WATER, 100, RefillPolicy.NONE);
+        ResourceLedger single = new ResourceLedger();
+        single.addReservoir(small);
+
+        assertEquals(60, single.draw(ResourceType.WATER, 1, 60));
+        assertEquals(40, single.draw(ResourceType.WATER, 1, 60));
+        assertEquals(0, single.draw(ResourceType.WATER, 1, 60));
+        assertEquals(0, single.getLevel(ResourceType.WATER));
+    }
+
+    @Test
+    @DisplayName("Sector reservoirs are drawn before shared ones")
+    void testSectorReservoirDrawnFirst() {
+        Reservoir sector = new Reservoir("Sector 1", ResourceType.WATER, 100, RefillPolicy.NONE);
+        ledger.addReservoir(sector, 1);
+
+        ledger.draw(ResourceType.WATER, 1, 150);
+
+        assertEquals(0, sector.getLevel());
+        assertEquals(10000 - 50, ledger.getLevel(ResourceType.WATER));
+        assertEquals(10000 - 50, ledger.available(ResourceType.WATER, 2));
+    }
+
+    @Test
+    @DisplayName("Threshold refill policy tops the reservoir back up on tick")
+    void testThresholdRefill() {
+        ledger.draw(ResourceType.WATER, 1, 8500);
+        assertEquals(1500, ledger.getLevel(ResourceType.WATER));
+
+        ledger.tick();
+
+        assertEquals(10000, ledger.getLevel(ResourceType.WATER));
+    }
+
+    @Test
+    @DisplayName("Deposits fill deficits first and keep any remainder")
+    void testDeposit() {
+        ledger.deposit(ResourceType.WATER, 500);
+        assertEquals(10500, ledger.getLevel(ResourceType.WATER));
+    }
+
+    @Test
+    @DisplayName("Level listeners observe the total once per tick")
+    void testLevelListener() {
+        AtomicLong observed = new AtomicLong(-1);
+        ledger.addLevelListener(ResourceType.PESTICIDE, observed::set);
+
+        ledger.draw(ResourceType.PESTICIDE, 3, 1);
+        assertEquals(-1, observed.get());
+
+        ledger.tick();
+        assertEquals(49, observed.get());
+    }
+
+    @Test
+    @DisplayName("Concurrent draws never overdraw a reservoir")
+    void testConcurrentDraws() throws InterruptedException {
+        Thread[] threads = new Thread[8];
+        AtomicLong granted = new AtomicLong();
+        for (int t = 0; t < threads.length; t++) {
+            int zoneId = t + 1;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    granted.addAndGet(ledger.draw(ResourceType.WATER, zoneId, 3));
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(10000, granted.get());
+        assertEquals(0, ledger.getLevel(ResourceType.WATER));
+        ledger.deposit(ResourceType.WATER, 100);
+        assertEquals(100, ledger.getLevel(ResourceType.WATER));
+    }
+
+    @Test
+    @DisplayName("Consumption is bucketed per zone")
+    void testConsumptionSeries() {
+        ledger.draw(ResourceType.WATER, 2, 30);
+        ledger.draw(ResourceType.WATER, 2, 20);
+        ledger.draw(ResourceType.WATER, 5, 10);
+
+        ConsumptionSeries series = ledger.getConsumption(ResourceType.WATER);
+        assertEquals(50, series.getCurrent(2));
+
+        for (int i = 0; i < series.getBucketTicks(); i++) {
+            ledger.tick();
+        }
+
+        assertArrayEquals(new long[] {50}, series.getHistory(2));
+        assertArrayEquals(new long[] {10}, series.getHistory(5));
+        assertEquals(0, series.getCurrent(2));
+        assertEquals(60, ledger.getTotalConsumed(ResourceType.WATER));
+    }
+}
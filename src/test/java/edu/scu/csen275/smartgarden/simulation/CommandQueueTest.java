@@ -0,0 +1,80 @@
+package edu.scu.csen275.smartgarden.simulation;
+
+import edu.scu.csen275.smartgarden.model.Garden;
+import edu.scu.csen275.smartgarden.model.PlantType;
+import edu.scu.csen275.smartgarden.model.Position;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the command queue that serializes external mutations.
+ */
+public class CommandQueueTest {
+
+    @Test
+    @DisplayName("Full queue rejects commands; drain runs queued commands in order")
+    void testBackpressureAndDrain() {
+        CommandQueue queue = new CommandQueue(2, 0);
+        List<String> ran = new ArrayList<>();
+        queue.submit(() -> {
+            ran.add("a");
+            queue.submit(() -> ran.add("c")); // waits for the next drain
+        });
+        queue.submit(() -> {
+            throw new IllegalStateException("broken command");
+        });
+        assertThrows(RejectedExecutionException.class, () -> queue.submit(() -> ran.add("x")));
+
+        assertEquals(2, queue.drain());
+        assertEquals(List.of("a"), ran);
+        assertEquals(1, queue.size());
+
+        assertEquals(1, queue.drain());
+        assertEquals(List.of("a", "c"), ran);
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    @DisplayName("Commands from many threads run one at a time on the simulation thread")
+    void testCommandsRunOnSimulationThread() throws InterruptedException {
+        Garden garden = new Garden(3, 3);
+        garden.addPlant(PlantType.ROSE.createPlant(new Position(1, 1)));
+        HeadlessSimulationEngine engine = new HeadlessSimulationEngine(garden);
+        engine.getPestControlSystem().setApiModeEnabled(true); // random pests would start FX timelines
+        engine.start();
+        try {
+            int[] counter = new int[1]; // deliberately unsynchronized
+            List<String> threads = new ArrayList<>();
+            List<Thread> producers = new ArrayList<>();
+            for (int p = 0; p < 4; p++) {
+                Thread producer = new Thread(() -> {
+                    for (int i = 0; i < 50; i++) {
+                        engine.runBetweenTicks(() -> {
+                            counter[0]++;
+                            if (threads.isEmpty()) {
+                                threads.add(Thread.currentThread().getName());
+                            }
+                        });
+                    }
+                });
+                producers.add(producer);
+                producer.start();
+            }
+            for (Thread producer : producers) {
+                producer.join();
+            }
+
+            assertEquals(200, counter[0]);
+            assertEquals(List.of("HeadlessSimulationEngine"), threads);
+            assertEquals(0, engine.getCommandQueueDepth());
+        } finally {
+            engine.stop();
+        }
+    }
+}
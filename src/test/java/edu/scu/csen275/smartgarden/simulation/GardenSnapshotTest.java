@@ -0,0 +1,80 @@
+package edu.scu.csen275.smartgarden.simulation;
+
+import edu.scu.csen275.smartgarden.model.Garden;
+import edu.scu.csen275.smartgarden.model.GrowthStage;
+import edu.scu.csen275.smartgarden.model.Plant;
+import edu.scu.csen275.smartgarden.model.PlantType;
+import edu.scu.csen275.smartgarden.model.Position;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the garden snapshot published at tick boundaries.
+ */
+public class GardenSnapshotTest {
+
+    @Test
+    @DisplayName("Snapshot copies plants in position order and ignores later changes")
+    void testCapture() {
+        Garden garden = new Garden(4, 4);
+        Plant rose = PlantType.ROSE.createPlant(new Position(3, 1));
+        Plant tomato = PlantType.TOMATO.createPlant(new Position(0, 2));
+        garden.plantAll(List.of(rose, tomato));
+        rose.takeDamage(rose.getHealthLevel());
+        garden.updateLivingCount();
+
+        LocalDateTime time = LocalDateTime.of(2025, 5, 1, 8, 0);
+        GardenSnapshot snapshot = GardenSnapshot.capture(42, 3, time, garden, WeatherSystem.Weather.RAINY, 5);
+
+        assertEquals(42, snapshot.getTick());
+        assertEquals(3, snapshot.getDay());
+        assertEquals(time, snapshot.getSimulationTime());
+        assertEquals(WeatherSystem.Weather.RAINY, snapshot.getWeather());
+        assertEquals(5, snapshot.getActivePests());
+        assertEquals(2, snapshot.size());
+        assertEquals(1, snapshot.getLivingPlants());
+        assertEquals(1, snapshot.getDeadPlants());
+
+        GardenSnapshot.PlantState first = snapshot.plant(0);
+        assertEquals(new Position(0, 2), first.position());
+        assertEquals(PlantType.TOMATO, first.type());
+        assertEquals("Tomato", first.plantType());
+        assertEquals(GrowthStage.SEED, first.stage());
+        assertEquals(tomato.getWaterLevel(), first.waterLevel());
+        assertEquals(tomato.getWaterRequirement(), first.waterRequirement());
+        assertFalse(first.dead());
+        assertTrue(snapshot.plant(1).dead());
+        assertEquals(new Position(3, 1), snapshot.getPosition(1));
+
+        int water = tomato.getWaterLevel();
+        tomato.water(20);
+        garden.removePlant(new Position(3, 1));
+        assertEquals(water, snapshot.getWaterLevel(0));
+        assertEquals(2, snapshot.getPlants().size());
+    }
+
+    @Test
+    @DisplayName("Headless engine publishes a snapshot after each tick")
+    void testEnginePublishesSnapshot() {
+        Garden garden = new Garden(3, 3);
+        garden.addPlant(PlantType.ROSE.createPlant(new Position(1, 1)));
+        HeadlessSimulationEngine engine = new HeadlessSimulationEngine(garden);
+        engine.getPestControlSystem().setApiModeEnabled(true); // random pests would start FX timelines
+        assertSame(GardenSnapshot.EMPTY, engine.getSnapshot());
+
+        for (int i = 0; i < 3; i++) {
+            engine.step();
+        }
+
+        GardenSnapshot snapshot = engine.getSnapshot();
+        assertEquals(3, snapshot.getTick());
+        assertEquals(engine.getSimulationTime(), snapshot.getSimulationTime());
+        assertEquals(1, snapshot.size());
+        assertEquals(garden.getPlant(new Position(1, 1)).getWaterLevel(), snapshot.getWaterLevel(0));
+    }
+}
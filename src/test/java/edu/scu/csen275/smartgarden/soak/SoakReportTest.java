@@ -0,0 +1,90 @@
+package edu.scu.csen275.smartgarden.soak;
+
+import edu.scu.csen275.smartgarden.util.Logger;
+import edu.scu.csen275.smartgarden.workload.WorkloadSpec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntToLongFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for soak trend analysis and a short harness run.
+ */
+public class SoakReportTest {
+    private static final long MB = 1024 * 1024;
+
+    @TempDir
+    Path dir;
+
+    private static List<SoakSample> samples(int count, IntToLongFunction heap, int threads) {
+        List<SoakSample> samples = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            samples.add(new SoakSample(i * 360L, i / 4, heap.applyAsLong(i), i * MB, threads, 0, 0, i));
+        }
+        return samples;
+    }
+
+    @Test
+    @DisplayName("Flat or noisy heap passes")
+    void testFlatHeapPasses() {
+        SoakReport report = new SoakReport(samples(40, i -> 50 * MB + (i % 3) * MB, 12), Map.of(), 16 * MB, 4);
+        assertTrue(report.passed(), report.getFailures().toString());
+    }
+
+    @Test
+    @DisplayName("Steady heap growth fails the run")
+    void testSustainedGrowthFails() {
+        SoakReport report = new SoakReport(samples(40, i -> 50 * MB + i * MB, 12), Map.of(), 16 * MB, 4);
+        assertFalse(report.passed());
+        assertEquals(4 * MB, Math.round(report.getHeapSlopeBytesPerDay()), MB / 100.0);
+        assertTrue(report.format().contains("Result: FAIL"));
+    }
+
+    @Test
+    @DisplayName("A single late spike is not sustained growth")
+    void testSpikeIsNotGrowth() {
+        SoakReport report = new SoakReport(samples(40, i -> i == 39 ? 500 * MB : 50 * MB, 12), Map.of(), 16 * MB, 4);
+        assertTrue(report.passed(), report.getFailures().toString());
+    }
+
+    @Test
+    @DisplayName("Growing thread count fails the run")
+    void testThreadGrowthFails() {
+        List<SoakSample> samples = samples(40, i -> 50 * MB, 12);
+        samples.set(39, new SoakSample(39 * 360L, 9, 50 * MB, 0, 30, 0, 0, 39));
+        SoakReport report = new SoakReport(samples, Map.of(), 16 * MB, 4);
+        assertFalse(report.passed());
+        assertEquals(18, report.getThreadGrowth());
+    }
+
+    @Test
+    @DisplayName("Harness samples a one-day run and writes the report")
+    void testHarnessRun() throws IOException {
+        Logger logger = Logger.getInstance();
+        Logger.LogLevel previous = logger.getMinLogLevel();
+        logger.setMinLogLevel(Logger.LogLevel.WARNING);
+        SoakReport report;
+        try {
+            SoakHarness harness = new SoakHarness(WorkloadSpec.defaults().seed(1), 1);
+            harness.setSamplesPerDay(4);
+            report = harness.run();
+        } finally {
+            logger.setMinLogLevel(previous);
+        }
+
+        assertEquals(5, report.getSamples().size());
+        assertEquals(1440, report.getSamples().get(4).tick());
+        Path file = dir.resolve("soak.txt");
+        report.write(file);
+        assertTrue(Files.readString(file).contains("heapAfterGC"));
+    }
+}
@@ -0,0 +1,90 @@
+package edu.scu.csen275.smartgarden.system;
+
+import edu.scu.csen275.smartgarden.model.Plant;
+import edu.scu.csen275.smartgarden.model.PlantType;
+import edu.scu.csen275.smartgarden.model.Position;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the pest species registry loaded from parasites.json.
+ */
+public class PestSpeciesTest {
+
+    @Test
+    @DisplayName("Configured species have dense ids and config damage rates")
+    void testConfiguredSpecies() {
+        List<PestSpecies> configured = PestSpecies.configured();
+        assertEquals(List.of("Red Mite", "Green Leaf Worm", "Black Beetle", "Brown Caterpillar"),
+            configured.stream().map(PestSpecies::getName).toList());
+        for (int i = 0; i < configured.size(); i++) {
+            assertEquals(i, configured.get(i).getId());
+            assertSame(configured.get(i), PestSpecies.byId(i));
+        }
+        assertEquals(4, PestSpecies.of("black beetle").getDamageRate());
+        assertTrue(PestSpecies.of("Black Beetle").targets(PlantType.ROSE));
+        assertFalse(PestSpecies.of("Black Beetle").targets(PlantType.ONION));
+        assertFalse(PestSpecies.of("Black Beetle").targets(null));
+    }
+
+    @Test
+    @DisplayName("Unknown names register once with the default damage")
+    void testUnknownSpecies() {
+        PestSpecies aphid = PestSpecies.of("Test Aphid");
+        assertSame(aphid, PestSpecies.of("TEST APHID"));
+        assertSame(aphid, PestSpecies.find("test aphid"));
+        assertEquals(PestSpecies.DEFAULT_DAMAGE, aphid.getDamageRate());
+        assertTrue(aphid.getTargets().isEmpty());
+        assertTrue(aphid.getId() >= PestSpecies.configured().size());
+        assertNull(PestSpecies.find("Never Registered"));
+    }
+
+    @Test
+    @DisplayName("Pests reference their species")
+    void testPestSpecies() {
+        PestSpecies worm = PestSpecies.of("Green Leaf Worm");
+        HarmfulPest pest = new HarmfulPest(worm, new Position(0, 0));
+        assertSame(worm, pest.getSpecies());
+        assertEquals("Green Leaf Worm", pest.getPestType());
+        assertEquals(3, pest.getDamageRate());
+        assertSame(PestSpecies.byId(0), new HarmfulPest(new Position(1, 1)).getSpecies());
+
+        assertThrows(IllegalArgumentException.class, () -> new HarmfulPest("Test Locust", new Position(0, 0)));
+        assertNull(PestSpecies.find("Test Locust"));
+    }
+
+    @Test
+    @DisplayName("Pests damage plants by their species' damage rate")
+    void testDamageRate() {
+        Plant mited = PlantType.ROSE.createPlant(new Position(0, 0));
+        Plant beetled = PlantType.ROSE.createPlant(new Position(0, 1));
+        new HarmfulPest(PestSpecies.of("Red Mite"), mited.getPosition()).causeDamage(mited);
+        new HarmfulPest(PestSpecies.of("Black Beetle"), beetled.getPosition()).causeDamage(beetled);
+
+        int miteDamage = 100 - mited.getHealthLevel();
+        int beetleDamage = 100 - beetled.getHealthLevel();
+        assertTrue(miteDamage > 0);
+        assertEquals(miteDamage + 2, beetleDamage);
+    }
+
+    @Test
+    @DisplayName("Parses damage and targets, defaulting missing damage")
+    void testParse() {
+        List<PestSpecies> parsed = PestSpecies.parse("""
+            {"parasites": [
+              {"name": "Slug", "damage": 5, "targetPlants": ["Tulip", "Onion"]},
+              {"name": "Weevil", "targetPlants": ["Carrot"]}
+            ]}
+            """);
+        assertEquals(2, parsed.size());
+        assertEquals(5, parsed.get(0).getDamageRate());
+        assertEquals((1L << PlantType.TULIP.ordinal()) | (1L << PlantType.ONION.ordinal()),
+            parsed.get(0).getTargetMask());
+        assertEquals(PestSpecies.DEFAULT_DAMAGE, parsed.get(1).getDamageRate());
+        assertNull(PestSpecies.find("Slug")); // parsing does not register
+    }
+}
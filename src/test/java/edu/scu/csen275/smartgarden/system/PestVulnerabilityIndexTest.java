@@ -0,0 +1,73 @@
+package edu.scu.csen275.smartgarden.system;
+
+import edu.scu.csen275.smartgarden.model.Flower;
+import edu.scu.csen275.smartgarden.model.PlantType;
+import edu.scu.csen275.smartgarden.model.Position;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the pest vulnerability index built from the parasites config.
+ */
+public class PestVulnerabilityIndexTest {
+
+    private static final String CONFIG = """
+        {
+          "parasites": [
+            {"name": "Red Mite", "damage": 2, "targetPlants": ["Strawberry", "Rose"]},
+            {"name": "Black Beetle", "damage": 4, "targetPlants": ["Rose", "Cactus"]}
+          ]
+        }
+        """;
+
+    @Test
+    @DisplayName("Parses targets into pest sets and per-type masks")
+    void testFromJson() {
+        PestVulnerabilityIndex index = PestVulnerabilityIndex.fromJson(CONFIG);
+
+        int mite = index.pestId("red mite");
+        int beetle = index.pestId("BLACK BEETLE");
+        assertEquals(0, mite);
+        assertEquals(1, beetle);
+        assertEquals(-1, index.pestId("Aphid"));
+        assertEquals("Red Mite", index.pestName(mite));
+        assertEquals(EnumSet.of(PlantType.STRAWBERRY, PlantType.ROSE), index.targetsOf(mite));
+        assertEquals(EnumSet.of(PlantType.ROSE), index.targetsOf(beetle)); // unknown "Cactus" ignored
+        assertEquals(0b11, index.maskOf(PlantType.ROSE));
+        assertTrue(index.isVulnerable(PlantType.STRAWBERRY, mite));
+        assertFalse(index.isVulnerable(PlantType.STRAWBERRY, beetle));
+        assertEquals(List.of("Red Mite", "Black Beetle"), index.pestsFor(PlantType.ROSE));
+        assertEquals(List.of(), index.pestsFor(null));
+    }
+
+    @Test
+    @DisplayName("Plants carry their PlantType for index lookups")
+    void testPlantType() {
+        PestVulnerabilityIndex index = PestVulnerabilityIndex.fromSpecies(PestSpecies.configured());
+        Flower rose = new Flower(new Position(0, 0), "Rose");
+        Flower pink = new Flower(new Position(0, 1));
+
+        assertEquals(PlantType.ROSE, rose.getType());
+        assertNull(pink.getType());
+        assertTrue(index.isVulnerable(rose.getType(), index.pestId("Black Beetle")));
+        assertEquals(0, index.maskOf(pink.getType()));
+    }
+
+    @Test
+    @DisplayName("Rejects configs without parasites and too many pests")
+    void testLimits() {
+        assertThrows(IllegalArgumentException.class, () -> PestVulnerabilityIndex.fromJson("{}"));
+        PestVulnerabilityIndex.Builder builder = PestVulnerabilityIndex.builder();
+        for (int i = 0; i < PestVulnerabilityIndex.MAX_PESTS; i++) {
+            builder.add("Pest " + i, PlantType.ROSE);
+        }
+        builder.add("pest 0", PlantType.TULIP); // existing pest, different case
+        assertThrows(IllegalArgumentException.class, () -> builder.add("One Too Many", PlantType.ROSE));
+        assertEquals(PestVulnerabilityIndex.MAX_PESTS, builder.build().getPestNames().size());
+    }
+}
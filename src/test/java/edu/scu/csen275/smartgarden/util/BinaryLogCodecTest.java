@@ -0,0 +1,99 @@
+package edu.scu.csen275.smartgarden.util;
+
+import edu.scu.csen275.smartgarden.util.Logger.LogEntry;
+import edu.scu.csen275.smartgarden.util.Logger.LogLevel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for round-tripping log entries through the binary log format.
+ */
+public class BinaryLogCodecTest {
+
+    private static List<LogEntry> sampleEntries() {
+        long base = 1_700_000_000_000L;
+        List<LogEntry> entries = new ArrayList<>();
+        entries.add(new LogEntry(base, LogLevel.INFO, "Watering",
+            "Zone {} watered with {}L", new Object[] {3, 42L}, 10, 1));
+        entries.add(new LogEntry(base + 5, LogLevel.WARNING, "Heating",
+            "Temperature {} -> {} ({})", new Object[] {12.5, 0.1f, true}, 11, 1));
+        entries.add(new LogEntry(base + 5, LogLevel.ERROR, "API",
+            "Plain message with {} braces", null, -1, -1));
+        entries.add(new LogEntry(base + 1000, LogLevel.INFO, "Watering",
+            "Zone {} watered with {}L", new Object[] {4, null}, 12, 2));
+        return entries;
+    }
+
+    private static List<LogEntry> decodeAll(byte[] bytes) throws IOException {
+        List<LogEntry> decoded = new ArrayList<>();
+        try (BinaryLogDecoder decoder = new BinaryLogDecoder(new ByteArrayInputStream(bytes))) {
+            LogEntry entry;
+            while ((entry = decoder.next()) != null) {
+                decoded.add(entry);
+            }
+        }
+        return decoded;
+    }
+
+    @Test
+    @DisplayName("Decoded entries render exactly like the originals")
+    void testRoundTrip() throws IOException {
+        List<LogEntry> entries = sampleEntries();
+        ByteBuffer encoded = new BinaryLogEncoder().encode(entries);
+        byte[] bytes = new byte[encoded.remaining()];
+        encoded.get(bytes);
+
+        List<LogEntry> decoded = decodeAll(bytes);
+
+        assertEquals(entries.size(), decoded.size());
+        for (int i = 0; i < entries.size(); i++) {
+            assertEquals(entries.get(i).toFileFormat(), decoded.get(i).toFileFormat());
+            assertEquals(entries.get(i).getEpochMillis(), decoded.get(i).getEpochMillis());
+            assertEquals(entries.get(i).getSimulationTick(), decoded.get(i).getSimulationTick());
+            assertEquals(entries.get(i).getSimulationDay(), decoded.get(i).getSimulationDay());
+        }
+    }
+
+    @Test
+    @DisplayName("Streams after a reset decode on their own and when concatenated")
+    void testResetStartsNewStream() throws IOException {
+        BinaryLogEncoder encoder = new BinaryLogEncoder();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteBuffer first = encoder.encode(sampleEntries());
+        out.write(first.array(), first.arrayOffset() + first.position(), first.remaining());
+        encoder.reset();
+        ByteBuffer second = encoder.encode(sampleEntries());
+        byte[] secondBytes = new byte[second.remaining()];
+        second.get(secondBytes);
+        out.write(secondBytes);
+
+        assertEquals(4, decodeAll(secondBytes).size());
+        assertEquals(8, decodeAll(out.toByteArray()).size());
+    }
+
+    @Test
+    @DisplayName("Binary encoding is much smaller than the text format")
+    void testCompactness() {
+        List<LogEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            entries.add(new LogEntry(1_700_000_000_000L + i * 60L, LogLevel.INFO, "Watering",
+                "Zone {} watered with {}L", new Object[] {i % 9, 40 + i % 7}, i, i / 1440));
+        }
+        int textBytes = 0;
+        for (LogEntry entry : entries) {
+            textBytes += entry.toFileFormat().length() + 1;
+        }
+        int binaryBytes = new BinaryLogEncoder().encode(entries).remaining();
+
+        assertTrue(binaryBytes * 4 < textBytes, "binary " + binaryBytes + " vs text " + textBytes);
+    }
+}
@@ -0,0 +1,68 @@
+package edu.scu.csen275.smartgarden.util;
+
+import edu.scu.csen275.smartgarden.util.Logger.LogLevel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the category registry and per-category log levels.
+ */
+public class LogCategoryLevelTest {
+
+    private final Logger logger = Logger.getInstance();
+
+    @AfterEach
+    void tearDown() {
+        logger.setCategoryLevels("*=INFO,Watering=DEFAULT,PestControl=DEFAULT,TestCategory=DEFAULT");
+    }
+
+    @Test
+    @DisplayName("Category names are interned with stable ids")
+    void testRegistry() {
+        LogCategory custom = LogCategory.of("TestCategory");
+        assertSame(custom, LogCategory.of("TestCategory"));
+        assertSame(LogCategory.WATERING, LogCategory.of("Watering"));
+        assertTrue(custom.getId() < LogCategory.count());
+        assertThrows(IllegalArgumentException.class, () -> LogCategory.of(" "));
+    }
+
+    @Test
+    @DisplayName("Category levels override the default level")
+    void testCategoryOverrides() {
+        logger.setCategoryLevels("Watering=WARNING, PestControl=DEBUG");
+
+        assertFalse(logger.isEnabled(LogLevel.INFO, "Watering"));
+        assertTrue(logger.isEnabled(LogLevel.WARNING, LogCategory.WATERING));
+        assertTrue(logger.isEnabled(LogLevel.DEBUG, "PestControl"));
+        assertFalse(logger.isEnabled(LogLevel.DEBUG, "Heating"));
+        assertTrue(logger.isEnabled(LogLevel.INFO, "Heating"));
+        assertEquals("*=INFO,PestControl=DEBUG,Watering=WARNING", logger.getCategoryLevels());
+
+        logger.setCategoryLevels("Watering=DEFAULT");
+        assertTrue(logger.isEnabled(LogLevel.INFO, "Watering"));
+        assertNull(logger.getCategoryLevel("Watering"));
+    }
+
+    @Test
+    @DisplayName("A malformed spec changes nothing")
+    void testInvalidSpecRejected() {
+        assertThrows(IllegalArgumentException.class,
+            () -> logger.setCategoryLevels("Watering=ERROR, PestControl=LOUD"));
+        assertNull(logger.getCategoryLevel("Watering"));
+        assertThrows(IllegalArgumentException.class, () -> logger.setCategoryLevels("Watering"));
+    }
+
+    @Test
+    @DisplayName("Levels can be changed through the MXBean")
+    void testMXBean() {
+        LoggerControl control = new LoggerControl(logger);
+        control.setCategoryLevel("TestCategory", "error");
+        assertEquals(LogLevel.ERROR, logger.getCategoryLevel("TestCategory"));
+        control.setCategoryLevel("TestCategory", "DEFAULT");
+        assertNull(logger.getCategoryLevel("TestCategory"));
+        assertTrue(java.util.Arrays.asList(control.getCategories()).contains("TestCategory"));
+    }
+}
@@ -0,0 +1,56 @@
+package edu.scu.csen275.smartgarden.util;
+
+import edu.scu.csen275.smartgarden.util.Logger.LogEntry;
+import edu.scu.csen275.smartgarden.util.Logger.LogLevel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for log entry template rendering and file formatting.
+ */
+public class LogEntryTest {
+
+    @Test
+    @DisplayName("Placeholders are replaced by arguments in order")
+    void testTemplateExpansion() {
+        LogEntry entry = new LogEntry(0L, LogLevel.INFO, "Watering",
+            "Zone {} watered with {}L", new Object[] {3, 42}, -1);
+
+        assertEquals("Zone 3 watered with 42L", entry.message());
+    }
+
+    @Test
+    @DisplayName("Missing arguments leave the placeholder in place")
+    void testMissingArguments() {
+        LogEntry entry = new LogEntry(0L, LogLevel.INFO, "Watering",
+            "{} and {}", new Object[] {"a"}, -1);
+
+        assertEquals("a and {}", entry.message());
+    }
+
+    @Test
+    @DisplayName("Logging a template leaves the caller's argument array untouched")
+    void testArgumentsNotModified() {
+        StringBuilder value = new StringBuilder("mutable");
+        Object[] args = {value, 7};
+        Logger.getInstance().info(LogCategory.WATERING, "{} {}", args);
+
+        assertSame(value, args[0]);
+        assertEquals(7, args[1]);
+    }
+
+    @Test
+    @DisplayName("File format pads level and category like the original format")
+    void testFileFormat() {
+        LocalDateTime time = LocalDateTime.of(2025, 1, 2, 3, 4, 5);
+        LogEntry entry = new LogEntry(time, LogLevel.WARNING, "Heating", "Too cold");
+
+        assertEquals(String.format("[%s] %-7s [%-15s] %s", "2025-01-02 03:04:05",
+                "WARNING", "Heating", "Too cold"), entry.toFileFormat());
+        assertEquals(time, entry.timestamp());
+    }
+}
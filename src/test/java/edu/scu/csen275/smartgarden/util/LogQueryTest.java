@@ -0,0 +1,107 @@
+package edu.scu.csen275.smartgarden.util;
+
+import edu.scu.csen275.smartgarden.util.LogSegmentIndex.Segment;
+import edu.scu.csen275.smartgarden.util.Logger.LogEntry;
+import edu.scu.csen275.smartgarden.util.Logger.LogLevel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for indexed log queries in memory and over rolled log files.
+ */
+public class LogQueryTest {
+
+    @TempDir
+    Path dir;
+
+    private static final long BASE = LocalDateTime.of(2025, 3, 1, 8, 0)
+        .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+    private static LogEntry entry(long offsetSeconds, LogLevel level, String category, long day) {
+        return new LogEntry(BASE + offsetSeconds * 1000, level, category,
+            category + " event at {}", new Object[] {offsetSeconds}, -1, day);
+    }
+
+    @Test
+    @DisplayName("In-memory index filters by category, level and day")
+    void testMemoryQuery() {
+        LogIndex index = new LogIndex(100);
+        index.add(entry(0, LogLevel.INFO, "PestControl", 11));
+        index.add(entry(1, LogLevel.WARNING, "PestControl", 12));
+        index.add(entry(2, LogLevel.WARNING, "Watering", 12));
+        index.add(entry(3, LogLevel.WARNING, "PestControl", 13));
+
+        List<LogEntry> result = index.query(LogQuery.all()
+            .category("PestControl").level(LogLevel.WARNING).onDay(12));
+
+        assertEquals(1, result.size());
+        assertEquals("PestControl event at 1", result.get(0).message());
+        assertTrue(index.query(LogQuery.all().category("Heating")).isEmpty());
+        assertEquals(3, index.query(LogQuery.all().level(LogLevel.WARNING)).size());
+    }
+
+    @Test
+    @DisplayName("Index queries never return entries the main ring has evicted")
+    void testMemoryQueryRetention() {
+        LogIndex index = new LogIndex(4);
+        index.add(entry(0, LogLevel.WARNING, "PestControl", 1));
+        index.add(entry(1, LogLevel.WARNING, "PestControl", 1));
+        for (int i = 2; i < 5; i++) {
+            index.add(entry(i, LogLevel.INFO, "Watering", 1));
+        }
+
+        assertEquals(4, index.snapshot().size());
+        List<LogEntry> pests = index.query(LogQuery.all().category("PestControl"));
+        assertEquals(1, pests.size());
+        assertEquals("PestControl event at 1", pests.get(0).message());
+        assertEquals(1, index.query(LogQuery.all().level(LogLevel.WARNING)).size());
+        assertEquals(3, index.query(LogQuery.all().category("Watering").level(LogLevel.INFO)).size());
+    }
+
+    @Test
+    @DisplayName("Disk queries skip other days and read compressed and active files")
+    void testDiskQuery() throws IOException {
+        try (RollingLogFile file = new RollingLogFile(dir.resolve("garden.log"), 1 << 20, 1 << 20)) {
+            write(file, entry(0, LogLevel.WARNING, "PestControl", 11), 11);
+            write(file, entry(60, LogLevel.WARNING, "PestControl", 12), 12);
+            write(file, entry(61, LogLevel.INFO, "PestControl", 12), 12);
+            write(file, entry(62, LogLevel.WARNING, "Watering", 12), 12);
+            write(file, entry(120, LogLevel.WARNING, "PestControl", 13), 13);
+
+            LogQueryEngine engine = new LogQueryEngine(file);
+            List<LogEntry> day12 = engine.query(LogQuery.all()
+                .category("PestControl").level(LogLevel.WARNING).onDay(12));
+            assertEquals(1, day12.size());
+            assertEquals("PestControl event at 60", day12.get(0).message());
+            assertEquals(BASE + 60_000, day12.get(0).getEpochMillis());
+
+            List<LogEntry> allWarnings = engine.query(LogQuery.all().level(LogLevel.WARNING));
+            assertEquals(4, allWarnings.size());
+
+            List<LogEntry> inRange = engine.query(LogQuery.all().between(BASE + 61_000, BASE + 62_500));
+            assertEquals(2, inRange.size());
+
+            // The day 11 segment only holds a PestControl warning, so Watering queries skip it
+            Segment day11 = file.getIndex().getSegments().get(0);
+            assertEquals(11, day11.day());
+            assertFalse(day11.mayContain(null, "Watering"));
+            assertFalse(day11.mayContain(LogLevel.INFO, null));
+        }
+    }
+
+    private static void write(RollingLogFile file, LogEntry entry, long day) throws IOException {
+        file.write(StandardCharsets.UTF_8.encode(entry.toFileFormat() + System.lineSeparator()),
+            entry.getEpochMillis(), entry.getEpochMillis(), day, 1 << entry.level().ordinal(),
+            List.of(entry.category()));
+    }
+}
@@ -0,0 +1,85 @@
+package edu.scu.csen275.smartgarden.util;
+
+import edu.scu.csen275.smartgarden.util.LogRateLimiter.RateLimit;
+import edu.scu.csen275.smartgarden.util.Logger.LogEntry;
+import edu.scu.csen275.smartgarden.util.Logger.LogLevel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for folding repeated log messages into summaries.
+ */
+public class LogRateLimiterTest {
+
+    private LogRateLimiter limiter;
+    private List<LogEntry> summaries;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new LogRateLimiter(new RateLimit(2, 10));
+        summaries = new ArrayList<>();
+    }
+
+    private LogEntry entry(String category, long tick, Object arg) {
+        return new LogEntry(0L, LogLevel.INFO, category, "Plant {} received rain", new Object[] {arg}, tick);
+    }
+
+    @Test
+    @DisplayName("Repeats beyond the limit are folded into one summary")
+    void testRepeatsFolded() {
+        int admitted = 0;
+        for (int tick = 0; tick < 10; tick++) {
+            if (limiter.admit(entry("API", tick, tick), summaries::add)) {
+                admitted++;
+            }
+        }
+        assertEquals(2, admitted);
+        assertTrue(summaries.isEmpty());
+
+        // Next window opens and reports the previous one
+        assertTrue(limiter.admit(entry("API", 10, "x"), summaries::add));
+        assertEquals(1, summaries.size());
+        assertEquals("Plant 9 received rain (repeated 8 times in last 10 ticks)",
+            summaries.get(0).message());
+    }
+
+    @Test
+    @DisplayName("Sweep reports windows that closed without another repeat")
+    void testSweep() {
+        for (int i = 0; i < 5; i++) {
+            limiter.admit(entry("API", 1, i), summaries::add);
+        }
+        limiter.sweep(5, summaries::add);
+        assertTrue(summaries.isEmpty());
+
+        limiter.sweep(20, summaries::add);
+        assertEquals(1, summaries.size());
+        assertTrue(summaries.get(0).message().contains("repeated 3 times"));
+    }
+
+    @Test
+    @DisplayName("Per-category limits override the default")
+    void testCategoryOverride() {
+        limiter.setLimit("Heating", RateLimit.UNLIMITED);
+        for (int i = 0; i < 50; i++) {
+            assertTrue(limiter.admit(entry("Heating", 1, i), summaries::add));
+        }
+        assertEquals(RateLimit.parse("2/10"), limiter.getLimit("Watering"));
+    }
+
+    @Test
+    @DisplayName("Errors and entries outside a simulation are never limited")
+    void testExemptions() {
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.admit(entry("API", -1, i), summaries::add));
+            assertTrue(limiter.admit(new LogEntry(0L, LogLevel.ERROR, "API", "Failure", null, 3),
+                summaries::add));
+        }
+    }
+}
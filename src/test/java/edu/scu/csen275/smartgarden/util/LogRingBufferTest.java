@@ -0,0 +1,39 @@
+package edu.scu.csen275.smartgarden.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the fixed-capacity in-memory log ring buffer.
+ */
+public class LogRingBufferTest {
+
+    @Test
+    @DisplayName("Retains only the most recent entries once full")
+    void testOverwritesOldest() {
+        LogRingBuffer<Integer> buffer = new LogRingBuffer<>(3);
+        for (int i = 1; i <= 5; i++) {
+            buffer.add(i);
+        }
+
+        assertEquals(3, buffer.size());
+        assertEquals(5, buffer.getTotalAppended());
+        assertEquals(List.of(3, 4, 5), buffer.snapshot());
+    }
+
+    @Test
+    @DisplayName("Recent returns the newest entries oldest first")
+    void testRecent() {
+        LogRingBuffer<String> buffer = new LogRingBuffer<>(10);
+        buffer.add("a");
+        buffer.add("b");
+        buffer.add("c");
+
+        assertEquals(List.of("b", "c"), buffer.recent(2));
+        assertEquals(List.of("a", "b", "c"), buffer.recent(50));
+    }
+}
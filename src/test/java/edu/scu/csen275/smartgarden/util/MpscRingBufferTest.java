@@ -0,0 +1,83 @@
+package edu.scu.csen275.smartgarden.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the bounded multi-producer single-consumer ring buffer.
+ */
+public class MpscRingBufferTest {
+
+    @Test
+    @DisplayName("Capacity is rounded up to a power of two")
+    void testCapacityRounding() {
+        assertEquals(8, new MpscRingBuffer<String>(5).capacity());
+        assertEquals(8, new MpscRingBuffer<String>(8).capacity());
+    }
+
+    @Test
+    @DisplayName("Offer fails when full and succeeds again after poll")
+    void testBoundedOffer() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        assertFalse(buffer.offer(4));
+
+        assertEquals(0, buffer.poll());
+        assertTrue(buffer.offer(4));
+        assertEquals(4, buffer.size());
+    }
+
+    @Test
+    @DisplayName("Elements from many producers are drained exactly once")
+    void testConcurrentProducers() throws InterruptedException {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(1024);
+        int producers = 4;
+        int perProducer = 10_000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        boolean[] seen = new boolean[producers * perProducer];
+        int received = 0;
+        start.countDown();
+        while (received < seen.length) {
+            Integer value = buffer.poll();
+            if (value != null) {
+                assertFalse(seen[value], "Duplicate element " + value);
+                seen[value] = true;
+                received++;
+            }
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertTrue(buffer.isEmpty());
+        assertNull(buffer.poll());
+    }
+}
@@ -0,0 +1,116 @@
+package edu.scu.csen275.smartgarden.util;
+
+import edu.scu.csen275.smartgarden.util.LogSegmentIndex.Segment;
+import edu.scu.csen275.smartgarden.util.Logger.LogLevel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for size/day rolling, background compression, segment contents and retention.
+ */
+public class RollingLogFileTest {
+
+    @TempDir
+    Path dir;
+
+    private static ByteBuffer line(String text) {
+        return StandardCharsets.UTF_8.encode(text + "\n");
+    }
+
+    @Test
+    @DisplayName("Rolls by size and compresses the rolled segment")
+    void testRollBySize() throws IOException {
+        Path active = dir.resolve("log.txt");
+        try (RollingLogFile file = new RollingLogFile(active, 20, 1 << 20)) {
+            file.write(line("first entry 0001"), 100, 100, -1);
+            file.write(line("second entry 002"), 200, 200, -1);
+        }
+
+        List<Segment> segments = new LogSegmentIndex(dir.resolve("log.txt.index")).getSegments();
+        assertEquals(1, segments.size());
+        Segment segment = segments.get(0);
+        assertTrue(segment.compressed());
+        assertEquals(dir.resolve("log.1.txt.gz"), segment.file());
+        assertEquals(100, segment.firstMillis());
+        assertEquals(100, segment.lastMillis());
+
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(segment.file()))) {
+            assertEquals("first entry 0001\n", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        assertEquals("second entry 002\n", Files.readString(active));
+    }
+
+    @Test
+    @DisplayName("Rolls when the simulated day changes")
+    void testRollByDay() throws IOException {
+        Path active = dir.resolve("garden.log");
+        try (RollingLogFile file = new RollingLogFile(active, 1024, 1 << 20)) {
+            file.write(line("day one"), 1, 1, 1);
+            file.write(line("still day one"), 2, 2, 1);
+            file.write(line("day two"), 3, 3, 2);
+            assertEquals(1, file.getIndex().getSegments().size());
+        }
+        assertEquals("day two\n", Files.readString(active));
+    }
+
+    @Test
+    @DisplayName("Keeps only the newest segments that fit the byte budget and finds them by time range")
+    void testRetentionAndRangeLookup() throws IOException {
+        Path active = dir.resolve("log.txt");
+        long segmentBytes = gzipSize("entry 1\n");
+        try (RollingLogFile file = new RollingLogFile(active, 1024, 2 * segmentBytes + 1)) {
+            for (int i = 1; i <= 4; i++) {
+                file.write(line("entry " + i), i * 100L, i * 100L + 50, -1);
+                file.roll();
+            }
+        }
+
+        LogSegmentIndex index = new LogSegmentIndex(dir.resolve("log.txt.index"));
+        assertEquals(2, index.getSegments().size());
+        assertFalse(Files.exists(dir.resolve("log.1.txt.gz")));
+        assertEquals(1, index.findOverlapping(420, 430).size());
+        assertTrue(index.findOverlapping(0, 99).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Segments record the levels and categories they hold")
+    void testSegmentContents() throws IOException {
+        Path active = dir.resolve("log.txt");
+        try (RollingLogFile file = new RollingLogFile(active, 1024, 1 << 20)) {
+            file.write(line("watering"), 1, 1, 1, 1 << LogLevel.INFO.ordinal(), List.of("Watering"));
+            file.write(line("pest"), 2, 2, 1, 1 << LogLevel.WARNING.ordinal(), List.of("PestControl"));
+            file.roll();
+        }
+
+        Segment segment = new LogSegmentIndex(dir.resolve("log.txt.index")).getSegments().get(0);
+        assertEquals(Set.of("Watering", "PestControl"), segment.categories());
+        assertTrue(segment.mayContain(LogLevel.WARNING, "PestControl"));
+        assertTrue(segment.mayContain(null, "Watering"));
+        assertFalse(segment.mayContain(LogLevel.ERROR, null));
+        assertFalse(segment.mayContain(null, "Heating"));
+    }
+
+    private static long gzipSize(String text) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.size();
+    }
+}
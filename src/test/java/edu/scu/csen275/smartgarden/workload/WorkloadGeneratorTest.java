@@ -0,0 +1,98 @@
+package edu.scu.csen275.smartgarden.workload;
+
+import edu.scu.csen275.smartgarden.model.Garden;
+import edu.scu.csen275.smartgarden.model.Plant;
+import edu.scu.csen275.smartgarden.model.PlantType;
+import edu.scu.csen275.smartgarden.workload.ScheduledCall.Kind;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for seeded garden, API call and weather trace generation.
+ */
+public class WorkloadGeneratorTest {
+
+    @Test
+    @DisplayName("Same seed produces the same garden, calls and weather")
+    void testReproducible() {
+        WorkloadSpec spec = WorkloadSpec.defaults().size(12, 12).density(0.5).stateReportsPerDay(10).seed(7);
+        WorkloadGenerator first = new WorkloadGenerator(spec);
+        WorkloadGenerator second = new WorkloadGenerator(spec);
+
+        assertEquals(describe(first.createGarden()), describe(second.createGarden()));
+        assertEquals(first.generateCalls(5000), second.generateCalls(5000));
+        assertEquals(first.generateWeatherTrace(5000), second.generateWeatherTrace(5000));
+        assertNotEquals(first.generateCalls(5000), new WorkloadGenerator(spec.seed(8)).generateCalls(5000));
+    }
+
+    @Test
+    @DisplayName("Plants exactly the requested density from the species mix")
+    void testDensityAndMix() {
+        WorkloadSpec spec = WorkloadSpec.defaults().size(20, 30).density(0.25)
+            .species(Map.of(PlantType.TOMATO, 1, PlantType.ROSE, 1)).seed(3);
+        Garden garden = new WorkloadGenerator(spec).createGarden();
+
+        assertEquals(150, garden.getTotalPlants());
+        for (Plant plant : garden.getAllPlants()) {
+            assertTrue(plant.getPlantType().contains("Tomato") || plant.getPlantType().contains("Rose"),
+                plant.getPlantType());
+        }
+    }
+
+    @Test
+    @DisplayName("Calls arrive at roughly their daily rates and stay in range")
+    void testCallRates() {
+        WorkloadSpec spec = WorkloadSpec.defaults().rainPerDay(100).temperaturePerDay(0)
+            .parasitesPerDay(50).temperatureRange(60, 70).seed(11);
+        List<ScheduledCall> calls = new WorkloadGenerator(spec).generateCalls(1440 * 10);
+
+        long rain = calls.stream().filter(c -> c.kind() == Kind.RAIN).count();
+        long parasites = calls.stream().filter(c -> c.kind() == Kind.PARASITE).count();
+        assertTrue(rain > 850 && rain < 1150, "rain calls: " + rain);
+        assertTrue(parasites > 400 && parasites < 600, "parasite calls: " + parasites);
+        assertTrue(calls.stream().noneMatch(c -> c.kind() == Kind.TEMPERATURE));
+        assertTrue(calls.stream().filter(c -> c.kind() == Kind.PARASITE)
+            .allMatch(c -> WorkloadSpec.DEFAULT_PESTS.contains(c.argument())));
+        for (int i = 1; i < calls.size(); i++) {
+            assertTrue(calls.get(i - 1).tick() <= calls.get(i).tick());
+        }
+    }
+
+    @Test
+    @DisplayName("Weather trace starts at tick 0 and respects the durations")
+    void testWeatherTrace() {
+        WorkloadSpec spec = WorkloadSpec.defaults().weatherDuration(10, 20).seed(5);
+        List<WeatherChange> trace = new WorkloadGenerator(spec).generateWeatherTrace(1000);
+
+        assertEquals(0, trace.get(0).tick());
+        for (int i = 1; i < trace.size(); i++) {
+            long gap = trace.get(i).tick() - trace.get(i - 1).tick();
+            assertTrue(gap >= 10 && gap <= 20, "gap: " + gap);
+            assertNotEquals(trace.get(i - 1).weather(), trace.get(i).weather());
+        }
+        assertTrue(trace.get(trace.size() - 1).tick() < 1000);
+    }
+
+    @Test
+    @DisplayName("Rejects invalid specs")
+    void testValidation() {
+        WorkloadSpec spec = WorkloadSpec.defaults();
+        assertThrows(IllegalArgumentException.class, () -> spec.density(1.5));
+        assertThrows(IllegalArgumentException.class, () -> spec.size(0, 5));
+        assertThrows(IllegalArgumentException.class, () -> spec.species(Map.of(PlantType.ROSE, 0)));
+        assertThrows(IllegalArgumentException.class, () -> spec.rainPerDay(-1));
+    }
+
+    private static String describe(Garden garden) {
+        return garden.getAllPlants().stream()
+            .map(p -> p.getPosition() + "=" + p.getPlantType())
+            .sorted()
+            .collect(Collectors.joining(","));
+    }
+}